@@ -82,6 +82,29 @@ public enum AbilityKey {
     SDK_AGENT_REGISTRY("agent", "Client whether support release agent server and register endpoint for agent server",
             AbilityMode.SDK_CLIENT),
     
+    /**
+     * For notify a batch of changed configs in one request.
+     */
+    SDK_CLIENT_CONFIG_BATCH_NOTIFY("configBatchNotify", "Client whether support batch config change notify",
+            AbilityMode.SDK_CLIENT),
+    
+    /**
+     * For receiving compressed content of large config.
+     */
+    SDK_CLIENT_CONFIG_COMPRESSION("configCompression", "Client whether support compressed config content",
+            AbilityMode.SDK_CLIENT),
+    
+    /**
+     * For receiving config content as delta against the content client holds.
+     */
+    SDK_CLIENT_CONFIG_DELTA("configDelta", "Client whether support config content delta", AbilityMode.SDK_CLIENT),
+    
+    /**
+     * For receiving changed instances of subscribed service against the revision client holds.
+     */
+    SDK_CLIENT_NAMING_DELTA_PUSH("namingDeltaPush", "Client whether support naming delta push",
+            AbilityMode.SDK_CLIENT),
+    
     /**
      * For Test temporarily.
      */
@@ -49,6 +49,10 @@ public class SdkClientAbilities extends AbstractAbilityRegistry {
         supportedAbilities.put(AbilityKey.SDK_CLIENT_DISTRIBUTED_LOCK, true);
         supportedAbilities.put(AbilityKey.SDK_MCP_REGISTRY, true);
         supportedAbilities.put(AbilityKey.SDK_AGENT_REGISTRY, true);
+        supportedAbilities.put(AbilityKey.SDK_CLIENT_CONFIG_BATCH_NOTIFY, true);
+        supportedAbilities.put(AbilityKey.SDK_CLIENT_CONFIG_COMPRESSION, true);
+        supportedAbilities.put(AbilityKey.SDK_CLIENT_CONFIG_DELTA, true);
+        supportedAbilities.put(AbilityKey.SDK_CLIENT_NAMING_DELTA_PUSH, true);
     }
     
     /**.
@@ -28,6 +28,11 @@ public class ConfigQueryRequest extends AbstractConfigRequest {
     
     private String tag;
     
+    /**
+     * Md5 of the content the client holds, the server may answer with a delta against it.
+     */
+    private String baseMd5;
+    
     /**
      * request builder.
      *
@@ -62,6 +67,14 @@ public class ConfigQueryRequest extends AbstractConfigRequest {
         this.tag = tag;
     }
     
+    public String getBaseMd5() {
+        return baseMd5;
+    }
+    
+    public void setBaseMd5(String baseMd5) {
+        this.baseMd5 = baseMd5;
+    }
+    
     public boolean isNotify() {
         String notify = getHeader(Constants.Config.NOTIFY_HEADER, Boolean.FALSE.toString());
         return Boolean.parseBoolean(notify);
@@ -0,0 +1,95 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.api.config.remote.request.cluster;
+
+import com.alibaba.nacos.api.common.Constants;
+import com.alibaba.nacos.api.remote.request.Request;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A frame of the config change stream from one server to another on clusters.
+ *
+ * <p>Changes of a stream are numbered by the sender, the frame carries consecutive changes starting from
+ * {@link #firstSeq}. The receiver acknowledges cumulatively by
+ * {@link com.alibaba.nacos.api.config.remote.response.cluster.ConfigChangeClusterBatchSyncResponse#getAckSeq()}.
+ *
+ * @author Nacos
+ */
+public class ConfigChangeClusterBatchSyncRequest extends Request {
+    
+    private String source;
+    
+    private long epoch;
+    
+    private long firstSeq;
+    
+    private List<ConfigChangeClusterSyncRequest> changes = new ArrayList<>();
+    
+    /**
+     * Getter method for property <tt>source</tt>.
+     *
+     * @return address of the sender server
+     */
+    public String getSource() {
+        return source;
+    }
+    
+    public void setSource(String source) {
+        this.source = source;
+    }
+    
+    /**
+     * Getter method for property <tt>epoch</tt>.
+     *
+     * @return epoch of the stream, changed when the sender restarts and numbers changes from the beginning
+     */
+    public long getEpoch() {
+        return epoch;
+    }
+    
+    public void setEpoch(long epoch) {
+        this.epoch = epoch;
+    }
+    
+    /**
+     * Getter method for property <tt>firstSeq</tt>.
+     *
+     * @return sequence of the first change in this frame
+     */
+    public long getFirstSeq() {
+        return firstSeq;
+    }
+    
+    public void setFirstSeq(long firstSeq) {
+        this.firstSeq = firstSeq;
+    }
+    
+    public List<ConfigChangeClusterSyncRequest> getChanges() {
+        return changes;
+    }
+    
+    public void setChanges(List<ConfigChangeClusterSyncRequest> changes) {
+        this.changes = changes;
+    }
+    
+    @Override
+    public String getModule() {
+        return Constants.Config.CONFIG_MODULE;
+    }
+}
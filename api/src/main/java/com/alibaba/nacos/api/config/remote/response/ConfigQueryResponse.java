@@ -32,8 +32,31 @@ public class ConfigQueryResponse extends Response {
     
     public static final int NO_RIGHT = 403;
     
+    /**
+     * Content is compressed by gzip and carried in {@link #compressedContent}.
+     */
+    public static final String CONTENT_ENCODING_GZIP = "gzip";
+    
+    /**
+     * Content is a delta against the content with {@link #deltaBaseMd5}, the prefix and suffix of the base are kept and
+     * the range between them is replaced by {@link #deltaText}.
+     */
+    public static final String CONTENT_ENCODING_DELTA = "delta";
+    
     String content;
     
+    String contentEncoding;
+    
+    byte[] compressedContent;
+    
+    String deltaBaseMd5;
+    
+    int deltaPrefixLength;
+    
+    int deltaSuffixLength;
+    
+    String deltaText;
+    
     String encryptedDataKey;
     
     String contentType;
@@ -124,6 +147,54 @@ public class ConfigQueryResponse extends Response {
         this.content = content;
     }
     
+    public String getContentEncoding() {
+        return contentEncoding;
+    }
+    
+    public void setContentEncoding(String contentEncoding) {
+        this.contentEncoding = contentEncoding;
+    }
+    
+    public byte[] getCompressedContent() {
+        return compressedContent;
+    }
+    
+    public void setCompressedContent(byte[] compressedContent) {
+        this.compressedContent = compressedContent;
+    }
+    
+    public String getDeltaBaseMd5() {
+        return deltaBaseMd5;
+    }
+    
+    public void setDeltaBaseMd5(String deltaBaseMd5) {
+        this.deltaBaseMd5 = deltaBaseMd5;
+    }
+    
+    public int getDeltaPrefixLength() {
+        return deltaPrefixLength;
+    }
+    
+    public void setDeltaPrefixLength(int deltaPrefixLength) {
+        this.deltaPrefixLength = deltaPrefixLength;
+    }
+    
+    public int getDeltaSuffixLength() {
+        return deltaSuffixLength;
+    }
+    
+    public void setDeltaSuffixLength(int deltaSuffixLength) {
+        this.deltaSuffixLength = deltaSuffixLength;
+    }
+    
+    public String getDeltaText() {
+        return deltaText;
+    }
+    
+    public void setDeltaText(String deltaText) {
+        this.deltaText = deltaText;
+    }
+    
     public void setEncryptedDataKey(String encryptedDataKey) {
         this.encryptedDataKey = encryptedDataKey;
     }
@@ -0,0 +1,43 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.api.config.remote.response.cluster;
+
+import com.alibaba.nacos.api.remote.response.Response;
+
+/**
+ * Cumulative acknowledge of the config change stream on clusters.
+ *
+ * @author Nacos
+ */
+public class ConfigChangeClusterBatchSyncResponse extends Response {
+    
+    private long ackSeq;
+    
+    /**
+     * Getter method for property <tt>ackSeq</tt>.
+     *
+     * @return sequence below which, inclusive, all changes of the stream are received, the sender resends changes
+     *     after it
+     */
+    public long getAckSeq() {
+        return ackSeq;
+    }
+    
+    public void setAckSeq(long ackSeq) {
+        this.ackSeq = ackSeq;
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.api.naming.remote.request;
+
+import com.alibaba.nacos.api.naming.pojo.Instance;
+import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.api.remote.request.ServerRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.alibaba.nacos.api.common.Constants.Naming.NAMING_MODULE;
+
+/**
+ * Notify subscriber the instances changed since the revision it holds.
+ *
+ * <p>Instances are identified by {@link #instanceKey(Instance)}. Client should drop all instances whose key is in
+ * {@link #changedKeys}, then add the hosts of {@link #serviceInfo}, which are the current instances of those keys.
+ * If client doesn't hold {@link #baseRevision}, it should answer an error so server pushes the full service info.
+ *
+ * @author xiweng.yy
+ */
+public class NotifySubscriberDeltaRequest extends ServerRequest {
+    
+    private ServiceInfo serviceInfo;
+    
+    private List<String> changedKeys = new ArrayList<>();
+    
+    private long baseRevision;
+    
+    private long revision;
+    
+    public NotifySubscriberDeltaRequest() {
+    }
+    
+    @Override
+    public String getModule() {
+        return NAMING_MODULE;
+    }
+    
+    /**
+     * Build the key which identifies the instance in delta push.
+     *
+     * @param instance instance
+     * @return key of instance
+     */
+    public static String instanceKey(Instance instance) {
+        return instance.toInetAddr() + "#" + instance.getClusterName();
+    }
+    
+    public ServiceInfo getServiceInfo() {
+        return serviceInfo;
+    }
+    
+    public void setServiceInfo(ServiceInfo serviceInfo) {
+        this.serviceInfo = serviceInfo;
+    }
+    
+    public List<String> getChangedKeys() {
+        return changedKeys;
+    }
+    
+    public void setChangedKeys(List<String> changedKeys) {
+        this.changedKeys = changedKeys;
+    }
+    
+    public long getBaseRevision() {
+        return baseRevision;
+    }
+    
+    public void setBaseRevision(long baseRevision) {
+        this.baseRevision = baseRevision;
+    }
+    
+    public long getRevision() {
+        return revision;
+    }
+    
+    public void setRevision(long revision) {
+        this.revision = revision;
+    }
+}
@@ -36,6 +36,12 @@ public class NotifySubscriberRequest extends ServerRequest {
     
     private ServiceInfo serviceInfo;
     
+    /**
+     * Revision of the instances in {@link #serviceInfo}, {@code 0} if server doesn't track it. Only set for client
+     * supports delta push, a later {@link NotifySubscriberDeltaRequest} is based on it.
+     */
+    private long revision;
+    
     public NotifySubscriberRequest() {
     }
     
@@ -60,6 +66,14 @@ public class NotifySubscriberRequest extends ServerRequest {
         this.serviceInfo = serviceInfo;
     }
     
+    public long getRevision() {
+        return revision;
+    }
+    
+    public void setRevision(long revision) {
+        this.revision = revision;
+    }
+    
     public String getNamespace() {
         return namespace;
     }
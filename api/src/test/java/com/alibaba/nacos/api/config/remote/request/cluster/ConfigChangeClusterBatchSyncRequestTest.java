@@ -0,0 +1,83 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.api.config.remote.request.cluster;
+
+import com.alibaba.nacos.api.common.Constants;
+import com.alibaba.nacos.api.config.remote.request.BasedConfigRequestTest;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConfigChangeClusterBatchSyncRequestTest extends BasedConfigRequestTest {
+    
+    ConfigChangeClusterBatchSyncRequest configChangeClusterBatchSyncRequest;
+    
+    String requestId;
+    
+    @BeforeEach
+    void before() {
+        ConfigChangeClusterSyncRequest change = new ConfigChangeClusterSyncRequest();
+        change.setDataId(DATA_ID);
+        change.setGroup(GROUP);
+        change.setTenant(TENANT);
+        change.setLastModified(1L);
+        configChangeClusterBatchSyncRequest = new ConfigChangeClusterBatchSyncRequest();
+        configChangeClusterBatchSyncRequest.setSource("127.0.0.1:8848");
+        configChangeClusterBatchSyncRequest.setEpoch(2L);
+        configChangeClusterBatchSyncRequest.setFirstSeq(3L);
+        configChangeClusterBatchSyncRequest.getChanges().add(change);
+        configChangeClusterBatchSyncRequest.putAllHeader(HEADERS);
+        requestId = injectRequestUuId(configChangeClusterBatchSyncRequest);
+    }
+    
+    @Override
+    @Test
+    public void testSerialize() throws JsonProcessingException {
+        String json = mapper.writeValueAsString(configChangeClusterBatchSyncRequest);
+        assertTrue(json.contains("\"module\":\"" + Constants.Config.CONFIG_MODULE));
+        assertTrue(json.contains("\"source\":\"127.0.0.1:8848\""));
+        assertTrue(json.contains("\"epoch\":2"));
+        assertTrue(json.contains("\"firstSeq\":3"));
+        assertTrue(json.contains("\"changes\":[{"));
+        assertTrue(json.contains("\"dataId\":\"" + DATA_ID));
+        assertTrue(json.contains("\"lastModified\":1"));
+        assertTrue(json.contains("\"requestId\":\"" + requestId));
+    }
+    
+    @Override
+    @Test
+    public void testDeserialize() throws JsonProcessingException {
+        String json = "{\"headers\":{\"header1\":\"test_header1\"},\"source\":\"127.0.0.1:8848\",\"epoch\":2,"
+                + "\"firstSeq\":3,\"changes\":[{\"dataId\":\"test_data\",\"group\":\"group\",\"tenant\":\"test_tenant\","
+                + "\"lastModified\":1,\"grayName\":\"gray\",\"module\":\"config\"}],\"module\":\"config\"}";
+        ConfigChangeClusterBatchSyncRequest actual = mapper.readValue(json, ConfigChangeClusterBatchSyncRequest.class);
+        assertEquals("127.0.0.1:8848", actual.getSource());
+        assertEquals(2L, actual.getEpoch());
+        assertEquals(3L, actual.getFirstSeq());
+        assertEquals(1, actual.getChanges().size());
+        assertEquals(DATA_ID, actual.getChanges().get(0).getDataId());
+        assertEquals(GROUP, actual.getChanges().get(0).getGroup());
+        assertEquals(TENANT, actual.getChanges().get(0).getTenant());
+        assertEquals(1L, actual.getChanges().get(0).getLastModified());
+        assertEquals("gray", actual.getChanges().get(0).getGrayName());
+        assertEquals(Constants.Config.CONFIG_MODULE, actual.getModule());
+        assertEquals(HEADER_VALUE, actual.getHeader(HEADER_KEY));
+    }
+}
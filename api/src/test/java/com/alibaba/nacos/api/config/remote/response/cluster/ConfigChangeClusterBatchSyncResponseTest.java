@@ -0,0 +1,67 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.api.config.remote.response.cluster;
+
+import com.alibaba.nacos.api.config.remote.response.BasedConfigResponseTest;
+import com.alibaba.nacos.api.remote.response.ResponseCode;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConfigChangeClusterBatchSyncResponseTest extends BasedConfigResponseTest {
+    
+    ConfigChangeClusterBatchSyncResponse configChangeClusterBatchSyncResponse;
+    
+    @BeforeEach
+    void before() {
+        configChangeClusterBatchSyncResponse = new ConfigChangeClusterBatchSyncResponse();
+        configChangeClusterBatchSyncResponse.setAckSeq(5L);
+        requestId = injectResponseUuId(configChangeClusterBatchSyncResponse);
+    }
+    
+    @Override
+    @Test
+    public void testSerializeSuccessResponse() throws JsonProcessingException {
+        String json = mapper.writeValueAsString(configChangeClusterBatchSyncResponse);
+        assertTrue(json.contains("\"success\":" + Boolean.TRUE));
+        assertTrue(json.contains("\"requestId\":\"" + requestId));
+        assertTrue(json.contains("\"resultCode\":" + ResponseCode.SUCCESS.getCode()));
+        assertTrue(json.contains("\"ackSeq\":5"));
+    }
+    
+    @Override
+    @Test
+    public void testSerializeFailResponse() throws JsonProcessingException {
+        configChangeClusterBatchSyncResponse.setErrorInfo(500, "fail");
+        String json = mapper.writeValueAsString(configChangeClusterBatchSyncResponse);
+        assertTrue(json.contains("\"resultCode\":" + ResponseCode.FAIL.getCode()));
+        assertTrue(json.contains("\"errorCode\":500"));
+    }
+    
+    @Override
+    @Test
+    public void testDeserialize() throws JsonProcessingException {
+        String json = "{\"resultCode\":200,\"errorCode\":0,\"ackSeq\":5,\"requestId\":\"1\",\"success\":true}";
+        ConfigChangeClusterBatchSyncResponse actual = mapper.readValue(json,
+                ConfigChangeClusterBatchSyncResponse.class);
+        assertTrue(actual.isSuccess());
+        assertEquals(5L, actual.getAckSeq());
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.api.naming.remote.request;
+
+import com.alibaba.nacos.api.naming.pojo.Instance;
+import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static com.alibaba.nacos.api.common.Constants.Naming.NAMING_MODULE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class NotifySubscriberDeltaRequestTest {
+    
+    private static ObjectMapper mapper;
+    
+    @BeforeAll
+    static void setUp() throws Exception {
+        mapper = new ObjectMapper();
+        mapper.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        mapper.setSerializationInclusion(JsonInclude.Include.NON_NULL);
+    }
+    
+    @Test
+    void testSerializeAndDeserialize() throws JsonProcessingException {
+        NotifySubscriberDeltaRequest request = new NotifySubscriberDeltaRequest();
+        request.setServiceInfo(new ServiceInfo("group@@service"));
+        request.setChangedKeys(Arrays.asList("1.1.1.1:8080#DEFAULT", "1.1.1.2:8080#DEFAULT"));
+        request.setBaseRevision(1L);
+        request.setRevision(3L);
+        String json = mapper.writeValueAsString(request);
+        assertTrue(json.contains("\"module\":\"" + NAMING_MODULE + "\""));
+        assertTrue(json.contains("\"changedKeys\":[\"1.1.1.1:8080#DEFAULT\",\"1.1.1.2:8080#DEFAULT\"]"));
+        
+        NotifySubscriberDeltaRequest actual = mapper.readValue(json, NotifySubscriberDeltaRequest.class);
+        assertEquals("group@@service", actual.getServiceInfo().getKey());
+        assertEquals(2, actual.getChangedKeys().size());
+        assertEquals(1L, actual.getBaseRevision());
+        assertEquals(3L, actual.getRevision());
+    }
+    
+    @Test
+    void testInstanceKey() {
+        Instance instance = new Instance();
+        instance.setIp("1.1.1.1");
+        instance.setPort(8080);
+        instance.setClusterName("cluster");
+        assertEquals("1.1.1.1:8080#cluster", NotifySubscriberDeltaRequest.instanceKey(instance));
+    }
+}
@@ -111,7 +111,7 @@ class AbilityKeyTest {
         Collection<AbilityKey> actual = AbilityKey.getAllValues(AbilityMode.SERVER);
         assertEquals(5, actual.size());
         actual = AbilityKey.getAllValues(AbilityMode.SDK_CLIENT);
-        assertEquals(4, actual.size());
+        assertEquals(8, actual.size());
         actual = AbilityKey.getAllValues(AbilityMode.CLUSTER_CLIENT);
         assertEquals(1, actual.size());
     }
@@ -121,7 +121,7 @@ class AbilityKeyTest {
         Collection<String> actual = AbilityKey.getAllNames(AbilityMode.SERVER);
         assertEquals(5, actual.size());
         actual = AbilityKey.getAllNames(AbilityMode.SDK_CLIENT);
-        assertEquals(4, actual.size());
+        assertEquals(8, actual.size());
         actual = AbilityKey.getAllNames(AbilityMode.CLUSTER_CLIENT);
         assertEquals(1, actual.size());
     }
@@ -25,12 +25,14 @@ import com.alibaba.nacos.api.config.listener.FuzzyWatchEventWatcher;
 import com.alibaba.nacos.api.config.listener.Listener;
 import com.alibaba.nacos.api.config.remote.request.ClientConfigMetricRequest;
 import com.alibaba.nacos.api.config.remote.request.ConfigBatchListenRequest;
+import com.alibaba.nacos.api.config.remote.request.ConfigChangeBatchNotifyRequest;
 import com.alibaba.nacos.api.config.remote.request.ConfigChangeNotifyRequest;
 import com.alibaba.nacos.api.config.remote.request.ConfigPublishRequest;
 import com.alibaba.nacos.api.config.remote.request.ConfigQueryRequest;
 import com.alibaba.nacos.api.config.remote.request.ConfigRemoveRequest;
 import com.alibaba.nacos.api.config.remote.response.ClientConfigMetricResponse;
 import com.alibaba.nacos.api.config.remote.response.ConfigChangeBatchListenResponse;
+import com.alibaba.nacos.api.config.remote.response.ConfigChangeBatchNotifyResponse;
 import com.alibaba.nacos.api.config.remote.response.ConfigChangeNotifyResponse;
 import com.alibaba.nacos.api.config.remote.response.ConfigPublishResponse;
 import com.alibaba.nacos.api.config.remote.response.ConfigQueryResponse;
@@ -68,7 +70,9 @@ import com.alibaba.nacos.common.remote.client.ServerListFactory;
 import com.alibaba.nacos.common.remote.client.grpc.GrpcClientConfig;
 import com.alibaba.nacos.common.utils.CollectionUtils;
 import com.alibaba.nacos.common.utils.ConnLabelsUtils;
+import com.alibaba.nacos.common.utils.ContentDelta;
 import com.alibaba.nacos.common.utils.ConvertUtils;
+import com.alibaba.nacos.common.utils.IoUtils;
 import com.alibaba.nacos.common.utils.JacksonUtils;
 import com.alibaba.nacos.common.utils.MD5Utils;
 import com.alibaba.nacos.common.utils.StringUtils;
@@ -80,6 +84,7 @@ import com.google.gson.JsonObject;
 import org.slf4j.Logger;
 
 import java.io.File;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
@@ -763,6 +768,30 @@ public class ClientWorker implements Closeable {
             return new ConfigChangeNotifyResponse();
         }
         
+        ConfigChangeBatchNotifyResponse handleConfigChangeBatchNotifyRequest(
+                ConfigChangeBatchNotifyRequest configChangeBatchNotifyRequest, String clientName) {
+            boolean anyChanged = false;
+            for (ConfigChangeBatchNotifyRequest.ChangedConfig changedConfig : configChangeBatchNotifyRequest
+                    .getChangedConfigs()) {
+                LOGGER.info("[{}] [server-push] config changed. dataId={}, group={},tenant={}", clientName,
+                        changedConfig.getDataId(), changedConfig.getGroup(), changedConfig.getTenant());
+                String groupKey = GroupKey.getKeyTenant(changedConfig.getDataId(), changedConfig.getGroup(),
+                        changedConfig.getTenant());
+                CacheData cacheData = cacheMap.get().get(groupKey);
+                if (cacheData != null) {
+                    synchronized (cacheData) {
+                        cacheData.getReceiveNotifyChanged().set(true);
+                        cacheData.setConsistentWithServer(false);
+                    }
+                    anyChanged = true;
+                }
+            }
+            if (anyChanged) {
+                notifyListenConfig();
+            }
+            return new ConfigChangeBatchNotifyResponse();
+        }
+        
         ClientConfigMetricResponse handleClientMetricsRequest(ClientConfigMetricRequest configMetricRequest) {
             ClientConfigMetricResponse response = new ClientConfigMetricResponse();
             response.setMetrics(getMetrics(configMetricRequest.getMetricsKeys()));
@@ -780,6 +809,10 @@ public class ClientWorker implements Closeable {
                     return handleConfigChangeNotifyRequest((ConfigChangeNotifyRequest) request,
                             rpcClientInner.getName());
                 }
+                if (request instanceof ConfigChangeBatchNotifyRequest) {
+                    return handleConfigChangeBatchNotifyRequest((ConfigChangeBatchNotifyRequest) request,
+                            rpcClientInner.getName());
+                }
                 return null;
             });
             
@@ -1021,7 +1054,7 @@ public class ClientWorker implements Closeable {
             try {
                 
                 ConfigResponse response = this.queryConfigInner(rpcClient, cacheData.dataId, cacheData.group,
-                        cacheData.tenant, requestTimeout, notify);
+                        cacheData.tenant, requestTimeout, notify, cacheData);
                 cacheData.setEncryptedDataKey(response.getEncryptedDataKey());
                 cacheData.setContent(response.getContent());
                 if (null != response.getConfigType()) {
@@ -1249,15 +1282,81 @@ public class ClientWorker implements Closeable {
             
         }
         
+        /**
+         * Restore content compressed by server, server only compresses for clients supporting
+         * {@link AbilityKey#SDK_CLIENT_CONFIG_COMPRESSION}.
+         */
+        private void decompressContent(ConfigQueryResponse response) throws NacosException {
+            if (!ConfigQueryResponse.CONTENT_ENCODING_GZIP.equals(response.getContentEncoding())) {
+                return;
+            }
+            try {
+                response.setContent(
+                        new String(IoUtils.tryDecompress(response.getCompressedContent()), StandardCharsets.UTF_8));
+                response.setCompressedContent(null);
+                response.setContentEncoding(null);
+            } catch (Exception e) {
+                throw new NacosException(NacosException.CLIENT_ERROR, "decompress config content failed", e);
+            }
+        }
+        
+        /**
+         * Apply the delta answered against the content client holds, the result must match the md5 of server.
+         *
+         * @return false if the delta can not be applied and the full content should be fetched.
+         */
+        private boolean applyDelta(ConfigQueryResponse response, String baseMd5, String baseContent) {
+            if (!ConfigQueryResponse.CONTENT_ENCODING_DELTA.equals(response.getContentEncoding())) {
+                return true;
+            }
+            if (baseContent == null || !StringUtils.equals(baseMd5, response.getDeltaBaseMd5())) {
+                return false;
+            }
+            String content = new ContentDelta(response.getDeltaPrefixLength(), response.getDeltaSuffixLength(),
+                    response.getDeltaText()).apply(baseContent);
+            if (content == null || !StringUtils.equals(response.getMd5(), CacheData.getMd5String(content))) {
+                return false;
+            }
+            response.setContent(content);
+            response.setContentEncoding(null);
+            response.setDeltaText(null);
+            return true;
+        }
+        
         ConfigResponse queryConfigInner(RpcClient rpcClient, String dataId, String group, String tenant,
                 long readTimeouts, boolean notify) throws NacosException {
+            return queryConfigInner(rpcClient, dataId, group, tenant, readTimeouts, notify, null);
+        }
+        
+        /**
+         * Query config from server, the server may answer with a delta against the content of base.
+         *
+         * @param base cache data holding the content client already has, null to always fetch full content.
+         */
+        ConfigResponse queryConfigInner(RpcClient rpcClient, String dataId, String group, String tenant,
+                long readTimeouts, boolean notify, CacheData base) throws NacosException {
             ConfigQueryRequest request = ConfigQueryRequest.build(dataId, group, tenant);
             request.putHeader(NOTIFY_HEADER, String.valueOf(notify));
+            String baseContent = base == null ? null : base.getContent();
+            String baseMd5 = null;
+            if (baseContent != null) {
+                baseMd5 = base.getMd5();
+                request.setBaseMd5(baseMd5);
+            }
             
             ConfigQueryResponse response = (ConfigQueryResponse) requestProxy(rpcClient, request, readTimeouts);
             
             ConfigResponse configResponse = new ConfigResponse();
             if (response.isSuccess()) {
+                decompressContent(response);
+                if (!applyDelta(response, baseMd5, baseContent)) {
+                    if (baseContent == null) {
+                        throw new NacosException(NacosException.SERVER_ERROR, "delta received without base content");
+                    }
+                    LOGGER.warn("[{}] [delta-mismatch] fetch full content, dataId={}, group={}, tenant={}",
+                            agent.getName(), dataId, group, tenant);
+                    return queryConfigInner(rpcClient, dataId, group, tenant, readTimeouts, notify, null);
+                }
                 LocalConfigInfoProcessor.saveSnapshot(this.getName(), dataId, group, tenant, response.getContent());
                 configResponse.setContent(response.getContent());
                 String configType;
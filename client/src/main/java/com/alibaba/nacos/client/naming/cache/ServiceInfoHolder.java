@@ -18,7 +18,9 @@ package com.alibaba.nacos.client.naming.cache;
 
 import com.alibaba.nacos.api.PropertyKeyConst;
 import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.api.naming.pojo.Instance;
 import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberDeltaRequest;
 import com.alibaba.nacos.api.naming.utils.NamingUtils;
 import com.alibaba.nacos.client.env.NacosClientProperties;
 import com.alibaba.nacos.client.monitor.MetricsMonitor;
@@ -32,7 +34,12 @@ import com.alibaba.nacos.common.utils.ConvertUtils;
 import com.alibaba.nacos.common.utils.JacksonUtils;
 import com.alibaba.nacos.common.utils.StringUtils;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 
@@ -47,6 +54,11 @@ public class ServiceInfoHolder implements Closeable {
     
     private final ConcurrentMap<String, ServiceInfo> serviceInfoMap;
     
+    /**
+     * Revision of service info last pushed by server, delta push is only applied onto the revision.
+     */
+    private final ConcurrentMap<String, Long> pushedRevisions = new ConcurrentHashMap<>();
+    
     private final FailoverReactor failoverReactor;
     
     private final boolean pushEmptyProtection;
@@ -118,10 +130,13 @@ public class ServiceInfoHolder implements Closeable {
     /**
      * Process service info.
      *
+     * <p>Synchronized with the processing of pushes, so a delta push is never applied to a service info replaced
+     * after its revision is checked.
+     *
      * @param serviceInfo new service info
      * @return service info
      */
-    public ServiceInfo processServiceInfo(ServiceInfo serviceInfo) {
+    public synchronized ServiceInfo processServiceInfo(ServiceInfo serviceInfo) {
         String serviceKey = serviceInfo.getKeyWithoutClusters();
         if (serviceKey == null) {
             NAMING_LOGGER.warn("process service info but serviceKey is null, service host: {}",
@@ -137,6 +152,10 @@ public class ServiceInfoHolder implements Closeable {
         }
         serviceInfoMap.put(serviceKey, serviceInfo);
         InstancesDiff diff = getServiceInfoDiff(oldService, serviceInfo);
+        if (diff.hasDifferent()) {
+            // instances not from push have no revision, the following delta push should be rejected.
+            pushedRevisions.remove(serviceKey);
+        }
         if (StringUtils.isBlank(serviceInfo.getJsonFromServer())) {
             serviceInfo.setJsonFromServer(JacksonUtils.toJson(serviceInfo));
         }
@@ -163,6 +182,56 @@ public class ServiceInfoHolder implements Closeable {
         return serviceInfo;
     }
     
+    /**
+     * Process service info pushed by server with the revision of its instances.
+     *
+     * @param serviceInfo new service info
+     * @param revision    revision of the instances
+     * @return service info
+     */
+    public synchronized ServiceInfo processPushedServiceInfo(ServiceInfo serviceInfo, long revision) {
+        ServiceInfo result = processServiceInfo(serviceInfo);
+        if (revision > 0 && result == serviceInfo) {
+            pushedRevisions.put(serviceInfo.getKeyWithoutClusters(), revision);
+        }
+        return result;
+    }
+    
+    /**
+     * Process instances changed since the revision pushed before.
+     *
+     * <p>Instances of the changed keys are replaced by the hosts of delta service info. If the held service info is
+     * not the base revision, nothing is changed and server should push the full service info.
+     *
+     * @param deltaServiceInfo service info with current instances of the changed keys
+     * @param changedKeys      keys of changed instances
+     * @param baseRevision     revision the delta is based on
+     * @param revision         revision after the delta applied
+     * @return {@code true} if the delta is based on the held revision, otherwise {@code false}
+     */
+    public synchronized boolean processDeltaServiceInfo(ServiceInfo deltaServiceInfo, Collection<String> changedKeys,
+            long baseRevision, long revision) {
+        String serviceKey = deltaServiceInfo.getKeyWithoutClusters();
+        ServiceInfo oldService = null == serviceKey ? null : serviceInfoMap.get(serviceKey);
+        Long heldRevision = null == serviceKey ? null : pushedRevisions.get(serviceKey);
+        if (null == oldService || null == heldRevision || heldRevision != baseRevision) {
+            NAMING_LOGGER.warn("process delta push but revision mismatch, serviceKey: {}, held: {}, base: {}",
+                    serviceKey, heldRevision, baseRevision);
+            return false;
+        }
+        Set<String> changed = new HashSet<>(changedKeys);
+        List<Instance> hosts = new ArrayList<>(oldService.getHosts().size() + deltaServiceInfo.getHosts().size());
+        for (Instance each : oldService.getHosts()) {
+            if (!changed.contains(NotifySubscriberDeltaRequest.instanceKey(each))) {
+                hosts.add(each);
+            }
+        }
+        hosts.addAll(deltaServiceInfo.getHosts());
+        deltaServiceInfo.setHosts(hosts);
+        processPushedServiceInfo(deltaServiceInfo, revision);
+        return true;
+    }
+    
     private boolean isEmptyOrErrorPush(ServiceInfo serviceInfo) {
         return null == serviceInfo.getHosts() || (pushEmptyProtection && !serviceInfo.validate());
     }
@@ -16,6 +16,8 @@
 
 package com.alibaba.nacos.client.naming.remote.gprc;
 
+import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberDeltaRequest;
 import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberRequest;
 import com.alibaba.nacos.api.naming.remote.response.NotifySubscriberResponse;
 import com.alibaba.nacos.api.remote.request.Request;
@@ -41,9 +43,23 @@ public class NamingPushRequestHandler implements ServerRequestHandler {
     public Response requestReply(Request request, Connection connection) {
         if (request instanceof NotifySubscriberRequest) {
             NotifySubscriberRequest notifyRequest = (NotifySubscriberRequest) request;
-            serviceInfoHolder.processServiceInfo(notifyRequest.getServiceInfo());
+            if (notifyRequest.getRevision() > 0) {
+                serviceInfoHolder.processPushedServiceInfo(notifyRequest.getServiceInfo(), notifyRequest.getRevision());
+            } else {
+                serviceInfoHolder.processServiceInfo(notifyRequest.getServiceInfo());
+            }
             return new NotifySubscriberResponse();
         }
+        if (request instanceof NotifySubscriberDeltaRequest) {
+            NotifySubscriberDeltaRequest deltaRequest = (NotifySubscriberDeltaRequest) request;
+            NotifySubscriberResponse response = new NotifySubscriberResponse();
+            if (!serviceInfoHolder.processDeltaServiceInfo(deltaRequest.getServiceInfo(),
+                    deltaRequest.getChangedKeys(), deltaRequest.getBaseRevision(), deltaRequest.getRevision())) {
+                response.setErrorInfo(NacosException.CONFLICT, "revision " + deltaRequest.getBaseRevision()
+                        + " not held, full push required");
+            }
+            return response;
+        }
         return null;
     }
 }
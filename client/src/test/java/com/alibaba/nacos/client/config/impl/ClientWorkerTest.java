@@ -22,6 +22,7 @@ import com.alibaba.nacos.api.config.listener.AbstractListener;
 import com.alibaba.nacos.api.config.listener.Listener;
 import com.alibaba.nacos.api.config.remote.request.ClientConfigMetricRequest;
 import com.alibaba.nacos.api.config.remote.request.ConfigBatchListenRequest;
+import com.alibaba.nacos.api.config.remote.request.ConfigChangeBatchNotifyRequest;
 import com.alibaba.nacos.api.config.remote.request.ConfigChangeNotifyRequest;
 import com.alibaba.nacos.api.config.remote.request.ConfigPublishRequest;
 import com.alibaba.nacos.api.config.remote.request.ConfigQueryRequest;
@@ -41,6 +42,7 @@ import com.alibaba.nacos.common.remote.ConnectionType;
 import com.alibaba.nacos.common.remote.client.RpcClient;
 import com.alibaba.nacos.common.remote.client.RpcClientFactory;
 import com.alibaba.nacos.common.remote.client.grpc.GrpcClientConfig;
+import com.alibaba.nacos.common.utils.IoUtils;
 import com.alibaba.nacos.common.utils.JacksonUtils;
 import com.alibaba.nacos.common.utils.MD5Utils;
 import com.fasterxml.jackson.databind.JsonNode;
@@ -352,6 +354,81 @@ class ClientWorkerTest {
                         eq(tenant), eq(content)), times(1));
     }
     
+    @Test
+    void testGeConfigCompressedContent() throws NacosException {
+        Properties prop = new Properties();
+        ConfigServerListManager agent = Mockito.mock(ConfigServerListManager.class);
+        final NacosClientProperties nacosClientProperties = NacosClientProperties.PROTOTYPE.derive(prop);
+        ClientWorker clientWorker = new ClientWorker(null, agent, nacosClientProperties);
+        
+        String content = "content" + System.currentTimeMillis();
+        ConfigQueryResponse response = new ConfigQueryResponse();
+        response.setContentEncoding(ConfigQueryResponse.CONTENT_ENCODING_GZIP);
+        response.setCompressedContent(IoUtils.tryCompress(content, "UTF-8"));
+        Mockito.when(rpcClient.request(any(ConfigQueryRequest.class), anyLong())).thenReturn(response);
+        
+        ConfigResponse configResponse = clientWorker.getServerConfig("a", "b", "c", 100, true);
+        assertEquals(content, configResponse.getContent());
+        localConfigInfoProcessorMockedStatic.verify(
+                () -> LocalConfigInfoProcessor.saveSnapshot(eq(clientWorker.getAgentName()), eq("a"), eq("b"),
+                        eq("c"), eq(content)), times(1));
+    }
+    
+    @Test
+    void testQueryConfigDelta() throws NacosException {
+        Properties prop = new Properties();
+        ConfigServerListManager agent = Mockito.mock(ConfigServerListManager.class);
+        final NacosClientProperties nacosClientProperties = NacosClientProperties.PROTOTYPE.derive(prop);
+        ClientWorker clientWorker = new ClientWorker(null, agent, nacosClientProperties);
+        String base = "a=1\nb=2\nc=3";
+        String content = "a=1\nb=22\nc=3";
+        CacheData cacheData = Mockito.mock(CacheData.class);
+        Mockito.when(cacheData.getContent()).thenReturn(base);
+        Mockito.when(cacheData.getMd5()).thenReturn(MD5Utils.md5Hex(base, "UTF-8"));
+        
+        ConfigQueryResponse delta = new ConfigQueryResponse();
+        delta.setContentEncoding(ConfigQueryResponse.CONTENT_ENCODING_DELTA);
+        delta.setDeltaBaseMd5(MD5Utils.md5Hex(base, "UTF-8"));
+        delta.setDeltaPrefixLength(6);
+        delta.setDeltaSuffixLength(4);
+        delta.setDeltaText("22");
+        delta.setMd5(MD5Utils.md5Hex(content, "UTF-8"));
+        Mockito.when(rpcClient.request(any(ConfigQueryRequest.class), anyLong())).thenReturn(delta);
+        
+        ConfigResponse configResponse = ((ClientWorker.ConfigRpcTransportClient) clientWorker.getAgent())
+                .queryConfigInner(rpcClient, "a", "b", "c", 100, true, cacheData);
+        assertEquals(content, configResponse.getContent());
+        Mockito.verify(rpcClient).request(Mockito.argThat(
+                request -> MD5Utils.md5Hex(base, "UTF-8").equals(((ConfigQueryRequest) request).getBaseMd5())),
+                anyLong());
+    }
+    
+    @Test
+    void testQueryConfigDeltaMismatchFetchFull() throws NacosException {
+        Properties prop = new Properties();
+        ConfigServerListManager agent = Mockito.mock(ConfigServerListManager.class);
+        final NacosClientProperties nacosClientProperties = NacosClientProperties.PROTOTYPE.derive(prop);
+        ClientWorker clientWorker = new ClientWorker(null, agent, nacosClientProperties);
+        String base = "a=1\nb=2\nc=3";
+        String content = "a=1\nb=22\nc=3";
+        CacheData cacheData = Mockito.mock(CacheData.class);
+        Mockito.when(cacheData.getContent()).thenReturn(base);
+        Mockito.when(cacheData.getMd5()).thenReturn(MD5Utils.md5Hex(base, "UTF-8"));
+        
+        ConfigQueryResponse delta = new ConfigQueryResponse();
+        delta.setContentEncoding(ConfigQueryResponse.CONTENT_ENCODING_DELTA);
+        delta.setDeltaBaseMd5(MD5Utils.md5Hex(base, "UTF-8"));
+        delta.setDeltaText("wrong");
+        delta.setMd5(MD5Utils.md5Hex(content, "UTF-8"));
+        Mockito.when(rpcClient.request(any(ConfigQueryRequest.class), anyLong()))
+                .thenReturn(delta, ConfigQueryResponse.buildSuccessResponse(content));
+        
+        ConfigResponse configResponse = ((ClientWorker.ConfigRpcTransportClient) clientWorker.getAgent())
+                .queryConfigInner(rpcClient, "a", "b", "c", 100, true, cacheData);
+        assertEquals(content, configResponse.getContent());
+        Mockito.verify(rpcClient, times(2)).request(any(ConfigQueryRequest.class), anyLong());
+    }
+    
     @Test
     void testHandleConfigChangeReqeust() throws Exception {
         
@@ -382,6 +459,44 @@ class ClientWorkerTest {
         Mockito.verify(atomicBoolean, times(1)).set(true);
     }
     
+    @Test
+    void testHandleConfigChangeBatchRequest() throws Exception {
+        
+        Properties prop = new Properties();
+        String tenant = "c";
+        
+        prop.put(NAMESPACE, tenant);
+        ConfigServerListManager agent = Mockito.mock(ConfigServerListManager.class);
+        final NacosClientProperties nacosClientProperties = NacosClientProperties.PROTOTYPE.derive(prop);
+        ClientWorker clientWorker = new ClientWorker(null, agent, nacosClientProperties);
+        
+        AtomicReference<Map<String, CacheData>> cacheMapMocked = Mockito.mock(AtomicReference.class);
+        Field cacheMap = ClientWorker.class.getDeclaredField("cacheMap");
+        cacheMap.setAccessible(true);
+        cacheMap.set(clientWorker, cacheMapMocked);
+        Map<String, CacheData> cacheDataMapMocked = Mockito.mock(Map.class);
+        Mockito.when(cacheMapMocked.get()).thenReturn(cacheDataMapMocked);
+        CacheData cacheDataMocked1 = Mockito.mock(CacheData.class);
+        CacheData cacheDataMocked2 = Mockito.mock(CacheData.class);
+        AtomicBoolean atomicBoolean1 = Mockito.mock(AtomicBoolean.class);
+        AtomicBoolean atomicBoolean2 = Mockito.mock(AtomicBoolean.class);
+        Mockito.when(cacheDataMocked1.getReceiveNotifyChanged()).thenReturn(atomicBoolean1);
+        Mockito.when(cacheDataMocked2.getReceiveNotifyChanged()).thenReturn(atomicBoolean2);
+        String group = "b";
+        Mockito.when(cacheDataMapMocked.get(GroupKey.getKeyTenant("a1", group, tenant))).thenReturn(cacheDataMocked1);
+        Mockito.when(cacheDataMapMocked.get(GroupKey.getKeyTenant("a2", group, tenant))).thenReturn(cacheDataMocked2);
+        ConfigChangeBatchNotifyRequest batchNotifyRequest = new ConfigChangeBatchNotifyRequest();
+        batchNotifyRequest.addChangedConfig("a1", group, tenant);
+        batchNotifyRequest.addChangedConfig("a2", group, tenant);
+        batchNotifyRequest.addChangedConfig("notListened", group, tenant);
+        ((ClientWorker.ConfigRpcTransportClient) clientWorker.getAgent()).handleConfigChangeBatchNotifyRequest(
+                batchNotifyRequest, "testname");
+        Mockito.verify(cacheDataMocked1, times(1)).setConsistentWithServer(false);
+        Mockito.verify(cacheDataMocked2, times(1)).setConsistentWithServer(false);
+        Mockito.verify(atomicBoolean1, times(1)).set(true);
+        Mockito.verify(atomicBoolean2, times(1)).set(true);
+    }
+    
     @Test
     void testHandleClientMetricsReqeust() throws Exception {
         
@@ -101,6 +101,51 @@ class ServiceInfoHolderTest {
         assertEquals(info2, actual2);
     }
     
+    @Test
+    void testProcessDeltaServiceInfo() {
+        ServiceInfo info = new ServiceInfo("a@@b@@c");
+        List<Instance> hosts = new ArrayList<>();
+        hosts.add(createInstance("1.1.1.1", 1));
+        hosts.add(createInstance("1.1.1.2", 2));
+        hosts.add(createInstance("1.1.1.3", 3));
+        info.setHosts(hosts);
+        holder.processPushedServiceInfo(info, 10L);
+        
+        // 1.1.1.1 changed, 1.1.1.2 removed and 1.1.1.4 added.
+        Instance changed = createInstance("1.1.1.1", 1);
+        changed.setWeight(2.0);
+        ServiceInfo delta = new ServiceInfo("a@@b@@c");
+        List<Instance> deltaHosts = new ArrayList<>();
+        deltaHosts.add(changed);
+        deltaHosts.add(createInstance("1.1.1.4", 4));
+        delta.setHosts(deltaHosts);
+        List<String> changedKeys = new ArrayList<>();
+        changedKeys.add("1.1.1.1:1#null");
+        changedKeys.add("1.1.1.2:2#null");
+        changedKeys.add("1.1.1.4:4#null");
+        assertTrue(holder.processDeltaServiceInfo(delta, changedKeys, 10L, 12L));
+        List<Instance> actual = holder.getServiceInfo("b", "a").getHosts();
+        assertEquals(3, actual.size());
+        assertTrue(actual.contains(changed));
+        assertTrue(actual.contains(createInstance("1.1.1.3", 3)));
+        assertTrue(actual.contains(createInstance("1.1.1.4", 4)));
+        assertFalse(actual.contains(createInstance("1.1.1.2", 2)));
+        
+        // gap, delta based on a revision not held.
+        ServiceInfo gap = new ServiceInfo("a@@b@@c");
+        assertFalse(holder.processDeltaServiceInfo(gap, changedKeys, 11L, 13L));
+        assertEquals(3, holder.getServiceInfo("b", "a").getHosts().size());
+        
+        // re-processing the held service info keeps the revision.
+        holder.processServiceInfo(holder.getServiceInfo("b", "a"));
+        assertTrue(holder.processDeltaServiceInfo(new ServiceInfo("a@@b@@c"), new ArrayList<>(), 12L, 13L));
+        assertEquals(3, holder.getServiceInfo("b", "a").getHosts().size());
+        
+        // service info not from push with different instances drops the revision.
+        holder.processServiceInfo(info);
+        assertFalse(holder.processDeltaServiceInfo(delta, changedKeys, 13L, 14L));
+    }
+    
     @Test
     void testProcessServiceInfoEnableClientMetricsTrue() {
         ServiceInfoHolder holder = createServiceInfoHolder(true);
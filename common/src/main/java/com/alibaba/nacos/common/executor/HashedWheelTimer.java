@@ -0,0 +1,332 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.executor;
+
+import com.alibaba.nacos.common.lifecycle.Closeable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
+/**
+ * Timer for a large number of coarse-grained timeouts, such as heartbeat and expiry checks.
+ *
+ * <p>Timeouts are hashed into a wheel of buckets by their deadline, and one worker thread expires a bucket every
+ * tick, so adding and cancelling a timeout cost O(1) and a pending timeout is a small node in a linked list,
+ * rather than a future in the heap of a {@link java.util.concurrent.ScheduledExecutorService}. Timeouts expire up
+ * to one tick late. Expired tasks are run by the given executor, never by the worker thread.
+ *
+ * @author xiweng.yy
+ */
+public class HashedWheelTimer implements Closeable {
+    
+    private static final Logger LOGGER = LoggerFactory.getLogger(HashedWheelTimer.class);
+    
+    /**
+     * Max timeouts moved from the pending queue into the wheel per tick, the others are moved in the next ticks.
+     */
+    private static final int MAX_TRANSFER_PER_TICK = 100000;
+    
+    private static final int MAX_TICKS_PER_WHEEL = 1 << 30;
+    
+    private final long tickNanos;
+    
+    private final Bucket[] wheel;
+    
+    private final int mask;
+    
+    private final Executor executor;
+    
+    private final Queue<WheelTimeout> pendingTimeouts = new ConcurrentLinkedQueue<>();
+    
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    
+    private final AtomicBoolean closed = new AtomicBoolean(false);
+    
+    private final Thread workerThread;
+    
+    private final long startTime;
+    
+    private long tick;
+    
+    /**
+     * Create and start a timer.
+     *
+     * @param name          name of the worker thread
+     * @param tickDuration  duration of one tick
+     * @param unit          unit of tick duration
+     * @param ticksPerWheel ticks of one wheel revolution, rounded up to a power of two
+     * @param executor      executor to run expired tasks
+     */
+    public HashedWheelTimer(String name, long tickDuration, TimeUnit unit, int ticksPerWheel, Executor executor) {
+        if (tickDuration <= 0) {
+            throw new IllegalArgumentException("tickDuration must be greater than 0: " + tickDuration);
+        }
+        if (ticksPerWheel <= 0 || ticksPerWheel > MAX_TICKS_PER_WHEEL) {
+            throw new IllegalArgumentException("ticksPerWheel must be in (0, 2^30]: " + ticksPerWheel);
+        }
+        int size = 1;
+        while (size < ticksPerWheel) {
+            size <<= 1;
+        }
+        this.wheel = new Bucket[size];
+        for (int i = 0; i < size; i++) {
+            wheel[i] = new Bucket();
+        }
+        this.mask = size - 1;
+        this.tickNanos = unit.toNanos(tickDuration);
+        this.executor = executor;
+        this.startTime = System.nanoTime();
+        this.workerThread = new NameThreadFactory(name).newThread(new Worker());
+        this.workerThread.start();
+    }
+    
+    /**
+     * Run the task once after the delay.
+     *
+     * @param task  task to run
+     * @param delay delay to run the task
+     * @param unit  unit of delay
+     * @return handle to cancel the task
+     */
+    public Timeout newTimeout(Runnable task, long delay, TimeUnit unit) {
+        if (closed.get()) {
+            throw new IllegalStateException("Timer already shutdown");
+        }
+        long deadline = System.nanoTime() + unit.toNanos(Math.max(delay, 0L)) - startTime;
+        WheelTimeout timeout = new WheelTimeout(task, deadline);
+        pendingCount.incrementAndGet();
+        pendingTimeouts.add(timeout);
+        return timeout;
+    }
+    
+    /**
+     * Get count of timeouts neither expired nor cancelled.
+     *
+     * @return count of pending timeouts
+     */
+    public int pendingTimeouts() {
+        return pendingCount.get();
+    }
+    
+    @Override
+    public void shutdown() {
+        if (closed.compareAndSet(false, true)) {
+            workerThread.interrupt();
+        }
+    }
+    
+    /**
+     * Handle of a task scheduled by {@link HashedWheelTimer}.
+     */
+    public interface Timeout {
+        
+        /**
+         * Cancel the task if it isn't expired yet.
+         *
+         * @return {@code true} if cancelled by this call
+         */
+        boolean cancel();
+        
+        /**
+         * Whether the task is cancelled.
+         *
+         * @return {@code true} if cancelled
+         */
+        boolean isCancelled();
+        
+        /**
+         * Whether the task is expired and handed to the executor.
+         *
+         * @return {@code true} if expired
+         */
+        boolean isExpired();
+    }
+    
+    private void transferPendingTimeouts() {
+        for (int i = 0; i < MAX_TRANSFER_PER_TICK; i++) {
+            WheelTimeout timeout = pendingTimeouts.poll();
+            if (null == timeout) {
+                return;
+            }
+            if (timeout.isCancelled()) {
+                continue;
+            }
+            long calculated = timeout.deadline / tickNanos;
+            timeout.remainingRounds = (calculated - tick) / wheel.length;
+            // expire in the current tick if the deadline is passed already.
+            long ticks = Math.max(calculated, tick);
+            wheel[(int) (ticks & mask)].add(timeout);
+        }
+    }
+    
+    private long waitForNextTick() {
+        long deadline = tickNanos * (tick + 1);
+        while (true) {
+            long currentTime = System.nanoTime() - startTime;
+            long sleepMillis = (deadline - currentTime + 999999) / 1000000;
+            if (sleepMillis <= 0) {
+                return currentTime;
+            }
+            try {
+                Thread.sleep(sleepMillis);
+            } catch (InterruptedException e) {
+                if (closed.get()) {
+                    return -1L;
+                }
+            }
+        }
+    }
+    
+    private void expire(WheelTimeout timeout) {
+        if (!timeout.compareAndSetState(WheelTimeout.ST_INIT, WheelTimeout.ST_EXPIRED)) {
+            return;
+        }
+        pendingCount.decrementAndGet();
+        try {
+            executor.execute(timeout.task);
+        } catch (Throwable t) {
+            LOGGER.warn("Run expired task {} of timer {} failed.", timeout.task, workerThread.getName(), t);
+        }
+    }
+    
+    private class Worker implements Runnable {
+        
+        @Override
+        public void run() {
+            while (!closed.get()) {
+                long deadline = waitForNextTick();
+                if (deadline < 0) {
+                    break;
+                }
+                transferPendingTimeouts();
+                wheel[(int) (tick & mask)].expireTimeouts(deadline);
+                tick++;
+            }
+        }
+    }
+    
+    private final class Bucket {
+        
+        private WheelTimeout head;
+        
+        private WheelTimeout tail;
+        
+        private void add(WheelTimeout timeout) {
+            if (null == head) {
+                head = tail = timeout;
+            } else {
+                tail.next = timeout;
+                timeout.prev = tail;
+                tail = timeout;
+            }
+        }
+        
+        private void expireTimeouts(long deadline) {
+            WheelTimeout timeout = head;
+            while (null != timeout) {
+                WheelTimeout next = timeout.next;
+                if (timeout.isCancelled()) {
+                    remove(timeout);
+                } else if (timeout.remainingRounds <= 0 && timeout.deadline <= deadline) {
+                    remove(timeout);
+                    expire(timeout);
+                } else {
+                    timeout.remainingRounds--;
+                }
+                timeout = next;
+            }
+        }
+        
+        private void remove(WheelTimeout timeout) {
+            if (null == timeout.prev) {
+                head = timeout.next;
+            } else {
+                timeout.prev.next = timeout.next;
+            }
+            if (null == timeout.next) {
+                tail = timeout.prev;
+            } else {
+                timeout.next.prev = timeout.prev;
+            }
+            timeout.prev = null;
+            timeout.next = null;
+        }
+    }
+    
+    private final class WheelTimeout implements Timeout {
+        
+        private static final int ST_INIT = 0;
+        
+        private static final int ST_CANCELLED = 1;
+        
+        private static final int ST_EXPIRED = 2;
+        
+        private final Runnable task;
+        
+        private final long deadline;
+        
+        /**
+         * Not private, so {@link #STATE_UPDATER} can access it.
+         */
+        volatile int state = ST_INIT;
+        
+        private long remainingRounds;
+        
+        private WheelTimeout prev;
+        
+        private WheelTimeout next;
+        
+        private WheelTimeout(Runnable task, long deadline) {
+            this.task = task;
+            this.deadline = deadline;
+        }
+        
+        private boolean compareAndSetState(int expected, int state) {
+            return STATE_UPDATER.compareAndSet(this, expected, state);
+        }
+        
+        @Override
+        public boolean cancel() {
+            if (!compareAndSetState(ST_INIT, ST_CANCELLED)) {
+                return false;
+            }
+            // removed from its bucket lazily by the worker thread.
+            pendingCount.decrementAndGet();
+            return true;
+        }
+        
+        @Override
+        public boolean isCancelled() {
+            return state == ST_CANCELLED;
+        }
+        
+        @Override
+        public boolean isExpired() {
+            return state == ST_EXPIRED;
+        }
+    }
+    
+    private static final AtomicIntegerFieldUpdater<WheelTimeout> STATE_UPDATER = AtomicIntegerFieldUpdater
+            .newUpdater(WheelTimeout.class, "state");
+}
@@ -100,6 +100,18 @@ public class GrpcUtils {
                 .setMetadata(metaBuilder.build()).build();
     }
     
+    /**
+     * convert response to payload with a body already serialized.
+     *
+     * @param response response.
+     * @param body     json body of the response, shared without copy.
+     * @return payload.
+     */
+    public static Payload convert(Response response, ByteString body) {
+        Metadata.Builder metaBuilder = Metadata.newBuilder().setType(response.getClass().getSimpleName());
+        return Payload.newBuilder().setBody(Any.newBuilder().setValue(body)).setMetadata(metaBuilder.build()).build();
+    }
+    
     private static byte[] convertRequestToByte(Request request) {
         Map<String, String> requestHeaders = new HashMap<>(request.getHeaders());
         request.clearHeaders();
@@ -0,0 +1,98 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.utils;
+
+/**
+ * Patch turning a base content into a target content by replacing the range between their common prefix and common
+ * suffix.
+ *
+ * <p>A config edited in one place, the common case, produces a patch about the size of the edit. Edits far apart
+ * produce a patch spanning both, callers decide whether it is still worth sending.
+ *
+ * @author Nacos
+ */
+public class ContentDelta {
+    
+    private final int prefixLength;
+    
+    private final int suffixLength;
+    
+    private final String text;
+    
+    public ContentDelta(int prefixLength, int suffixLength, String text) {
+        this.prefixLength = prefixLength;
+        this.suffixLength = suffixLength;
+        this.text = text;
+    }
+    
+    /**
+     * Build the patch from base to target.
+     *
+     * @param base   base content.
+     * @param target target content.
+     * @return patch.
+     */
+    public static ContentDelta diff(String base, String target) {
+        int max = Math.min(base.length(), target.length());
+        int prefix = 0;
+        while (prefix < max && base.charAt(prefix) == target.charAt(prefix)) {
+            prefix++;
+        }
+        // never split a surrogate pair, the replaced text must stay valid UTF-16.
+        if (prefix > 0 && Character.isHighSurrogate(target.charAt(prefix - 1))) {
+            prefix--;
+        }
+        int suffix = 0;
+        while (suffix < max - prefix
+                && base.charAt(base.length() - 1 - suffix) == target.charAt(target.length() - 1 - suffix)) {
+            suffix++;
+        }
+        if (suffix > 0 && Character.isLowSurrogate(target.charAt(target.length() - suffix))) {
+            suffix--;
+        }
+        return new ContentDelta(prefix, suffix, target.substring(prefix, target.length() - suffix));
+    }
+    
+    /**
+     * Apply the patch to base content.
+     *
+     * @param base base content.
+     * @return target content, null if the patch does not fit the base.
+     */
+    public String apply(String base) {
+        if (base == null || text == null) {
+            return null;
+        }
+        boolean fits = prefixLength >= 0 && suffixLength >= 0 && prefixLength + suffixLength <= base.length();
+        if (!fits) {
+            return null;
+        }
+        return base.substring(0, prefixLength) + text + base.substring(base.length() - suffixLength);
+    }
+    
+    public int getPrefixLength() {
+        return prefixLength;
+    }
+    
+    public int getSuffixLength() {
+        return suffixLength;
+    }
+    
+    public String getText() {
+        return text;
+    }
+}
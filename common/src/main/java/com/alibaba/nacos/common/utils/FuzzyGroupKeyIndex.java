@@ -0,0 +1,187 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.utils;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Predicate;
+
+import static com.alibaba.nacos.api.common.Constants.DEFAULT_NAMESPACE_ID;
+import static com.alibaba.nacos.api.common.Constants.FUZZY_WATCH_PATTERN_SPLITTER;
+
+/**
+ * Index of existing group keys, to find the group keys matched a fuzzy group key pattern without checking every key.
+ *
+ * <p>Keys are indexed by namespace and group, resource names of a group are sorted, so accurate and prefix patterns
+ * only visit the matched keys.
+ *
+ * @author Nacos
+ */
+public class FuzzyGroupKeyIndex {
+    
+    private static final int PATTERN_ITEM_COUNT = 3;
+    
+    /**
+     * namespace -> group -> resource name -> keys, blank namespace and default namespace share the same keys.
+     */
+    private final Map<String, Map<String, NavigableMap<String, Set<String>>>> index = new ConcurrentHashMap<>();
+    
+    /**
+     * Add key to index.
+     *
+     * @param namespace    namespace of key.
+     * @param group        group of key.
+     * @param resourceName dataId or service name of key.
+     * @param key          group key or service key.
+     */
+    public void addKey(String namespace, String group, String resourceName, String key) {
+        index.compute(normalizeNamespace(namespace), (k, groups) -> {
+            if (groups == null) {
+                groups = new ConcurrentHashMap<>(4);
+            }
+            groups.computeIfAbsent(group, g -> new ConcurrentSkipListMap<>())
+                    .merge(resourceName, Collections.singleton(key), FuzzyGroupKeyIndex::union);
+            return groups;
+        });
+    }
+    
+    /**
+     * Remove key from index.
+     *
+     * @param namespace    namespace of key.
+     * @param group        group of key.
+     * @param resourceName dataId or service name of key.
+     * @param key          group key or service key.
+     */
+    public void removeKey(String namespace, String group, String resourceName, String key) {
+        index.computeIfPresent(normalizeNamespace(namespace), (k, groups) -> {
+            groups.computeIfPresent(group, (g, resources) -> {
+                resources.computeIfPresent(resourceName, (r, keys) -> subtract(keys, key));
+                return resources.isEmpty() ? null : resources;
+            });
+            return groups.isEmpty() ? null : groups;
+        });
+    }
+    
+    /**
+     * Visit keys matched the group key pattern, same as {@link FuzzyGroupKeyPattern#matchPattern}.
+     *
+     * @param groupKeyPattern group key pattern.
+     * @param visitor         key visitor, returns false to stop visiting.
+     */
+    public void matchKeys(String groupKeyPattern, Predicate<String> visitor) {
+        String[] splitPatterns = groupKeyPattern.split(FUZZY_WATCH_PATTERN_SPLITTER);
+        if (splitPatterns.length < PATTERN_ITEM_COUNT) {
+            return;
+        }
+        Map<String, NavigableMap<String, Set<String>>> groups = index.get(splitPatterns[0]);
+        if (groups == null) {
+            return;
+        }
+        FuzzyGroupKeyPatternItem groupItem = FuzzyGroupKeyPatternItem.parse(splitPatterns[1]);
+        FuzzyGroupKeyPatternItem resourceItem = FuzzyGroupKeyPatternItem.parse(splitPatterns[2]);
+        if (groupItem.getType() == FuzzyGroupKeyPatternItem.Type.EXACT) {
+            NavigableMap<String, Set<String>> resources = groups.get(groupItem.getPureString());
+            if (resources != null) {
+                matchResources(resources, resourceItem, visitor);
+            }
+            return;
+        }
+        for (Map.Entry<String, NavigableMap<String, Set<String>>> entry : groups.entrySet()) {
+            if (groupItem.matches(entry.getKey()) && !matchResources(entry.getValue(), resourceItem, visitor)) {
+                return;
+            }
+        }
+    }
+    
+    private static boolean matchResources(NavigableMap<String, Set<String>> resources,
+            FuzzyGroupKeyPatternItem resourceItem, Predicate<String> visitor) {
+        switch (resourceItem.getType()) {
+            case EXACT:
+                Set<String> keys = resources.get(resourceItem.getPureString());
+                return keys == null || visitKeys(keys, visitor);
+            case PREFIX:
+                // resource names with the same prefix are adjacent in sorted map.
+                String prefix = resourceItem.getPureString();
+                for (Map.Entry<String, Set<String>> entry : resources.tailMap(prefix, true).entrySet()) {
+                    if (!entry.getKey().startsWith(prefix)) {
+                        return true;
+                    }
+                    if (!visitKeys(entry.getValue(), visitor)) {
+                        return false;
+                    }
+                }
+                return true;
+            case NONE:
+                return true;
+            default:
+                return visitAll(resources, resourceItem, visitor);
+        }
+    }
+    
+    private static boolean visitAll(NavigableMap<String, Set<String>> resources,
+            FuzzyGroupKeyPatternItem resourceItem, Predicate<String> visitor) {
+        for (Map.Entry<String, Set<String>> entry : resources.entrySet()) {
+            if (resourceItem.matches(entry.getKey()) && !visitKeys(entry.getValue(), visitor)) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private static boolean visitKeys(Set<String> keys, Predicate<String> visitor) {
+        for (String key : keys) {
+            if (!visitor.test(key)) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * Keys of a resource are replaced as a whole, usually there is only one key for a resource.
+     */
+    private static Set<String> union(Set<String> keys, Set<String> added) {
+        if (keys.containsAll(added)) {
+            return keys;
+        }
+        Set<String> result = new HashSet<>(keys);
+        result.addAll(added);
+        return Collections.unmodifiableSet(result);
+    }
+    
+    private static Set<String> subtract(Set<String> keys, String removed) {
+        if (!keys.contains(removed)) {
+            return keys;
+        }
+        if (keys.size() == 1) {
+            return null;
+        }
+        Set<String> result = new HashSet<>(keys);
+        result.remove(removed);
+        return Collections.unmodifiableSet(result);
+    }
+    
+    private static String normalizeNamespace(String namespace) {
+        return StringUtils.isBlank(namespace) ? DEFAULT_NAMESPACE_ID : namespace;
+    }
+}
@@ -0,0 +1,326 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.utils;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import static com.alibaba.nacos.api.common.Constants.DEFAULT_NAMESPACE_ID;
+import static com.alibaba.nacos.api.common.Constants.FUZZY_WATCH_PATTERN_SPLITTER;
+
+/**
+ * Index of fuzzy group key patterns, to find the patterns matched a group key without checking every pattern.
+ *
+ * <p>Patterns are indexed by namespace, then by group pattern and resource pattern. Accurate items are indexed by
+ * hash, prefix and postfix items are indexed by trie, only contains items are checked one by one. Adding or removing
+ * a pattern only updates the buckets of the pattern, and matching reads the concurrent index without lock.
+ *
+ * @author Nacos
+ */
+public class FuzzyGroupKeyPatternIndex {
+    
+    private static final int PATTERN_ITEM_COUNT = 3;
+    
+    private final Set<String> patterns = new HashSet<>();
+    
+    private final Map<String, ItemIndex<ItemIndex<List<String>>>> namespaceIndex = new ConcurrentHashMap<>();
+    
+    /**
+     * Add group key pattern to index.
+     *
+     * @param groupKeyPattern group key pattern.
+     * @return true if the pattern is not indexed before.
+     */
+    public synchronized boolean addPattern(String groupKeyPattern) {
+        if (!patterns.add(groupKeyPattern)) {
+            return false;
+        }
+        String[] splitPatterns = groupKeyPattern.split(FUZZY_WATCH_PATTERN_SPLITTER);
+        if (splitPatterns.length < PATTERN_ITEM_COUNT) {
+            return true;
+        }
+        ItemIndex<List<String>> resourceIndex = namespaceIndex.computeIfAbsent(splitPatterns[0], k -> new ItemIndex<>())
+                .getOrCreate(FuzzyGroupKeyPatternItem.parse(splitPatterns[1]), ItemIndex::new);
+        if (resourceIndex == null) {
+            return true;
+        }
+        List<String> matchedPatterns = resourceIndex.getOrCreate(FuzzyGroupKeyPatternItem.parse(splitPatterns[2]),
+                CopyOnWriteArrayList::new);
+        if (matchedPatterns != null) {
+            matchedPatterns.add(groupKeyPattern);
+        }
+        return true;
+    }
+    
+    /**
+     * Remove group key pattern from index.
+     *
+     * @param groupKeyPattern group key pattern.
+     * @return true if the pattern is indexed before.
+     */
+    public synchronized boolean removePattern(String groupKeyPattern) {
+        if (!patterns.remove(groupKeyPattern)) {
+            return false;
+        }
+        String[] splitPatterns = groupKeyPattern.split(FUZZY_WATCH_PATTERN_SPLITTER);
+        if (splitPatterns.length < PATTERN_ITEM_COUNT) {
+            return true;
+        }
+        ItemIndex<ItemIndex<List<String>>> groupIndex = namespaceIndex.get(splitPatterns[0]);
+        if (groupIndex == null) {
+            return true;
+        }
+        FuzzyGroupKeyPatternItem groupItem = FuzzyGroupKeyPatternItem.parse(splitPatterns[1]);
+        ItemIndex<List<String>> resourceIndex = groupIndex.get(groupItem);
+        if (resourceIndex == null) {
+            return true;
+        }
+        FuzzyGroupKeyPatternItem resourceItem = FuzzyGroupKeyPatternItem.parse(splitPatterns[2]);
+        List<String> matchedPatterns = resourceIndex.get(resourceItem);
+        if (matchedPatterns == null || !matchedPatterns.remove(groupKeyPattern) || !matchedPatterns.isEmpty()) {
+            return true;
+        }
+        // prune the empty buckets, so that removed patterns don't keep their index forever.
+        resourceIndex.remove(resourceItem);
+        if (resourceIndex.isEmpty()) {
+            groupIndex.remove(groupItem);
+            if (groupIndex.isEmpty()) {
+                namespaceIndex.remove(splitPatterns[0]);
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * Get the indexed patterns matched the resource, same as {@link FuzzyGroupKeyPattern#matchPattern}.
+     *
+     * @param resourceName The dataId or service name to match.
+     * @param group        The group to match.
+     * @param namespace    The namespace to match.
+     * @return matched patterns.
+     */
+    public Set<String> matchPatterns(String resourceName, String group, String namespace) {
+        if (StringUtils.isBlank(namespace)) {
+            namespace = DEFAULT_NAMESPACE_ID;
+        }
+        ItemIndex<ItemIndex<List<String>>> groupIndex = namespaceIndex.get(namespace);
+        if (groupIndex == null) {
+            return new HashSet<>(1);
+        }
+        Set<String> matchedPatterns = new HashSet<>();
+        groupIndex.collect(group, resourceIndex -> resourceIndex.collect(resourceName, matchedPatterns::addAll));
+        return matchedPatterns;
+    }
+    
+    /**
+     * Index of one pattern item, accurate, all, prefix, postfix and contains items are kept separately. Only updated
+     * under the lock of the pattern index, and read concurrently.
+     *
+     * @param <T> value of pattern item.
+     */
+    private static class ItemIndex<T> {
+        
+        private final Map<String, T> exactItems = new ConcurrentHashMap<>(4);
+        
+        private final TrieNode<T> prefixItems = new TrieNode<>();
+        
+        private final TrieNode<T> suffixItems = new TrieNode<>();
+        
+        private final Map<String, T> infixItems = new ConcurrentHashMap<>(4);
+        
+        private volatile T allItem;
+        
+        T getOrCreate(FuzzyGroupKeyPatternItem item, Supplier<T> creator) {
+            switch (item.getType()) {
+                case EXACT:
+                    return exactItems.computeIfAbsent(item.getPureString(), k -> creator.get());
+                case ALL:
+                    if (allItem == null) {
+                        allItem = creator.get();
+                    }
+                    return allItem;
+                case PREFIX:
+                    return prefixItems.getOrCreate(item.getPureString(), false, creator);
+                case SUFFIX:
+                    return suffixItems.getOrCreate(item.getPureString(), true, creator);
+                case INFIX:
+                    return infixItems.computeIfAbsent(item.getPureString(), k -> creator.get());
+                default:
+                    return null;
+            }
+        }
+        
+        T get(FuzzyGroupKeyPatternItem item) {
+            switch (item.getType()) {
+                case EXACT:
+                    return exactItems.get(item.getPureString());
+                case ALL:
+                    return allItem;
+                case PREFIX:
+                    return prefixItems.get(item.getPureString(), false);
+                case SUFFIX:
+                    return suffixItems.get(item.getPureString(), true);
+                case INFIX:
+                    return infixItems.get(item.getPureString());
+                default:
+                    return null;
+            }
+        }
+        
+        void remove(FuzzyGroupKeyPatternItem item) {
+            switch (item.getType()) {
+                case EXACT:
+                    exactItems.remove(item.getPureString());
+                    break;
+                case ALL:
+                    allItem = null;
+                    break;
+                case PREFIX:
+                    prefixItems.remove(item.getPureString(), false);
+                    break;
+                case SUFFIX:
+                    suffixItems.remove(item.getPureString(), true);
+                    break;
+                case INFIX:
+                    infixItems.remove(item.getPureString());
+                    break;
+                default:
+                    break;
+            }
+        }
+        
+        boolean isEmpty() {
+            return exactItems.isEmpty() && allItem == null && prefixItems.isEmpty() && suffixItems.isEmpty()
+                    && infixItems.isEmpty();
+        }
+        
+        void collect(String resource, Consumer<T> consumer) {
+            T exactItem = exactItems.get(resource);
+            if (exactItem != null) {
+                consumer.accept(exactItem);
+            }
+            T all = allItem;
+            if (all != null) {
+                consumer.accept(all);
+            }
+            prefixItems.collect(resource, false, consumer);
+            suffixItems.collect(resource, true, consumer);
+            for (Map.Entry<String, T> entry : infixItems.entrySet()) {
+                if (resource.contains(entry.getKey())) {
+                    consumer.accept(entry.getValue());
+                }
+            }
+        }
+    }
+    
+    /**
+     * Char trie node, postfix items are stored in reversed order.
+     *
+     * @param <T> value of pattern item.
+     */
+    private static class TrieNode<T> {
+        
+        private volatile Map<Character, TrieNode<T>> children;
+        
+        private volatile T value;
+        
+        T getOrCreate(String key, boolean reverse, Supplier<T> creator) {
+            TrieNode<T> node = this;
+            int length = key.length();
+            for (int i = 0; i < length; i++) {
+                if (node.children == null) {
+                    node.children = new ConcurrentHashMap<>(4);
+                }
+                node = node.children.computeIfAbsent(charAt(key, i, reverse), k -> new TrieNode<>());
+            }
+            if (node.value == null) {
+                node.value = creator.get();
+            }
+            return node.value;
+        }
+        
+        T get(String key, boolean reverse) {
+            TrieNode<T> node = find(key, reverse, null);
+            return node == null ? null : node.value;
+        }
+        
+        void remove(String key, boolean reverse) {
+            List<TrieNode<T>> path = new ArrayList<>(key.length());
+            TrieNode<T> node = find(key, reverse, path);
+            if (node == null) {
+                return;
+            }
+            node.value = null;
+            // prune the nodes without value and children from the leaf.
+            for (int i = path.size() - 1; i >= 0 && node.isEmpty(); i--) {
+                node = path.get(i);
+                node.children.remove(charAt(key, i, reverse));
+            }
+        }
+        
+        boolean isEmpty() {
+            Map<Character, TrieNode<T>> currentChildren = children;
+            return value == null && (currentChildren == null || currentChildren.isEmpty());
+        }
+        
+        void collect(String resource, boolean reverse, Consumer<T> consumer) {
+            TrieNode<T> node = this;
+            int length = resource.length();
+            for (int i = 0; ; i++) {
+                T currentValue = node.value;
+                if (currentValue != null) {
+                    consumer.accept(currentValue);
+                }
+                Map<Character, TrieNode<T>> currentChildren = node.children;
+                if (i == length || currentChildren == null) {
+                    return;
+                }
+                node = currentChildren.get(charAt(resource, i, reverse));
+                if (node == null) {
+                    return;
+                }
+            }
+        }
+        
+        private TrieNode<T> find(String key, boolean reverse, List<TrieNode<T>> path) {
+            TrieNode<T> node = this;
+            int length = key.length();
+            for (int i = 0; i < length; i++) {
+                if (path != null) {
+                    path.add(node);
+                }
+                Map<Character, TrieNode<T>> currentChildren = node.children;
+                node = currentChildren == null ? null : currentChildren.get(charAt(key, i, reverse));
+                if (node == null) {
+                    return null;
+                }
+            }
+            return node;
+        }
+        
+        private static char charAt(String key, int index, boolean reverse) {
+            return key.charAt(reverse ? key.length() - 1 - index : index);
+        }
+    }
+}
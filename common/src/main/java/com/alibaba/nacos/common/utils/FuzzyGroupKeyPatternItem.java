@@ -0,0 +1,111 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.utils;
+
+import static com.alibaba.nacos.api.common.Constants.ALL_PATTERN;
+
+/**
+ * One item of fuzzy group key pattern, the group pattern or the resource pattern.
+ *
+ * @author Nacos
+ */
+final class FuzzyGroupKeyPatternItem {
+    
+    /**
+     * Type of pattern item.
+     */
+    enum Type {
+        /**
+         * Accurate match without *.
+         */
+        EXACT,
+        /**
+         * Match all for *.
+         */
+        ALL,
+        /**
+         * Prefix match for {string}*.
+         */
+        PREFIX,
+        /**
+         * Postfix match for *{string}.
+         */
+        SUFFIX,
+        /**
+         * Contains match for *{string}*.
+         */
+        INFIX,
+        /**
+         * Other patterns which never match.
+         */
+        NONE
+    }
+    
+    private final Type type;
+    
+    private final String pureString;
+    
+    private FuzzyGroupKeyPatternItem(Type type, String pureString) {
+        this.type = type;
+        this.pureString = pureString;
+    }
+    
+    static FuzzyGroupKeyPatternItem parse(String pattern) {
+        if (!pattern.contains(ALL_PATTERN)) {
+            return new FuzzyGroupKeyPatternItem(Type.EXACT, pattern);
+        }
+        if (pattern.equals(ALL_PATTERN)) {
+            return new FuzzyGroupKeyPatternItem(Type.ALL, StringUtils.EMPTY);
+        }
+        String pureString = pattern.replace(ALL_PATTERN, StringUtils.EMPTY);
+        if (pattern.startsWith(ALL_PATTERN) && pattern.endsWith(ALL_PATTERN)) {
+            return new FuzzyGroupKeyPatternItem(Type.INFIX, pureString);
+        }
+        if (pattern.startsWith(ALL_PATTERN)) {
+            return new FuzzyGroupKeyPatternItem(Type.SUFFIX, pureString);
+        }
+        if (pattern.endsWith(ALL_PATTERN)) {
+            return new FuzzyGroupKeyPatternItem(Type.PREFIX, pureString);
+        }
+        return new FuzzyGroupKeyPatternItem(Type.NONE, pureString);
+    }
+    
+    boolean matches(String resource) {
+        switch (type) {
+            case EXACT:
+                return pureString.equals(resource);
+            case ALL:
+                return true;
+            case PREFIX:
+                return resource.startsWith(pureString);
+            case SUFFIX:
+                return resource.endsWith(pureString);
+            case INFIX:
+                return resource.contains(pureString);
+            default:
+                return false;
+        }
+    }
+    
+    Type getType() {
+        return type;
+    }
+    
+    String getPureString() {
+        return pureString;
+    }
+}
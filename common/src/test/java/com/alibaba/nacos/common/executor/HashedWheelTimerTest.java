@@ -0,0 +1,100 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.executor;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HashedWheelTimerTest {
+    
+    private HashedWheelTimer timer;
+    
+    @BeforeEach
+    void setUp() {
+        // 4 ticks per wheel, so longer delays take several rounds.
+        timer = new HashedWheelTimer("test.timer", 10, TimeUnit.MILLISECONDS, 3, Runnable::run);
+    }
+    
+    @AfterEach
+    void tearDown() {
+        timer.shutdown();
+    }
+    
+    @Test
+    void testExpireAfterDelay() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        long start = System.nanoTime();
+        HashedWheelTimer.Timeout timeout = timer.newTimeout(latch::countDown, 150, TimeUnit.MILLISECONDS);
+        assertTrue(latch.await(3, TimeUnit.SECONDS));
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) >= 150);
+        assertTrue(timeout.isExpired());
+        assertFalse(timeout.cancel());
+        assertEquals(0, timer.pendingTimeouts());
+    }
+    
+    @Test
+    void testCancel() throws InterruptedException {
+        AtomicInteger count = new AtomicInteger();
+        HashedWheelTimer.Timeout timeout = timer.newTimeout(count::incrementAndGet, 50, TimeUnit.MILLISECONDS);
+        assertTrue(timeout.cancel());
+        assertTrue(timeout.isCancelled());
+        assertEquals(0, timer.pendingTimeouts());
+        TimeUnit.MILLISECONDS.sleep(200);
+        assertEquals(0, count.get());
+        assertFalse(timeout.isExpired());
+    }
+    
+    @Test
+    void testShutdown() {
+        timer.shutdown();
+        assertThrows(IllegalStateException.class, () -> timer.newTimeout(() -> { }, 1, TimeUnit.SECONDS));
+    }
+    
+    /**
+     * A heartbeat scale scenario, 100k timeouts are added, cancelled and expired without a future per timeout.
+     */
+    @Test
+    void testLargeNumberOfTimeouts() throws InterruptedException {
+        int total = 100000;
+        List<HashedWheelTimer.Timeout> timeouts = new ArrayList<>(total);
+        for (int i = 0; i < total; i++) {
+            timeouts.add(timer.newTimeout(() -> { }, 1, TimeUnit.HOURS));
+        }
+        assertEquals(total, timer.pendingTimeouts());
+        timeouts.forEach(HashedWheelTimer.Timeout::cancel);
+        assertEquals(0, timer.pendingTimeouts());
+        
+        CountDownLatch latch = new CountDownLatch(total);
+        for (int i = 0; i < total; i++) {
+            timer.newTimeout(latch::countDown, i % 100, TimeUnit.MILLISECONDS);
+        }
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+        assertEquals(0, timer.pendingTimeouts());
+    }
+}
@@ -25,12 +25,15 @@ import com.alibaba.nacos.api.naming.remote.request.ServiceQueryRequest;
 import com.alibaba.nacos.api.remote.request.RequestMeta;
 import com.alibaba.nacos.common.remote.PayloadRegistry;
 import com.alibaba.nacos.common.remote.exception.RemoteException;
+import com.alibaba.nacos.common.utils.JacksonUtils;
+import com.google.protobuf.ByteString;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.util.HashMap;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -98,6 +101,16 @@ class GrpcUtilsTest {
         assertEquals(response.getClass().getSimpleName(), convert.getMetadata().getType());
     }
     
+    @Test
+    void testConvertResponseWithSerializedBody() {
+        ByteString body = ByteString.copyFrom(JacksonUtils.toJsonBytes(response));
+        Payload convert = GrpcUtils.convert(response, body);
+        assertEquals(response.getClass().getSimpleName(), convert.getMetadata().getType());
+        assertSame(body, convert.getBody().getValue());
+        ClientConfigMetricResponse parsed = (ClientConfigMetricResponse) GrpcUtils.parse(convert);
+        assertEquals(response.getMetrics(), parsed.getMetrics());
+    }
+    
     @Test
     void testParse() {
         Payload requestPayload = GrpcUtils.convert(request);
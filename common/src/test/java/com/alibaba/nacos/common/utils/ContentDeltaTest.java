@@ -0,0 +1,72 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.utils;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class ContentDeltaTest {
+    
+    private static void assertRoundTrip(String base, String target) {
+        assertEquals(target, ContentDelta.diff(base, target).apply(base));
+    }
+    
+    @Test
+    void testDiffOneLine() {
+        String base = "a=1\nb=2\nc=3\n";
+        String target = "a=1\nb=20\nc=3\n";
+        ContentDelta delta = ContentDelta.diff(base, target);
+        assertEquals(7, delta.getPrefixLength());
+        assertEquals(5, delta.getSuffixLength());
+        assertEquals("0", delta.getText());
+        assertEquals(target, delta.apply(base));
+    }
+    
+    @Test
+    void testDiffEdges() {
+        assertRoundTrip("", "abc");
+        assertRoundTrip("abc", "");
+        assertRoundTrip("abc", "abc");
+        assertRoundTrip("abcabc", "abc");
+        assertRoundTrip("aaa", "aaaa");
+        assertRoundTrip("head\ntail", "new\nhead\ntail\nmore");
+    }
+    
+    @Test
+    void testNotSplitSurrogatePair() {
+        String base = "k=😀";
+        String target = "k=😁";
+        ContentDelta delta = ContentDelta.diff(base, target);
+        assertEquals("😁", delta.getText());
+        assertEquals(target, delta.apply(base));
+        base = "😀=v";
+        target = "🈀=v";
+        delta = ContentDelta.diff(base, target);
+        assertEquals("🈀", delta.getText());
+        assertEquals(target, delta.apply(base));
+    }
+    
+    @Test
+    void testApplyNotFit() {
+        assertNull(new ContentDelta(3, 3, "x").apply("abc"));
+        assertNull(new ContentDelta(-1, 0, "x").apply("abc"));
+        assertNull(new ContentDelta(0, 0, null).apply("abc"));
+        assertNull(new ContentDelta(0, 0, "x").apply(null));
+    }
+}
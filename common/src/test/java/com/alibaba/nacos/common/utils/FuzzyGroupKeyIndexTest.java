@@ -0,0 +1,76 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FuzzyGroupKeyIndexTest {
+    
+    private static String key(String namespace, String group, String resource) {
+        return namespace + "+" + group + "+" + resource;
+    }
+    
+    @Test
+    void testMatchKeysSameAsMatchPattern() {
+        FuzzyGroupKeyIndex index = new FuzzyGroupKeyIndex();
+        Set<String[]> allKeys = new HashSet<>();
+        for (String namespace : new String[] {"public", "ns1", ""}) {
+            for (String group : FuzzyGroupKeyPatternIndexTest.GROUPS) {
+                for (String resource : FuzzyGroupKeyPatternIndexTest.RESOURCES) {
+                    index.addKey(namespace, group, resource, key(namespace, group, resource));
+                    allKeys.add(new String[] {namespace, group, resource});
+                }
+            }
+        }
+        for (String pattern : FuzzyGroupKeyPatternIndexTest.allPatterns()) {
+            Set<String> expected = new HashSet<>();
+            for (String[] each : allKeys) {
+                if (FuzzyGroupKeyPattern.matchPattern(pattern, each[2], each[1], each[0])) {
+                    expected.add(key(each[0], each[1], each[2]));
+                }
+            }
+            Set<String> actual = new HashSet<>();
+            index.matchKeys(pattern, actual::add);
+            assertEquals(expected, actual, "pattern " + pattern);
+        }
+    }
+    
+    @Test
+    void testRemoveKeyAndStopVisit() {
+        FuzzyGroupKeyIndex index = new FuzzyGroupKeyIndex();
+        for (int i = 0; i < 10; i++) {
+            index.addKey("public", "group", "data" + i, "data" + i);
+        }
+        String pattern = FuzzyGroupKeyPattern.generatePattern("data*", "group", "public");
+        Set<String> visited = new HashSet<>();
+        index.matchKeys(pattern, key -> visited.add(key) && visited.size() < 3);
+        assertEquals(3, visited.size());
+        
+        for (int i = 0; i < 10; i++) {
+            index.removeKey("public", "group", "data" + i, "data" + i);
+        }
+        visited.clear();
+        index.matchKeys(pattern, visited::add);
+        assertTrue(visited.isEmpty());
+    }
+}
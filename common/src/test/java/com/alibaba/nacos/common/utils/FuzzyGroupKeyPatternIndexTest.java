@@ -0,0 +1,123 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FuzzyGroupKeyPatternIndexTest {
+    
+    static final String[] NAMESPACES = {"public", "ns1"};
+    
+    static final String[] GROUPS = {"DEFAULT_GROUP", "group", "group1", "app_group"};
+    
+    static final String[] RESOURCES = {"data", "data1", "data12", "mydata", "app.yaml", "app.properties", "a"};
+    
+    static final String[] GROUP_PATTERNS = {"*", "group", "group*", "*group", "*oup*", "gr*up", "none*"};
+    
+    static final String[] RESOURCE_PATTERNS = {"*", "data", "data*", "data1*", "*data", "*.yaml", "*ta1*", "d*a", "**",
+            "a*"};
+    
+    static List<String> allPatterns() {
+        List<String> patterns = new ArrayList<>();
+        for (String namespace : NAMESPACES) {
+            for (String groupPattern : GROUP_PATTERNS) {
+                for (String resourcePattern : RESOURCE_PATTERNS) {
+                    patterns.add(FuzzyGroupKeyPattern.generatePattern(resourcePattern, groupPattern, namespace));
+                }
+            }
+        }
+        return patterns;
+    }
+    
+    @Test
+    void testMatchPatternsSameAsMatchPattern() {
+        FuzzyGroupKeyPatternIndex index = new FuzzyGroupKeyPatternIndex();
+        List<String> patterns = allPatterns();
+        patterns.forEach(index::addPattern);
+        for (String namespace : new String[] {"public", "ns1", "ns2", ""}) {
+            for (String group : GROUPS) {
+                for (String resource : RESOURCES) {
+                    assertEquals(FuzzyGroupKeyPattern.filterMatchedPatterns(patterns, resource, group, namespace),
+                            index.matchPatterns(resource, group, namespace),
+                            "namespace " + namespace + ", group " + group + ", resource " + resource);
+                }
+            }
+        }
+    }
+    
+    @Test
+    void testAddAndRemovePattern() {
+        FuzzyGroupKeyPatternIndex index = new FuzzyGroupKeyPatternIndex();
+        String prefixPattern = FuzzyGroupKeyPattern.generatePattern("data*", "group", "public");
+        String samePrefixPattern = FuzzyGroupKeyPattern.generatePattern("data**", "group", "public");
+        assertTrue(index.addPattern(prefixPattern));
+        assertFalse(index.addPattern(prefixPattern));
+        assertTrue(index.addPattern(samePrefixPattern));
+        // data** is a prefix pattern same as data*.
+        Set<String> expected = new HashSet<>();
+        expected.add(prefixPattern);
+        expected.add(samePrefixPattern);
+        assertEquals(expected, index.matchPatterns("data1", "group", "public"));
+        
+        assertTrue(index.removePattern(prefixPattern));
+        assertFalse(index.removePattern(prefixPattern));
+        expected.remove(prefixPattern);
+        assertEquals(expected, index.matchPatterns("data1", "group", "public"));
+        assertTrue(index.removePattern(samePrefixPattern));
+        assertTrue(index.matchPatterns("data1", "group", "public").isEmpty());
+    }
+    
+    @Test
+    void testRemovePatternsIncrementally() throws Exception {
+        FuzzyGroupKeyPatternIndex index = new FuzzyGroupKeyPatternIndex();
+        List<String> patterns = allPatterns();
+        patterns.forEach(index::addPattern);
+        List<String> remained = new ArrayList<>();
+        for (int i = 0; i < patterns.size(); i++) {
+            if (i % 2 == 0) {
+                assertTrue(index.removePattern(patterns.get(i)));
+            } else {
+                remained.add(patterns.get(i));
+            }
+        }
+        for (String namespace : NAMESPACES) {
+            for (String group : GROUPS) {
+                for (String resource : RESOURCES) {
+                    assertEquals(FuzzyGroupKeyPattern.filterMatchedPatterns(remained, resource, group, namespace),
+                            index.matchPatterns(resource, group, namespace),
+                            "namespace " + namespace + ", group " + group + ", resource " + resource);
+                }
+            }
+        }
+        remained.forEach(index::removePattern);
+        // empty buckets are pruned after all patterns removed.
+        Field namespaceIndex = FuzzyGroupKeyPatternIndex.class.getDeclaredField("namespaceIndex");
+        namespaceIndex.setAccessible(true);
+        assertTrue(((Map<?, ?>) namespaceIndex.get(index)).isEmpty());
+    }
+}
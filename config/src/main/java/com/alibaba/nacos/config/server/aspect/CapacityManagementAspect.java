@@ -25,6 +25,7 @@ import com.alibaba.nacos.config.server.model.ConfigRequestInfo;
 import com.alibaba.nacos.config.server.model.capacity.Capacity;
 import com.alibaba.nacos.config.server.model.form.ConfigForm;
 import com.alibaba.nacos.config.server.service.capacity.CapacityService;
+import com.alibaba.nacos.config.server.service.capacity.CapacityUsageCounter;
 import com.alibaba.nacos.config.server.service.repository.ConfigInfoPersistService;
 import com.alibaba.nacos.config.server.utils.PropertyUtil;
 import org.aspectj.lang.ProceedingJoinPoint;
@@ -245,6 +246,11 @@ public class CapacityManagementAspect {
      */
     private void insertOrUpdateUsage(String group, String namespaceId, CounterMode counterMode, boolean hasTenant) {
         try {
+            if (PropertyUtil.isCapacityUsageInMemory()) {
+                updateClusterUsageInMemory(counterMode, true);
+                updateUsageInMemory(counterMode, group, namespaceId, true);
+                return;
+            }
             capacityService.insertAndUpdateClusterUsage(counterMode, true);
             if (hasTenant) {
                 capacityService.insertAndUpdateTenantUsage(counterMode, namespaceId, true);
@@ -259,7 +265,9 @@ public class CapacityManagementAspect {
     private LimitType getLimitType(CounterMode counterMode, String group, String namespaceId, String content,
             boolean hasTenant) {
         try {
-            boolean clusterLimited = !capacityService.insertAndUpdateClusterUsage(counterMode, false);
+            boolean clusterUpdated = PropertyUtil.isCapacityUsageInMemory() ? updateClusterUsageInMemory(counterMode,
+                    false) : capacityService.insertAndUpdateClusterUsage(counterMode, false);
+            boolean clusterLimited = !clusterUpdated;
             if (clusterLimited) {
                 LOGGER.warn("[capacityManagement] cluster capacity reaches quota.");
                 return LimitType.OVER_CLUSTER_QUOTA;
@@ -315,7 +323,13 @@ public class CapacityManagementAspect {
     
     private boolean isUpdateSuccess(CounterMode counterMode, String group, String namespaceId, boolean hasTenant) {
         boolean updateSuccess;
-        if (hasTenant) {
+        if (PropertyUtil.isCapacityUsageInMemory()) {
+            updateSuccess = updateUsageInMemory(counterMode, group, namespaceId, false);
+            if (!updateSuccess) {
+                LOGGER.warn("[capacityManagement] capacity reaches quota, group: {}, namespaceId: {}", group,
+                        namespaceId);
+            }
+        } else if (hasTenant) {
             updateSuccess = capacityService.updateTenantUsage(counterMode, namespaceId);
             if (!updateSuccess) {
                 LOGGER.warn("[capacityManagement] namespaceId capacity reaches quota, namespaceId: {}", namespaceId);
@@ -338,6 +352,9 @@ public class CapacityManagementAspect {
     }
     
     private Capacity getCapacity(String group, String namespaceId, boolean hasTenant) {
+        if (PropertyUtil.isCapacityUsageInMemory()) {
+            return capacityService.getCapacityUsageCounter().getCapacity(group, namespaceId);
+        }
         Capacity capacity;
         if (hasTenant) {
             capacity = capacityService.getTenantCapacity(namespaceId);
@@ -396,7 +413,9 @@ public class CapacityManagementAspect {
     private void rollbackUsage(CounterMode counterMode, String group, String namespaceId, boolean hasTenant) {
         try {
             rollbackClusterUsage(counterMode);
-            if (hasTenant) {
+            if (PropertyUtil.isCapacityUsageInMemory()) {
+                updateUsageInMemory(counterMode.reverse(), group, namespaceId, true);
+            } else if (hasTenant) {
                 capacityService.updateTenantUsage(counterMode.reverse(), namespaceId);
             } else {
                 capacityService.updateGroupUsage(counterMode.reverse(), group);
@@ -408,7 +427,9 @@ public class CapacityManagementAspect {
     
     private void rollbackClusterUsage(CounterMode counterMode) {
         try {
-            if (!capacityService.updateClusterUsage(counterMode.reverse())) {
+            if (PropertyUtil.isCapacityUsageInMemory()) {
+                updateClusterUsageInMemory(counterMode.reverse(), true);
+            } else if (!capacityService.updateClusterUsage(counterMode.reverse())) {
                 LOGGER.error("[capacityManagement] cluster usage rollback fail counterMode: {}", counterMode);
             }
         } catch (Exception e) {
@@ -416,6 +437,25 @@ public class CapacityManagementAspect {
         }
     }
     
+    private boolean updateClusterUsageInMemory(CounterMode counterMode, boolean ignoreQuotaLimit) {
+        CapacityUsageCounter capacityUsageCounter = capacityService.getCapacityUsageCounter();
+        if (CounterMode.INCREMENT == counterMode) {
+            return capacityUsageCounter.incrementClusterUsage(ignoreQuotaLimit);
+        }
+        capacityUsageCounter.decrementClusterUsage();
+        return true;
+    }
+    
+    private boolean updateUsageInMemory(CounterMode counterMode, String group, String namespaceId,
+            boolean ignoreQuotaLimit) {
+        CapacityUsageCounter capacityUsageCounter = capacityService.getCapacityUsageCounter();
+        if (CounterMode.INCREMENT == counterMode) {
+            return capacityUsageCounter.incrementUsage(group, namespaceId, ignoreQuotaLimit);
+        }
+        capacityUsageCounter.decrementUsage(group, namespaceId);
+        return true;
+    }
+    
     /**
      * limit type.
      *
@@ -37,12 +37,64 @@ public class ConfigCommonConfig extends AbstractDynamicConfig {
     
     private int batchSize = 20;
     
+    private long pushCoalesceWindowMs = 20L;
+    
+    private int pushBatchMaxSize = 200;
+    
     private boolean derbyOpsEnabled = false;
     
+    private int dumpAllWorkerCount = Runtime.getRuntime().availableProcessors();
+    
+    private int dumpAllPeriodicWorkerCount = 1;
+    
+    private int dumpAllPrefetchPages = 2;
+    
+    private boolean dumpCheckpointEnabled = true;
+    
+    private long dumpCheckpointIntervalMs = 10 * 60 * 1000L;
+    
+    private long dumpCheckpointMaxAgeMs = 24 * 60 * 60 * 1000L;
+    
+    private long dumpCheckpointSafetyMarginMs = 5 * 60 * 1000L;
+    
     private int maxPatternCount = 20;
     
     private int maxMatchedConfigCount = 500;
     
+    private long contentCacheMaxBytes = 64 * 1024 * 1024L;
+    
+    private long payloadCacheMaxBytes = 32 * 1024 * 1024L;
+    
+    private boolean historyWriteBehindEnabled = false;
+    
+    private int historyWriteBehindCapacity = 10000;
+    
+    private int historyWriteBehindBatchSize = 100;
+    
+    private long historyWriteBehindOfferTimeoutMs = 1000L;
+    
+    private boolean searchIndexEnabled = false;
+    
+    private boolean searchIndexContentEnabled = false;
+    
+    private int compressWireThreshold = 8 * 1024;
+    
+    private int compressDiskThreshold = -1;
+    
+    private boolean deltaEnabled = false;
+    
+    private int deltaMaxVersions = 3;
+    
+    private long deltaMaxBytes = 16 * 1024 * 1024L;
+    
+    private boolean clusterStreamEnabled = true;
+    
+    private long clusterStreamWindowMs = 10L;
+    
+    private int clusterStreamBatchMaxSize = 200;
+    
+    private int clusterStreamMaxPending = 10000;
+    
     private ConfigCommonConfig() {
         super(CONFIG_COMMON);
         resetConfig();
@@ -68,6 +120,14 @@ public class ConfigCommonConfig extends AbstractDynamicConfig {
         return batchSize;
     }
     
+    public long getPushCoalesceWindowMs() {
+        return pushCoalesceWindowMs;
+    }
+    
+    public int getPushBatchMaxSize() {
+        return pushBatchMaxSize;
+    }
+    
     public boolean isDerbyOpsEnabled() {
         return derbyOpsEnabled;
     }
@@ -76,6 +136,34 @@ public class ConfigCommonConfig extends AbstractDynamicConfig {
         this.derbyOpsEnabled = derbyOpsEnabled;
     }
     
+    public int getDumpAllWorkerCount() {
+        return dumpAllWorkerCount;
+    }
+    
+    public int getDumpAllPeriodicWorkerCount() {
+        return dumpAllPeriodicWorkerCount;
+    }
+    
+    public int getDumpAllPrefetchPages() {
+        return dumpAllPrefetchPages;
+    }
+    
+    public boolean isDumpCheckpointEnabled() {
+        return dumpCheckpointEnabled;
+    }
+    
+    public long getDumpCheckpointIntervalMs() {
+        return dumpCheckpointIntervalMs;
+    }
+    
+    public long getDumpCheckpointMaxAgeMs() {
+        return dumpCheckpointMaxAgeMs;
+    }
+    
+    public long getDumpCheckpointSafetyMarginMs() {
+        return dumpCheckpointSafetyMarginMs;
+    }
+    
     public int getMaxPatternCount() {
         return maxPatternCount;
     }
@@ -84,16 +172,124 @@ public class ConfigCommonConfig extends AbstractDynamicConfig {
         return maxMatchedConfigCount;
     }
     
+    public long getContentCacheMaxBytes() {
+        return contentCacheMaxBytes;
+    }
+    
+    public long getPayloadCacheMaxBytes() {
+        return payloadCacheMaxBytes;
+    }
+    
+    public boolean isHistoryWriteBehindEnabled() {
+        return historyWriteBehindEnabled;
+    }
+    
+    public int getHistoryWriteBehindCapacity() {
+        return historyWriteBehindCapacity;
+    }
+    
+    public int getHistoryWriteBehindBatchSize() {
+        return historyWriteBehindBatchSize;
+    }
+    
+    public long getHistoryWriteBehindOfferTimeoutMs() {
+        return historyWriteBehindOfferTimeoutMs;
+    }
+    
+    public boolean isSearchIndexEnabled() {
+        return searchIndexEnabled;
+    }
+    
+    public boolean isSearchIndexContentEnabled() {
+        return searchIndexContentEnabled;
+    }
+    
+    public int getCompressWireThreshold() {
+        return compressWireThreshold;
+    }
+    
+    public int getCompressDiskThreshold() {
+        return compressDiskThreshold;
+    }
+    
+    public boolean isDeltaEnabled() {
+        return deltaEnabled;
+    }
+    
+    public int getDeltaMaxVersions() {
+        return deltaMaxVersions;
+    }
+    
+    public long getDeltaMaxBytes() {
+        return deltaMaxBytes;
+    }
+    
+    public boolean isClusterStreamEnabled() {
+        return clusterStreamEnabled;
+    }
+    
+    public long getClusterStreamWindowMs() {
+        return clusterStreamWindowMs;
+    }
+    
+    public int getClusterStreamBatchMaxSize() {
+        return clusterStreamBatchMaxSize;
+    }
+    
+    public int getClusterStreamMaxPending() {
+        return clusterStreamMaxPending;
+    }
+    
     @Override
     protected void getConfigFromEnv() {
         maxPushRetryTimes = EnvUtil.getProperty("nacos.config.push.maxRetryTime", Integer.class, 50);
         pushTimeout = EnvUtil.getProperty("nacos.config.push.timeout", Long.class, 3000L);
         batchSize = EnvUtil.getProperty("nacos.config.push.batchSize", Integer.class, 20);
+        pushCoalesceWindowMs = EnvUtil.getProperty("nacos.config.push.coalesceWindowMs", Long.class, 20L);
+        pushBatchMaxSize = EnvUtil.getProperty("nacos.config.push.batchMaxSize", Integer.class, 200);
         derbyOpsEnabled = EnvUtil.getProperty("nacos.config.derby.ops.enabled", Boolean.class, false);
+        dumpAllWorkerCount = EnvUtil.getProperty("nacos.config.dump.all.workerCount", Integer.class,
+                Runtime.getRuntime().availableProcessors());
+        dumpAllPeriodicWorkerCount = EnvUtil.getProperty("nacos.config.dump.all.periodic.workerCount", Integer.class,
+                1);
+        dumpAllPrefetchPages = EnvUtil.getProperty("nacos.config.dump.all.prefetchPages", Integer.class, 2);
+        dumpCheckpointEnabled = EnvUtil.getProperty("nacos.config.dump.checkpoint.enabled", Boolean.class, true);
+        dumpCheckpointIntervalMs = EnvUtil.getProperty("nacos.config.dump.checkpoint.intervalMs", Long.class,
+                10 * 60 * 1000L);
+        dumpCheckpointMaxAgeMs = EnvUtil.getProperty("nacos.config.dump.checkpoint.maxAgeMs", Long.class,
+                24 * 60 * 60 * 1000L);
+        dumpCheckpointSafetyMarginMs = EnvUtil.getProperty("nacos.config.dump.checkpoint.safetyMarginMs", Long.class,
+                5 * 60 * 1000L);
         
         maxPatternCount = EnvUtil.getProperty("nacos.config.fuzzy.watch.max.pattern.count", Integer.class, 20);
         maxMatchedConfigCount = EnvUtil.getProperty("nacos.config.fuzzy.watch.max.pattern.match.config.count",
                 Integer.class, 500);
+        contentCacheMaxBytes = EnvUtil.getProperty("nacos.config.cache.content.maxBytes", Long.class,
+                64 * 1024 * 1024L);
+        payloadCacheMaxBytes = EnvUtil.getProperty("nacos.config.cache.payload.maxBytes", Long.class,
+                32 * 1024 * 1024L);
+        historyWriteBehindEnabled = EnvUtil.getProperty("nacos.config.history.writeBehind.enabled", Boolean.class,
+                false);
+        historyWriteBehindCapacity = EnvUtil.getProperty("nacos.config.history.writeBehind.capacity", Integer.class,
+                10000);
+        historyWriteBehindBatchSize = EnvUtil.getProperty("nacos.config.history.writeBehind.batchSize", Integer.class,
+                100);
+        historyWriteBehindOfferTimeoutMs = EnvUtil.getProperty("nacos.config.history.writeBehind.offerTimeoutMs",
+                Long.class, 1000L);
+        searchIndexEnabled = EnvUtil.getProperty("nacos.config.search.index.enabled", Boolean.class, false);
+        searchIndexContentEnabled = EnvUtil.getProperty("nacos.config.search.index.content.enabled", Boolean.class,
+                false);
+        compressWireThreshold = EnvUtil.getProperty("nacos.config.compress.wire.threshold", Integer.class, 8 * 1024);
+        compressDiskThreshold = EnvUtil.getProperty("nacos.config.compress.disk.threshold", Integer.class, -1);
+        deltaEnabled = EnvUtil.getProperty("nacos.config.delta.enabled", Boolean.class, false);
+        deltaMaxVersions = EnvUtil.getProperty("nacos.config.delta.maxVersions", Integer.class, 3);
+        deltaMaxBytes = EnvUtil.getProperty("nacos.config.delta.maxBytes", Long.class, 16 * 1024 * 1024L);
+        clusterStreamEnabled = EnvUtil.getProperty("nacos.config.notify.cluster.stream.enabled", Boolean.class, true);
+        clusterStreamWindowMs = EnvUtil.getProperty("nacos.config.notify.cluster.stream.windowMs", Long.class, 10L);
+        clusterStreamBatchMaxSize = EnvUtil.getProperty("nacos.config.notify.cluster.stream.batchMaxSize",
+                Integer.class, 200);
+        clusterStreamMaxPending = EnvUtil.getProperty("nacos.config.notify.cluster.stream.maxPending",
+                Integer.class, 10000);
     }
     
     @Override
@@ -39,7 +39,6 @@ import com.alibaba.nacos.config.server.constant.ParametersField;
 import com.alibaba.nacos.config.server.model.ConfigAllInfo;
 import com.alibaba.nacos.config.server.model.ConfigInfo;
 import com.alibaba.nacos.config.server.model.ConfigInfoGrayWrapper;
-import com.alibaba.nacos.config.server.model.ConfigMetadata;
 import com.alibaba.nacos.config.server.model.ConfigRequestInfo;
 import com.alibaba.nacos.config.server.model.event.ConfigDataChangeEvent;
 import com.alibaba.nacos.config.server.model.form.ConfigFormV3;
@@ -50,19 +49,17 @@ import com.alibaba.nacos.config.server.service.ConfigChangePublisher;
 import com.alibaba.nacos.config.server.service.ConfigDetailService;
 import com.alibaba.nacos.config.server.service.ConfigMigrateService;
 import com.alibaba.nacos.config.server.service.ConfigOperationService;
+import com.alibaba.nacos.config.server.service.ConfigZipStreamer;
 import com.alibaba.nacos.config.server.service.listener.ConfigListenerStateDelegate;
 import com.alibaba.nacos.config.server.service.repository.ConfigInfoBetaPersistService;
 import com.alibaba.nacos.config.server.service.repository.ConfigInfoGrayPersistService;
 import com.alibaba.nacos.config.server.service.repository.ConfigInfoPersistService;
 import com.alibaba.nacos.config.server.service.trace.ConfigTraceService;
-import com.alibaba.nacos.config.server.utils.GroupKey;
 import com.alibaba.nacos.config.server.utils.ParamUtils;
 import com.alibaba.nacos.config.server.utils.PropertyUtil;
 import com.alibaba.nacos.config.server.utils.RequestUtil;
 import com.alibaba.nacos.config.server.utils.ResponseUtil;
 import com.alibaba.nacos.config.server.utils.TimeUtils;
-import com.alibaba.nacos.config.server.utils.YamlParserUtil;
-import com.alibaba.nacos.config.server.utils.ZipUtils;
 import com.alibaba.nacos.core.control.TpsControl;
 import com.alibaba.nacos.core.model.form.AggregationForm;
 import com.alibaba.nacos.core.model.form.PageForm;
@@ -89,6 +86,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.io.IOException;
 import java.sql.Timestamp;
@@ -99,7 +97,6 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Set;
 import java.util.stream.Collectors;
 
 import static com.alibaba.nacos.config.server.utils.RequestUtil.getRemoteIp;
@@ -138,6 +135,8 @@ public class ConfigControllerV3 {
     private final ConfigListenerStateDelegate configListenerStateDelegate;
     
     private final ConfigMigrateService configMigrateService;
+    
+    private final ConfigZipStreamer configZipStreamer;
 
     /**
      * Flag to indicate if the table `config_info_beta` exists, which means the old version of table schema is used.
@@ -157,6 +156,7 @@ public class ConfigControllerV3 {
         this.namespacePersistService = namespacePersistService;
         this.configListenerStateDelegate = configListenerStateDelegate;
         this.configMigrateService = configMigrateService;
+        this.configZipStreamer = new ConfigZipStreamer(configInfoPersistService);
         this.oldTableVersion = namespacePersistService.isExistTable("config_info_beta");
     }
     
@@ -445,172 +445,37 @@ public class ConfigControllerV3 {
         if (StringUtils.isBlank(srcUser)) {
             srcUser = RequestUtil.getSrcUserName(request);
         }
-        List<ConfigAllInfo> configInfoList = new ArrayList<>();
-        List<Map<String, String>> unrecognizedList = new ArrayList<>();
+        final String srcIp = RequestUtil.getRemoteIp(request);
+        String requestIpApp = RequestUtil.getAppName(request);
         try {
-            ZipUtils.UnZipResult unziped = ZipUtils.unzip(file.getBytes());
-            Result<Map<String, Object>> errorResult = parseImportDataV2(srcUser, unziped, configInfoList,
-                    unrecognizedList, namespaceId);
-            if (errorResult != null) {
-                return errorResult;
-            }
+            return configZipStreamer.importConfig(file::getInputStream, srcUser, namespaceId, policy, srcIp,
+                    requestIpApp);
         } catch (IOException e) {
             failedData.put("succCount", 0);
             LOGGER.error("parsing data failed", e);
             return Result.failure(ErrorCode.PARSING_DATA_FAILED, failedData);
         }
-        
-        if (CollectionUtils.isEmpty(configInfoList)) {
-            failedData.put("succCount", 0);
-            return Result.failure(ErrorCode.DATA_EMPTY, failedData);
-        }
-        final String srcIp = RequestUtil.getRemoteIp(request);
-        String requestIpApp = RequestUtil.getAppName(request);
-        final Timestamp time = TimeUtils.getCurrentTime();
-        Map<String, Object> saveResult = configInfoPersistService.batchInsertOrUpdate(configInfoList, srcUser, srcIp,
-                null, policy);
-        for (ConfigInfo configInfo : configInfoList) {
-            ConfigChangePublisher.notifyConfigChange(
-                    new ConfigDataChangeEvent(configInfo.getDataId(), configInfo.getGroup(), configInfo.getTenant(),
-                            time.getTime()));
-            ConfigTraceService.logPersistenceEvent(configInfo.getDataId(), configInfo.getGroup(),
-                    configInfo.getTenant(), requestIpApp, time.getTime(), InetUtils.getSelfIP(),
-                    ConfigTraceService.PERSISTENCE_EVENT, ConfigTraceService.PERSISTENCE_TYPE_PUB,
-                    configInfo.getContent());
-        }
-        // unrecognizedCount
-        if (!unrecognizedList.isEmpty()) {
-            saveResult.put("unrecognizedCount", unrecognizedList.size());
-            saveResult.put("unrecognizedData", unrecognizedList);
-        }
-        
-        return Result.success(saveResult);
     }
     
-    /**
-     * Import config add .metadata.yml file.
-     */
-    private Result<Map<String, Object>> parseImportDataV2(String srcUser, ZipUtils.UnZipResult unziped,
-            List<ConfigAllInfo> configInfoList, List<Map<String, String>> unrecognizedList, String namespaceId) {
-        ZipUtils.ZipItem metaDataItem = unziped.getMetaDataItem();
-        String metaData = metaDataItem.getItemData();
-        Map<String, Object> failedData = new HashMap<>(4);
-        
-        ConfigMetadata configMetadata = YamlParserUtil.loadObject(metaData, ConfigMetadata.class);
-        if (configMetadata == null || CollectionUtils.isEmpty(configMetadata.getMetadata())) {
-            failedData.put("succCount", 0);
-            return Result.failure(ErrorCode.METADATA_ILLEGAL, failedData);
-        }
-        List<ConfigMetadata.ConfigExportItem> configExportItems = configMetadata.getMetadata();
-        // check config metadata
-        for (ConfigMetadata.ConfigExportItem configExportItem : configExportItems) {
-            if (StringUtils.isBlank(configExportItem.getDataId()) || StringUtils.isBlank(configExportItem.getGroup())
-                    || StringUtils.isBlank(configExportItem.getType())) {
-                failedData.put("succCount", 0);
-                return Result.failure(ErrorCode.METADATA_ILLEGAL, failedData);
-            }
-        }
-        
-        List<ZipUtils.ZipItem> zipItemList = unziped.getZipItemList();
-        Set<String> metaDataKeys = configExportItems.stream()
-                .map(metaItem -> GroupKey.getKey(metaItem.getDataId(), metaItem.getGroup()))
-                .collect(Collectors.toSet());
-        
-        Map<String, String> configContentMap = new HashMap<>(zipItemList.size());
-        int itemNameLength = 2;
-        zipItemList.forEach(item -> {
-            String itemName = item.getItemName();
-            String[] groupAdnDataId = itemName.split(Constants.CONFIG_EXPORT_ITEM_FILE_SEPARATOR);
-            if (groupAdnDataId.length != itemNameLength) {
-                Map<String, String> unrecognizedItem = new HashMap<>(2);
-                unrecognizedItem.put("itemName", item.getItemName());
-                unrecognizedList.add(unrecognizedItem);
-                return;
-            }
-            
-            String group = groupAdnDataId[0];
-            String dataId = groupAdnDataId[1];
-            String key = GroupKey.getKey(dataId, group);
-            // metadata does not contain config file
-            if (!metaDataKeys.contains(key)) {
-                Map<String, String> unrecognizedItem = new HashMap<>(2);
-                unrecognizedItem.put("itemName", "Item not found in metadata: " + item.getItemName());
-                unrecognizedList.add(unrecognizedItem);
-                return;
-            }
-            String itemData = item.getItemData();
-            configContentMap.put(key, itemData);
-        });
-        
-        for (ConfigMetadata.ConfigExportItem configExportItem : configExportItems) {
-            String dataId = configExportItem.getDataId();
-            String group = configExportItem.getGroup();
-            String content = configContentMap.get(GroupKey.getKey(dataId, group));
-            // config file not in metadata
-            if (content == null) {
-                Map<String, String> unrecognizedItem = new HashMap<>(2);
-                unrecognizedItem.put("itemName", "Item not found in file: " + group + "/" + dataId);
-                unrecognizedList.add(unrecognizedItem);
-                continue;
-            }
-            // encrypted
-            Pair<String, String> pair = EncryptionHandler.encryptHandler(dataId, content);
-            content = pair.getSecond();
-            
-            ConfigAllInfo ci = new ConfigAllInfo();
-            ci.setGroup(group);
-            ci.setDataId(dataId);
-            ci.setContent(content);
-            ci.setType(configExportItem.getType());
-            ci.setDesc(configExportItem.getDesc());
-            ci.setAppName(configExportItem.getAppName());
-            ci.setTenant(namespaceId);
-            ci.setEncryptedDataKey(pair.getFirst());
-            ci.setCreateUser(srcUser);
-            configInfoList.add(ci);
-        }
-        
-        return null;
-    }
     
     /**
      * Export config add metadata.yml file record config metadata.
      */
     @GetMapping("/export")
     @Secured(action = ActionTypes.READ, signType = SignType.CONFIG, apiType = ApiType.ADMIN_API)
-    public ResponseEntity<byte[]> exportConfig(ConfigFormV3 configForm,
+    public ResponseEntity<StreamingResponseBody> exportConfig(ConfigFormV3 configForm,
             @RequestParam(value = "ids", required = false) List<Long> ids) throws NacosApiException {
         configForm.blurSearchValidate();
         ids.removeAll(Collections.singleton(null));
         String namespaceId = NamespaceUtil.processNamespaceParameter(configForm.getNamespaceId());
-        List<ConfigAllInfo> dataList = configInfoPersistService.findAllConfigInfo4Export(configForm.getDataId(),
-                configForm.getGroupName(), namespaceId, configForm.getAppName(), ids);
-        List<ZipUtils.ZipItem> zipItemList = new ArrayList<>();
-        List<ConfigMetadata.ConfigExportItem> configMetadataItems = new ArrayList<>();
-        for (ConfigAllInfo ci : dataList) {
-            ConfigMetadata.ConfigExportItem configMetadataItem = new ConfigMetadata.ConfigExportItem();
-            configMetadataItem.setAppName(ci.getAppName());
-            configMetadataItem.setDataId(ci.getDataId());
-            configMetadataItem.setDesc(ci.getDesc());
-            configMetadataItem.setGroup(ci.getGroup());
-            configMetadataItem.setType(ci.getType());
-            configMetadataItems.add(configMetadataItem);
-            Pair<String, String> pair = EncryptionHandler.decryptHandler(ci.getDataId(), ci.getEncryptedDataKey(),
-                    ci.getContent());
-            String itemName = ci.getGroup() + Constants.CONFIG_EXPORT_ITEM_FILE_SEPARATOR + ci.getDataId();
-            zipItemList.add(new ZipUtils.ZipItem(itemName, pair.getSecond()));
-        }
-        ConfigMetadata configMetadata = new ConfigMetadata();
-        configMetadata.setMetadata(configMetadataItems);
-        zipItemList.add(
-                new ZipUtils.ZipItem(Constants.CONFIG_EXPORT_METADATA_NEW, YamlParserUtil.dumpObject(configMetadata)));
         HttpHeaders headers = new HttpHeaders();
         String fileName =
                 EXPORT_CONFIG_FILE_NAME + DateFormatUtils.format(new Date(), EXPORT_CONFIG_FILE_NAME_DATE_FORMAT)
                         + EXPORT_CONFIG_FILE_NAME_EXT;
         headers.add("Content-Disposition", "attachment;filename=" + fileName);
-        
-        return new ResponseEntity<>(ZipUtils.zip(zipItemList), headers, HttpStatus.OK);
+        StreamingResponseBody body = out -> configZipStreamer.exportConfig(configForm.getDataId(),
+                configForm.getGroupName(), namespaceId, configForm.getAppName(), ids, out);
+        return new ResponseEntity<>(body, headers, HttpStatus.OK);
     }
     
     /**
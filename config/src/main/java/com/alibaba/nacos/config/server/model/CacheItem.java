@@ -16,12 +16,12 @@
 
 package com.alibaba.nacos.config.server.model;
 
-import com.alibaba.nacos.config.server.utils.SimpleReadWriteLock;
 import com.alibaba.nacos.core.utils.StringPool;
 
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 import java.util.stream.Collectors;
 
 /**
@@ -31,6 +31,9 @@ import java.util.stream.Collectors;
  */
 public class CacheItem {
 
+    private static final AtomicIntegerFieldUpdater<CacheItem> LOCK_STATUS_UPDATER = AtomicIntegerFieldUpdater.newUpdater(
+            CacheItem.class, "lockStatus");
+
     final String groupKey;
 
     public String type;
@@ -42,9 +45,16 @@ public class CacheItem {
      */
     private volatile Map<String, ConfigCacheGray> configCacheGray = null;
 
-    List<ConfigCacheGray> sortedConfigCacheGrayList = null;
+    /**
+     * Compiled from sorted config grays, replaced as a whole when grays changed.
+     */
+    volatile ConfigCacheGrayMatcher configCacheGrayMatcher = null;
 
-    private final SimpleReadWriteLock rwLock = new SimpleReadWriteLock();
+    /**
+     * Read write lock status of the item, kept in the item instead of a lock object per item. Zero means no lock,
+     * negative means write locked, positive means read locked and the value is the count of read locks.
+     */
+    private volatile int lockStatus = 0;
 
     public CacheItem(String groupKey, String encryptedDataKey) {
         this.groupKey = StringPool.get(groupKey);
@@ -59,8 +69,47 @@ public class CacheItem {
         return configCache;
     }
 
-    public SimpleReadWriteLock getRwLock() {
-        return rwLock;
+    /**
+     * Try read lock.
+     *
+     * @return true if locked.
+     */
+    public boolean tryReadLock() {
+        while (true) {
+            int status = lockStatus;
+            if (status < 0) {
+                return false;
+            }
+            if (LOCK_STATUS_UPDATER.compareAndSet(this, status, status + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Release the read lock.
+     */
+    public void releaseReadLock() {
+        while (true) {
+            int status = lockStatus;
+            // when status equals 0, it should not decrement to negative numbers
+            if (status <= 0 || LOCK_STATUS_UPDATER.compareAndSet(this, status, status - 1)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Try write lock.
+     *
+     * @return true if locked.
+     */
+    public boolean tryWriteLock() {
+        return LOCK_STATUS_UPDATER.compareAndSet(this, 0, -1);
+    }
+
+    public void releaseWriteLock() {
+        lockStatus = 0;
     }
 
     public String getType() {
@@ -68,7 +117,7 @@ public class CacheItem {
     }
 
     public void setType(String type) {
-        this.type = type;
+        this.type = StringPool.get(type);
     }
 
     public String getGroupKey() {
@@ -97,7 +146,19 @@ public class CacheItem {
     }
 
     public List<ConfigCacheGray> getSortConfigGrays() {
-        return sortedConfigCacheGrayList;
+        ConfigCacheGrayMatcher matcher = configCacheGrayMatcher;
+        return matcher == null ? null : matcher.getSortedGrays();
+    }
+
+    /**
+     * match the first config gray by labels.
+     *
+     * @param labels connection labels.
+     * @return matched config gray, null if no gray matched.
+     */
+    public ConfigCacheGray matchConfigGray(Map<String, String> labels) {
+        ConfigCacheGrayMatcher matcher = configCacheGrayMatcher;
+        return matcher == null ? null : matcher.match(labels);
     }
 
     /**
@@ -105,11 +166,11 @@ public class CacheItem {
      */
     public void sortConfigGray() {
         if (configCacheGray == null || configCacheGray.isEmpty()) {
-            sortedConfigCacheGrayList = null;
+            configCacheGrayMatcher = null;
             return;
         }
 
-        sortedConfigCacheGrayList = configCacheGray.values().stream().sorted((o1, o2) -> {
+        List<ConfigCacheGray> sortedConfigCacheGrayList = configCacheGray.values().stream().sorted((o1, o2) -> {
             if (o1.getPriority() != o2.getPriority()) {
                 return Integer.compare(o1.getPriority(), o2.getPriority()) * -1;
             } else {
@@ -117,6 +178,7 @@ public class CacheItem {
             }
 
         }).collect(Collectors.toList());
+        configCacheGrayMatcher = ConfigCacheGrayMatcher.compile(sortedConfigCacheGrayList);
     }
 
     public Map<String, ConfigCacheGray> getConfigCacheGray() {
@@ -125,7 +187,7 @@ public class CacheItem {
 
     public void clearConfigGrays() {
         this.configCacheGray = null;
-        this.sortedConfigCacheGrayList = null;
+        this.configCacheGrayMatcher = null;
     }
 
 }
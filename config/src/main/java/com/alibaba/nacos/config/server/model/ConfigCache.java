@@ -16,6 +16,7 @@
 
 package com.alibaba.nacos.config.server.model;
 
+import com.alibaba.nacos.common.utils.MD5Utils;
 import com.alibaba.nacos.config.server.constant.Constants;
 import com.alibaba.nacos.core.utils.StringPool;
 
@@ -28,7 +29,16 @@ import java.io.Serializable;
  */
 public class ConfigCache implements Serializable {
     
-    volatile String md5 = Constants.NULL;
+    private static final int MD5_HEX_LENGTH = 32;
+    
+    private static final String LOWER_HEX_CHARS = "0123456789abcdef";
+    
+    /**
+     * Md5 of content, a 16 bytes array for lower case hex md5 which takes much less memory than the hex string, or
+     * the string itself for others. The array is kept for the whole life of the cache, {@link #getMd5()} encodes a
+     * new string on every call, so internal checks should use {@link #isMd5Equals(String)} and {@link #isMd5Blank()}.
+     */
+    volatile Object md5 = Constants.NULL;
     
     volatile String encryptedDataKey;
     
@@ -47,12 +57,70 @@ public class ConfigCache implements Serializable {
     }
     
     public ConfigCache(String md5, long lastModifiedTs) {
-        this.md5 = StringPool.get(md5);
+        this.md5 = compactMd5(md5);
         this.lastModifiedTs = lastModifiedTs;
     }
     
     public String getMd5() {
-        return md5;
+        Object current = md5;
+        return current instanceof byte[] ? MD5Utils.encodeHexString((byte[]) current) : (String) current;
+    }
+    
+    /**
+     * Whether there is no md5 cached, without decoding the cached md5.
+     *
+     * @return true if md5 is null or empty.
+     */
+    public boolean isMd5Blank() {
+        Object current = md5;
+        return current == null || "".equals(current);
+    }
+    
+    /**
+     * Compare md5 with the cached one without decoding the cached md5.
+     *
+     * @param md5 md5 to compare.
+     * @return true if equals.
+     */
+    public boolean isMd5Equals(String md5) {
+        Object current = this.md5;
+        if (!(current instanceof byte[])) {
+            return current == null ? md5 == null : current.equals(md5);
+        }
+        if (md5 == null || md5.length() != MD5_HEX_LENGTH) {
+            return false;
+        }
+        byte[] bytes = (byte[]) current;
+        for (int i = 0; i < bytes.length; i++) {
+            if (hexValue(md5.charAt(2 * i)) != ((bytes[i] >> 4) & 0x0F) || hexValue(md5.charAt(2 * i + 1)) != (
+                    bytes[i] & 0x0F)) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private static Object compactMd5(String md5) {
+        if (md5 == null || md5.length() != MD5_HEX_LENGTH) {
+            return StringPool.get(md5);
+        }
+        byte[] bytes = new byte[MD5_HEX_LENGTH / 2];
+        for (int i = 0; i < bytes.length; i++) {
+            int high = hexValue(md5.charAt(2 * i));
+            int low = hexValue(md5.charAt(2 * i + 1));
+            if (high < 0 || low < 0) {
+                return StringPool.get(md5);
+            }
+            bytes[i] = (byte) ((high << 4) | low);
+        }
+        return bytes;
+    }
+    
+    /**
+     * Value of lower case hex char, upper case chars are not accepted so that the decoded md5 is the same string.
+     */
+    private static int hexValue(char c) {
+        return LOWER_HEX_CHARS.indexOf(c);
     }
     
     public String getEncryptedDataKey() {
@@ -60,11 +128,13 @@ public class ConfigCache implements Serializable {
     }
     
     public void setEncryptedDataKey(String encryptedDataKey) {
-        this.encryptedDataKey = encryptedDataKey;
+        // most configs are not encrypted, share the empty key instead of keeping one instance per config.
+        this.encryptedDataKey =
+                encryptedDataKey != null && encryptedDataKey.isEmpty() ? Constants.NULL : encryptedDataKey;
     }
     
     public void setMd5(String md5) {
-        this.md5 = StringPool.get(md5);
+        this.md5 = compactMd5(md5);
     }
     
     public long getLastModifiedTs() {
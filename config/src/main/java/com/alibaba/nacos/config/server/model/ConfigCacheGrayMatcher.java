@@ -0,0 +1,127 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.model;
+
+import com.alibaba.nacos.config.server.model.gray.BetaGrayRule;
+import com.alibaba.nacos.config.server.model.gray.GrayRule;
+import com.alibaba.nacos.config.server.model.gray.TagGrayRule;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable gray matcher compiled from sorted config grays of a cache item.
+ *
+ * <p>Beta rules are indexed by client ip and tag rules are indexed by tag value, other rules are matched one by one.
+ * The matched gray is always the first matched one in the sorted grays, same as matching the sorted grays in order.
+ *
+ * @author Nacos
+ */
+public final class ConfigCacheGrayMatcher {
+    
+    private final List<ConfigCacheGray> sortedGrays;
+    
+    private final Map<String, Integer> betaIpIndex;
+    
+    private final Map<String, Integer> tagIndex;
+    
+    private final int[] otherIndexes;
+    
+    private ConfigCacheGrayMatcher(List<ConfigCacheGray> sortedGrays, Map<String, Integer> betaIpIndex,
+            Map<String, Integer> tagIndex, int[] otherIndexes) {
+        this.sortedGrays = sortedGrays;
+        this.betaIpIndex = betaIpIndex;
+        this.tagIndex = tagIndex;
+        this.otherIndexes = otherIndexes;
+    }
+    
+    /**
+     * Compile sorted config grays to matcher.
+     *
+     * @param sortedGrays config grays sorted by priority.
+     * @return matcher.
+     */
+    public static ConfigCacheGrayMatcher compile(List<ConfigCacheGray> sortedGrays) {
+        Map<String, Integer> betaIpIndex = new HashMap<>(4);
+        Map<String, Integer> tagIndex = new HashMap<>(4);
+        List<Integer> others = new ArrayList<>();
+        for (int i = 0; i < sortedGrays.size(); i++) {
+            GrayRule grayRule = sortedGrays.get(i).getGrayRule();
+            // only index the builtin rules, subclasses may override the match logic.
+            if (grayRule != null && grayRule.getClass() == BetaGrayRule.class) {
+                for (String ip : ((BetaGrayRule) grayRule).getBetaIps()) {
+                    betaIpIndex.putIfAbsent(ip, i);
+                }
+            } else if (grayRule != null && grayRule.getClass() == TagGrayRule.class) {
+                tagIndex.putIfAbsent(((TagGrayRule) grayRule).getTagValue(), i);
+            } else {
+                others.add(i);
+            }
+        }
+        int[] otherIndexes = new int[others.size()];
+        for (int i = 0; i < otherIndexes.length; i++) {
+            otherIndexes[i] = others.get(i);
+        }
+        return new ConfigCacheGrayMatcher(Collections.unmodifiableList(sortedGrays),
+                betaIpIndex.isEmpty() ? Collections.emptyMap() : betaIpIndex,
+                tagIndex.isEmpty() ? Collections.emptyMap() : tagIndex, otherIndexes);
+    }
+    
+    /**
+     * Match the first gray by labels.
+     *
+     * @param labels connection labels.
+     * @return matched gray, null if no gray matched.
+     */
+    public ConfigCacheGray match(Map<String, String> labels) {
+        if (labels == null || labels.isEmpty()) {
+            return null;
+        }
+        int matched = Integer.MAX_VALUE;
+        if (!betaIpIndex.isEmpty()) {
+            matched = minIndex(matched, betaIpIndex, labels.get(BetaGrayRule.CLIENT_IP_LABEL));
+        }
+        if (!tagIndex.isEmpty()) {
+            matched = minIndex(matched, tagIndex, labels.get(TagGrayRule.VIP_SERVER_TAG_LABEL));
+        }
+        for (int index : otherIndexes) {
+            if (index >= matched) {
+                break;
+            }
+            if (sortedGrays.get(index).match(labels)) {
+                matched = index;
+                break;
+            }
+        }
+        return matched == Integer.MAX_VALUE ? null : sortedGrays.get(matched);
+    }
+    
+    private static int minIndex(int current, Map<String, Integer> index, String label) {
+        if (label == null) {
+            return current;
+        }
+        Integer matched = index.get(label);
+        return matched == null ? current : Math.min(current, matched);
+    }
+    
+    public List<ConfigCacheGray> getSortedGrays() {
+        return sortedGrays;
+    }
+}
@@ -68,6 +68,10 @@ public class BetaGrayRule extends AbstractGrayRule {
         return labels.containsKey(CLIENT_IP_LABEL) && betaIps.contains(labels.get(CLIENT_IP_LABEL));
     }
     
+    public Set<String> getBetaIps() {
+        return betaIps;
+    }
+    
     @Override
     public String getType() {
         return TYPE_BETA;
@@ -62,6 +62,10 @@ public class TagGrayRule extends AbstractGrayRule {
         return labels.containsKey(VIP_SERVER_TAG_LABEL) && tagValue.equals(labels.get(VIP_SERVER_TAG_LABEL));
     }
     
+    public String getTagValue() {
+        return tagValue;
+    }
+    
     @Override
     public String getType() {
         return TYPE_TAG;
@@ -27,6 +27,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Metrics Monitor.
@@ -65,6 +66,41 @@ public class MetricsMonitor {
      */
     private static AtomicInteger fuzzySearch = new AtomicInteger();
     
+    /**
+     * estimated bytes held by config content cache.
+     */
+    private static AtomicLong contentCacheBytes = new AtomicLong();
+    
+    /**
+     * estimated bytes held by serialized config query payload cache.
+     */
+    private static AtomicLong payloadCacheBytes = new AtomicLong();
+    
+    /**
+     * items dumped by the running or last dump all task.
+     */
+    private static AtomicLong dumpAllProgress = new AtomicLong();
+    
+    /**
+     * items dumped per second by the running or last dump all task.
+     */
+    private static AtomicLong dumpAllThroughput = new AtomicLong();
+    
+    /**
+     * rows migrated by the running or last namespace migrate.
+     */
+    private static AtomicLong namespaceMigrateProgress = new AtomicLong();
+    
+    /**
+     * rows migrated per second by the running or last namespace migrate.
+     */
+    private static AtomicLong namespaceMigrateThroughput = new AtomicLong();
+    
+    /**
+     * config history records queued by write behind and not written to database yet.
+     */
+    private static AtomicLong historyWriteBehindLag = new AtomicLong();
+    
     /**
      * version -> client config subscriber count.
      */
@@ -118,6 +154,41 @@ public class MetricsMonitor {
         tags.add(new ImmutableTag("name", "fuzzySearch"));
         NacosMeterRegistryCenter.gauge(METER_REGISTRY, "nacos_monitor", tags, fuzzySearch);
         
+        tags = new ArrayList<>();
+        tags.add(immutableTag);
+        tags.add(new ImmutableTag("name", "contentCacheBytes"));
+        NacosMeterRegistryCenter.gauge(METER_REGISTRY, "nacos_monitor", tags, contentCacheBytes);
+        
+        tags = new ArrayList<>();
+        tags.add(immutableTag);
+        tags.add(new ImmutableTag("name", "payloadCacheBytes"));
+        NacosMeterRegistryCenter.gauge(METER_REGISTRY, "nacos_monitor", tags, payloadCacheBytes);
+        
+        tags = new ArrayList<>();
+        tags.add(immutableTag);
+        tags.add(new ImmutableTag("name", "dumpAllProgress"));
+        NacosMeterRegistryCenter.gauge(METER_REGISTRY, "nacos_monitor", tags, dumpAllProgress);
+        
+        tags = new ArrayList<>();
+        tags.add(immutableTag);
+        tags.add(new ImmutableTag("name", "dumpAllThroughput"));
+        NacosMeterRegistryCenter.gauge(METER_REGISTRY, "nacos_monitor", tags, dumpAllThroughput);
+        
+        tags = new ArrayList<>();
+        tags.add(immutableTag);
+        tags.add(new ImmutableTag("name", "namespaceMigrateProgress"));
+        NacosMeterRegistryCenter.gauge(METER_REGISTRY, "nacos_monitor", tags, namespaceMigrateProgress);
+        
+        tags = new ArrayList<>();
+        tags.add(immutableTag);
+        tags.add(new ImmutableTag("name", "namespaceMigrateThroughput"));
+        NacosMeterRegistryCenter.gauge(METER_REGISTRY, "nacos_monitor", tags, namespaceMigrateThroughput);
+        
+        tags = new ArrayList<>();
+        tags.add(immutableTag);
+        tags.add(new ImmutableTag("name", "historyWriteBehindLag"));
+        NacosMeterRegistryCenter.gauge(METER_REGISTRY, "nacos_monitor", tags, historyWriteBehindLag);
+        
         configSubscriber.put("v1", new AtomicInteger(0));
         configSubscriber.put("v2", new AtomicInteger(0));
         
@@ -162,6 +233,34 @@ public class MetricsMonitor {
         return fuzzySearch;
     }
     
+    public static AtomicLong getContentCacheBytesMonitor() {
+        return contentCacheBytes;
+    }
+    
+    public static AtomicLong getPayloadCacheBytesMonitor() {
+        return payloadCacheBytes;
+    }
+    
+    public static AtomicLong getDumpAllProgressMonitor() {
+        return dumpAllProgress;
+    }
+    
+    public static AtomicLong getDumpAllThroughputMonitor() {
+        return dumpAllThroughput;
+    }
+    
+    public static AtomicLong getNamespaceMigrateProgressMonitor() {
+        return namespaceMigrateProgress;
+    }
+    
+    public static AtomicLong getNamespaceMigrateThroughputMonitor() {
+        return namespaceMigrateThroughput;
+    }
+    
+    public static AtomicLong getHistoryWriteBehindLagMonitor() {
+        return historyWriteBehindLag;
+    }
+    
     public static AtomicInteger getConfigSubscriberMonitor(String version) {
         return configSubscriber.get(version);
     }
@@ -188,6 +287,31 @@ public class MetricsMonitor {
         return NacosMeterRegistryCenter.timer(METER_REGISTRY, "nacos_timer", "module", "config", "name", "dumpRt");
     }
     
+    public static Counter getContentCacheHitCounter() {
+        return NacosMeterRegistryCenter
+                .counter(METER_REGISTRY, "nacos_config_content_cache", "module", "config", "name", "hit");
+    }
+    
+    public static Counter getContentCacheMissCounter() {
+        return NacosMeterRegistryCenter
+                .counter(METER_REGISTRY, "nacos_config_content_cache", "module", "config", "name", "miss");
+    }
+    
+    public static Counter getContentCacheEvictionCounter() {
+        return NacosMeterRegistryCenter
+                .counter(METER_REGISTRY, "nacos_config_content_cache", "module", "config", "name", "eviction");
+    }
+    
+    public static Counter getPayloadCacheHitCounter() {
+        return NacosMeterRegistryCenter
+                .counter(METER_REGISTRY, "nacos_config_payload_cache", "module", "config", "name", "hit");
+    }
+    
+    public static Counter getPayloadCacheMissCounter() {
+        return NacosMeterRegistryCenter
+                .counter(METER_REGISTRY, "nacos_config_payload_cache", "module", "config", "name", "miss");
+    }
+    
     public static Counter getIllegalArgumentException() {
         return NacosMeterRegistryCenter
                 .counter(METER_REGISTRY, "nacos_exception", "module", "config", "name", "illegalArgument");
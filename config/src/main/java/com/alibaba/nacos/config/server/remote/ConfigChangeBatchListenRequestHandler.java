@@ -37,6 +37,8 @@ import com.alibaba.nacos.plugin.auth.constant.SignType;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import java.util.Map;
+
 /**
  * config change listen request handler.
  *
@@ -61,6 +63,9 @@ public class ConfigChangeBatchListenRequestHandler
         String tag = configChangeListenRequest.getHeader(Constants.VIPSERVER_TAG);
         ParamUtils.checkParam(tag);
         ConfigChangeBatchListenResponse configChangeBatchListenResponse = new ConfigChangeBatchListenResponse();
+        // labels are the same for all keys of the request, build once instead of per key.
+        Map<String, String> connLabels = configChangeListenRequest.isListen() ? ConfigCacheService.buildConnLabels(
+                meta.getClientIp(), tag, meta.getAppLabels()) : null;
         for (ConfigBatchListenRequest.ConfigListenContext listenContext : configChangeListenRequest.getConfigListenContexts()) {
             boolean isNeedTransferNamespace = NamespaceUtil.isNeedTransferNamespace(listenContext.getTenant());
             String namespaceId = NamespaceUtil.processNamespaceParameter(listenContext.getTenant());
@@ -71,8 +76,7 @@ public class ConfigChangeBatchListenRequestHandler
             
             if (configChangeListenRequest.isListen()) {
                 configChangeListenContext.addListen(groupKey, md5, connectionId, isNeedTransferNamespace);
-                boolean isUptoDate = ConfigCacheService.isUptodate(groupKey, md5, meta.getClientIp(), tag,
-                        meta.getAppLabels());
+                boolean isUptoDate = ConfigCacheService.isUptodate(groupKey, md5, connLabels);
                 if (!isUptoDate) {
                     configChangeBatchListenResponse.addChangeConfig(listenContext.getDataId(), listenContext.getGroup(),
                             listenContext.getTenant());
@@ -0,0 +1,121 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.remote;
+
+import com.alibaba.nacos.api.config.remote.request.cluster.ConfigChangeClusterBatchSyncRequest;
+import com.alibaba.nacos.api.config.remote.request.cluster.ConfigChangeClusterSyncRequest;
+import com.alibaba.nacos.api.config.remote.response.cluster.ConfigChangeClusterBatchSyncResponse;
+import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.api.remote.RemoteConstants;
+import com.alibaba.nacos.api.remote.request.RequestMeta;
+import com.alibaba.nacos.auth.annotation.Secured;
+import com.alibaba.nacos.core.control.TpsControl;
+import com.alibaba.nacos.core.paramcheck.ExtractorManager;
+import com.alibaba.nacos.core.paramcheck.impl.ConfigClusterBatchSyncRequestParamExtractor;
+import com.alibaba.nacos.core.remote.RequestHandler;
+import com.alibaba.nacos.core.remote.grpc.InvokeSource;
+import com.alibaba.nacos.plugin.auth.constant.ApiType;
+import com.alibaba.nacos.plugin.auth.constant.SignType;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.alibaba.nacos.config.server.utils.LogUtil.DEFAULT_LOG;
+
+/**
+ * Handler of the config change stream from other servers.
+ *
+ * <p>Keeps the next expected sequence per sender. Changes already received are skipped, a frame starting after the
+ * expected sequence is not applied, and the response acknowledges the last sequence received in order, so the sender
+ * resends everything after it. A change failing with {@link NacosException} is invalid and fails on every retry, it is
+ * skipped so that it won't block all later changes, other failures stop the frame and the change is retried.
+ *
+ * @author Nacos
+ */
+@Component
+@InvokeSource(source = {RemoteConstants.LABEL_SOURCE_CLUSTER})
+public class ConfigChangeClusterBatchSyncRequestHandler
+        extends RequestHandler<ConfigChangeClusterBatchSyncRequest, ConfigChangeClusterBatchSyncResponse> {
+    
+    private final ConfigChangeClusterSyncRequestHandler configChangeClusterSyncRequestHandler;
+    
+    private final Map<String, StreamState> streams = new ConcurrentHashMap<>();
+    
+    public ConfigChangeClusterBatchSyncRequestHandler(
+            ConfigChangeClusterSyncRequestHandler configChangeClusterSyncRequestHandler) {
+        this.configChangeClusterSyncRequestHandler = configChangeClusterSyncRequestHandler;
+    }
+    
+    @Override
+    @TpsControl(pointName = "ClusterConfigChangeNotify")
+    @ExtractorManager.Extractor(rpcExtractor = ConfigClusterBatchSyncRequestParamExtractor.class)
+    @Secured(signType = SignType.CONFIG, apiType = ApiType.INNER_API)
+    public ConfigChangeClusterBatchSyncResponse handle(ConfigChangeClusterBatchSyncRequest request, RequestMeta meta)
+            throws NacosException {
+        StreamState state = streams.compute(request.getSource(),
+                (source, current) -> current == null || current.epoch != request.getEpoch() ? new StreamState(
+                        request.getEpoch(), request.getFirstSeq()) : current);
+        ConfigChangeClusterBatchSyncResponse response = new ConfigChangeClusterBatchSyncResponse();
+        synchronized (state) {
+            long seq = request.getFirstSeq();
+            if (seq > state.nextSeq) {
+                DEFAULT_LOG.warn("[cluster-stream] gap from {}, expected seq {} but received {}", request.getSource(),
+                        state.nextSeq, seq);
+            } else {
+                for (ConfigChangeClusterSyncRequest change : request.getChanges()) {
+                    if (seq == state.nextSeq) {
+                        if (!sync(request.getSource(), seq, change, meta)) {
+                            break;
+                        }
+                        state.nextSeq++;
+                    }
+                    seq++;
+                }
+            }
+            response.setAckSeq(state.nextSeq - 1);
+        }
+        return response;
+    }
+    
+    private boolean sync(String source, long seq, ConfigChangeClusterSyncRequest change, RequestMeta meta) {
+        try {
+            configChangeClusterSyncRequestHandler.sync(change, meta);
+            return true;
+        } catch (NacosException e) {
+            DEFAULT_LOG.error("[cluster-stream] skip invalid change {} from {}, dataId={}, group={}, tenant={}", seq,
+                    source, change.getDataId(), change.getGroup(), change.getTenant(), e);
+            return true;
+        } catch (Exception e) {
+            DEFAULT_LOG.error("[cluster-stream] sync change {} from {} failed, dataId={}, group={}, tenant={}", seq,
+                    source, change.getDataId(), change.getGroup(), change.getTenant(), e);
+            return false;
+        }
+    }
+    
+    private static class StreamState {
+        
+        private final long epoch;
+        
+        private long nextSeq;
+        
+        StreamState(long epoch, long nextSeq) {
+            this.epoch = epoch;
+            this.nextSeq = nextSeq;
+        }
+    }
+}
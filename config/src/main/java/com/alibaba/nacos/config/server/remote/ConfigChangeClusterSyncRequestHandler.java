@@ -71,7 +71,18 @@ public class ConfigChangeClusterSyncRequestHandler
     @Secured(signType = SignType.CONFIG, apiType = ApiType.INNER_API)
     public ConfigChangeClusterSyncResponse handle(ConfigChangeClusterSyncRequest configChangeSyncRequest,
             RequestMeta meta) throws NacosException {
-        
+        sync(configChangeSyncRequest, meta);
+        return new ConfigChangeClusterSyncResponse();
+    }
+    
+    /**
+     * Dump a config changed on another server, shared by single and stream sync.
+     *
+     * @param configChangeSyncRequest config change.
+     * @param meta                    request meta.
+     * @throws NacosException if the change is invalid.
+     */
+    public void sync(ConfigChangeClusterSyncRequest configChangeSyncRequest, RequestMeta meta) throws NacosException {
         checkCompatity(configChangeSyncRequest, meta);
         
         ParamUtils.checkParam(configChangeSyncRequest.getTag());
@@ -81,7 +92,6 @@ public class ConfigChangeClusterSyncRequestHandler
         
         dumpRequest.setGrayName(configChangeSyncRequest.getGrayName());
         dumpService.dump(dumpRequest);
-        return new ConfigChangeClusterSyncResponse();
     }
     
     /**
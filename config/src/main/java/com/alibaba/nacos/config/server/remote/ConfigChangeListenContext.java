@@ -16,14 +16,11 @@
 
 package com.alibaba.nacos.config.server.remote;
 
-import com.alibaba.nacos.common.utils.CollectionUtils;
 import com.alibaba.nacos.config.server.model.ConfigListenState;
 import org.springframework.stereotype.Component;
 
-import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
-import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
@@ -31,6 +28,10 @@ import java.util.concurrent.ConcurrentHashMap;
 /**
  * config change listen context.
  *
+ * <p>Both indexes are concurrent, updates of the connection set of one group key are done inside
+ * {@link ConcurrentHashMap#compute} so that adding and removing the last connection of a group key never race, while
+ * registrations of different group keys or different connections proceed in parallel.
+ *
  * @author liuzunfei
  * @version $Id: ConfigChangeListenContext.java, v 0.1 2020年07月20日 1:37 PM liuzunfei Exp $
  */
@@ -40,12 +41,13 @@ public class ConfigChangeListenContext {
     /**
      * groupKey-> connection set.
      */
-    private ConcurrentHashMap<String, HashSet<String>> groupKeyContext = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Set<String>> groupKeyContext = new ConcurrentHashMap<>();
     
     /**
      * connectionId-> group key set.
      */
-    private ConcurrentHashMap<String, HashMap<String, ConfigListenState>> connectionIdContext = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, ConcurrentHashMap<String, ConfigListenState>> connectionIdContext =
+            new ConcurrentHashMap<>();
     
     /**
      * add listen.
@@ -53,13 +55,19 @@ public class ConfigChangeListenContext {
      * @param groupKey     groupKey.
      * @param connectionId connectionId.
      */
-    public synchronized void addListen(String groupKey, String md5, String connectionId, boolean isNamespaceTransfer) {
+    public void addListen(String groupKey, String md5, String connectionId, boolean isNamespaceTransfer) {
         // 1.add groupKeyContext
-        groupKeyContext.computeIfAbsent(groupKey, k -> new HashSet<>()).add(connectionId);
+        groupKeyContext.compute(groupKey, (key, connectionIds) -> {
+            if (connectionIds == null) {
+                connectionIds = ConcurrentHashMap.newKeySet();
+            }
+            connectionIds.add(connectionId);
+            return connectionIds;
+        });
         // 2.add connectionIdContext
         ConfigListenState listenState = new ConfigListenState(md5);
         listenState.setNamespaceTransfer(isNamespaceTransfer);
-        connectionIdContext.computeIfAbsent(connectionId, k -> new HashMap<>(16)).put(groupKey, listenState);
+        connectionIdContext.computeIfAbsent(connectionId, k -> new ConcurrentHashMap<>(16)).put(groupKey, listenState);
     }
     
     /**
@@ -68,52 +76,38 @@ public class ConfigChangeListenContext {
      * @param groupKey     groupKey.
      * @param connectionId connection id.
      */
-    public synchronized void removeListen(String groupKey, String connectionId) {
+    public void removeListen(String groupKey, String connectionId) {
         
         //1. remove groupKeyContext
-        Set<String> connectionIds = groupKeyContext.get(groupKey);
-        if (connectionIds != null) {
-            connectionIds.remove(connectionId);
-            if (connectionIds.isEmpty()) {
-                groupKeyContext.remove(groupKey);
-            }
-        }
+        removeConnectionOfGroupKey(groupKey, connectionId);
         
         //2.remove connectionIdContext
-        HashMap<String, ConfigListenState> groupKeys = connectionIdContext.get(connectionId);
+        Map<String, ConfigListenState> groupKeys = connectionIdContext.get(connectionId);
         if (groupKeys != null) {
             groupKeys.remove(groupKey);
         }
     }
     
-    /**
-     * get listeners of the group key.
-     *
-     * @param groupKey groupKey.
-     * @return the copy of listeners, may be return null.
-     */
-    public synchronized Set<String> getListeners(String groupKey) {
-        
-        HashSet<String> strings = groupKeyContext.get(groupKey);
-        if (CollectionUtils.isNotEmpty(strings)) {
-            Set<String> listenConnections = new HashSet<>();
-            safeCopy(strings, listenConnections);
-            return listenConnections;
-        }
-        return null;
+    private void removeConnectionOfGroupKey(String groupKey, String connectionId) {
+        groupKeyContext.computeIfPresent(groupKey, (key, connectionIds) -> {
+            connectionIds.remove(connectionId);
+            return connectionIds.isEmpty() ? null : connectionIds;
+        });
     }
     
     /**
-     * copy collections.
+     * get listeners of the group key.
      *
-     * @param src  may be modified concurrently
-     * @param dest dest collection
+     * @param groupKey groupKey.
+     * @return read only and weakly consistent view of listeners, which can be iterated while listeners are added or
+     *     removed concurrently, may be return null.
      */
-    private void safeCopy(Collection src, Collection dest) {
-        Iterator iterator = src.iterator();
-        while (iterator.hasNext()) {
-            dest.add(iterator.next());
+    public Set<String> getListeners(String groupKey) {
+        Set<String> connectionIds = groupKeyContext.get(groupKey);
+        if (connectionIds == null || connectionIds.isEmpty()) {
+            return null;
         }
+        return Collections.unmodifiableSet(connectionIds);
     }
     
     /**
@@ -121,28 +115,14 @@ public class ConfigChangeListenContext {
      *
      * @param connectionId connectionId.
      */
-    public synchronized void clearContextForConnectionId(final String connectionId) {
-        
-        Map<String, String> listenKeys = getListenKeys(connectionId);
-        
-        if (listenKeys == null) {
-            connectionIdContext.remove(connectionId);
+    public void clearContextForConnectionId(final String connectionId) {
+        Map<String, ConfigListenState> listenStates = connectionIdContext.remove(connectionId);
+        if (listenStates == null) {
             return;
         }
-        for (Map.Entry<String, String> groupKey : listenKeys.entrySet()) {
-
-            Set<String> connectionIds = groupKeyContext.get(groupKey.getKey());
-            if (CollectionUtils.isNotEmpty(connectionIds)) {
-                connectionIds.remove(connectionId);
-                if (connectionIds.isEmpty()) {
-                    groupKeyContext.remove(groupKey.getKey());
-                }
-            } else {
-                groupKeyContext.remove(groupKey.getKey());
-            }
-
+        for (String groupKey : listenStates.keySet()) {
+            removeConnectionOfGroupKey(groupKey, connectionId);
         }
-        connectionIdContext.remove(connectionId);
     }
     
     /**
@@ -151,11 +131,11 @@ public class ConfigChangeListenContext {
      * @param connectionId connection id.
      * @return listen group keys of the connection id, key:group key,value:md5
      */
-    public synchronized Map<String, String> getListenKeys(String connectionId) {
-        HashMap<String, ConfigListenState> stringStringHashMap = connectionIdContext.get(connectionId);
-        if (stringStringHashMap != null) {
-            HashMap<String, String> md5Map = new HashMap<>(stringStringHashMap.size());
-            for (Map.Entry<String, ConfigListenState> entry : stringStringHashMap.entrySet()) {
+    public Map<String, String> getListenKeys(String connectionId) {
+        Map<String, ConfigListenState> listenStates = connectionIdContext.get(connectionId);
+        if (listenStates != null) {
+            HashMap<String, String> md5Map = new HashMap<>(listenStates.size());
+            for (Map.Entry<String, ConfigListenState> entry : listenStates.entrySet()) {
                 md5Map.put(entry.getKey(), entry.getValue().getMd5());
             }
             return md5Map;
@@ -171,8 +151,8 @@ public class ConfigChangeListenContext {
      * @return md5 of the listen group key.
      */
     public String getListenKeyMd5(String connectionId, String groupKey) {
-        Map<String, ConfigListenState> groupKeyContexts = connectionIdContext.get(connectionId);
-        return groupKeyContexts == null ? null : groupKeyContexts.get(groupKey).getMd5();
+        ConfigListenState listenState = getConfigListenState(connectionId, groupKey);
+        return listenState == null ? null : listenState.getMd5();
     }
     
     public ConfigListenState getConfigListenState(String connectionId, String groupKey) {
@@ -180,8 +160,8 @@ public class ConfigChangeListenContext {
         return groupKeyContexts == null ? null : groupKeyContexts.get(groupKey);
     }
     
-    public synchronized HashMap<String, ConfigListenState> getConfigListenStates(String connectionId) {
-        HashMap<String, ConfigListenState> configListenStateHashMap = connectionIdContext.get(connectionId);
+    public HashMap<String, ConfigListenState> getConfigListenStates(String connectionId) {
+        Map<String, ConfigListenState> configListenStateHashMap = connectionIdContext.get(connectionId);
         return configListenStateHashMap == null ? null : new HashMap<>(configListenStateHashMap);
     }
     
@@ -0,0 +1,146 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.remote;
+
+import com.alibaba.nacos.api.config.remote.response.ConfigQueryResponse;
+import com.alibaba.nacos.common.utils.JacksonUtils;
+import com.alibaba.nacos.common.utils.StringUtils;
+import com.alibaba.nacos.config.server.configuration.ConfigCommonConfig;
+import com.alibaba.nacos.config.server.monitor.MetricsMonitor;
+import com.alibaba.nacos.config.server.utils.WeightedLruCache;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.UnsafeByteOperations;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Cache of serialized {@link ConfigQueryResponse} bodies.
+ *
+ * <p>A hot config fetched by many clients is encoded once per (groupKey, variant, md5), the resulting {@link ByteString}
+ * is shared by all grpc payloads answering the same query. An entry is only reused when every field of the new
+ * response equals the cached one, content is implied by md5.
+ *
+ * @author Nacos
+ */
+public class ConfigQueryPayloadCache {
+    
+    private static final int ENTRY_OVERHEAD = 160;
+    
+    private static volatile ConfigQueryPayloadCache instance;
+    
+    private final WeightedLruCache<Entry> cache;
+    
+    ConfigQueryPayloadCache(long maxBytes) {
+        this.cache = new WeightedLruCache<>(maxBytes,
+                (key, entry) -> ENTRY_OVERHEAD + 2L * key.length() + entry.body.size(),
+                MetricsMonitor.getPayloadCacheBytesMonitor()::addAndGet, () -> {
+                });
+    }
+    
+    /**
+     * Get the payload cache singleton, the byte budget is resolved on first access.
+     *
+     * @return payload cache.
+     */
+    public static ConfigQueryPayloadCache getInstance() {
+        if (instance == null) {
+            synchronized (ConfigQueryPayloadCache.class) {
+                if (instance == null) {
+                    instance = new ConfigQueryPayloadCache(ConfigCommonConfig.getInstance().getPayloadCacheMaxBytes());
+                }
+            }
+        }
+        return instance;
+    }
+    
+    public boolean isEnabled() {
+        return cache.isEnabled();
+    }
+    
+    /**
+     * Get serialized body of the response, serialize and cache it if absent or outdated.
+     *
+     * @param groupKey groupKey of the config.
+     * @param variant  which version of config the response carries, formal or gray name.
+     * @param response successful query response.
+     * @return serialized body.
+     */
+    public ByteString getOrSerialize(String groupKey, String variant, ConfigQueryResponse response) {
+        return getOrSerialize(groupKey, variant, response, null);
+    }
+    
+    /**
+     * Get serialized body of the response, prepare, serialize and cache it if absent or outdated.
+     *
+     * @param groupKey groupKey of the config.
+     * @param variant  which version and encoding of config the response carries.
+     * @param response successful query response.
+     * @param prepare  applied to the response only before serializing, e.g. compress content, may be null.
+     * @return serialized body.
+     */
+    public ByteString getOrSerialize(String groupKey, String variant, ConfigQueryResponse response,
+            Consumer<ConfigQueryResponse> prepare) {
+        String key = groupKey + "+" + variant;
+        Entry entry = cache.get(key);
+        if (entry != null && entry.matches(response)) {
+            MetricsMonitor.getPayloadCacheHitCounter().increment();
+            return entry.body;
+        }
+        MetricsMonitor.getPayloadCacheMissCounter().increment();
+        if (prepare != null) {
+            prepare.accept(response);
+        }
+        ByteString body = UnsafeByteOperations.unsafeWrap(JacksonUtils.toJsonBytes(response));
+        cache.put(key, new Entry(response, body));
+        return body;
+    }
+    
+    private static class Entry {
+        
+        final String md5;
+        
+        final long lastModified;
+        
+        final String encryptedDataKey;
+        
+        final String contentType;
+        
+        final String tag;
+        
+        final boolean beta;
+        
+        final ByteString body;
+        
+        Entry(ConfigQueryResponse response, ByteString body) {
+            this.md5 = response.getMd5();
+            this.lastModified = response.getLastModified();
+            this.encryptedDataKey = response.getEncryptedDataKey();
+            this.contentType = response.getContentType();
+            this.tag = response.getTag();
+            this.beta = response.isBeta();
+            this.body = body;
+        }
+        
+        boolean matches(ConfigQueryResponse response) {
+            return StringUtils.equals(md5, response.getMd5()) && lastModified == response.getLastModified()
+                    && StringUtils.equals(encryptedDataKey, response.getEncryptedDataKey())
+                    && StringUtils.equals(contentType, response.getContentType()) && Objects.equals(tag,
+                    response.getTag()) && beta == response.isBeta();
+        }
+    }
+}
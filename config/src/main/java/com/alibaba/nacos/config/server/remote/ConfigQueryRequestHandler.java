@@ -16,21 +16,28 @@
 
 package com.alibaba.nacos.config.server.remote;
 
+import com.alibaba.nacos.api.ability.constant.AbilityKey;
+import com.alibaba.nacos.api.ability.constant.AbilityStatus;
 import com.alibaba.nacos.api.config.remote.request.ConfigQueryRequest;
 import com.alibaba.nacos.api.config.remote.response.ConfigQueryResponse;
 import com.alibaba.nacos.api.exception.NacosException;
 import com.alibaba.nacos.api.remote.request.RequestMeta;
 import com.alibaba.nacos.api.remote.response.ResponseCode;
 import com.alibaba.nacos.auth.annotation.Secured;
+import com.alibaba.nacos.common.utils.ContentDelta;
 import com.alibaba.nacos.common.utils.NamespaceUtil;
+import com.alibaba.nacos.common.utils.StringUtils;
+import com.alibaba.nacos.config.server.configuration.ConfigCommonConfig;
 import com.alibaba.nacos.config.server.model.ConfigCacheGray;
 import com.alibaba.nacos.config.server.model.gray.BetaGrayRule;
 import com.alibaba.nacos.config.server.model.gray.TagGrayRule;
+import com.alibaba.nacos.config.server.service.ConfigVersionCache;
 import com.alibaba.nacos.config.server.service.query.ConfigChainRequestExtractorService;
 import com.alibaba.nacos.config.server.service.query.ConfigQueryChainService;
 import com.alibaba.nacos.config.server.service.query.model.ConfigQueryChainRequest;
 import com.alibaba.nacos.config.server.service.query.model.ConfigQueryChainResponse;
 import com.alibaba.nacos.config.server.service.trace.ConfigTraceService;
+import com.alibaba.nacos.config.server.utils.ContentCompressUtils;
 import com.alibaba.nacos.config.server.utils.GroupKey2;
 import com.alibaba.nacos.config.server.utils.LogUtil;
 import com.alibaba.nacos.config.server.utils.TimeUtils;
@@ -39,6 +46,7 @@ import com.alibaba.nacos.core.namespace.filter.NamespaceValidation;
 import com.alibaba.nacos.core.paramcheck.ExtractorManager;
 import com.alibaba.nacos.core.paramcheck.impl.ConfigRequestParamExtractor;
 import com.alibaba.nacos.core.remote.RequestHandler;
+import com.alibaba.nacos.core.remote.grpc.PreSerializedResponse;
 import com.alibaba.nacos.plugin.auth.constant.ActionTypes;
 import com.alibaba.nacos.plugin.auth.constant.SignType;
 import org.slf4j.Logger;
@@ -46,6 +54,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
 import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
 
 import static com.alibaba.nacos.config.server.constant.Constants.ENCODE_UTF8;
 import static com.alibaba.nacos.config.server.utils.LogUtil.PULL_LOG;
@@ -62,6 +71,11 @@ public class ConfigQueryRequestHandler extends RequestHandler<ConfigQueryRequest
     
     private static final Logger LOGGER = LoggerFactory.getLogger(ConfigQueryRequestHandler.class);
     
+    /**
+     * Max UTF-8 bytes of one char, a surrogate pair takes 4 bytes for 2 chars.
+     */
+    private static final long MAX_UTF8_BYTES_PER_CHAR = 3L;
+    
     private final ConfigQueryChainService configQueryChainService;
     
     public ConfigQueryRequestHandler(ConfigQueryChainService configQueryChainService) {
@@ -130,6 +144,10 @@ public class ConfigQueryRequestHandler extends RequestHandler<ConfigQueryRequest
                 response.setErrorInfo(ConfigQueryResponse.CONFIG_NOT_FOUND, "config data not exist");
             } else {
                 response.setResultCode(ResponseCode.SUCCESS.getCode());
+                if (!applyDelta(groupKey, request, meta, chainResponse, response)) {
+                    attachSerializedBody(groupKey, chainResponse, request.getTag(), response,
+                            shouldCompress(meta, response));
+                }
             }
             
             String pullEvent = resolvePullEventType(chainResponse, request.getTag());
@@ -148,6 +166,99 @@ public class ConfigQueryRequestHandler extends RequestHandler<ConfigQueryRequest
         
     }
     
+    /**
+     * Answer with a delta if the client holds a recent version of the formal config, the delta is specific to the
+     * client so it is neither compressed nor shared.
+     */
+    static boolean applyDelta(String groupKey, ConfigQueryRequest request, RequestMeta meta,
+            ConfigQueryChainResponse chainResponse, ConfigQueryResponse response) {
+        String baseMd5 = request.getBaseMd5();
+        if (StringUtils.isBlank(baseMd5)
+                || chainResponse.getStatus() != ConfigQueryChainResponse.ConfigQueryStatus.CONFIG_FOUND_FORMAL) {
+            return false;
+        }
+        if (meta.getConnectionAbility(AbilityKey.SDK_CLIENT_CONFIG_DELTA) != AbilityStatus.SUPPORTED) {
+            return false;
+        }
+        ConfigVersionCache versionCache = ConfigVersionCache.getInstance();
+        if (!versionCache.isEnabled()) {
+            return false;
+        }
+        String content = response.getContent();
+        ContentDelta delta = baseMd5.equals(response.getMd5()) ? new ContentDelta(content.length(), 0, "")
+                : versionCache.diff(groupKey, baseMd5, content);
+        if (delta == null) {
+            return false;
+        }
+        response.setContentEncoding(ConfigQueryResponse.CONTENT_ENCODING_DELTA);
+        response.setDeltaBaseMd5(baseMd5);
+        response.setDeltaPrefixLength(delta.getPrefixLength());
+        response.setDeltaSuffixLength(delta.getSuffixLength());
+        response.setDeltaText(delta.getText());
+        response.setContent(null);
+        return true;
+    }
+    
+    /**
+     * Compress large content for clients able to decompress it, the payload is shared by such clients.
+     */
+    static boolean shouldCompress(RequestMeta meta, ConfigQueryResponse response) {
+        int threshold = ConfigCommonConfig.getInstance().getCompressWireThreshold();
+        return threshold > 0 && utf8Length(response.getContent(), threshold) >= threshold
+                && meta.getConnectionAbility(AbilityKey.SDK_CLIENT_CONFIG_COMPRESSION) == AbilityStatus.SUPPORTED;
+    }
+    
+    /**
+     * UTF-8 length of content, encode it only if the char count can not decide whether it reaches the threshold.
+     */
+    private static int utf8Length(String content, int threshold) {
+        int length = content.length();
+        if (length >= threshold || length * MAX_UTF8_BYTES_PER_CHAR < threshold) {
+            return length;
+        }
+        return content.getBytes(StandardCharsets.UTF_8).length;
+    }
+    
+    static void compressContent(ConfigQueryResponse response) {
+        // compressed content is a byte array in the json payload, which is base64 encoded on the wire.
+        byte[] compressed = ContentCompressUtils.compressForBase64(
+                response.getContent().getBytes(StandardCharsets.UTF_8),
+                ConfigCommonConfig.getInstance().getCompressWireThreshold());
+        if (compressed != null) {
+            response.setContentEncoding(ConfigQueryResponse.CONTENT_ENCODING_GZIP);
+            response.setCompressedContent(compressed);
+            response.setContent(null);
+        }
+    }
+    
+    private void attachSerializedBody(String groupKey, ConfigQueryChainResponse chainResponse, String tag,
+            ConfigQueryResponse response, boolean compress) {
+        ConfigQueryPayloadCache payloadCache = ConfigQueryPayloadCache.getInstance();
+        if (!payloadCache.isEnabled()) {
+            if (compress) {
+                compressContent(response);
+            }
+            return;
+        }
+        String variant;
+        switch (chainResponse.getStatus()) {
+            case CONFIG_FOUND_GRAY:
+                variant = "gray+" + chainResponse.getMatchedGray().getGrayName();
+                break;
+            case SPECIAL_TAG_CONFIG_NOT_FOUND:
+                variant = "tag+" + tag;
+                break;
+            default:
+                variant = "formal";
+        }
+        if (compress) {
+            variant += "+" + ConfigQueryResponse.CONTENT_ENCODING_GZIP;
+        }
+        // compressed once per cached payload, a hit leaves the response uncompressed as the body replaces it.
+        PreSerializedResponse.attach(response, payloadCache.getOrSerialize(groupKey, variant, response,
+                compress ? ConfigQueryRequestHandler::compressContent : null));
+    }
+    
     private ConfigQueryResponse handlerConfigConflict(String clientIp, String groupKey) {
         ConfigQueryResponse response = new ConfigQueryResponse();
         
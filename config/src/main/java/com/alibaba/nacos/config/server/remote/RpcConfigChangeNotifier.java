@@ -16,6 +16,8 @@
 
 package com.alibaba.nacos.config.server.remote;
 
+import com.alibaba.nacos.api.ability.constant.AbilityKey;
+import com.alibaba.nacos.api.config.remote.request.ConfigChangeBatchNotifyRequest;
 import com.alibaba.nacos.api.config.remote.request.ConfigChangeNotifyRequest;
 import com.alibaba.nacos.api.remote.AbstractPushCallBack;
 import com.alibaba.nacos.common.notify.Event;
@@ -23,6 +25,7 @@ import com.alibaba.nacos.common.notify.NotifyCenter;
 import com.alibaba.nacos.common.notify.listener.Subscriber;
 import com.alibaba.nacos.common.utils.CollectionUtils;
 import com.alibaba.nacos.config.server.configuration.ConfigCommonConfig;
+import com.alibaba.nacos.config.server.model.ConfigListenState;
 import com.alibaba.nacos.config.server.model.event.LocalDataChangeEvent;
 import com.alibaba.nacos.config.server.utils.ConfigExecutor;
 import com.alibaba.nacos.config.server.utils.GroupKey;
@@ -38,7 +41,12 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import javax.annotation.PostConstruct;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -79,6 +87,11 @@ public class RpcConfigChangeNotifier extends Subscriber<LocalDataChangeEvent> {
     @Autowired
     private ConnectionManager connectionManager;
     
+    /**
+     * pending push tasks, one per connection. notifications of the same connection are coalesced into one task.
+     */
+    private final Map<String, RpcPushTask> pushTasks = new ConcurrentHashMap<>();
+    
     /**
      * adaptor to config module ,when server side config change ,invoke this method.
      *
@@ -96,23 +109,39 @@ public class RpcConfigChangeNotifier extends Subscriber<LocalDataChangeEvent> {
             if (connection == null) {
                 continue;
             }
-            boolean ifNamespaceTransfer = configChangeListenContext.getConfigListenState(client, groupKey).isNamespaceTransfer();
-            if (ifNamespaceTransfer) {
-                tenant = null;
+            ConfigListenState listenState = configChangeListenContext.getConfigListenState(client, groupKey);
+            if (listenState == null) {
+                // listener removed concurrently.
+                continue;
             }
+            String notifyTenant = listenState.isNamespaceTransfer() ? null : tenant;
             ConnectionMeta metaInfo = connection.getMetaInfo();
-            String clientIp = metaInfo.getClientIp();
             
-            ConfigChangeNotifyRequest notifyRequest = ConfigChangeNotifyRequest.build(dataId, group, tenant);
-            
-            RpcPushTask rpcPushRetryTask = new RpcPushTask(notifyRequest,
-                    ConfigCommonConfig.getInstance().getMaxPushRetryTimes(), client, clientIp, metaInfo.getAppName());
-            push(rpcPushRetryTask, connectionManager);
+            ConfigChangeNotifyRequest notifyRequest = ConfigChangeNotifyRequest.build(dataId, group, notifyTenant);
+            enqueue(client, metaInfo.getClientIp(), metaInfo.getAppName(), groupKey, notifyRequest);
             notifyClientCount++;
         }
         Loggers.REMOTE_PUSH.info("push [{}] clients, groupKey=[{}]", notifyClientCount, groupKey);
     }
     
+    void enqueue(String connectionId, String clientIp, String appName, String groupKey,
+            ConfigChangeNotifyRequest notifyRequest) {
+        while (true) {
+            RpcPushTask task = pushTasks.computeIfAbsent(connectionId,
+                    id -> new RpcPushTask(ConfigCommonConfig.getInstance().getMaxPushRetryTimes(), id, clientIp,
+                            appName));
+            if (task.offer(groupKey, notifyRequest)) {
+                return;
+            }
+            // task is finishing, replace it with a fresh one.
+            pushTasks.remove(connectionId, task);
+        }
+    }
+    
+    RpcPushTask getPushTask(String connectionId) {
+        return pushTasks.get(connectionId);
+    }
+    
     @Override
     public void onEvent(LocalDataChangeEvent event) {
         String groupKey = event.groupKey;
@@ -131,9 +160,26 @@ public class RpcConfigChangeNotifier extends Subscriber<LocalDataChangeEvent> {
         return LocalDataChangeEvent.class;
     }
     
+    /**
+     * Push task of one connection. Changed keys are collected for a short window and then pushed in rounds, one
+     * {@link ConfigChangeBatchNotifyRequest} per round for clients supporting it, or single key notify requests
+     * otherwise. Retry state is kept per connection instead of per key.
+     */
     class RpcPushTask implements Runnable {
         
-        ConfigChangeNotifyRequest notifyRequest;
+        private final LinkedHashMap<String, ConfigChangeNotifyRequest> pending = new LinkedHashMap<>();
+        
+        private Map<String, ConfigChangeNotifyRequest> failed = new LinkedHashMap<>();
+        
+        private boolean hasFailure;
+        
+        private boolean scheduled;
+        
+        private boolean inFlight;
+        
+        private boolean closed;
+        
+        private int outstanding;
         
         int maxRetryTimes = -1;
         
@@ -145,9 +191,7 @@ public class RpcConfigChangeNotifier extends Subscriber<LocalDataChangeEvent> {
         
         String appName;
         
-        public RpcPushTask(ConfigChangeNotifyRequest notifyRequest, int maxRetryTimes, String connectionId,
-                String clientIp, String appName) {
-            this.notifyRequest = notifyRequest;
+        public RpcPushTask(int maxRetryTimes, String connectionId, String clientIp, String appName) {
             this.maxRetryTimes = maxRetryTimes;
             this.connectionId = connectionId;
             this.clientIp = clientIp;
@@ -162,10 +206,6 @@ public class RpcConfigChangeNotifier extends Subscriber<LocalDataChangeEvent> {
             return tryTimes;
         }
         
-        public ConfigChangeNotifyRequest getNotifyRequest() {
-            return notifyRequest;
-        }
-        
         public int getMaxRetryTimes() {
             return maxRetryTimes;
         }
@@ -182,36 +222,188 @@ public class RpcConfigChangeNotifier extends Subscriber<LocalDataChangeEvent> {
             return connectionId;
         }
         
+        synchronized int getPendingCount() {
+            return pending.size();
+        }
+        
+        /**
+         * Add a changed key to this task, the latest notify request of the same key wins.
+         *
+         * @return false if this task is already closed and a new one should be created.
+         */
+        synchronized boolean offer(String groupKey, ConfigChangeNotifyRequest notifyRequest) {
+            if (closed) {
+                return false;
+            }
+            pending.put(groupKey, notifyRequest);
+            if (!scheduled && !inFlight) {
+                scheduled = true;
+                ConfigExecutor.scheduleClientConfigNotifier(this,
+                        ConfigCommonConfig.getInstance().getPushCoalesceWindowMs(), TimeUnit.MILLISECONDS);
+            }
+            return true;
+        }
+        
         @Override
         public void run() {
-            tryTimes++;
-            TpsCheckRequest tpsCheckRequest = new TpsCheckRequest();
-            
-            tpsCheckRequest.setPointName(POINT_CONFIG_PUSH);
-            if (!tpsControlManager.check(tpsCheckRequest).isSuccess()) {
-                push(this, connectionManager);
-            } else {
-                rpcPushService.pushWithCallback(connectionId, notifyRequest,
-                        new RpcPushCallback(this, tpsControlManager, connectionManager),
+            Connection connection = connectionManager.getConnection(connectionId);
+            if (connection == null) {
+                // client is already offline, ignore task.
+                synchronized (this) {
+                    markClosed();
+                }
+                release(false);
+                return;
+            }
+            boolean supportBatch = isSupportBatchNotify(connection);
+            Map<String, ConfigChangeNotifyRequest> batch;
+            synchronized (this) {
+                scheduled = false;
+                if (closed || inFlight) {
+                    return;
+                }
+                if (pending.isEmpty()) {
+                    markClosed();
+                    batch = null;
+                } else {
+                    tryTimes++;
+                    TpsCheckRequest tpsCheckRequest = new TpsCheckRequest();
+                    tpsCheckRequest.setPointName(POINT_CONFIG_PUSH);
+                    if (tpsControlManager.check(tpsCheckRequest).isSuccess()) {
+                        batch = drain(ConfigCommonConfig.getInstance().getPushBatchMaxSize());
+                        outstanding = batch.size() > 1 && supportBatch ? 1 : batch.size();
+                    } else {
+                        batch = Collections.emptyMap();
+                        outstanding = 1;
+                    }
+                    inFlight = true;
+                }
+            }
+            if (batch == null) {
+                release(false);
+                return;
+            }
+            if (batch.isEmpty()) {
+                // push limited by tps control, retry later.
+                onPushFinished(batch, false);
+                return;
+            }
+            if (batch.size() > 1 && supportBatch) {
+                ConfigChangeBatchNotifyRequest batchNotifyRequest = new ConfigChangeBatchNotifyRequest();
+                for (ConfigChangeNotifyRequest each : batch.values()) {
+                    batchNotifyRequest.addChangedConfig(each.getDataId(), each.getGroup(), each.getTenant());
+                }
+                rpcPushService.pushWithCallback(connectionId, batchNotifyRequest,
+                        new RpcPushCallback(this, batch, tpsControlManager),
                         ConfigExecutor.getClientConfigNotifierServiceExecutor());
+            } else {
+                for (Map.Entry<String, ConfigChangeNotifyRequest> entry : batch.entrySet()) {
+                    rpcPushService.pushWithCallback(connectionId, entry.getValue(),
+                            new RpcPushCallback(this, Collections.singletonMap(entry.getKey(), entry.getValue()),
+                                    tpsControlManager), ConfigExecutor.getClientConfigNotifierServiceExecutor());
+                }
+            }
+        }
+        
+        private Map<String, ConfigChangeNotifyRequest> drain(int maxSize) {
+            Map<String, ConfigChangeNotifyRequest> batch = new LinkedHashMap<>();
+            Iterator<Map.Entry<String, ConfigChangeNotifyRequest>> iterator = pending.entrySet().iterator();
+            while (iterator.hasNext() && batch.size() < maxSize) {
+                Map.Entry<String, ConfigChangeNotifyRequest> entry = iterator.next();
+                batch.put(entry.getKey(), entry.getValue());
+                iterator.remove();
+            }
+            return batch;
+        }
+        
+        /**
+         * Called once per push request of the current round, the round ends when all of them are finished.
+         *
+         * @param items   keys carried by the finished push request
+         * @param success whether the push request succeeded
+         */
+        void onPushFinished(Map<String, ConfigChangeNotifyRequest> items, boolean success) {
+            boolean overTimes;
+            synchronized (this) {
+                if (!success) {
+                    failed.putAll(items);
+                    hasFailure = true;
+                }
+                if (--outstanding > 0) {
+                    return;
+                }
+                inFlight = false;
+                if (closed) {
+                    return;
+                }
+                overTimes = false;
+                if (hasFailure) {
+                    hasFailure = false;
+                    for (Map.Entry<String, ConfigChangeNotifyRequest> entry : failed.entrySet()) {
+                        pending.putIfAbsent(entry.getKey(), entry.getValue());
+                    }
+                    failed = new LinkedHashMap<>();
+                    if (isOverTimes()) {
+                        Loggers.REMOTE_PUSH.warn(
+                                "push callback retry fail over times. keys={},clientId={}, will unregister client.",
+                                pending.keySet(), connectionId);
+                        overTimes = true;
+                        markClosed();
+                    } else {
+                        // first retry:delay 2s; second retry:delay 4s; third retry:delay 6s
+                        scheduled = true;
+                        ConfigExecutor.scheduleClientConfigNotifier(this, tryTimes * 2L, TimeUnit.SECONDS);
+                        return;
+                    }
+                } else {
+                    tryTimes = 0;
+                    if (pending.isEmpty()) {
+                        markClosed();
+                    } else {
+                        scheduled = true;
+                        ConfigExecutor.scheduleClientConfigNotifier(this, 0L, TimeUnit.MILLISECONDS);
+                        return;
+                    }
+                }
             }
+            release(overTimes);
         }
+        
+        private void markClosed() {
+            closed = true;
+            pending.clear();
+        }
+        
+        private void release(boolean overTimes) {
+            pushTasks.remove(connectionId, this);
+            if (overTimes) {
+                connectionManager.unregister(connectionId);
+            }
+        }
+    }
+    
+    static boolean isSupportBatchNotify(Connection connection) {
+        if (connection == null || connection.getAbilityTable() == null) {
+            return false;
+        }
+        return Boolean.TRUE.equals(
+                connection.getAbilityTable().get(AbilityKey.SDK_CLIENT_CONFIG_BATCH_NOTIFY.getName()));
     }
     
     static class RpcPushCallback extends AbstractPushCallBack {
         
         RpcPushTask rpcPushTask;
         
-        TpsControlManager tpsControlManager;
+        Map<String, ConfigChangeNotifyRequest> items;
         
-        ConnectionManager connectionManager;
+        TpsControlManager tpsControlManager;
         
-        public RpcPushCallback(RpcPushTask rpcPushTask, TpsControlManager tpsControlManager,
-                ConnectionManager connectionManager) {
-            super(3000L);
+        public RpcPushCallback(RpcPushTask rpcPushTask, Map<String, ConfigChangeNotifyRequest> items,
+                TpsControlManager tpsControlManager) {
+            super(ConfigCommonConfig.getInstance().getPushTimeout());
             this.rpcPushTask = rpcPushTask;
+            this.items = items;
             this.tpsControlManager = tpsControlManager;
-            this.connectionManager = connectionManager;
         }
         
         @Override
@@ -219,6 +411,7 @@ public class RpcConfigChangeNotifier extends Subscriber<LocalDataChangeEvent> {
             TpsCheckRequest tpsCheckRequest = new TpsCheckRequest();
             tpsCheckRequest.setPointName(POINT_CONFIG_PUSH_SUCCESS);
             tpsControlManager.check(tpsCheckRequest);
+            rpcPushTask.onPushFinished(items, true);
         }
         
         @Override
@@ -226,28 +419,10 @@ public class RpcConfigChangeNotifier extends Subscriber<LocalDataChangeEvent> {
             TpsCheckRequest tpsCheckRequest = new TpsCheckRequest();
             tpsCheckRequest.setPointName(POINT_CONFIG_PUSH_FAIL);
             tpsControlManager.check(tpsCheckRequest);
-            Loggers.REMOTE_PUSH.warn("Push fail, dataId={}, group={}, tenant={}, clientId={}",
-                    rpcPushTask.getNotifyRequest().getDataId(), rpcPushTask.getNotifyRequest().getGroup(),
-                    rpcPushTask.getNotifyRequest().getTenant(), rpcPushTask.getConnectionId(), e);
-            push(rpcPushTask, connectionManager);
-        }
-    }
-    
-    private static void push(RpcPushTask retryTask, ConnectionManager connectionManager) {
-        ConfigChangeNotifyRequest notifyRequest = retryTask.getNotifyRequest();
-        if (retryTask.isOverTimes()) {
-            Loggers.REMOTE_PUSH.warn(
-                    "push callback retry fail over times. dataId={},group={},tenant={},clientId={}, will unregister client.",
-                    notifyRequest.getDataId(), notifyRequest.getGroup(), notifyRequest.getTenant(),
-                    retryTask.getConnectionId());
-            connectionManager.unregister(retryTask.getConnectionId());
-        } else if (connectionManager.getConnection(retryTask.getConnectionId()) != null) {
-            // first time:delay 0s; second time:delay 2s; third time:delay 4s
-            ConfigExecutor.scheduleClientConfigNotifier(retryTask, retryTask.getTryTimes() * 2, TimeUnit.SECONDS);
-        } else {
-            // client is already offline, ignore task.
+            Loggers.REMOTE_PUSH.warn("Push fail, keys={}, clientId={}", items.keySet(),
+                    rpcPushTask.getConnectionId(), e);
+            rpcPushTask.onPushFinished(items, false);
         }
     }
     
 }
-
@@ -17,6 +17,7 @@
 package com.alibaba.nacos.config.server.service;
 
 import com.alibaba.nacos.common.notify.NotifyCenter;
+import com.alibaba.nacos.common.utils.FuzzyGroupKeyIndex;
 import com.alibaba.nacos.common.utils.MD5Utils;
 import com.alibaba.nacos.common.utils.StringUtils;
 import com.alibaba.nacos.config.server.model.CacheItem;
@@ -32,9 +33,12 @@ import com.alibaba.nacos.config.server.utils.LogUtil;
 import com.alibaba.nacos.sys.env.EnvUtil;
 
 import java.io.IOException;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
 
 import static com.alibaba.nacos.api.common.Constants.CLIENT_IP;
 import static com.alibaba.nacos.api.common.Constants.VIPSERVER_TAG;
@@ -65,10 +69,32 @@ public class ConfigCacheService {
      */
     static final ConcurrentHashMap<String, CacheItem> CACHE = new ConcurrentHashMap<>();
     
+    /**
+     * Index of groupKeys in cache, used to find the groupKeys matched a fuzzy watch pattern.
+     */
+    private static final FuzzyGroupKeyIndex GROUP_KEY_INDEX = new FuzzyGroupKeyIndex();
+    
     public static int groupCount() {
         return CACHE.size();
     }
     
+    /**
+     * Visit groupKeys in cache matched the fuzzy watch pattern.
+     *
+     * @param groupKeyPattern fuzzy watch group key pattern.
+     * @param visitor         groupKey visitor, returns false to stop visiting.
+     */
+    public static void matchGroupKeys(String groupKeyPattern, Predicate<String> visitor) {
+        GROUP_KEY_INDEX.matchKeys(groupKeyPattern, groupKey -> !CACHE.containsKey(groupKey) || visitor.test(groupKey));
+    }
+    
+    /**
+     * Returns a read only view of all cache items.
+     */
+    public static Collection<CacheItem> getAllCacheItems() {
+        return Collections.unmodifiableCollection(CACHE.values());
+    }
+    
     /**
      * Save config file and update md5 value in cache.
      *
@@ -109,11 +135,13 @@ public class ConfigCacheService {
             }
             
             //check md5 & update local disk cache.
-            String localContentMd5 = ConfigCacheService.getContentMd5(groupKey);
-            boolean md5Changed = !md5.equals(localContentMd5);
+            boolean md5Changed = !isUptodate(groupKey, md5);
+            // decode the local md5 only when changed, the cached md5 stays compact.
+            String localContentMd5 = md5Changed ? getContentMd5(groupKey) : md5;
             if (md5Changed) {
                 DUMP_LOG.info("[dump] md5 changed, save to disk cache ,groupKey={}, newMd5={},oldMd5={}", groupKey, md5,
                         localContentMd5);
+                recordReplacedVersion(dataId, group, tenant, localContentMd5);
                 ConfigDiskServiceFactory.getInstance().saveToDisk(dataId, group, tenant, content);
             } else {
                 DUMP_LOG.warn("[dump-ignore] ignore to save to disk cache. md5 consistent,groupKey={}, md5={}",
@@ -125,6 +153,7 @@ public class ConfigCacheService {
                 DUMP_LOG.info(
                         "[dump] md5 changed, update md5 and timestamp in jvm cache ,groupKey={}, newMd5={},oldMd5={},lastModifiedTs={}",
                         groupKey, md5, localContentMd5, lastModifiedTs);
+                ConfigContentCache.getInstance().refresh(groupKey, md5, content);
                 updateMd5(groupKey, md5, content, lastModifiedTs, encryptedDataKey);
             } else if (newLastModified) {
                 DUMP_LOG.info(
@@ -156,6 +185,58 @@ public class ConfigCacheService {
         
     }
     
+    /**
+     * Keep the content about to be replaced, so clients still holding it can be answered with a delta. Only content
+     * held by the content cache is kept, the dump does not read the disk for it.
+     */
+    private static void recordReplacedVersion(String dataId, String group, String tenant, String oldMd5) {
+        ConfigVersionCache versionCache = ConfigVersionCache.getInstance();
+        if (!versionCache.isEnabled() || StringUtils.isBlank(oldMd5)) {
+            return;
+        }
+        String groupKey = GroupKey2.getKey(dataId, group, tenant);
+        String oldContent = ConfigContentCache.getInstance().getCachedContent(groupKey, oldMd5);
+        if (oldContent != null) {
+            versionCache.record(groupKey, oldMd5, oldContent);
+        }
+    }
+    
+    /**
+     * Update md5 value in cache with content already saved in local disk, the local disk is not written.
+     *
+     * @param dataId           dataId string value.
+     * @param group            group string value.
+     * @param tenant           tenant string value.
+     * @param content          content read from local disk.
+     * @param md5              md5 of content.
+     * @param lastModifiedTs   lastModifiedTs.
+     * @param type             file type.
+     * @param encryptedDataKey encryptedDataKey.
+     * @return restore success or not.
+     */
+    public static boolean restoreFromDisk(String dataId, String group, String tenant, String content, String md5,
+            long lastModifiedTs, String type, String encryptedDataKey) {
+        String groupKey = GroupKey2.getKey(dataId, group, tenant);
+        CacheItem ci = makeSure(groupKey, encryptedDataKey);
+        ci.setType(type);
+        final int lockResult = tryWriteLock(groupKey);
+        if (lockResult < 0) {
+            DUMP_LOG.warn("[dump-restore-error] write lock failed. {}", groupKey);
+            return false;
+        }
+        try {
+            if (lastModifiedTs < ConfigCacheService.getLastModifiedTs(groupKey)) {
+                DUMP_LOG.warn("[dump-restore-ignore] timestamp is outdated,groupKey={}", groupKey);
+                return true;
+            }
+            ConfigContentCache.getInstance().refresh(groupKey, md5, content);
+            updateMd5(groupKey, md5, content, lastModifiedTs, encryptedDataKey);
+            return true;
+        } finally {
+            releaseWriteLock(groupKey);
+        }
+    }
+    
     /**
      * Save config file and update md5 value in cache.
      *
@@ -232,6 +313,7 @@ public class ConfigCacheService {
                         grayName, md5, localContentGrayMd5, grayRule, localGrayRule, lastModifiedTs);
                 updateGrayMd5(groupKey, grayName, grayRule, md5, content, lastModifiedTs, encryptedDataKey);
                 ConfigDiskServiceFactory.getInstance().saveGrayToDisk(dataId, group, tenant, grayName, content);
+                ConfigContentCache.getInstance().refreshGray(groupKey, grayName, md5, content);
                 
             } else if (grayRuleChanged) {
                 DUMP_LOG.info("[dump-gray] gray rule changed, update local jvm cache, groupKey={},grayName={}, "
@@ -287,6 +369,7 @@ public class ConfigCacheService {
             DUMP_LOG.info("[remove-gray-ok] remove gray in local disk cache,grayName={},groupKey={} ", grayName,
                     groupKey);
             ConfigDiskServiceFactory.getInstance().removeConfigInfo4Gray(dataId, group, tenant, grayName);
+            ConfigContentCache.getInstance().invalidateGray(groupKey, grayName);
             
             CacheItem ci = CACHE.get(groupKey);
             if (ci.getConfigCacheGray() != null) {
@@ -335,8 +418,13 @@ public class ConfigCacheService {
         try {
             DUMP_LOG.info("[dump] remove  local disk cache,groupKey={} ", groupKey);
             ConfigDiskServiceFactory.getInstance().removeConfigInfo(dataId, group, tenant);
+            ConfigContentCache.getInstance().invalidate(groupKey);
+            ConfigVersionCache.getInstance().invalidate(groupKey);
             
-            CACHE.remove(groupKey);
+            CACHE.computeIfPresent(groupKey, (key, item) -> {
+                GROUP_KEY_INDEX.removeKey(tenant, group, dataId, item.getGroupKey());
+                return null;
+            });
             DUMP_LOG.info("[dump] remove  local jvm cache,groupKey={} ", groupKey);
             
             NotifyCenter.publishEvent(new LocalDataChangeEvent(groupKey));
@@ -359,7 +447,7 @@ public class ConfigCacheService {
     public static void updateMd5(String groupKey, String md5, String content, long lastModifiedTs, String encryptedDataKey) {
         CacheItem cache = makeSure(groupKey, encryptedDataKey);
         ConfigCache configCache = cache.getConfigCache();
-        if (configCache.getMd5() == null || !configCache.getMd5().equals(md5)) {
+        if (!configCache.isMd5Equals(md5)) {
             configCache.setMd5(md5);
             configCache.setLastModifiedTs(lastModifiedTs);
             configCache.setEncryptedDataKey(encryptedDataKey);
@@ -422,12 +510,9 @@ public class ConfigCacheService {
         if (StringUtils.isNotBlank(tag)) {
             connLabels.put(VIPSERVER_TAG, tag);
         }
-        if (item.getSortConfigGrays() != null && connLabels != null && !connLabels.isEmpty()) {
-            for (ConfigCacheGray entry : item.getSortConfigGrays()) {
-                if (entry.match(connLabels)) {
-                    return entry.getMd5();
-                }
-            }
+        ConfigCacheGray matchedGray = item.matchConfigGray(connLabels);
+        if (matchedGray != null) {
+            return matchedGray.getMd5();
         }
         String md5 = item.getConfigCache().getMd5();
         return md5 == null ? NULL : md5;
@@ -516,8 +601,54 @@ public class ConfigCacheService {
     
     public static boolean isUptodate(String groupKey, String md5, String ip, String tag,
             Map<String, String> appLabels) {
-        String serverMd5 = ConfigCacheService.getContentMd5(groupKey, ip, tag, appLabels);
-        return StringUtils.equals(md5, serverMd5);
+        return isUptodate(groupKey, md5, buildConnLabels(ip, tag, appLabels));
+    }
+    
+    /**
+     * Check whether the md5 is up-to-date with the cache, the md5 is compared with the cached one in binary form and
+     * gray rules are only evaluated for configs with gray.
+     *
+     * @param groupKey   groupKey string value.
+     * @param md5        md5 reported by client.
+     * @param connLabels labels built by {@link #buildConnLabels(String, String, Map)}, may be reused for all keys of a
+     *                   listen request.
+     * @return true if up-to-date.
+     */
+    public static boolean isUptodate(String groupKey, String md5, Map<String, String> connLabels) {
+        CacheItem item = CACHE.get(groupKey);
+        if (item == null) {
+            return NULL.equals(md5);
+        }
+        ConfigCacheGray matchedGray = item.matchConfigGray(connLabels);
+        if (matchedGray != null) {
+            return matchedGray.isMd5Equals(md5);
+        }
+        ConfigCache configCache = item.getConfigCache();
+        return configCache.isMd5Equals(null) ? NULL.equals(md5) : configCache.isMd5Equals(md5);
+    }
+    
+    /**
+     * Build connection labels for gray rule matching, the app labels are not modified.
+     *
+     * @param ip        client ip.
+     * @param tag       vipserver tag.
+     * @param appLabels app labels of connection.
+     * @return connection labels.
+     */
+    public static Map<String, String> buildConnLabels(String ip, String tag, Map<String, String> appLabels) {
+        boolean hasIp = StringUtils.isNotBlank(ip);
+        boolean hasTag = StringUtils.isNotBlank(tag);
+        if (!hasIp && !hasTag) {
+            return appLabels;
+        }
+        Map<String, String> connLabels = appLabels == null ? new HashMap<>(4) : new HashMap<>(appLabels);
+        if (hasIp) {
+            connLabels.put(CLIENT_IP, ip);
+        }
+        if (hasTag) {
+            connLabels.put(VIPSERVER_TAG, tag);
+        }
+        return connLabels;
     }
     
     /**
@@ -529,7 +660,7 @@ public class ConfigCacheService {
      */
     public static int tryReadLock(String groupKey) {
         CacheItem groupItem = CACHE.get(groupKey);
-        int result = (null == groupItem) ? 0 : (groupItem.getRwLock().tryReadLock() ? 1 : -1);
+        int result = (null == groupItem) ? 0 : (groupItem.tryReadLock() ? 1 : -1);
         if (result < 0) {
             DEFAULT_LOG.warn("[read-lock] failed, {}, {}", result, groupKey);
         }
@@ -544,7 +675,7 @@ public class ConfigCacheService {
     public static void releaseReadLock(String groupKey) {
         CacheItem item = CACHE.get(groupKey);
         if (null != item) {
-            item.getRwLock().releaseReadLock();
+            item.releaseReadLock();
         }
     }
     
@@ -557,7 +688,7 @@ public class ConfigCacheService {
      */
     static int tryWriteLock(String groupKey) {
         CacheItem groupItem = CACHE.get(groupKey);
-        int result = (null == groupItem) ? 0 : (groupItem.getRwLock().tryWriteLock() ? 1 : -1);
+        int result = (null == groupItem) ? 0 : (groupItem.tryWriteLock() ? 1 : -1);
         if (result < 0) {
             DEFAULT_LOG.warn("[write-lock] failed, {}, {}", result, groupKey);
         }
@@ -567,7 +698,7 @@ public class ConfigCacheService {
     static void releaseWriteLock(String groupKey) {
         CacheItem groupItem = CACHE.get(groupKey);
         if (null != groupItem) {
-            groupItem.getRwLock().releaseWriteLock();
+            groupItem.releaseWriteLock();
         }
     }
     
@@ -576,9 +707,12 @@ public class ConfigCacheService {
         if (null != item) {
             return item;
         }
-        CacheItem tmp = new CacheItem(groupKey, encryptedDataKey);
-        item = CACHE.putIfAbsent(groupKey, tmp);
-        return (null == item) ? tmp : item;
+        return CACHE.computeIfAbsent(groupKey, key -> {
+            CacheItem newItem = new CacheItem(key, encryptedDataKey);
+            String[] keys = GroupKey2.parseKey(key);
+            GROUP_KEY_INDEX.addKey(keys[2], keys[1], keys[0], newItem.getGroupKey());
+            return newItem;
+        });
     }
     
     /**
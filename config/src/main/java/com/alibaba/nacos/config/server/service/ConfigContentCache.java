@@ -0,0 +1,212 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service;
+
+import com.alibaba.nacos.common.utils.StringUtils;
+import com.alibaba.nacos.config.server.configuration.ConfigCommonConfig;
+import com.alibaba.nacos.config.server.monitor.MetricsMonitor;
+import com.alibaba.nacos.config.server.service.dump.disk.ConfigDiskServiceFactory;
+import com.alibaba.nacos.config.server.utils.GroupKey2;
+import com.alibaba.nacos.config.server.utils.WeightedLruCache;
+
+import java.io.IOException;
+
+/**
+ * Bounded in-memory content tier in front of {@link com.alibaba.nacos.config.server.service.dump.disk.ConfigDiskService}.
+ *
+ * <p>Entries are bound to the md5 they were loaded with, so a lookup with the current md5 of the {@code CacheItem}
+ * never returns stale content.
+ *
+ * @author Nacos
+ */
+public class ConfigContentCache {
+    
+    private static final String GRAY_KEY_SEPARATOR = "+gray+";
+    
+    /**
+     * Rough fixed cost of one entry, including map node, key and entry object headers.
+     */
+    private static final int ENTRY_OVERHEAD = 96;
+    
+    private static volatile ConfigContentCache instance;
+    
+    private final WeightedLruCache<Entry> cache;
+    
+    ConfigContentCache(long maxBytes) {
+        this.cache = new WeightedLruCache<>(maxBytes,
+                (key, entry) -> ENTRY_OVERHEAD + 2L * (key.length() + entry.content.length()),
+                MetricsMonitor.getContentCacheBytesMonitor()::addAndGet,
+                () -> MetricsMonitor.getContentCacheEvictionCounter().increment());
+    }
+    
+    /**
+     * Get the content cache singleton, the byte budget is resolved on first access.
+     *
+     * @return content cache.
+     */
+    public static ConfigContentCache getInstance() {
+        if (instance == null) {
+            synchronized (ConfigContentCache.class) {
+                if (instance == null) {
+                    instance = new ConfigContentCache(ConfigCommonConfig.getInstance().getContentCacheMaxBytes());
+                }
+            }
+        }
+        return instance;
+    }
+    
+    /**
+     * Get formal content of config, load from disk when it is not cached with the expected md5.
+     *
+     * @param dataId dataId.
+     * @param group  group.
+     * @param tenant tenant.
+     * @param md5    md5 of the content currently held by the cache item.
+     * @return content, null or empty if not exist on disk.
+     * @throws IOException io exception.
+     */
+    public String getContent(String dataId, String group, String tenant, String md5) throws IOException {
+        if (!cache.isEnabled() || StringUtils.isBlank(md5)) {
+            return ConfigDiskServiceFactory.getInstance().getContent(dataId, group, tenant);
+        }
+        String key = GroupKey2.getKey(dataId, group, tenant);
+        String content = get(key, md5);
+        if (content == null) {
+            content = ConfigDiskServiceFactory.getInstance().getContent(dataId, group, tenant);
+            put(key, md5, content);
+        }
+        return content;
+    }
+    
+    /**
+     * Get formal content of config only if it is cached with the expected md5, the disk is not read.
+     *
+     * @param groupKey groupKey.
+     * @param md5      md5 of the content.
+     * @return content, null if not cached with the md5.
+     */
+    public String getCachedContent(String groupKey, String md5) {
+        Entry entry = cache.get(groupKey);
+        return entry != null && entry.md5.equals(md5) ? entry.content : null;
+    }
+    
+    /**
+     * Get gray content of config, load from disk when it is not cached with the expected md5.
+     *
+     * @param dataId   dataId.
+     * @param group    group.
+     * @param tenant   tenant.
+     * @param grayName gray name.
+     * @param md5      md5 of the gray content currently held by the cache item.
+     * @return gray content, null or empty if not exist on disk.
+     * @throws IOException io exception.
+     */
+    public String getGrayContent(String dataId, String group, String tenant, String grayName, String md5)
+            throws IOException {
+        if (!cache.isEnabled() || StringUtils.isBlank(md5)) {
+            return ConfigDiskServiceFactory.getInstance().getGrayContent(dataId, group, tenant, grayName);
+        }
+        String key = grayKey(GroupKey2.getKey(dataId, group, tenant), grayName);
+        String content = get(key, md5);
+        if (content == null) {
+            content = ConfigDiskServiceFactory.getInstance().getGrayContent(dataId, group, tenant, grayName);
+            put(key, md5, content);
+        }
+        return content;
+    }
+    
+    /**
+     * Replace the cached formal content if the key is already hot, otherwise leave it to be loaded on read.
+     *
+     * @param groupKey groupKey.
+     * @param md5      new md5.
+     * @param content  new content.
+     */
+    public void refresh(String groupKey, String md5, String content) {
+        cache.replaceIfPresent(groupKey, StringUtils.isBlank(content) ? null : new Entry(md5, content));
+    }
+    
+    /**
+     * Replace the cached gray content if the key is already hot, otherwise leave it to be loaded on read.
+     *
+     * @param groupKey groupKey.
+     * @param grayName gray name.
+     * @param md5      new md5.
+     * @param content  new content.
+     */
+    public void refreshGray(String groupKey, String grayName, String md5, String content) {
+        cache.replaceIfPresent(grayKey(groupKey, grayName),
+                StringUtils.isBlank(content) ? null : new Entry(md5, content));
+    }
+    
+    public void invalidate(String groupKey) {
+        cache.remove(groupKey);
+    }
+    
+    public void invalidateGray(String groupKey, String grayName) {
+        cache.remove(grayKey(groupKey, grayName));
+    }
+    
+    /**
+     * Clear all cached content.
+     */
+    public void clear() {
+        cache.clear();
+    }
+    
+    /**
+     * Get total bytes currently held by the cache.
+     *
+     * @return estimated bytes.
+     */
+    public long weight() {
+        return cache.weight();
+    }
+    
+    String get(String key, String md5) {
+        Entry entry = cache.get(key);
+        if (entry != null && md5.equals(entry.md5)) {
+            MetricsMonitor.getContentCacheHitCounter().increment();
+            return entry.content;
+        }
+        MetricsMonitor.getContentCacheMissCounter().increment();
+        return null;
+    }
+    
+    void put(String key, String md5, String content) {
+        if (StringUtils.isBlank(content)) {
+            return;
+        }
+        cache.put(key, new Entry(md5, content));
+    }
+    
+    private static String grayKey(String groupKey, String grayName) {
+        return groupKey + GRAY_KEY_SEPARATOR + grayName;
+    }
+    
+    private static class Entry {
+        
+        final String md5;
+        
+        final String content;
+        
+        Entry(String md5, String content) {
+            this.md5 = md5;
+            this.content = content;
+        }
+    }
+}
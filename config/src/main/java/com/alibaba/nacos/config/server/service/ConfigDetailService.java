@@ -46,6 +46,8 @@ public class ConfigDetailService {
     
     private final ConfigInfoPersistService configInfoPersistService;
     
+    private final ConfigSearchIndex configSearchIndex;
+    
     private BlockingQueue<SearchEvent> eventLinkedBlockingQueue;
     
     private ScheduledExecutorService clientEventExecutor;
@@ -71,6 +73,7 @@ public class ConfigDetailService {
     
     public ConfigDetailService(ConfigInfoPersistService configInfoPersistService) {
         this.configInfoPersistService = configInfoPersistService;
+        this.configSearchIndex = ConfigSearchIndex.getInstance();
         loadSetting();
         initWorker();
     }
@@ -119,10 +122,17 @@ public class ConfigDetailService {
     }
     
     /**
-     * block thread and use workerThread to search config.
+     * block thread and use workerThread to search config, blur search is served by search index if possible.
      */
     public Page<ConfigInfo> findConfigInfoPage(String search, int pageNo, int pageSize, String dataId, String group,
             String tenant, Map<String, Object> configAdvanceInfo) throws NacosRuntimeException {
+        if (Constants.CONFIG_SEARCH_BLUR.equals(search)) {
+            Page<ConfigInfo> indexed = configSearchIndex.search(pageNo, pageSize, dataId, group, tenant,
+                    configAdvanceInfo);
+            if (indexed != null) {
+                return indexed;
+            }
+        }
         SearchEvent searchEvent = new SearchEvent(search, pageNo, pageSize, dataId, group, tenant,
                 configAdvanceInfo);
         Page<ConfigInfo> result = null;
@@ -18,7 +18,7 @@ package com.alibaba.nacos.config.server.service;
 
 import com.alibaba.nacos.api.exception.NacosException;
 import com.alibaba.nacos.common.utils.CollectionUtils;
-import com.alibaba.nacos.common.utils.FuzzyGroupKeyPattern;
+import com.alibaba.nacos.common.utils.FuzzyGroupKeyPatternIndex;
 import com.alibaba.nacos.config.server.configuration.ConfigCommonConfig;
 import com.alibaba.nacos.config.server.utils.GroupKey;
 import com.alibaba.nacos.config.server.utils.GroupKey2;
@@ -32,6 +32,7 @@ import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static com.alibaba.nacos.api.common.Constants.ConfigChangedType.ADD_CONFIG;
 import static com.alibaba.nacos.api.common.Constants.ConfigChangedType.CONFIG_CHANGED;
@@ -56,6 +57,11 @@ public class ConfigFuzzyWatchContextService {
      */
     private final Map<String, Set<String>> matchedGroupKeysMap = new ConcurrentHashMap<>();
     
+    /**
+     * index of groupKeyPatterns in matchedGroupKeysMap.
+     */
+    private final FuzzyGroupKeyPatternIndex patternIndex = new FuzzyGroupKeyPatternIndex();
+    
     public ConfigFuzzyWatchContextService() {
     }
     
@@ -77,7 +83,7 @@ public class ConfigFuzzyWatchContextService {
                 Set<String> watchedClients = this.watchedClientsMap.get(matchedGroupKeys.getKey());
                 
                 if (watchedClients == null) {
-                    iterator.remove();
+                    removeMatchedGroupKeys(matchedGroupKeys.getKey());
                     LogUtil.DEFAULT_LOG.info(
                             "[fuzzy-watch] no watchedClients context for pattern {},remove matchedGroupKeys context",
                             matchedGroupKeys.getKey());
@@ -101,6 +107,16 @@ public class ConfigFuzzyWatchContextService {
         }
     }
     
+    private void removeMatchedGroupKeys(String groupKeyPattern) {
+        matchedGroupKeysMap.computeIfPresent(groupKeyPattern, (pattern, matchedGroupKeys) -> {
+            if (watchedClientsMap.get(pattern) != null) {
+                return matchedGroupKeys;
+            }
+            patternIndex.removePattern(pattern);
+            return null;
+        });
+    }
+    
     /**
      * get matched exist group keys with the groupKeyPattern. return null if not matched.
      *
@@ -130,27 +146,27 @@ public class ConfigFuzzyWatchContextService {
         boolean tryAdd = changedType.equals(ADD_CONFIG) || changedType.equals(CONFIG_CHANGED);
         boolean tryRemove = changedType.equals(DELETE_CONFIG);
         
-        Iterator<Map.Entry<String, Set<String>>> iterator = matchedGroupKeysMap.entrySet().iterator();
-        while (iterator.hasNext()) {
-            Map.Entry<String, Set<String>> entry = iterator.next();
-            if (FuzzyGroupKeyPattern.matchPattern(entry.getKey(), dataId, group, namespace)) {
-                boolean containsAlready = entry.getValue().contains(groupKey);
-                boolean reachToUpLimit = reachToUpLimit(entry.getValue().size());
-                if (tryAdd && !containsAlready && reachToUpLimit) {
-                    LogUtil.DEFAULT_LOG.warn("[fuzzy-watch] pattern matched config count is over limit , "
-                                    + "current config will be ignored for pattern {} ,current count is {}", entry.getKey(),
-                            entry.getValue().size());
-                    continue;
-                }
-                
-                if (tryAdd && !containsAlready && entry.getValue().add(groupKey)) {
-                    needNotify = true;
-                }
-                if (tryRemove && containsAlready && entry.getValue().remove(groupKey)) {
-                    needNotify = true;
-                    if (reachToUpLimit) {
-                        makeupMatchedGroupKeys(entry.getKey());
-                    }
+        for (String groupKeyPattern : patternIndex.matchPatterns(dataId, group, namespace)) {
+            Set<String> matchedGroupKeys = matchedGroupKeysMap.get(groupKeyPattern);
+            if (matchedGroupKeys == null) {
+                continue;
+            }
+            boolean containsAlready = matchedGroupKeys.contains(groupKey);
+            boolean reachToUpLimit = reachToUpLimit(matchedGroupKeys.size());
+            if (tryAdd && !containsAlready && reachToUpLimit) {
+                LogUtil.DEFAULT_LOG.warn("[fuzzy-watch] pattern matched config count is over limit , "
+                                + "current config will be ignored for pattern {} ,current count is {}", groupKeyPattern,
+                        matchedGroupKeys.size());
+                continue;
+            }
+            
+            if (tryAdd && !containsAlready && matchedGroupKeys.add(groupKey)) {
+                needNotify = true;
+            }
+            if (tryRemove && containsAlready && matchedGroupKeys.remove(groupKey)) {
+                needNotify = true;
+                if (reachToUpLimit) {
+                    makeupMatchedGroupKeys(groupKeyPattern);
                 }
             }
         }
@@ -169,20 +185,18 @@ public class ConfigFuzzyWatchContextService {
             return;
         }
         
-        for (String groupKey : ConfigCacheService.CACHE.keySet()) {
-            String[] groupKeyItems = GroupKey.parseKey(groupKey);
-            if (FuzzyGroupKeyPattern.matchPattern(groupKeyPattern, groupKeyItems[0], groupKeyItems[1], groupKeyItems[2])
-                    && !matchedGroupKeys.contains(groupKey)) {
-                matchedGroupKeys.add(groupKey);
+        ConfigCacheService.matchGroupKeys(groupKeyPattern, groupKey -> {
+            if (matchedGroupKeys.add(groupKey)) {
                 LogUtil.DEFAULT_LOG.info("[fuzzy-watch] pattern {} makeup group key {}", groupKeyPattern, groupKey);
                 if (reachToUpLimit(matchedGroupKeys.size())) {
                     LogUtil.DEFAULT_LOG.warn(
-                            "[fuzzy-watch] pattern {] matched config count is over limit ,makeup group keys skip.",
+                            "[fuzzy-watch] pattern {} matched config count is over limit ,makeup group keys skip.",
                             groupKeyPattern);
-                    return;
+                    return false;
                 }
             }
-        }
+            return true;
+        });
     }
     
     private boolean reachToUpLimit(int size) {
@@ -211,27 +225,26 @@ public class ConfigFuzzyWatchContextService {
             throw new NacosException(FUZZY_WATCH_PATTERN_OVER_LIMIT.getCode(), FUZZY_WATCH_PATTERN_OVER_LIMIT.getMsg());
         }
         
-        matchedGroupKeysMap.computeIfAbsent(groupKeyPattern, k -> new HashSet<>());
-        Set<String> matchedGroupKeys = this.matchedGroupKeysMap.get(groupKeyPattern);
+        Set<String> matchedGroupKeys = matchedGroupKeysMap.computeIfAbsent(groupKeyPattern, pattern -> {
+            patternIndex.addPattern(pattern);
+            return new HashSet<>();
+        });
         long matchBeginTime = System.currentTimeMillis();
-        boolean overMatchCount = false;
-        for (String groupKey : ConfigCacheService.CACHE.keySet()) {
-            String[] groupKeyItems = GroupKey.parseKey(groupKey);
-            if (FuzzyGroupKeyPattern.matchPattern(groupKeyPattern, groupKeyItems[0], groupKeyItems[1],
-                    groupKeyItems[2])) {
-                
-                if (reachToUpLimit(matchedGroupKeys.size())) {
-                    LogUtil.DEFAULT_LOG.warn("[fuzzy-watch]   pattern matched service count is over limit , "
-                                    + "other services will stop notify for pattern {} ,current count is {}", groupKeyPattern,
-                            matchedGroupKeys.size());
-                    overMatchCount = true;
-                    break;
-                }
-                matchedGroupKeys.add(groupKey);
+        AtomicBoolean overMatchCount = new AtomicBoolean(false);
+        ConfigCacheService.matchGroupKeys(groupKeyPattern, groupKey -> {
+            if (reachToUpLimit(matchedGroupKeys.size())) {
+                LogUtil.DEFAULT_LOG.warn("[fuzzy-watch]   pattern matched service count is over limit , "
+                                + "other services will stop notify for pattern {} ,current count is {}", groupKeyPattern,
+                        matchedGroupKeys.size());
+                overMatchCount.set(true);
+                return false;
             }
-        }
+            matchedGroupKeys.add(groupKey);
+            return true;
+        });
         LogUtil.DEFAULT_LOG.info("[fuzzy-watch]  pattern {} match {} group keys,overMatchCount={}, cost {}ms",
-                groupKeyPattern, matchedGroupKeys.size(), overMatchCount, System.currentTimeMillis() - matchBeginTime);
+                groupKeyPattern, matchedGroupKeys.size(), overMatchCount.get(),
+                System.currentTimeMillis() - matchBeginTime);
         
     }
     
@@ -292,19 +305,15 @@ public class ConfigFuzzyWatchContextService {
     public Set<String> getMatchedClients(String groupKey) {
         // Initialize a set to store the matched connection IDs
         Set<String> connectIds = new HashSet<>();
-        // Iterate over each key pattern in the context
-        Iterator<Map.Entry<String, Set<String>>> watchClientIterator = watchedClientsMap.entrySet().iterator();
-        
         String[] groupItems = GroupKey2.parseKey(groupKey);
-        
-        while (watchClientIterator.hasNext()) {
-            Map.Entry<String, Set<String>> watchClientEntry = watchClientIterator.next();
-            
-            String keyPattern = watchClientEntry.getKey();
-            if (FuzzyGroupKeyPattern.matchPattern(keyPattern, groupItems[0], groupItems[1], groupItems[2])) {
-                if (CollectionUtils.isNotEmpty(watchClientEntry.getValue())) {
-                    connectIds.addAll(watchClientEntry.getValue());
-                }
+        String dataId = groupItems[0];
+        String group = groupItems[1];
+        String namespace = groupItems[2];
+        // Only the key patterns matched the group key are visited
+        for (String keyPattern : patternIndex.matchPatterns(dataId, group, namespace)) {
+            Set<String> watchedClients = watchedClientsMap.get(keyPattern);
+            if (CollectionUtils.isNotEmpty(watchedClients)) {
+                connectIds.addAll(watchedClients);
             }
         }
         return connectIds;
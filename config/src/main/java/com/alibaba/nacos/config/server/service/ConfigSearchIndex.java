@@ -0,0 +1,608 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service;
+
+import com.alibaba.nacos.api.model.Page;
+import com.alibaba.nacos.common.utils.StringUtils;
+import com.alibaba.nacos.config.server.configuration.ConfigCommonConfig;
+import com.alibaba.nacos.config.server.constant.ParametersField;
+import com.alibaba.nacos.config.server.model.ConfigInfo;
+import com.alibaba.nacos.config.server.model.ConfigInfoWrapper;
+import com.alibaba.nacos.config.server.service.repository.ConfigInfoPersistService;
+import com.alibaba.nacos.config.server.utils.GroupKey2;
+import com.alibaba.nacos.plugin.encryption.handler.EncryptionHandler;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import static com.alibaba.nacos.config.server.utils.LogUtil.DEFAULT_LOG;
+
+/**
+ * In-process index of formal configs for console blur search, to avoid {@code LIKE} scans on config_info.
+ *
+ * <p>dataId, group and appName of every config are split into n-grams. A search collects the configs containing all
+ * n-grams of the literal parts of its patterns, then checks them with the same semantics as the {@code LIKE} clauses.
+ * Content is indexed only if enabled, and checked against the content of local dump. The index is maintained by dump
+ * processors and does not serve searches until the dump on startup finishes. Searches it can not serve, for example by
+ * config tags, return {@code null} and should fall back to database.
+ *
+ * @author Nacos
+ */
+public class ConfigSearchIndex {
+    
+    private static final int GRAM_SIZE = 3;
+    
+    private static final char DATA_ID_FIELD = 'd';
+    
+    private static final char GROUP_FIELD = 'g';
+    
+    private static final char APP_NAME_FIELD = 'a';
+    
+    private static final char CONTENT_FIELD = 'c';
+    
+    private static final char ANY_CHARS = '%';
+    
+    private static final char ANY_CHAR = '_';
+    
+    private static final char ESCAPE = '\\';
+    
+    private static final String FUZZY_SEARCH_SIGN = "*";
+    
+    private static final String CONFIG_TAGS = "config_tags";
+    
+    private static volatile ConfigSearchIndex instance;
+    
+    private final boolean enabled;
+    
+    private final boolean contentEnabled;
+    
+    private final ContentLoader contentLoader;
+    
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    
+    /**
+     * group key -> indexed config.
+     */
+    private final Map<String, Entry> entries = new HashMap<>();
+    
+    /**
+     * tenant -> configs of tenant.
+     */
+    private final Map<String, TenantIndex> tenants = new HashMap<>();
+    
+    private volatile boolean ready;
+    
+    ConfigSearchIndex(boolean enabled, boolean contentEnabled, ContentLoader contentLoader) {
+        this.enabled = enabled;
+        this.contentEnabled = contentEnabled;
+        this.contentLoader = contentLoader;
+    }
+    
+    /**
+     * Get the search index singleton, switches are resolved on first access.
+     *
+     * @return search index.
+     */
+    public static ConfigSearchIndex getInstance() {
+        if (instance == null) {
+            synchronized (ConfigSearchIndex.class) {
+                if (instance == null) {
+                    ConfigCommonConfig config = ConfigCommonConfig.getInstance();
+                    instance = new ConfigSearchIndex(config.isSearchIndexEnabled(),
+                            config.isSearchIndexContentEnabled(), ConfigContentCache.getInstance()::getContent);
+                }
+            }
+        }
+        return instance;
+    }
+    
+    public boolean isEnabled() {
+        return enabled;
+    }
+    
+    public boolean isReady() {
+        return ready;
+    }
+    
+    /**
+     * Mark the index complete, called after all configs are dumped completely.
+     */
+    public void markReady() {
+        if (!enabled || ready) {
+            return;
+        }
+        ready = true;
+        DEFAULT_LOG.info("[search-index] ready, {} configs indexed.", size());
+    }
+    
+    /**
+     * Index all configs from database, used when the dump on startup is skipped.
+     *
+     * @param configInfoPersistService config persist service.
+     * @param pageSize                 page size.
+     */
+    public void rebuild(ConfigInfoPersistService configInfoPersistService, int pageSize) {
+        if (!enabled) {
+            return;
+        }
+        long lastMaxId = 0L;
+        while (true) {
+            Page<ConfigInfoWrapper> page = configInfoPersistService.findAllConfigInfoFragment(lastMaxId, pageSize,
+                    contentEnabled);
+            if (page == null || page.getPageItems() == null || page.getPageItems().isEmpty()) {
+                break;
+            }
+            for (ConfigInfoWrapper cf : page.getPageItems()) {
+                update(cf);
+                lastMaxId = Math.max(cf.getId(), lastMaxId);
+            }
+            if (page.getPageItems().size() < pageSize) {
+                break;
+            }
+        }
+        markReady();
+    }
+    
+    /**
+     * Add or replace a config, outdated config is ignored.
+     *
+     * @param cf formal config read from database.
+     */
+    public void update(ConfigInfoWrapper cf) {
+        if (!enabled || cf == null || StringUtils.isBlank(cf.getTenant())) {
+            return;
+        }
+        String groupKey = GroupKey2.getKey(cf.getDataId(), cf.getGroup(), cf.getTenant());
+        lock.writeLock().lock();
+        try {
+            Entry old = entries.get(groupKey);
+            if (old != null && old.lastModified > cf.getLastModified()) {
+                return;
+            }
+            Set<String> grams = new HashSet<>();
+            addGrams(grams, DATA_ID_FIELD, cf.getDataId());
+            addGrams(grams, GROUP_FIELD, cf.getGroup());
+            addGrams(grams, APP_NAME_FIELD, cf.getAppName());
+            if (contentEnabled) {
+                if (cf.getContent() != null) {
+                    addGrams(grams, CONTENT_FIELD, cf.getContent());
+                } else if (old != null && Objects.equals(old.md5, cf.getMd5())) {
+                    // content is not queried, reuse the grams of the same content.
+                    for (String gram : old.grams) {
+                        if (gram.charAt(0) == CONTENT_FIELD) {
+                            grams.add(gram);
+                        }
+                    }
+                }
+            }
+            if (old != null) {
+                removeEntry(groupKey, old);
+            }
+            Entry entry = new Entry(cf, grams.toArray(new String[0]));
+            entries.put(groupKey, entry);
+            tenants.computeIfAbsent(entry.tenant, t -> new TenantIndex()).add(entry);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    /**
+     * Remove a config.
+     *
+     * @param dataId dataId.
+     * @param group  group.
+     * @param tenant tenant.
+     */
+    public void remove(String dataId, String group, String tenant) {
+        if (!enabled) {
+            return;
+        }
+        String groupKey = GroupKey2.getKey(dataId, group, tenant);
+        lock.writeLock().lock();
+        try {
+            Entry old = entries.get(groupKey);
+            if (old != null) {
+                removeEntry(groupKey, old);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    /**
+     * Blur search configs, same as {@link ConfigInfoPersistService#findConfigInfoLike4Page}.
+     *
+     * @param pageNo            page number.
+     * @param pageSize          page size.
+     * @param dataId            dataId pattern.
+     * @param group             group pattern.
+     * @param tenant            tenant.
+     * @param configAdvanceInfo advance search info.
+     * @return page of configs ordered by id, or null if the search can not be served by index.
+     */
+    public Page<ConfigInfo> search(int pageNo, int pageSize, String dataId, String group, String tenant,
+            Map<String, Object> configAdvanceInfo) {
+        if (!ready || pageNo <= 0 || pageSize <= 0 || StringUtils.isBlank(tenant)) {
+            return null;
+        }
+        Map<String, Object> advanceInfo = configAdvanceInfo == null ? new HashMap<>(1) : configAdvanceInfo;
+        if (StringUtils.isNotBlank((String) advanceInfo.get(CONFIG_TAGS))) {
+            // config tags are not part of dump.
+            return null;
+        }
+        final String appName = (String) advanceInfo.get("appName");
+        final String content = (String) advanceInfo.get("content");
+        final String types = (String) advanceInfo.get(ParametersField.TYPES);
+        
+        Set<String> requiredGrams = new HashSet<>();
+        List<Predicate<Entry>> filters = new ArrayList<>(4);
+        if (!addLikeFilter(filters, requiredGrams, DATA_ID_FIELD, dataId, Entry::getDataId)
+                || !addLikeFilter(filters, requiredGrams, GROUP_FIELD, group, Entry::getGroup)) {
+            return null;
+        }
+        if (StringUtils.isNotBlank(appName)) {
+            addGrams(requiredGrams, APP_NAME_FIELD, appName);
+            filters.add(entry -> appName.equals(entry.appName));
+        }
+        if (StringUtils.isNotBlank(types)) {
+            Set<String> typeSet = new HashSet<>(Arrays.asList(types.split(",")));
+            filters.add(entry -> typeSet.contains(entry.type));
+        }
+        String contentPattern = null;
+        if (StringUtils.isNotBlank(content)) {
+            contentPattern = toLikePattern(content);
+            Set<String> contentGrams = new HashSet<>();
+            addPatternGrams(contentGrams, CONTENT_FIELD, contentPattern);
+            // content without indexed grams needs to load every config from disk, leave it to database.
+            if (!contentEnabled || contentPattern == null || contentGrams.isEmpty()) {
+                return null;
+            }
+            requiredGrams.addAll(contentGrams);
+        }
+        String tenantPattern = toLikePattern(tenant);
+        if (tenantPattern == null) {
+            return null;
+        }
+        
+        List<Entry> matched = match(tenantPattern, requiredGrams, filters);
+        Map<Entry, String> contents = new HashMap<>(matched.size());
+        try {
+            if (contentPattern != null) {
+                List<Entry> contentMatched = new ArrayList<>(matched.size());
+                for (Entry entry : matched) {
+                    String entryContent = loadContent(entry);
+                    if (entryContent != null && like(entryContent, contentPattern)) {
+                        contentMatched.add(entry);
+                        contents.put(entry, entryContent);
+                    }
+                }
+                matched = contentMatched;
+            }
+            return toPage(matched, contents, pageNo, pageSize);
+        } catch (IOException e) {
+            DEFAULT_LOG.warn("[search-index] load content fail, search database instead.", e);
+            return null;
+        }
+    }
+    
+    int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    private List<Entry> match(String tenantPattern, Set<String> requiredGrams, List<Predicate<Entry>> filters) {
+        List<Entry> matched = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            Collection<TenantIndex> tenantIndexes;
+            if (isLiteral(tenantPattern)) {
+                TenantIndex tenantIndex = tenants.get(tenantPattern);
+                tenantIndexes = tenantIndex == null ? new ArrayList<>() : Arrays.asList(tenantIndex);
+            } else {
+                tenantIndexes = new ArrayList<>();
+                for (Map.Entry<String, TenantIndex> entry : tenants.entrySet()) {
+                    if (like(entry.getKey(), tenantPattern)) {
+                        tenantIndexes.add(entry.getValue());
+                    }
+                }
+            }
+            for (TenantIndex tenantIndex : tenantIndexes) {
+                for (Entry entry : tenantIndex.candidates(requiredGrams)) {
+                    if (filters.stream().allMatch(filter -> filter.test(entry))) {
+                        matched.add(entry);
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        // candidates of n-grams are not ordered.
+        matched.sort(Comparator.comparingLong(entry -> entry.id));
+        return matched;
+    }
+    
+    private Page<ConfigInfo> toPage(List<Entry> matched, Map<Entry, String> contents, int pageNo, int pageSize)
+            throws IOException {
+        int totalCount = matched.size();
+        int pageCount = totalCount / pageSize;
+        if (totalCount > pageSize * pageCount) {
+            pageCount++;
+        }
+        Page<ConfigInfo> page = new Page<>();
+        page.setPageNumber(pageNo);
+        page.setPagesAvailable(pageCount);
+        page.setTotalCount(totalCount);
+        if (pageNo > pageCount) {
+            return page;
+        }
+        int start = (pageNo - 1) * pageSize;
+        for (Entry entry : matched.subList(start, Math.min(start + pageSize, totalCount))) {
+            String content = contents.containsKey(entry) ? contents.get(entry) : loadContent(entry);
+            if (content == null) {
+                throw new IOException("content of " + entry.dataId + " is not found in local dump");
+            }
+            page.getPageItems().add(entry.toConfigInfo(
+                    EncryptionHandler.decryptHandler(entry.dataId, entry.encryptedDataKey, content).getSecond()));
+        }
+        return page;
+    }
+    
+    private String loadContent(Entry entry) throws IOException {
+        return contentLoader.load(entry.dataId, entry.group, entry.tenant, entry.md5);
+    }
+    
+    private void removeEntry(String groupKey, Entry entry) {
+        entries.remove(groupKey);
+        TenantIndex tenantIndex = tenants.get(entry.tenant);
+        if (tenantIndex != null && tenantIndex.remove(entry)) {
+            tenants.remove(entry.tenant);
+        }
+    }
+    
+    private static boolean addLikeFilter(List<Predicate<Entry>> filters, Set<String> requiredGrams, char field,
+            String value, Function<Entry, String> getter) {
+        if (StringUtils.isBlank(value)) {
+            return true;
+        }
+        String pattern = toLikePattern(value);
+        if (pattern == null) {
+            return false;
+        }
+        addPatternGrams(requiredGrams, field, pattern);
+        filters.add(entry -> {
+            String fieldValue = getter.apply(entry);
+            return fieldValue != null && like(fieldValue, pattern);
+        });
+        return true;
+    }
+    
+    /**
+     * Convert search value to {@code LIKE} pattern the same way as database search.
+     *
+     * @return pattern, or null if it contains escape char which is handled differently by databases.
+     */
+    static String toLikePattern(String value) {
+        if (value.indexOf(ESCAPE) >= 0) {
+            return null;
+        }
+        return value.replace(FUZZY_SEARCH_SIGN, String.valueOf(ANY_CHARS));
+    }
+    
+    /**
+     * Case-sensitive {@code LIKE} match, as config_info uses binary collation.
+     */
+    static boolean like(String value, String pattern) {
+        int v = 0;
+        int p = 0;
+        int anyCharsAt = -1;
+        int anyCharsMatched = 0;
+        while (v < value.length()) {
+            boolean charMatched = p < pattern.length()
+                    && (pattern.charAt(p) == ANY_CHAR || pattern.charAt(p) == value.charAt(v));
+            if (charMatched) {
+                v++;
+                p++;
+            } else if (p < pattern.length() && pattern.charAt(p) == ANY_CHARS) {
+                anyCharsAt = p++;
+                anyCharsMatched = v;
+            } else if (anyCharsAt >= 0) {
+                // let the last '%' take one more char and retry.
+                p = anyCharsAt + 1;
+                v = ++anyCharsMatched;
+            } else {
+                return false;
+            }
+        }
+        while (p < pattern.length() && pattern.charAt(p) == ANY_CHARS) {
+            p++;
+        }
+        return p == pattern.length();
+    }
+    
+    private static boolean isLiteral(String pattern) {
+        return pattern.indexOf(ANY_CHARS) < 0 && pattern.indexOf(ANY_CHAR) < 0;
+    }
+    
+    private static void addPatternGrams(Set<String> grams, char field, String pattern) {
+        if (pattern == null) {
+            return;
+        }
+        int start = 0;
+        for (int i = 0; i <= pattern.length(); i++) {
+            if (i == pattern.length() || pattern.charAt(i) == ANY_CHARS || pattern.charAt(i) == ANY_CHAR) {
+                addGrams(grams, field, pattern.substring(start, i));
+                start = i + 1;
+            }
+        }
+    }
+    
+    private static void addGrams(Set<String> grams, char field, String value) {
+        if (value == null) {
+            return;
+        }
+        for (int i = 0; i + GRAM_SIZE <= value.length(); i++) {
+            grams.add(field + value.substring(i, i + GRAM_SIZE));
+        }
+    }
+    
+    /**
+     * Load formal content of config from local dump.
+     */
+    @FunctionalInterface
+    interface ContentLoader {
+        
+        /**
+         * Load content of config.
+         *
+         * @param dataId dataId.
+         * @param group  group.
+         * @param tenant tenant.
+         * @param md5    md5 of content.
+         * @return content, or null if not found.
+         * @throws IOException if read content fail.
+         */
+        String load(String dataId, String group, String tenant, String md5) throws IOException;
+    }
+    
+    /**
+     * Configs of a tenant, sorted by id, with the ids of configs containing each n-gram.
+     */
+    private static final class TenantIndex {
+        
+        private final TreeMap<Long, Entry> configs = new TreeMap<>();
+        
+        private final Map<String, Set<Long>> postings = new HashMap<>();
+        
+        private void add(Entry entry) {
+            configs.put(entry.id, entry);
+            for (String gram : entry.grams) {
+                postings.computeIfAbsent(gram, g -> new HashSet<>()).add(entry.id);
+            }
+        }
+        
+        /**
+         * Remove config.
+         *
+         * @return true if tenant is empty.
+         */
+        private boolean remove(Entry entry) {
+            configs.remove(entry.id);
+            for (String gram : entry.grams) {
+                Set<Long> ids = postings.get(gram);
+                if (ids != null && ids.remove(entry.id) && ids.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+            return configs.isEmpty();
+        }
+        
+        private Collection<Entry> candidates(Set<String> requiredGrams) {
+            if (requiredGrams.isEmpty()) {
+                return configs.values();
+            }
+            List<Set<Long>> idSets = new ArrayList<>(requiredGrams.size());
+            for (String gram : requiredGrams) {
+                Set<Long> ids = postings.get(gram);
+                if (ids == null) {
+                    return new ArrayList<>();
+                }
+                idSets.add(ids);
+            }
+            idSets.sort(Comparator.comparingInt(Set::size));
+            Set<Long> result = new HashSet<>(idSets.get(0));
+            for (int i = 1; i < idSets.size() && !result.isEmpty(); i++) {
+                result.retainAll(idSets.get(i));
+            }
+            List<Entry> candidates = new ArrayList<>(result.size());
+            for (Long id : result) {
+                candidates.add(configs.get(id));
+            }
+            return candidates;
+        }
+    }
+    
+    private static final class Entry {
+        
+        private final long id;
+        
+        private final String dataId;
+        
+        private final String group;
+        
+        private final String tenant;
+        
+        private final String appName;
+        
+        private final String type;
+        
+        private final String md5;
+        
+        private final String encryptedDataKey;
+        
+        private final long lastModified;
+        
+        private final String[] grams;
+        
+        private Entry(ConfigInfoWrapper cf, String[] grams) {
+            this.id = cf.getId();
+            this.dataId = cf.getDataId();
+            this.group = cf.getGroup();
+            this.tenant = cf.getTenant();
+            this.appName = cf.getAppName();
+            this.type = cf.getType();
+            this.md5 = cf.getMd5();
+            this.encryptedDataKey = cf.getEncryptedDataKey();
+            this.lastModified = cf.getLastModified();
+            this.grams = grams;
+        }
+        
+        private String getDataId() {
+            return dataId;
+        }
+        
+        private String getGroup() {
+            return group;
+        }
+        
+        private ConfigInfo toConfigInfo(String content) {
+            ConfigInfo configInfo = new ConfigInfo(dataId, group, tenant, appName, content);
+            configInfo.setId(id);
+            configInfo.setMd5(md5);
+            configInfo.setType(type);
+            configInfo.setEncryptedDataKey(encryptedDataKey);
+            return configInfo;
+        }
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service;
+
+import com.alibaba.nacos.common.utils.ContentDelta;
+import com.alibaba.nacos.common.utils.StringUtils;
+import com.alibaba.nacos.config.server.configuration.ConfigCommonConfig;
+import com.alibaba.nacos.config.server.utils.WeightedLruCache;
+
+/**
+ * Recent previous versions of formal config content, to answer a query from a client holding an outdated version with
+ * a delta instead of the full content.
+ *
+ * <p>A version is recorded when a dump replaces it while its content is held by {@link ConfigContentCache}, so only
+ * hot configs which actually changed take memory. Each config keeps at most {@code nacos.config.delta.maxVersions}
+ * versions, all configs share a byte budget.
+ *
+ * @author Nacos
+ */
+public class ConfigVersionCache {
+    
+    private static final int ENTRY_OVERHEAD = 96;
+    
+    /**
+     * A delta is only worth sending if it is clearly smaller than the full content.
+     */
+    private static final int MAX_DELTA_RATIO = 2;
+    
+    private static volatile ConfigVersionCache instance;
+    
+    private final int maxVersions;
+    
+    private final WeightedLruCache<Version[]> cache;
+    
+    ConfigVersionCache(boolean enabled, int maxVersions, long maxBytes) {
+        this.maxVersions = maxVersions;
+        this.cache = new WeightedLruCache<>(enabled && maxVersions > 0 ? maxBytes : 0, (key, versions) -> {
+            long weight = 2L * key.length();
+            for (Version version : versions) {
+                weight += ENTRY_OVERHEAD + 2L * version.content.length();
+            }
+            return weight;
+        }, weight -> {
+        }, () -> {
+        });
+    }
+    
+    /**
+     * Get the version cache singleton, the settings are resolved on first access.
+     *
+     * @return version cache.
+     */
+    public static ConfigVersionCache getInstance() {
+        if (instance == null) {
+            synchronized (ConfigVersionCache.class) {
+                if (instance == null) {
+                    ConfigCommonConfig config = ConfigCommonConfig.getInstance();
+                    instance = new ConfigVersionCache(config.isDeltaEnabled(), config.getDeltaMaxVersions(),
+                            config.getDeltaMaxBytes());
+                }
+            }
+        }
+        return instance;
+    }
+    
+    public boolean isEnabled() {
+        return cache.isEnabled();
+    }
+    
+    /**
+     * Record a version of the config which is being replaced.
+     *
+     * @param groupKey groupKey.
+     * @param md5      md5 of the replaced content.
+     * @param content  replaced content.
+     */
+    public void record(String groupKey, String md5, String content) {
+        if (!isEnabled() || StringUtils.isBlank(md5) || content == null) {
+            return;
+        }
+        Version[] old = cache.get(groupKey);
+        int oldCount = old == null ? 0 : old.length;
+        Version[] versions = new Version[Math.min(oldCount + 1, maxVersions)];
+        versions[0] = new Version(md5, content);
+        int size = 1;
+        for (int i = 0; i < oldCount && size < versions.length; i++) {
+            if (!md5.equals(old[i].md5)) {
+                versions[size++] = old[i];
+            }
+        }
+        if (size < versions.length) {
+            Version[] trimmed = new Version[size];
+            System.arraycopy(versions, 0, trimmed, 0, size);
+            versions = trimmed;
+        }
+        cache.put(groupKey, versions);
+    }
+    
+    /**
+     * Build a delta from a recorded version to the current content.
+     *
+     * @param groupKey groupKey.
+     * @param baseMd5  md5 of the content held by client.
+     * @param content  current content.
+     * @return delta, null if the base version is unknown or the delta is not small enough.
+     */
+    public ContentDelta diff(String groupKey, String baseMd5, String content) {
+        if (!isEnabled() || StringUtils.isBlank(baseMd5) || content == null) {
+            return null;
+        }
+        Version[] versions = cache.get(groupKey);
+        if (versions == null) {
+            return null;
+        }
+        for (Version version : versions) {
+            if (baseMd5.equals(version.md5)) {
+                ContentDelta delta = ContentDelta.diff(version.content, content);
+                return delta.getText().length() * MAX_DELTA_RATIO < content.length() ? delta : null;
+            }
+        }
+        return null;
+    }
+    
+    public void invalidate(String groupKey) {
+        cache.remove(groupKey);
+    }
+    
+    private static class Version {
+        
+        final String md5;
+        
+        final String content;
+        
+        Version(String md5, String content) {
+            this.md5 = md5;
+            this.content = content;
+        }
+    }
+}
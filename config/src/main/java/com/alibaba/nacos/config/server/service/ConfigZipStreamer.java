@@ -0,0 +1,371 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service;
+
+import com.alibaba.nacos.api.config.model.SameConfigPolicy;
+import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.api.model.v2.ErrorCode;
+import com.alibaba.nacos.api.model.v2.Result;
+import com.alibaba.nacos.common.utils.CollectionUtils;
+import com.alibaba.nacos.common.utils.Pair;
+import com.alibaba.nacos.common.utils.StringUtils;
+import com.alibaba.nacos.config.server.constant.Constants;
+import com.alibaba.nacos.config.server.model.ConfigAllInfo;
+import com.alibaba.nacos.config.server.model.ConfigMetadata;
+import com.alibaba.nacos.config.server.model.event.ConfigDataChangeEvent;
+import com.alibaba.nacos.config.server.service.repository.ConfigInfoPersistService;
+import com.alibaba.nacos.config.server.service.trace.ConfigTraceService;
+import com.alibaba.nacos.config.server.utils.GroupKey;
+import com.alibaba.nacos.config.server.utils.TimeUtils;
+import com.alibaba.nacos.config.server.utils.YamlParserUtil;
+import com.alibaba.nacos.config.server.utils.ZipUtils;
+import com.alibaba.nacos.plugin.encryption.handler.EncryptionHandler;
+import com.alibaba.nacos.sys.utils.InetUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Streams configs to and from export zip files with metadata.yml.
+ *
+ * <p>Export reads configs page by page ordered by id and writes them to the output stream directly, import reads zip
+ * entries one by one and saves configs in batches, so only one page of configs is held in memory besides the metadata
+ * of all configs.
+ *
+ * @author Nacos
+ */
+public class ConfigZipStreamer {
+    
+    private static final int DEFAULT_PAGE_SIZE = 100;
+    
+    private static final int ITEM_NAME_LENGTH = 2;
+    
+    private static final String SUCC_COUNT = "succCount";
+    
+    private static final String SKIP_COUNT = "skipCount";
+    
+    private static final String FAIL_DATA = "failData";
+    
+    private static final String SKIP_DATA = "skipData";
+    
+    private final ConfigInfoPersistService configInfoPersistService;
+    
+    private final int pageSize;
+    
+    public ConfigZipStreamer(ConfigInfoPersistService configInfoPersistService) {
+        this(configInfoPersistService, DEFAULT_PAGE_SIZE);
+    }
+    
+    ConfigZipStreamer(ConfigInfoPersistService configInfoPersistService, int pageSize) {
+        this.configInfoPersistService = configInfoPersistService;
+        this.pageSize = pageSize;
+    }
+    
+    /**
+     * Export configs and metadata.yml to output stream as a zip file, the output stream is not closed.
+     *
+     * @param dataId      data id, blur search if not blank.
+     * @param group       group.
+     * @param namespaceId namespace id.
+     * @param appName     app name.
+     * @param ids         ids of configs to export, other conditions are ignored if not empty.
+     * @param out         output stream.
+     * @throws IOException if write fail.
+     */
+    public void exportConfig(String dataId, String group, String namespaceId, String appName, List<Long> ids,
+            OutputStream out) throws IOException {
+        ZipOutputStream zipOut = new ZipOutputStream(out);
+        List<ConfigMetadata.ConfigExportItem> configMetadataItems = new ArrayList<>();
+        long lastMaxId = 0;
+        List<ConfigAllInfo> page;
+        do {
+            page = configInfoPersistService.findConfigInfo4ExportFetchRows(dataId, group, namespaceId, appName, ids,
+                    lastMaxId, pageSize);
+            if (CollectionUtils.isEmpty(page)) {
+                break;
+            }
+            for (ConfigAllInfo ci : page) {
+                ConfigMetadata.ConfigExportItem configMetadataItem = new ConfigMetadata.ConfigExportItem();
+                configMetadataItem.setAppName(ci.getAppName());
+                configMetadataItem.setDataId(ci.getDataId());
+                configMetadataItem.setDesc(ci.getDesc());
+                configMetadataItem.setGroup(ci.getGroup());
+                configMetadataItem.setType(ci.getType());
+                configMetadataItems.add(configMetadataItem);
+                Pair<String, String> pair = EncryptionHandler.decryptHandler(ci.getDataId(),
+                        ci.getEncryptedDataKey(), ci.getContent());
+                String itemName = ci.getGroup() + Constants.CONFIG_EXPORT_ITEM_FILE_SEPARATOR + ci.getDataId();
+                writeEntry(zipOut, itemName, pair.getSecond());
+                lastMaxId = Math.max(lastMaxId, ci.getId());
+            }
+        } while (page.size() >= pageSize);
+        ConfigMetadata configMetadata = new ConfigMetadata();
+        configMetadata.setMetadata(configMetadataItems);
+        writeEntry(zipOut, Constants.CONFIG_EXPORT_METADATA_NEW, YamlParserUtil.dumpObject(configMetadata));
+        zipOut.finish();
+        zipOut.flush();
+    }
+    
+    private void writeEntry(ZipOutputStream zipOut, String name, String content) throws IOException {
+        zipOut.putNextEntry(new ZipEntry(name));
+        if (content != null) {
+            zipOut.write(content.getBytes(StandardCharsets.UTF_8));
+        }
+        zipOut.closeEntry();
+    }
+    
+    /**
+     * Import configs of a zip file with metadata.yml, configs are saved in batches.
+     *
+     * <p>The zip file is read twice, first for metadata.yml and then for configs, so the source should be able to
+     * be opened again, such as an uploaded multipart file.
+     *
+     * @param source       source of zip file.
+     * @param srcUser      source user.
+     * @param namespaceId  namespace id to import to.
+     * @param policy       policy for existed configs.
+     * @param srcIp        source ip.
+     * @param requestIpApp request app.
+     * @return import result.
+     * @throws IOException    if read zip file fail.
+     * @throws NacosException if config is invalid.
+     */
+    public Result<Map<String, Object>> importConfig(ZipSource source, String srcUser, String namespaceId,
+            SameConfigPolicy policy, String srcIp, String requestIpApp) throws IOException, NacosException {
+        Map<String, Object> failedData = new HashMap<>(4);
+        failedData.put(SUCC_COUNT, 0);
+        Map<String, ConfigMetadata.ConfigExportItem> metadataItems = readMetadata(source);
+        if (metadataItems == null) {
+            return Result.failure(ErrorCode.METADATA_ILLEGAL, failedData);
+        }
+        ImportContext context = new ImportContext(srcUser, srcIp, requestIpApp, policy);
+        Set<String> importedKeys = new HashSet<>();
+        List<ConfigAllInfo> batch = new ArrayList<>(pageSize);
+        try (ZipUtils.ZipItemReader reader = new ZipUtils.ZipItemReader(source.open())) {
+            ZipUtils.ZipItem item;
+            while ((item = reader.next(name -> !Constants.CONFIG_EXPORT_METADATA_NEW.equals(name)
+                    && !Constants.CONFIG_EXPORT_METADATA.equals(name))) != null) {
+                String itemName = item.getItemName();
+                String[] groupAndDataId = itemName.split(Constants.CONFIG_EXPORT_ITEM_FILE_SEPARATOR);
+                if (groupAndDataId.length != ITEM_NAME_LENGTH) {
+                    context.addUnrecognized(itemName);
+                    continue;
+                }
+                String group = groupAndDataId[0];
+                String dataId = groupAndDataId[1];
+                String key = GroupKey.getKey(dataId, group);
+                ConfigMetadata.ConfigExportItem configExportItem = metadataItems.get(key);
+                // metadata does not contain config file
+                if (configExportItem == null) {
+                    context.addUnrecognized("Item not found in metadata: " + itemName);
+                    continue;
+                }
+                if (!importedKeys.add(key)) {
+                    continue;
+                }
+                batch.add(toConfigAllInfo(configExportItem, item.getItemData(), namespaceId, srcUser));
+                if (batch.size() >= pageSize) {
+                    importBatch(batch, context);
+                    batch.clear();
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            importBatch(batch, context);
+        }
+        for (Map.Entry<String, ConfigMetadata.ConfigExportItem> entry : metadataItems.entrySet()) {
+            // config file not in metadata
+            if (!importedKeys.contains(entry.getKey())) {
+                ConfigMetadata.ConfigExportItem configExportItem = entry.getValue();
+                context.addUnrecognized(
+                        "Item not found in file: " + configExportItem.getGroup() + "/" + configExportItem.getDataId());
+            }
+        }
+        if (importedKeys.isEmpty()) {
+            return Result.failure(ErrorCode.DATA_EMPTY, failedData);
+        }
+        return Result.success(context.toResult());
+    }
+    
+    private Map<String, ConfigMetadata.ConfigExportItem> readMetadata(ZipSource source) throws IOException {
+        ZipUtils.ZipItem metadataItem;
+        try (ZipUtils.ZipItemReader reader = new ZipUtils.ZipItemReader(source.open())) {
+            metadataItem = reader.next(Constants.CONFIG_EXPORT_METADATA_NEW::equals);
+        }
+        if (metadataItem == null) {
+            return null;
+        }
+        ConfigMetadata configMetadata = YamlParserUtil.loadObject(metadataItem.getItemData(), ConfigMetadata.class);
+        if (configMetadata == null || CollectionUtils.isEmpty(configMetadata.getMetadata())) {
+            return null;
+        }
+        Map<String, ConfigMetadata.ConfigExportItem> metadataItems = new LinkedHashMap<>();
+        // check config metadata
+        for (ConfigMetadata.ConfigExportItem configExportItem : configMetadata.getMetadata()) {
+            if (StringUtils.isBlank(configExportItem.getDataId()) || StringUtils.isBlank(configExportItem.getGroup())
+                    || StringUtils.isBlank(configExportItem.getType())) {
+                return null;
+            }
+            metadataItems.put(GroupKey.getKey(configExportItem.getDataId(), configExportItem.getGroup()),
+                    configExportItem);
+        }
+        return metadataItems;
+    }
+    
+    private ConfigAllInfo toConfigAllInfo(ConfigMetadata.ConfigExportItem configExportItem, String content,
+            String namespaceId, String srcUser) {
+        // encrypted
+        Pair<String, String> pair = EncryptionHandler.encryptHandler(configExportItem.getDataId(), content);
+        ConfigAllInfo ci = new ConfigAllInfo();
+        ci.setGroup(configExportItem.getGroup());
+        ci.setDataId(configExportItem.getDataId());
+        ci.setContent(pair.getSecond());
+        ci.setType(configExportItem.getType());
+        ci.setDesc(configExportItem.getDesc());
+        ci.setAppName(configExportItem.getAppName());
+        ci.setTenant(namespaceId);
+        ci.setEncryptedDataKey(pair.getFirst());
+        ci.setCreateUser(srcUser);
+        return ci;
+    }
+    
+    @SuppressWarnings("unchecked")
+    private void importBatch(List<ConfigAllInfo> batch, ImportContext context) throws NacosException {
+        if (context.aborted) {
+            // a config of previous batch is failed with abort policy, skip the rest.
+            for (ConfigAllInfo configInfo : batch) {
+                context.skipCount++;
+                context.skipData.add(toItem(configInfo));
+            }
+            return;
+        }
+        final Timestamp time = TimeUtils.getCurrentTime();
+        Map<String, Object> saveResult = configInfoPersistService.batchInsertOrUpdate(batch, context.srcUser,
+                context.srcIp, null, context.policy);
+        for (ConfigAllInfo configInfo : batch) {
+            ConfigChangePublisher.notifyConfigChange(
+                    new ConfigDataChangeEvent(configInfo.getDataId(), configInfo.getGroup(), configInfo.getTenant(),
+                            time.getTime()));
+            ConfigTraceService.logPersistenceEvent(configInfo.getDataId(), configInfo.getGroup(),
+                    configInfo.getTenant(), context.requestIpApp, time.getTime(), InetUtils.getSelfIP(),
+                    ConfigTraceService.PERSISTENCE_EVENT, ConfigTraceService.PERSISTENCE_TYPE_PUB,
+                    configInfo.getContent());
+        }
+        context.succCount += (Integer) saveResult.getOrDefault(SUCC_COUNT, 0);
+        context.skipCount += (Integer) saveResult.getOrDefault(SKIP_COUNT, 0);
+        List<Map<String, String>> skipData = (List<Map<String, String>>) saveResult.get(SKIP_DATA);
+        if (skipData != null) {
+            context.skipData.addAll(skipData);
+        }
+        List<Map<String, String>> failData = (List<Map<String, String>>) saveResult.get(FAIL_DATA);
+        if (CollectionUtils.isNotEmpty(failData)) {
+            context.failData.addAll(failData);
+            context.aborted = SameConfigPolicy.ABORT.equals(context.policy);
+        }
+    }
+    
+    private static Map<String, String> toItem(ConfigAllInfo configInfo) {
+        Map<String, String> item = new HashMap<>(2);
+        item.put("dataId", configInfo.getDataId());
+        item.put("group", configInfo.getGroup());
+        return item;
+    }
+    
+    /**
+     * Source of zip file which can be opened more than once.
+     */
+    @FunctionalInterface
+    public interface ZipSource {
+        
+        /**
+         * Open a new input stream of the zip file.
+         *
+         * @return input stream.
+         * @throws IOException if open fail.
+         */
+        InputStream open() throws IOException;
+    }
+    
+    /**
+     * Merged result of import batches.
+     */
+    private static final class ImportContext {
+        
+        private final String srcUser;
+        
+        private final String srcIp;
+        
+        private final String requestIpApp;
+        
+        private final SameConfigPolicy policy;
+        
+        private final List<Map<String, String>> failData = new ArrayList<>();
+        
+        private final List<Map<String, String>> skipData = new ArrayList<>();
+        
+        private final List<Map<String, String>> unrecognizedList = new ArrayList<>();
+        
+        private int succCount;
+        
+        private int skipCount;
+        
+        private boolean aborted;
+        
+        private ImportContext(String srcUser, String srcIp, String requestIpApp, SameConfigPolicy policy) {
+            this.srcUser = srcUser;
+            this.srcIp = srcIp;
+            this.requestIpApp = requestIpApp;
+            this.policy = policy;
+        }
+        
+        private void addUnrecognized(String itemName) {
+            Map<String, String> unrecognizedItem = new HashMap<>(2);
+            unrecognizedItem.put("itemName", itemName);
+            unrecognizedList.add(unrecognizedItem);
+        }
+        
+        private Map<String, Object> toResult() {
+            Map<String, Object> result = new HashMap<>(8);
+            result.put(SUCC_COUNT, succCount);
+            result.put(SKIP_COUNT, skipCount);
+            if (!failData.isEmpty()) {
+                result.put(FAIL_DATA, failData);
+            }
+            if (!skipData.isEmpty()) {
+                result.put(SKIP_DATA, skipData);
+            }
+            // unrecognizedCount
+            if (!unrecognizedList.isEmpty()) {
+                result.put("unrecognizedCount", unrecognizedList.size());
+                result.put("unrecognizedData", unrecognizedList);
+            }
+            return result;
+        }
+    }
+}
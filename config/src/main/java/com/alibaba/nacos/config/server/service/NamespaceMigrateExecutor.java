@@ -0,0 +1,366 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service;
+
+import com.alibaba.nacos.common.executor.NameThreadFactory;
+import com.alibaba.nacos.common.utils.JacksonUtils;
+import com.alibaba.nacos.config.server.monitor.MetricsMonitor;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.ToLongFunction;
+
+import static com.alibaba.nacos.config.server.utils.LogUtil.DEFAULT_LOG;
+
+/**
+ * Parallel and resumable executor of namespace migrate phases.
+ *
+ * <p>Each phase pages source rows by id in the caller thread and migrates pages concurrently in a bounded worker
+ * pool. The id below which all pages are migrated is saved to a checkpoint file, so a migrate interrupted by a restart
+ * continues from there instead of scanning every table from the beginning. The checkpoint is deleted once all phases
+ * are finished.
+ *
+ * @author Nacos
+ */
+class NamespaceMigrateExecutor {
+    
+    static final String CHECKPOINT_FILE_NAME = "namespace-migrate-checkpoint.json";
+    
+    private static final long PROGRESS_LOG_INTERVAL_MS = 1000L;
+    
+    private final int workerCount;
+    
+    private final int batchSize;
+    
+    private final int maxRetryTimes;
+    
+    private final long retryIntervalMs;
+    
+    private final File checkpointFile;
+    
+    private final Checkpoint checkpoint;
+    
+    private final AtomicLong migrated = new AtomicLong();
+    
+    private final long start = System.currentTimeMillis();
+    
+    private long lastSaveTime;
+    
+    /**
+     * Create executor and load the checkpoint of an interrupted migrate.
+     *
+     * @param workerCount        count of pages migrated concurrently.
+     * @param batchSize          rows of a page.
+     * @param maxRetryTimes      max retry times of fetching or migrating a page.
+     * @param retryIntervalMs    interval between retries.
+     * @param checkpointFile     checkpoint file, null to disable checkpoint.
+     * @param checkpointMaxAgeMs max age of checkpoint to resume from.
+     */
+    NamespaceMigrateExecutor(int workerCount, int batchSize, int maxRetryTimes, long retryIntervalMs,
+            File checkpointFile, long checkpointMaxAgeMs) {
+        this.workerCount = Math.max(1, workerCount);
+        this.batchSize = Math.max(1, batchSize);
+        this.maxRetryTimes = Math.max(0, maxRetryTimes);
+        this.retryIntervalMs = retryIntervalMs;
+        this.checkpointFile = checkpointFile;
+        Checkpoint loaded = load(checkpointMaxAgeMs);
+        this.checkpoint = loaded == null ? new Checkpoint() : loaded;
+    }
+    
+    /**
+     * Run one phase, returns after all pages are migrated.
+     *
+     * @param phase        phase name, key of the phase in checkpoint.
+     * @param pageFetcher  fetch the page of rows after the given id.
+     * @param idOf         id of a row.
+     * @param pageMigrator migrate a page of rows, called concurrently in worker threads.
+     * @param failOnError  whether to fail the phase if a page can not be migrated, or to skip the page.
+     * @param <T>          row type.
+     * @return count of migrated rows.
+     * @throws Exception if fetching a page fails, or migrating a page fails and failOnError is true.
+     */
+    <T> long run(String phase, PageFetcher<T> pageFetcher, ToLongFunction<T> idOf, Consumer<List<T>> pageMigrator,
+            boolean failOnError) throws Exception {
+        if (checkpoint.getFinishedPhases().contains(phase)) {
+            DEFAULT_LOG.info("[migrate] phase {} finished before restart, skipped", phase);
+            return 0L;
+        }
+        long startId = checkpoint.getStartIds().getOrDefault(phase, -1L);
+        if (startId >= 0) {
+            DEFAULT_LOG.info("[migrate] phase {} resumes from id {}", phase, startId);
+        }
+        ThreadPoolExecutor executorService = new ThreadPoolExecutor(workerCount, workerCount, 60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(workerCount), new NameThreadFactory("com.alibaba.nacos.config.namespace.migrate"),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        Deque<PageState> pending = new ArrayDeque<>();
+        AtomicReference<Exception> failure = new AtomicReference<>();
+        AtomicLong phaseMigrated = new AtomicLong();
+        try {
+            List<T> page;
+            do {
+                page = fetch(phase, pageFetcher, startId);
+                if (page.isEmpty()) {
+                    break;
+                }
+                startId = idOf.applyAsLong(page.get(page.size() - 1));
+                PageState state = new PageState(startId);
+                synchronized (pending) {
+                    pending.addLast(state);
+                }
+                List<T> rows = page;
+                executorService.execute(() -> {
+                    try {
+                        migrate(phase, rows, pageMigrator);
+                        phaseMigrated.addAndGet(rows.size());
+                        migrated.addAndGet(rows.size());
+                    } catch (Exception e) {
+                        if (failOnError) {
+                            failure.compareAndSet(null, e);
+                            return;
+                        }
+                        DEFAULT_LOG.error("[migrate] phase {} skipped page ending at id {}", phase, state.lastId, e);
+                    }
+                    complete(phase, pending, state, phaseMigrated.get());
+                });
+            } while (page.size() == batchSize && failure.get() == null);
+            executorService.shutdown();
+            while (!executorService.awaitTermination(PROGRESS_LOG_INTERVAL_MS, TimeUnit.MILLISECONDS)) {
+                logProgress(phase, phaseMigrated.get());
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+        if (failure.get() != null) {
+            saveCheckpoint();
+            throw failure.get();
+        }
+        synchronized (checkpoint) {
+            checkpoint.getStartIds().remove(phase);
+            checkpoint.getFinishedPhases().add(phase);
+        }
+        saveCheckpoint();
+        logProgress(phase, phaseMigrated.get());
+        return phaseMigrated.get();
+    }
+    
+    private <T> List<T> fetch(String phase, PageFetcher<T> pageFetcher, long startId) throws Exception {
+        for (int retryTimes = 0; ; retryTimes++) {
+            try {
+                return pageFetcher.fetch(startId, batchSize);
+            } catch (Exception e) {
+                DEFAULT_LOG.error("[migrate] phase {} fetch page after id {} failed, retry times={}, error={}", phase,
+                        startId, retryTimes, e.getMessage());
+                if (retryTimes >= maxRetryTimes) {
+                    throw e;
+                }
+            }
+            Thread.sleep(retryIntervalMs);
+        }
+    }
+    
+    private <T> void migrate(String phase, List<T> rows, Consumer<List<T>> pageMigrator) throws Exception {
+        for (int retryTimes = 0; ; retryTimes++) {
+            try {
+                pageMigrator.accept(rows);
+                return;
+            } catch (Exception e) {
+                DEFAULT_LOG.error("[migrate] phase {} migrate page failed, retry times={}, error={}", phase,
+                        retryTimes, e.getMessage());
+                if (retryTimes >= maxRetryTimes) {
+                    throw e;
+                }
+            }
+            Thread.sleep(retryIntervalMs);
+        }
+    }
+    
+    /**
+     * Mark the page completed and advance the checkpoint over the leading completed pages.
+     */
+    private void complete(String phase, Deque<PageState> pending, PageState state, long phaseMigrated) {
+        long watermark = -1L;
+        synchronized (pending) {
+            state.completed = true;
+            while (!pending.isEmpty() && pending.peekFirst().completed) {
+                watermark = pending.pollFirst().lastId;
+            }
+        }
+        if (watermark < 0) {
+            return;
+        }
+        synchronized (checkpoint) {
+            checkpoint.getStartIds().merge(phase, watermark, Math::max);
+        }
+        saveCheckpointIfDue(phase, phaseMigrated);
+    }
+    
+    private synchronized void saveCheckpointIfDue(String phase, long phaseMigrated) {
+        long now = System.currentTimeMillis();
+        if (now - lastSaveTime >= PROGRESS_LOG_INTERVAL_MS) {
+            lastSaveTime = now;
+            saveCheckpoint();
+            logProgress(phase, phaseMigrated);
+        }
+    }
+    
+    /**
+     * Delete the checkpoint after all phases are finished.
+     */
+    void finish() {
+        if (checkpointFile != null && checkpointFile.exists() && !checkpointFile.delete()) {
+            DEFAULT_LOG.warn("[migrate] delete checkpoint {} fail.", checkpointFile);
+        }
+    }
+    
+    long getMigrated() {
+        return migrated.get();
+    }
+    
+    Checkpoint getCheckpoint() {
+        return checkpoint;
+    }
+    
+    private void logProgress(String phase, long phaseMigrated) {
+        long costMs = Math.max(1L, System.currentTimeMillis() - start);
+        long migratedCount = migrated.get();
+        long throughput = migratedCount * 1000L / costMs;
+        MetricsMonitor.getNamespaceMigrateProgressMonitor().set(migratedCount);
+        MetricsMonitor.getNamespaceMigrateThroughputMonitor().set(throughput);
+        DEFAULT_LOG.info("[migrate] phase {} migrated {}, total {}, cost {} ms, throughput {}/s", phase,
+                phaseMigrated, migratedCount, costMs, throughput);
+    }
+    
+    private Checkpoint load(long maxAgeMs) {
+        if (checkpointFile == null || !checkpointFile.exists()) {
+            return null;
+        }
+        try {
+            Checkpoint loaded = JacksonUtils.toObj(Files.readAllBytes(checkpointFile.toPath()), Checkpoint.class);
+            long age = System.currentTimeMillis() - loaded.getSavedTime();
+            if (age < 0 || age > maxAgeMs) {
+                DEFAULT_LOG.warn("[migrate] checkpoint is expired, age {} ms, ignore checkpoint.", age);
+                return null;
+            }
+            return loaded;
+        } catch (Throwable e) {
+            DEFAULT_LOG.warn("[migrate] load checkpoint {} fail, ignore checkpoint.", checkpointFile, e);
+            return null;
+        }
+    }
+    
+    private synchronized void saveCheckpoint() {
+        if (checkpointFile == null) {
+            return;
+        }
+        byte[] bytes;
+        synchronized (checkpoint) {
+            checkpoint.setSavedTime(System.currentTimeMillis());
+            bytes = JacksonUtils.toJsonBytes(checkpoint);
+        }
+        try {
+            File parent = checkpointFile.getParentFile();
+            if (parent != null && !parent.exists() && !parent.mkdirs()) {
+                throw new IOException("create dir " + parent + " fail");
+            }
+            File tmpFile = new File(checkpointFile.getPath() + ".tmp");
+            Files.write(tmpFile.toPath(), bytes);
+            Files.move(tmpFile.toPath(), checkpointFile.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } catch (Throwable e) {
+            DEFAULT_LOG.warn("[migrate] save checkpoint {} fail.", checkpointFile, e);
+        }
+    }
+    
+    private static class PageState {
+        
+        private final long lastId;
+        
+        private boolean completed;
+        
+        PageState(long lastId) {
+            this.lastId = lastId;
+        }
+    }
+    
+    /**
+     * Page fetcher of namespace migrate executor.
+     *
+     * @param <T> row type
+     */
+    @FunctionalInterface
+    interface PageFetcher<T> {
+        
+        /**
+         * Fetch the page of rows after the given id, ordered by id.
+         *
+         * @param startId  rows with id greater than it are fetched.
+         * @param pageSize max rows of the page.
+         * @return rows of the page, empty if no more rows.
+         */
+        List<T> fetch(long startId, int pageSize);
+    }
+    
+    /**
+     * Progress of namespace migrate saved to checkpoint file.
+     */
+    public static class Checkpoint {
+        
+        private long savedTime;
+        
+        private Map<String, Long> startIds = new HashMap<>();
+        
+        private List<String> finishedPhases = new ArrayList<>();
+        
+        public long getSavedTime() {
+            return savedTime;
+        }
+        
+        public void setSavedTime(long savedTime) {
+            this.savedTime = savedTime;
+        }
+        
+        public Map<String, Long> getStartIds() {
+            return startIds;
+        }
+        
+        public void setStartIds(Map<String, Long> startIds) {
+            this.startIds = startIds;
+        }
+        
+        public List<String> getFinishedPhases() {
+            return finishedPhases;
+        }
+        
+        public void setFinishedPhases(List<String> finishedPhases) {
+            this.finishedPhases = finishedPhases;
+        }
+    }
+}
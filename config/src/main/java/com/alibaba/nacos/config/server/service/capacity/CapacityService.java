@@ -62,6 +62,8 @@ public class CapacityService {
     @Autowired
     private ConfigInfoPersistService configInfoPersistService;
     
+    private final CapacityUsageCounter capacityUsageCounter = new CapacityUsageCounter(this);
+    
     /**
      * Init.
      */
@@ -78,6 +80,15 @@ public class CapacityService {
             LOGGER.info("[capacityManagement] end correct usage, cost: {}s", watch.getTotalTimeSeconds());
             
         }, PropertyUtil.getCorrectUsageDelay(), PropertyUtil.getCorrectUsageDelay(), TimeUnit.SECONDS);
+        if (PropertyUtil.isCapacityUsageInMemory()) {
+            long flushInterval = PropertyUtil.getCapacityUsageFlushInterval();
+            ConfigExecutor.scheduleCorrectUsageTask(capacityUsageCounter::flush, flushInterval, flushInterval,
+                    TimeUnit.MILLISECONDS);
+        }
+    }
+    
+    public CapacityUsageCounter getCapacityUsageCounter() {
+        return capacityUsageCounter;
     }
     
     public void correctUsage() {
@@ -144,6 +155,14 @@ public class CapacityService {
         }
     }
     
+    public boolean addGroupUsage(String group, int delta) {
+        return groupCapacityPersistService.addUsage(group, delta, TimeUtils.getCurrentTime());
+    }
+    
+    public boolean addTenantUsage(String tenant, int delta) {
+        return tenantCapacityPersistService.addUsage(tenant, delta, TimeUtils.getCurrentTime());
+    }
+    
     public void initAllCapacity() {
         initAllCapacity(false);
         initAllCapacity(true);
@@ -525,17 +544,26 @@ public class CapacityService {
      */
     public boolean insertOrUpdateCapacity(String group, String tenant, Integer quota, Integer maxSize,
             Integer maxAggrCount, Integer maxAggrSize) {
+        boolean result;
         if (StringUtils.isNotBlank(tenant)) {
             Capacity capacity = tenantCapacityPersistService.getTenantCapacity(tenant);
             if (capacity == null) {
-                return initTenantCapacity(tenant, quota, maxSize, maxAggrCount, maxAggrSize);
+                result = initTenantCapacity(tenant, quota, maxSize, maxAggrCount, maxAggrSize);
+            } else {
+                result = tenantCapacityPersistService.updateTenantCapacity(tenant, quota, maxSize, maxAggrCount,
+                        maxAggrSize);
+            }
+        } else {
+            Capacity capacity = groupCapacityPersistService.getGroupCapacity(group);
+            if (capacity == null) {
+                result = initGroupCapacity(group, quota, maxSize, maxAggrCount, maxAggrSize);
+            } else {
+                result = groupCapacityPersistService.updateGroupCapacity(group, quota, maxSize, maxAggrCount,
+                        maxAggrSize);
             }
-            return tenantCapacityPersistService.updateTenantCapacity(tenant, quota, maxSize, maxAggrCount, maxAggrSize);
-        }
-        Capacity capacity = groupCapacityPersistService.getGroupCapacity(group);
-        if (capacity == null) {
-            return initGroupCapacity(group, quota, maxSize, maxAggrCount, maxAggrSize);
         }
-        return groupCapacityPersistService.updateGroupCapacity(group, quota, maxSize, maxAggrCount, maxAggrSize);
+        // quota or size in memory counter is reloaded on next flush.
+        capacityUsageCounter.invalidate(group, tenant);
+        return result;
     }
 }
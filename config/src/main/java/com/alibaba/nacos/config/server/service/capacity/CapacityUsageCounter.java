@@ -0,0 +1,256 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service.capacity;
+
+import com.alibaba.nacos.common.utils.StringUtils;
+import com.alibaba.nacos.config.server.model.capacity.Capacity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In memory capacity usage counter.
+ *
+ * <p>Usage of cluster, group and tenant is loaded from capacity tables on first use and then counted in memory, so
+ * quota checks on publishing do not write capacity tables. {@link #flush()} adds usage changed since last flush to
+ * capacity tables, reloads usage and quota of them, and evicts counters not used since last flush, so changes from
+ * other servers are seen within a few flush intervals. Drift is repaired by the periodic correct usage job of
+ * {@link CapacityService}.
+ *
+ * @author Nacos
+ */
+public class CapacityUsageCounter {
+    
+    private static final Logger LOGGER = LoggerFactory.getLogger(CapacityUsageCounter.class);
+    
+    private final CapacityService capacityService;
+    
+    private final Map<String, UsageCounter> groupCounters = new ConcurrentHashMap<>();
+    
+    private final Map<String, UsageCounter> tenantCounters = new ConcurrentHashMap<>();
+    
+    public CapacityUsageCounter(CapacityService capacityService) {
+        this.capacityService = capacityService;
+    }
+    
+    /**
+     * Increment usage of cluster.
+     *
+     * @param ignoreQuotaLimit ignore quota limit or not.
+     * @return false if usage reaches quota.
+     */
+    public boolean incrementClusterUsage(boolean ignoreQuotaLimit) {
+        return increment(groupCounters, GroupCapacityPersistService.CLUSTER, null, ignoreQuotaLimit);
+    }
+    
+    /**
+     * Increment usage of group, or tenant if tenant is not blank.
+     *
+     * @param group            group.
+     * @param tenant           tenant.
+     * @param ignoreQuotaLimit ignore quota limit or not.
+     * @return false if usage reaches quota.
+     */
+    public boolean incrementUsage(String group, String tenant, boolean ignoreQuotaLimit) {
+        if (StringUtils.isNotBlank(tenant)) {
+            return increment(tenantCounters, null, tenant, ignoreQuotaLimit);
+        }
+        return increment(groupCounters, group, null, ignoreQuotaLimit);
+    }
+    
+    public void decrementClusterUsage() {
+        decrement(groupCounters, GroupCapacityPersistService.CLUSTER, null);
+    }
+    
+    /**
+     * Decrement usage of group, or tenant if tenant is not blank.
+     *
+     * @param group  group.
+     * @param tenant tenant.
+     */
+    public void decrementUsage(String group, String tenant) {
+        if (StringUtils.isNotBlank(tenant)) {
+            decrement(tenantCounters, null, tenant);
+        } else {
+            decrement(groupCounters, group, null);
+        }
+    }
+    
+    /**
+     * Reload usage and quota of group or tenant on next flush.
+     *
+     * @param group  group.
+     * @param tenant tenant.
+     */
+    public void invalidate(String group, String tenant) {
+        UsageCounter counter = StringUtils.isNotBlank(tenant) ? tenantCounters.get(tenant) : groupCounters.get(group);
+        if (counter != null) {
+            synchronized (counter) {
+                counter.touched = true;
+            }
+        }
+    }
+    
+    /**
+     * Get capacity of group, or tenant if tenant is not blank, with default values, load it if not counted yet.
+     *
+     * @param group  group.
+     * @param tenant tenant.
+     * @return capacity.
+     */
+    public Capacity getCapacity(String group, String tenant) {
+        boolean hasTenant = StringUtils.isNotBlank(tenant);
+        Map<String, UsageCounter> counters = hasTenant ? tenantCounters : groupCounters;
+        UsageCounter counter = counters.computeIfAbsent(hasTenant ? tenant : group,
+                key -> load(hasTenant ? null : group, hasTenant ? tenant : null));
+        synchronized (counter) {
+            return counter.capacity;
+        }
+    }
+    
+    private boolean increment(Map<String, UsageCounter> counters, String group, String tenant,
+            boolean ignoreQuotaLimit) {
+        while (true) {
+            UsageCounter counter = counters.computeIfAbsent(tenant == null ? group : tenant,
+                    key -> load(group, tenant));
+            synchronized (counter) {
+                if (counter.evicted) {
+                    continue;
+                }
+                counter.touched = true;
+                if (!ignoreQuotaLimit && counter.usage >= counter.capacity.getQuota()) {
+                    return false;
+                }
+                counter.usage++;
+                counter.pendingDelta++;
+                return true;
+            }
+        }
+    }
+    
+    private void decrement(Map<String, UsageCounter> counters, String group, String tenant) {
+        while (true) {
+            UsageCounter counter = counters.computeIfAbsent(tenant == null ? group : tenant,
+                    key -> load(group, tenant));
+            synchronized (counter) {
+                if (counter.evicted) {
+                    continue;
+                }
+                counter.touched = true;
+                if (counter.usage > 0) {
+                    counter.usage--;
+                }
+                counter.pendingDelta--;
+                return;
+            }
+        }
+    }
+    
+    private UsageCounter load(String group, String tenant) {
+        Capacity capacity = capacityService.getCapacityWithDefault(group, tenant);
+        if (capacity == null) {
+            capacityService.initCapacity(group, tenant);
+            capacity = capacityService.getCapacityWithDefault(group, tenant);
+        }
+        if (capacity == null) {
+            throw new IllegalStateException(
+                    String.format("capacity of group %s tenant %s not found", group, tenant));
+        }
+        UsageCounter counter = new UsageCounter();
+        counter.usage = capacity.getUsage();
+        counter.capacity = capacity;
+        return counter;
+    }
+    
+    /**
+     * Add usage changed since last flush to capacity tables and reload them, evict counters not used.
+     */
+    public void flush() {
+        flush(groupCounters, false);
+        flush(tenantCounters, true);
+    }
+    
+    private void flush(Map<String, UsageCounter> counters, boolean isTenant) {
+        for (Map.Entry<String, UsageCounter> entry : counters.entrySet()) {
+            String key = entry.getKey();
+            UsageCounter counter = entry.getValue();
+            int delta;
+            synchronized (counter) {
+                if (!counter.touched) {
+                    counter.evicted = true;
+                    counters.remove(key, counter);
+                    continue;
+                }
+                delta = counter.pendingDelta;
+                counter.pendingDelta = 0;
+                counter.touched = false;
+            }
+            try {
+                if (delta != 0) {
+                    boolean added = isTenant ? capacityService.addTenantUsage(key, delta)
+                            : capacityService.addGroupUsage(key, delta);
+                    if (!added) {
+                        LOGGER.warn("[capacityManagement] capacity of {} not found, drop usage delta {}", key, delta);
+                    }
+                }
+                Capacity capacity = isTenant ? capacityService.getCapacityWithDefault(null, key)
+                        : capacityService.getCapacityWithDefault(key, null);
+                if (capacity == null) {
+                    continue;
+                }
+                synchronized (counter) {
+                    // usage changed during flushing is not in capacity tables yet.
+                    counter.usage = Math.max(0, capacity.getUsage() + counter.pendingDelta);
+                    counter.capacity = capacity;
+                }
+            } catch (Exception e) {
+                LOGGER.warn("[capacityManagement] flush usage of {} fail", key, e);
+                synchronized (counter) {
+                    counter.pendingDelta += delta;
+                    counter.touched = true;
+                }
+            }
+        }
+    }
+    
+    /**
+     * Usage and quota of one cluster, group or tenant, guarded by itself.
+     */
+    private static final class UsageCounter {
+        
+        private int usage;
+        
+        private Capacity capacity;
+        
+        /**
+         * Usage changed since last flush.
+         */
+        private int pendingDelta;
+        
+        /**
+         * Used since last flush.
+         */
+        private boolean touched;
+        
+        /**
+         * Removed from counters, should not be used any more.
+         */
+        private boolean evicted;
+    }
+}
@@ -303,6 +303,30 @@ public class TenantCapacityPersistService {
         }
     }
     
+    /**
+     * Add delta to Usage.
+     *
+     * @param tenant      tenant string value.
+     * @param delta       delta of usage, may be negative.
+     * @param gmtModified gmtModified.
+     * @return operate result.
+     */
+    public boolean addUsage(String tenant, int delta, Timestamp gmtModified) {
+        TenantCapacityMapper tenantCapacityMapper = mapperManager.findMapper(dataSourceService.getDataSourceType(),
+                TableConstant.TENANT_CAPACITY);
+        MapperContext context = new MapperContext();
+        context.putUpdateParameter(FieldConstant.USAGE, delta);
+        context.putUpdateParameter(FieldConstant.GMT_MODIFIED, gmtModified);
+        context.putWhereParameter(FieldConstant.TENANT_ID, tenant);
+        MapperResult mapperResult = tenantCapacityMapper.addUsage(context);
+        try {
+            return jdbcTemplate.update(mapperResult.getSql(), mapperResult.getParamList().toArray()) == 1;
+        } catch (CannotGetJdbcConnectionException e) {
+            FATAL_LOG.error("[db-error]", e);
+            throw e;
+        }
+    }
+    
     /**
      * Get TenantCapacity List, only including id and tenantId value.
      *
@@ -0,0 +1,148 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service.dump;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Manifest of formal configs dumped in local cache, changes after the watermark are not guaranteed to be included.
+ *
+ * @author Nacos
+ */
+public class DumpCheckpoint {
+    
+    private String diskType;
+    
+    private long watermark;
+    
+    private List<Entry> entries = new ArrayList<>();
+    
+    public String getDiskType() {
+        return diskType;
+    }
+    
+    public void setDiskType(String diskType) {
+        this.diskType = diskType;
+    }
+    
+    public long getWatermark() {
+        return watermark;
+    }
+    
+    public void setWatermark(long watermark) {
+        this.watermark = watermark;
+    }
+    
+    public List<Entry> getEntries() {
+        return entries;
+    }
+    
+    public void setEntries(List<Entry> entries) {
+        this.entries = entries;
+    }
+    
+    /**
+     * Checkpoint entry of one formal config.
+     */
+    public static class Entry {
+        
+        private String dataId;
+        
+        private String group;
+        
+        private String tenant;
+        
+        private String md5;
+        
+        private long lastModified;
+        
+        private String type;
+        
+        private String encryptedDataKey;
+        
+        public Entry() {
+        }
+        
+        public Entry(String dataId, String group, String tenant, String md5, long lastModified, String type,
+                String encryptedDataKey) {
+            this.dataId = dataId;
+            this.group = group;
+            this.tenant = tenant;
+            this.md5 = md5;
+            this.lastModified = lastModified;
+            this.type = type;
+            this.encryptedDataKey = encryptedDataKey;
+        }
+        
+        public String getDataId() {
+            return dataId;
+        }
+        
+        public void setDataId(String dataId) {
+            this.dataId = dataId;
+        }
+        
+        public String getGroup() {
+            return group;
+        }
+        
+        public void setGroup(String group) {
+            this.group = group;
+        }
+        
+        public String getTenant() {
+            return tenant;
+        }
+        
+        public void setTenant(String tenant) {
+            this.tenant = tenant;
+        }
+        
+        public String getMd5() {
+            return md5;
+        }
+        
+        public void setMd5(String md5) {
+            this.md5 = md5;
+        }
+        
+        public long getLastModified() {
+            return lastModified;
+        }
+        
+        public void setLastModified(long lastModified) {
+            this.lastModified = lastModified;
+        }
+        
+        public String getType() {
+            return type;
+        }
+        
+        public void setType(String type) {
+            this.type = type;
+        }
+        
+        public String getEncryptedDataKey() {
+            return encryptedDataKey;
+        }
+        
+        public void setEncryptedDataKey(String encryptedDataKey) {
+            this.encryptedDataKey = encryptedDataKey;
+        }
+    }
+}
@@ -0,0 +1,252 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service.dump;
+
+import com.alibaba.nacos.common.utils.JacksonUtils;
+import com.alibaba.nacos.common.utils.MD5Utils;
+import com.alibaba.nacos.common.utils.StringUtils;
+import com.alibaba.nacos.config.server.configuration.ConfigCommonConfig;
+import com.alibaba.nacos.config.server.model.CacheItem;
+import com.alibaba.nacos.config.server.model.ConfigCache;
+import com.alibaba.nacos.config.server.model.ConfigInfoWrapper;
+import com.alibaba.nacos.config.server.service.ClientIpWhiteList;
+import com.alibaba.nacos.config.server.service.ConfigCacheService;
+import com.alibaba.nacos.config.server.service.SwitchService;
+import com.alibaba.nacos.config.server.service.dump.disk.ConfigDiskServiceFactory;
+import com.alibaba.nacos.config.server.service.repository.ConfigInfoPersistService;
+import com.alibaba.nacos.config.server.utils.ConfigExecutor;
+import com.alibaba.nacos.config.server.utils.GroupKey2;
+import com.alibaba.nacos.sys.env.EnvUtil;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.alibaba.nacos.config.server.constant.Constants.ENCODE_UTF8;
+import static com.alibaba.nacos.config.server.utils.LogUtil.DEFAULT_LOG;
+
+/**
+ * Dump checkpoint manager, restores formal configs from local disk on restart instead of dumping all configs.
+ *
+ * <p>The checkpoint records md5 of every formal config in local cache and a watermark, configs whose local content
+ * still matches the checkpoint are restored without reading database, others are reloaded from database, and then
+ * configs deleted or changed after the watermark are dumped by {@link DumpChangeConfigWorker}. A restored cache whose
+ * config count differs from database is dropped and all configs are dumped instead.
+ *
+ * @author Nacos
+ */
+public class DumpCheckpointManager {
+    
+    static final String CHECKPOINT_FILE_NAME = "dump-checkpoint.json";
+    
+    private final ConfigInfoPersistService configInfoPersistService;
+    
+    private final DumpChangeConfigWorker dumpChangeConfigWorker;
+    
+    private final File checkpointFile;
+    
+    public DumpCheckpointManager(ConfigInfoPersistService configInfoPersistService,
+            DumpChangeConfigWorker dumpChangeConfigWorker) {
+        this(configInfoPersistService, dumpChangeConfigWorker,
+                new File(EnvUtil.getNacosHome() + File.separator + "data", CHECKPOINT_FILE_NAME));
+    }
+    
+    DumpCheckpointManager(ConfigInfoPersistService configInfoPersistService,
+            DumpChangeConfigWorker dumpChangeConfigWorker, File checkpointFile) {
+        this.configInfoPersistService = configInfoPersistService;
+        this.dumpChangeConfigWorker = dumpChangeConfigWorker;
+        this.checkpointFile = checkpointFile;
+    }
+    
+    /**
+     * Restore formal configs from checkpoint.
+     *
+     * @return true if restored, false if all configs should be dumped.
+     */
+    public boolean restore() {
+        if (!ConfigCommonConfig.getInstance().isDumpCheckpointEnabled()) {
+            return false;
+        }
+        DumpCheckpoint checkpoint = load();
+        if (checkpoint == null) {
+            return false;
+        }
+        if (!ConfigDiskServiceFactory.getDiskType().equalsIgnoreCase(checkpoint.getDiskType())) {
+            DEFAULT_LOG.warn("[dump-checkpoint] disk type changed from {} to {}, ignore checkpoint.",
+                    checkpoint.getDiskType(), ConfigDiskServiceFactory.getDiskType());
+            return false;
+        }
+        long age = System.currentTimeMillis() - checkpoint.getWatermark();
+        if (age < 0 || age > ConfigCommonConfig.getInstance().getDumpCheckpointMaxAgeMs()) {
+            DEFAULT_LOG.warn("[dump-checkpoint] checkpoint is expired, age {} ms, ignore checkpoint.", age);
+            return false;
+        }
+        
+        long start = System.currentTimeMillis();
+        List<DumpCheckpoint.Entry> processed = new ArrayList<>(checkpoint.getEntries().size());
+        int reloaded = 0;
+        try {
+            for (DumpCheckpoint.Entry entry : checkpoint.getEntries()) {
+                processed.add(entry);
+                if (!restoreEntry(entry)) {
+                    reloaded++;
+                }
+            }
+            dumpChangeConfigWorker.dumpChanges(new Timestamp(checkpoint.getWatermark()));
+            int cachedCount = currentEntries().size();
+            // configs of blank tenant are never cached by dump all, count only what dump all would cache.
+            int dbCount = configInfoPersistService.configInfoCount() - configInfoPersistService.configInfoCount(
+                    StringUtils.EMPTY);
+            if (cachedCount != dbCount) {
+                DEFAULT_LOG.warn("[dump-checkpoint] restored {} configs but database has {}, fall back to dump all.",
+                        cachedCount, dbCount);
+                rollback(processed);
+                return false;
+            }
+        } catch (Throwable e) {
+            DEFAULT_LOG.error("[dump-checkpoint] restore from checkpoint fail, fall back to dump all.", e);
+            rollback(processed);
+            return false;
+        }
+        DEFAULT_LOG.info("[dump-checkpoint] restored {} configs, reloaded {} configs from database, cost {} ms",
+                processed.size() - reloaded, reloaded, System.currentTimeMillis() - start);
+        return true;
+    }
+    
+    private static void rollback(List<DumpCheckpoint.Entry> processed) {
+        for (DumpCheckpoint.Entry entry : processed) {
+            ConfigCacheService.remove(entry.getDataId(), entry.getGroup(), entry.getTenant());
+        }
+    }
+    
+    /**
+     * Restore one config from local disk, or reload it from database if local content not matched.
+     *
+     * @return true if restored from local disk.
+     */
+    private boolean restoreEntry(DumpCheckpoint.Entry entry) throws IOException {
+        String dataId = entry.getDataId();
+        String group = entry.getGroup();
+        String tenant = entry.getTenant();
+        String content = ConfigDiskServiceFactory.getInstance().getContent(dataId, group, tenant);
+        if (content != null && MD5Utils.md5Hex(content, ENCODE_UTF8).equals(entry.getMd5())) {
+            loadSpecialConfig(dataId, content);
+            if (ConfigCacheService.restoreFromDisk(dataId, group, tenant, content, entry.getMd5(),
+                    entry.getLastModified(), entry.getType(), entry.getEncryptedDataKey())) {
+                return true;
+            }
+        }
+        ConfigInfoWrapper cf = configInfoPersistService.findConfigInfo(dataId, group, tenant);
+        if (cf == null) {
+            ConfigCacheService.remove(dataId, group, tenant);
+            return false;
+        }
+        loadSpecialConfig(dataId, cf.getContent());
+        ConfigCacheService.dump(cf.getDataId(), cf.getGroup(), cf.getTenant(), cf.getContent(), cf.getLastModified(),
+                cf.getType(), cf.getEncryptedDataKey());
+        return false;
+    }
+    
+    private static void loadSpecialConfig(String dataId, String content) {
+        if (dataId.equals(ClientIpWhiteList.CLIENT_IP_WHITELIST_METADATA)) {
+            ClientIpWhiteList.load(content);
+        }
+        if (dataId.equals(SwitchService.SWITCH_META_DATA_ID)) {
+            SwitchService.load(content);
+        }
+    }
+    
+    DumpCheckpoint load() {
+        if (!checkpointFile.exists()) {
+            return null;
+        }
+        try {
+            return JacksonUtils.toObj(Files.readAllBytes(checkpointFile.toPath()), DumpCheckpoint.class);
+        } catch (Throwable e) {
+            DEFAULT_LOG.warn("[dump-checkpoint] load checkpoint {} fail, ignore checkpoint.", checkpointFile, e);
+            return null;
+        }
+    }
+    
+    /**
+     * Save formal configs in local cache as checkpoint, only call it after the cache is completely loaded.
+     */
+    public void save() {
+        if (!ConfigCommonConfig.getInstance().isDumpCheckpointEnabled()) {
+            return;
+        }
+        long start = System.currentTimeMillis();
+        DumpCheckpoint checkpoint = new DumpCheckpoint();
+        checkpoint.setDiskType(ConfigDiskServiceFactory.getDiskType());
+        // items in cache may lag behind database, changes within the margin are dumped again on restore.
+        checkpoint.setWatermark(start - ConfigCommonConfig.getInstance().getDumpCheckpointSafetyMarginMs());
+        checkpoint.getEntries().addAll(currentEntries());
+        try {
+            File parent = checkpointFile.getParentFile();
+            if (parent != null && !parent.exists() && !parent.mkdirs()) {
+                throw new IOException("create dir " + parent + " fail");
+            }
+            File tmpFile = new File(checkpointFile.getPath() + ".tmp");
+            Files.write(tmpFile.toPath(), JacksonUtils.toJsonBytes(checkpoint));
+            Files.move(tmpFile.toPath(), checkpointFile.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+            DEFAULT_LOG.info("[dump-checkpoint] saved {} configs, cost {} ms", checkpoint.getEntries().size(),
+                    System.currentTimeMillis() - start);
+        } catch (Throwable e) {
+            DEFAULT_LOG.warn("[dump-checkpoint] save checkpoint {} fail.", checkpointFile, e);
+        }
+    }
+    
+    /**
+     * Delete the checkpoint, so that the next start dumps all configs.
+     */
+    public void invalidate() {
+        if (checkpointFile.exists() && !checkpointFile.delete()) {
+            DEFAULT_LOG.warn("[dump-checkpoint] delete checkpoint {} fail.", checkpointFile);
+        }
+    }
+    
+    private static List<DumpCheckpoint.Entry> currentEntries() {
+        List<DumpCheckpoint.Entry> entries = new ArrayList<>();
+        for (CacheItem item : ConfigCacheService.getAllCacheItems()) {
+            ConfigCache configCache = item.getConfigCache();
+            if (configCache == null || configCache.isMd5Blank()) {
+                continue;
+            }
+            String[] keys = GroupKey2.parseKey(item.getGroupKey());
+            entries.add(new DumpCheckpoint.Entry(keys[0], keys[1], keys[2], configCache.getMd5(),
+                    configCache.getLastModifiedTs(), item.getType(), configCache.getEncryptedDataKey()));
+        }
+        return entries;
+    }
+    
+    /**
+     * Save checkpoint periodically.
+     */
+    public void scheduleSave() {
+        if (!ConfigCommonConfig.getInstance().isDumpCheckpointEnabled()) {
+            return;
+        }
+        long interval = ConfigCommonConfig.getInstance().getDumpCheckpointIntervalMs();
+        ConfigExecutor.scheduleConfigTask(this::save, interval, interval, TimeUnit.MILLISECONDS);
+    }
+}
@@ -25,6 +25,7 @@ import com.alibaba.nacos.common.utils.StringUtils;
 import com.alibaba.nacos.config.server.manager.TaskManager;
 import com.alibaba.nacos.config.server.model.event.ConfigDataChangeEvent;
 import com.alibaba.nacos.config.server.service.ConfigMigrateService;
+import com.alibaba.nacos.config.server.service.ConfigSearchIndex;
 import com.alibaba.nacos.config.server.service.dump.disk.ConfigDiskServiceFactory;
 import com.alibaba.nacos.config.server.service.dump.processor.DumpAllGrayProcessor;
 import com.alibaba.nacos.config.server.service.dump.processor.DumpAllProcessor;
@@ -81,6 +82,8 @@ public abstract class DumpService {
     
     protected final ServerMemberManager memberManager;
     
+    protected DumpCheckpointManager dumpCheckpointManager;
+    
     /**
      * full dump interval.
      */
@@ -120,6 +123,9 @@ public abstract class DumpService {
         this.processor = new DumpProcessor(this.configInfoPersistService, this.configInfoGrayPersistService);
         this.dumpAllProcessor = new DumpAllProcessor(this.configInfoPersistService);
         this.dumpAllGrayProcessor = new DumpAllGrayProcessor(this.configInfoGrayPersistService);
+        this.dumpCheckpointManager = new DumpCheckpointManager(this.configInfoPersistService,
+                new DumpChangeConfigWorker(this.configInfoPersistService, this.historyConfigInfoPersistService,
+                        this.configMigrateService, null));
         this.dumpTaskMgr = new TaskManager("com.alibaba.nacos.server.DumpTaskManager");
         this.dumpTaskMgr.setDefaultTaskProcessor(processor);
         
@@ -221,8 +227,15 @@ public abstract class DumpService {
             Timestamp currentTime = new Timestamp(System.currentTimeMillis());
             
             try {
-                dumpAllConfigInfoOnStartup(dumpAllProcessor);
+                boolean complete = dumpAllConfigInfoOnStartup(dumpAllProcessor);
                 dumpAllGrayConfigInfoOnStartup(dumpAllGrayProcessor);
+                if (complete) {
+                    dumpCheckpointManager.save();
+                    dumpCheckpointManager.scheduleSave();
+                } else {
+                    // a partial cache must not be trusted by the next start.
+                    dumpCheckpointManager.invalidate();
+                }
             } catch (Exception e) {
                 LogUtil.FATAL_LOG.error(
                         "Nacos Server did not start because dumpservice bean construction failure :\n" + e);
@@ -262,12 +275,29 @@ public abstract class DumpService {
         
     }
     
-    private void dumpAllConfigInfoOnStartup(DumpAllProcessor dumpAllProcessor) {
+    /**
+     * Load all formal configs on startup.
+     *
+     * @return true if all configs are loaded, false if some configs fail to dump.
+     */
+    private boolean dumpAllConfigInfoOnStartup(DumpAllProcessor dumpAllProcessor) {
         
         try {
+            if (dumpCheckpointManager.restore()) {
+                LogUtil.DEFAULT_LOG.info("config-info restored from dump checkpoint, skip dump all.");
+                ConfigSearchIndex.getInstance().rebuild(configInfoPersistService, PropertyUtil.getAllDumpPageSize());
+                return true;
+            }
             LogUtil.DEFAULT_LOG.info("start clear all config-info.");
             ConfigDiskServiceFactory.getInstance().clearAll();
-            dumpAllProcessor.process(new DumpAllTask(true));
+            boolean complete = dumpAllProcessor.dumpAll(new DumpAllTask(true));
+            if (complete) {
+                ConfigSearchIndex.getInstance().markReady();
+            } else {
+                LogUtil.DEFAULT_LOG.warn("config-info not dumped completely, search index is not served until next "
+                        + "complete dump all.");
+            }
+            return complete;
         } catch (Exception e) {
             LogUtil.FATAL_LOG.error("dump config fail" + e.getMessage());
             throw e;
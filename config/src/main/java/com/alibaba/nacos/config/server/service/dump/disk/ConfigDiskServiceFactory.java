@@ -29,6 +29,17 @@ public class ConfigDiskServiceFactory {
     
     private static final String TYPE_ROCKSDB = "rocksdb";
     
+    private static final String TYPE_MMAP = "mmap";
+    
+    /**
+     * get configured disk type.
+     *
+     * @return disk type
+     */
+    public static String getDiskType() {
+        return System.getProperty("config_disk_type", TYPE_RAW_DISK);
+    }
+    
     /**
      * get disk service.
      *
@@ -38,9 +49,11 @@ public class ConfigDiskServiceFactory {
         if (configDiskService == null) {
             synchronized (ConfigDiskServiceFactory.class) {
                 if (configDiskService == null) {
-                    String type = System.getProperty("config_disk_type", TYPE_RAW_DISK);
+                    String type = getDiskType();
                     if (type.equalsIgnoreCase(TYPE_ROCKSDB)) {
                         configDiskService = new ConfigRocksDbDiskService();
+                    } else if (type.equalsIgnoreCase(TYPE_MMAP)) {
+                        configDiskService = new ConfigMmapDiskService();
                     } else {
                         configDiskService = new ConfigRawDiskService();
                     }
@@ -0,0 +1,217 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service.dump.disk;
+
+import com.alibaba.nacos.common.utils.StringUtils;
+import com.alibaba.nacos.config.server.configuration.ConfigCommonConfig;
+import com.alibaba.nacos.config.server.utils.ConfigExecutor;
+import com.alibaba.nacos.config.server.utils.ContentCompressUtils;
+import com.alibaba.nacos.config.server.utils.LogUtil;
+import com.alibaba.nacos.sys.env.EnvUtil;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * config disk service on memory mapped segment files, all configs of one dir are appended to a few large segment
+ * files instead of one file per config.
+ *
+ * @author Nacos
+ */
+@SuppressWarnings("PMD.ServiceOrDaoClassShouldEndWithImplRule")
+public class ConfigMmapDiskService implements ConfigDiskService {
+    
+    private static final String MMAP_DATA = File.separator + "mmapdata" + File.separator;
+    
+    private static final String BASE_DIR = MMAP_DATA + "config-data";
+    
+    private static final String GRAY_DIR = MMAP_DATA + "gray-data";
+    
+    private static final int DEFAULT_SEGMENT_SIZE_MB = 64;
+    
+    private static final double COMPACT_LIVE_RATIO = 0.5D;
+    
+    private static final long COMPACT_INTERVAL_SECONDS = 60L;
+    
+    private final int segmentSize;
+    
+    private final Map<String, MappedSegmentStore> storeMap = new ConcurrentHashMap<>();
+    
+    private volatile boolean compactScheduled;
+    
+    public ConfigMmapDiskService() {
+        this(Integer.getInteger("config_disk_mmap_segment_mb", DEFAULT_SEGMENT_SIZE_MB) * 1024 * 1024);
+    }
+    
+    ConfigMmapDiskService(int segmentSize) {
+        this.segmentSize = segmentSize;
+    }
+    
+    MappedSegmentStore initAndGetStore(String dir) throws IOException {
+        MappedSegmentStore store = storeMap.get(dir);
+        if (store != null) {
+            return store;
+        }
+        synchronized (storeMap) {
+            store = storeMap.get(dir);
+            if (store == null) {
+                store = new MappedSegmentStore(new File(EnvUtil.getNacosHome(), dir), segmentSize);
+                store.open();
+                storeMap.put(dir, store);
+                scheduleCompactIfAbsent();
+            }
+            return store;
+        }
+    }
+    
+    private void scheduleCompactIfAbsent() {
+        if (compactScheduled) {
+            return;
+        }
+        compactScheduled = true;
+        ConfigExecutor.scheduleConfigTask(this::compact, COMPACT_INTERVAL_SECONDS, COMPACT_INTERVAL_SECONDS,
+                TimeUnit.SECONDS);
+    }
+    
+    /**
+     * Compact segments of all opened dirs.
+     */
+    void compact() {
+        for (Map.Entry<String, MappedSegmentStore> entry : storeMap.entrySet()) {
+            try {
+                int compacted = entry.getValue().compact(COMPACT_LIVE_RATIO);
+                if (compacted > 0) {
+                    LogUtil.DEFAULT_LOG.info("compact {} segments of dir {}", compacted, entry.getKey());
+                }
+            } catch (Throwable e) {
+                LogUtil.DEFAULT_LOG.warn("compact segments of dir {} fail.", entry.getKey(), e);
+            }
+        }
+    }
+    
+    private static String getKey(String dataId, String group, String tenant, String tag) {
+        StringBuilder stringBuilder = new StringBuilder();
+        for (String key : new String[] {dataId, group, tenant, tag}) {
+            if (StringUtils.isBlank(key)) {
+                key = "";
+            }
+            urlEncode(key, stringBuilder);
+            stringBuilder.append('+');
+        }
+        return stringBuilder.toString();
+    }
+    
+    /**
+     * + -> %2B % -> %25.
+     */
+    private static void urlEncode(String str, StringBuilder sb) {
+        for (int idx = 0; idx < str.length(); ++idx) {
+            char c = str.charAt(idx);
+            if ('+' == c) {
+                sb.append("%2B");
+            } else if ('%' == c) {
+                sb.append("%25");
+            } else {
+                sb.append(c);
+            }
+        }
+    }
+    
+    /**
+     * Save configuration information to disk.
+     */
+    public void saveToDisk(String dataId, String group, String tenant, String content) throws IOException {
+        initAndGetStore(BASE_DIR).put(getKey(dataId, group, tenant, null), encode(content));
+    }
+    
+    /**
+     * Save gray information to disk.
+     */
+    public void saveGrayToDisk(String dataId, String group, String tenant, String grayName, String content)
+            throws IOException {
+        initAndGetStore(GRAY_DIR).put(getKey(dataId, group, tenant, grayName), encode(content));
+    }
+    
+    /**
+     * Deletes configuration files on disk.
+     */
+    public void removeConfigInfo(String dataId, String group, String tenant) {
+        removeInner(BASE_DIR, dataId, group, tenant, null);
+    }
+    
+    /**
+     * Deletes gray configuration files on disk.
+     */
+    public void removeConfigInfo4Gray(String dataId, String group, String tenant, String grayName) {
+        removeInner(GRAY_DIR, dataId, group, tenant, grayName);
+    }
+    
+    private void removeInner(String dir, String dataId, String group, String tenant, String tag) {
+        try {
+            initAndGetStore(dir).remove(getKey(dataId, group, tenant, tag));
+        } catch (Exception e) {
+            LogUtil.DEFAULT_LOG.warn("Remove dir=[{}] config fail,dataId={},group={},tenant={},error={}", dir, dataId,
+                    group, tenant, e.getCause());
+        }
+    }
+    
+    /**
+     * Returns the gray content in server.
+     */
+    public String getGrayContent(String dataId, String group, String tenant, String grayName) throws IOException {
+        return ContentCompressUtils.decode(initAndGetStore(GRAY_DIR).getBytes(getKey(dataId, group, tenant, grayName)));
+    }
+    
+    public String getContent(String dataId, String group, String tenant) throws IOException {
+        return ContentCompressUtils.decode(initAndGetStore(BASE_DIR).getBytes(getKey(dataId, group, tenant, null)));
+    }
+    
+    private static byte[] encode(String content) {
+        return ContentCompressUtils.encode(content, ConfigCommonConfig.getInstance().getCompressDiskThreshold());
+    }
+    
+    /**
+     * Clear all config file.
+     */
+    public void clearAll() {
+        clearInner(BASE_DIR);
+        LogUtil.DEFAULT_LOG.info("clear all config-info success.");
+    }
+    
+    /**
+     * Clear all gray config file.
+     */
+    public void clearAllGray() {
+        clearInner(GRAY_DIR);
+        LogUtil.DEFAULT_LOG.info("clear all config-info-gray success.");
+    }
+    
+    private void clearInner(String dir) {
+        synchronized (storeMap) {
+            MappedSegmentStore store = storeMap.get(dir);
+            if (store != null) {
+                store.clear();
+            } else {
+                MappedSegmentStore.destroy(new File(EnvUtil.getNacosHome(), dir));
+            }
+        }
+    }
+    
+}
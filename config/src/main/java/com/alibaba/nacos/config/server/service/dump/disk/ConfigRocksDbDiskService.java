@@ -18,6 +18,8 @@ package com.alibaba.nacos.config.server.service.dump.disk;
 
 import com.alibaba.nacos.common.utils.MD5Utils;
 import com.alibaba.nacos.common.utils.StringUtils;
+import com.alibaba.nacos.config.server.configuration.ConfigCommonConfig;
+import com.alibaba.nacos.config.server.utils.ContentCompressUtils;
 import com.alibaba.nacos.config.server.utils.LogUtil;
 import com.alibaba.nacos.sys.env.EnvUtil;
 import org.rocksdb.BlockBasedTableConfig;
@@ -123,7 +125,7 @@ public class ConfigRocksDbDiskService implements ConfigDiskService {
     public void saveToDiskInner(String type, String dataId, String group, String tenant, String tag, String content)
             throws IOException {
         try {
-            initAndGetDB(type).put(getKeyByte(dataId, group, tenant, tag), content.getBytes(ENCODE_UTF8));
+            initAndGetDB(type).put(getKeyByte(dataId, group, tenant, tag), encode(content));
         } catch (RocksDBException e) {
             throw new IOException(e);
         }
@@ -143,7 +145,7 @@ public class ConfigRocksDbDiskService implements ConfigDiskService {
     public void saveGrayToDiskInner(String type, String dataId, String group, String tenant, String grayName,
             String content) throws IOException {
         try {
-            initAndGetDB(type).put(getKeyByte(dataId, group, tenant, grayName), content.getBytes(ENCODE_UTF8));
+            initAndGetDB(type).put(getKeyByte(dataId, group, tenant, grayName), encode(content));
         } catch (RocksDBException e) {
             throw new IOException(e);
         }
@@ -180,11 +182,12 @@ public class ConfigRocksDbDiskService implements ConfigDiskService {
         
     }
     
+    private static byte[] encode(String content) {
+        return ContentCompressUtils.encode(content, ConfigCommonConfig.getInstance().getCompressDiskThreshold());
+    }
+    
     private String byte2String(byte[] bytes) throws IOException {
-        if (bytes == null) {
-            return null;
-        }
-        return new String(bytes, ENCODE_UTF8);
+        return ContentCompressUtils.decode(bytes);
     }
     
     RocksDB initAndGetDB(String dir) throws IOException, RocksDBException {
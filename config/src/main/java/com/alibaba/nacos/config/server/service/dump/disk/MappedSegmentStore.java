@@ -0,0 +1,587 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service.dump.disk;
+
+import com.alibaba.nacos.config.server.utils.LogUtil;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.CRC32;
+
+/**
+ * Log structured key value store on memory mapped segment files.
+ *
+ * <p>Every put or remove appends one record to the active segment, an in memory index maps each key to the location
+ * of its latest value. Segments holding mostly overwritten records are compacted by copying the live records to the
+ * active segment. On open, all segments are replayed in order and a torn record at the tail stops the replay.
+ *
+ * <p>Reads take no lock, a reader pins the segment it reads from so that a compacted segment is only unmapped and
+ * deleted after its last reader finished.
+ *
+ * <p>Record layout: crc32(int) | type(byte) | keyLength(int) | valueLength(int) | key | value, the crc covers all
+ * bytes after itself.
+ *
+ * @author Nacos
+ */
+class MappedSegmentStore {
+    
+    private static final String SEGMENT_SUFFIX = ".segment";
+    
+    private static final int HEADER_SIZE = 4 + 1 + 4 + 4;
+    
+    private static final byte TYPE_PUT = 1;
+    
+    private static final byte TYPE_DELETE = 2;
+    
+    private final File dir;
+    
+    private final int segmentSize;
+    
+    private final Map<String, Location> index = new ConcurrentHashMap<>();
+    
+    /**
+     * all segments ordered by id, guarded by this.
+     */
+    private final TreeMap<Long, Segment> segments = new TreeMap<>();
+    
+    private Segment active;
+    
+    /**
+     * id of the next segment, never reused even after clear, so that a dropped segment still pinned by a reader
+     * won't delete the file of a new segment with the same id when it is released. Guarded by this.
+     */
+    private long nextSegmentId;
+    
+    MappedSegmentStore(File dir, int segmentSize) {
+        this.dir = dir;
+        this.segmentSize = segmentSize;
+    }
+    
+    /**
+     * Open the store, replay all existing segments to rebuild the index.
+     *
+     * @throws IOException io exception.
+     */
+    synchronized void open() throws IOException {
+        if (!dir.exists() && !dir.mkdirs()) {
+            throw new IOException("create dir fail, dir=" + dir);
+        }
+        for (File file : listSegmentFiles(dir)) {
+            Segment segment = Segment.map(file, parseSegmentId(file), (int) file.length());
+            segments.put(segment.id, segment);
+            replay(segment);
+        }
+        if (!segments.isEmpty()) {
+            active = segments.lastEntry().getValue();
+            nextSegmentId = active.id + 1;
+        }
+        LogUtil.DEFAULT_LOG.info("open mapped segment store {}, segments={}, keys={}", dir, segments.size(),
+                index.size());
+    }
+    
+    /**
+     * Returns the latest value of the key.
+     *
+     * @param key key.
+     * @return value, null if not exist.
+     */
+    String get(String key) {
+        byte[] bytes = getBytes(key);
+        return bytes == null ? null : new String(bytes, StandardCharsets.UTF_8);
+    }
+    
+    /**
+     * Returns the latest value bytes of the key.
+     *
+     * @param key key.
+     * @return value bytes, null if not exist.
+     */
+    byte[] getBytes(String key) {
+        while (true) {
+            Location location = index.get(key);
+            if (location == null) {
+                return null;
+            }
+            if (!location.segment.tryPin()) {
+                // the segment has been dropped after its records were moved, read the new location.
+                continue;
+            }
+            try {
+                byte[] bytes = new byte[location.valueLength];
+                location.segment.buffer.get(location.valueOffset, bytes);
+                return bytes;
+            } finally {
+                location.segment.unpin();
+            }
+        }
+    }
+    
+    void put(String key, String value) throws IOException {
+        put(key, value.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    synchronized void put(String key, byte[] value) throws IOException {
+        byte[] record = encode(TYPE_PUT, key.getBytes(StandardCharsets.UTF_8), value);
+        Location location = append(record);
+        Location old = index.put(key, location);
+        location.segment.liveBytes += record.length;
+        release(old);
+    }
+    
+    synchronized void remove(String key) throws IOException {
+        Location old = index.remove(key);
+        if (old == null) {
+            return;
+        }
+        release(old);
+        append(encode(TYPE_DELETE, key.getBytes(StandardCharsets.UTF_8), new byte[0]));
+    }
+    
+    /**
+     * Compact sealed segments whose live ratio is lower than the threshold.
+     *
+     * @param liveRatioThreshold live ratio threshold.
+     * @return count of compacted segments.
+     * @throws IOException io exception.
+     */
+    int compact(double liveRatioThreshold) throws IOException {
+        int compacted = 0;
+        for (Long segmentId : segmentIds()) {
+            Segment segment;
+            List<Segment> pinned;
+            synchronized (this) {
+                segment = segments.get(segmentId);
+                if (!isCompactable(segment, liveRatioThreshold)) {
+                    continue;
+                }
+                pinned = pin(segments.headMap(segmentId, true).values());
+            }
+            Set<String> requiredTombstones;
+            try {
+                // sealed segments are never written, scan them without blocking put and remove.
+                requiredTombstones = requiredTombstones(pinned);
+            } finally {
+                for (Segment each : pinned) {
+                    each.unpin();
+                }
+            }
+            synchronized (this) {
+                if (segments.get(segmentId) != segment || !isCompactable(segment, liveRatioThreshold)) {
+                    continue;
+                }
+                // a key put again after the scan needs no tombstone, it would hide the new put on replay.
+                requiredTombstones.removeIf(index::containsKey);
+                compactSegment(segment, requiredTombstones);
+                compacted++;
+            }
+        }
+        return compacted;
+    }
+    
+    /**
+     * Remove all keys and segment files.
+     */
+    synchronized void clear() {
+        index.clear();
+        for (Segment segment : segments.values()) {
+            segment.unpin();
+        }
+        segments.clear();
+        active = null;
+    }
+    
+    int size() {
+        return index.size();
+    }
+    
+    synchronized int segmentCount() {
+        return segments.size();
+    }
+    
+    /**
+     * Delete all segment files under the dir without opening it.
+     *
+     * @param dir store dir.
+     */
+    static void destroy(File dir) {
+        for (File file : listSegmentFiles(dir)) {
+            deleteFile(file);
+        }
+    }
+    
+    private synchronized List<Long> segmentIds() {
+        return new ArrayList<>(segments.keySet());
+    }
+    
+    private boolean isCompactable(Segment segment, double liveRatioThreshold) {
+        return segment != null && segment != active && segment.liveBytes < segment.writePosition * liveRatioThreshold;
+    }
+    
+    private static List<Segment> pin(Collection<Segment> candidates) {
+        List<Segment> pinned = new ArrayList<>(candidates.size());
+        for (Segment each : candidates) {
+            if (each.tryPin()) {
+                pinned.add(each);
+            }
+        }
+        return pinned;
+    }
+    
+    private void compactSegment(Segment segment, Set<String> requiredTombstones) throws IOException {
+        int position = 0;
+        while (position < segment.writePosition) {
+            Record record = Record.read(segment, position);
+            if (record == null) {
+                break;
+            }
+            if (record.type == TYPE_PUT) {
+                Location current = index.get(record.key);
+                if (current != null && current.segment == segment && current.recordOffset == position) {
+                    Location location = append(record.copyBytes(segment));
+                    location.segment.liveBytes += record.size;
+                    index.put(record.key, location);
+                }
+            } else if (requiredTombstones.contains(record.key)) {
+                // keep the tombstone, older segments still hold a put record of the key. The copy counts as live
+                // so that a segment of retained tombstones is not compacted again and again.
+                Location location = append(record.copyBytes(segment));
+                location.segment.liveBytes += record.size;
+            }
+            position += record.size;
+        }
+        segments.remove(segment.id);
+        segment.unpin();
+        LogUtil.DEFAULT_LOG.info("compact mapped segment {} finished, live bytes {} of {}", segment.file,
+                segment.liveBytes, segment.writePosition);
+    }
+    
+    /**
+     * Returns keys of tombstones in the last segment which still hide a put record in an older segment.
+     *
+     * @param pinned pinned sealed segments ordered by id, the last one is the segment to compact.
+     */
+    private Set<String> requiredTombstones(List<Segment> pinned) {
+        Segment segment = pinned.get(pinned.size() - 1);
+        Set<String> tombstones = new HashSet<>();
+        int position = 0;
+        while (position < segment.writePosition) {
+            Record record = Record.read(segment, position);
+            if (record == null) {
+                break;
+            }
+            if (record.type == TYPE_DELETE && !index.containsKey(record.key)) {
+                tombstones.add(record.key);
+            }
+            position += record.size;
+        }
+        Set<String> required = new HashSet<>();
+        if (tombstones.isEmpty()) {
+            return required;
+        }
+        for (Segment older : pinned.subList(0, pinned.size() - 1)) {
+            position = 0;
+            while (position < older.writePosition && required.size() < tombstones.size()) {
+                Record record = Record.read(older, position);
+                if (record == null) {
+                    break;
+                }
+                if (record.type == TYPE_PUT && tombstones.contains(record.key)) {
+                    required.add(record.key);
+                }
+                position += record.size;
+            }
+        }
+        return required;
+    }
+    
+    private void replay(Segment segment) {
+        int position = 0;
+        while (position + HEADER_SIZE <= segment.capacity) {
+            Record record = Record.read(segment, position);
+            if (record == null) {
+                break;
+            }
+            if (record.type == TYPE_PUT) {
+                Location old = index.put(record.key, new Location(segment, position, record.size,
+                        position + HEADER_SIZE + record.keyLength, record.valueLength));
+                segment.liveBytes += record.size;
+                release(old);
+            } else {
+                release(index.remove(record.key));
+            }
+            position += record.size;
+        }
+        segment.writePosition = position;
+        // wipe the torn tail so that later appends won't be mixed with garbage.
+        if (position + HEADER_SIZE <= segment.capacity && segment.buffer.getInt(position) != 0) {
+            LogUtil.DEFAULT_LOG.warn("found broken record in segment {} at {}, truncate it.", segment.file, position);
+            segment.buffer.put(position, new byte[segment.capacity - position]);
+        }
+    }
+    
+    private Location append(byte[] record) throws IOException {
+        if (active == null || active.capacity - active.writePosition < record.length) {
+            roll(record.length);
+        }
+        int position = active.writePosition;
+        active.buffer.put(position, record);
+        active.writePosition += record.length;
+        int keyLength = active.buffer.getInt(position + 5);
+        return new Location(active, position, record.length, position + HEADER_SIZE + keyLength,
+                record.length - HEADER_SIZE - keyLength);
+    }
+    
+    private void roll(int minCapacity) throws IOException {
+        if (active != null) {
+            active.buffer.force();
+        }
+        long id = nextSegmentId++;
+        File file = new File(dir, String.format("%020d%s", id, SEGMENT_SUFFIX));
+        active = Segment.map(file, id, Math.max(segmentSize, minCapacity));
+        segments.put(id, active);
+    }
+    
+    private void release(Location location) {
+        if (location != null) {
+            location.segment.liveBytes -= location.recordSize;
+        }
+    }
+    
+    private static byte[] encode(byte type, byte[] key, byte[] value) {
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + key.length + value.length);
+        buffer.putInt(0);
+        buffer.put(type);
+        buffer.putInt(key.length);
+        buffer.putInt(value.length);
+        buffer.put(key);
+        buffer.put(value);
+        byte[] bytes = buffer.array();
+        CRC32 crc32 = new CRC32();
+        crc32.update(bytes, 4, bytes.length - 4);
+        buffer.putInt(0, (int) crc32.getValue());
+        return bytes;
+    }
+    
+    private static File[] listSegmentFiles(File dir) {
+        File[] files = dir.listFiles((d, name) -> name.endsWith(SEGMENT_SUFFIX));
+        if (files == null) {
+            return new File[0];
+        }
+        Arrays.sort(files, (f1, f2) -> Long.compare(parseSegmentId(f1), parseSegmentId(f2)));
+        return files;
+    }
+    
+    private static long parseSegmentId(File file) {
+        String name = file.getName();
+        return Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length()));
+    }
+    
+    private static void deleteFile(File file) {
+        if (file.exists() && !file.delete()) {
+            LogUtil.DEFAULT_LOG.warn("delete mapped segment file {} fail.", file);
+        }
+    }
+    
+    private static final class Segment {
+        
+        final long id;
+        
+        final File file;
+        
+        final MappedByteBuffer buffer;
+        
+        final int capacity;
+        
+        /**
+         * one reference is held by the store until the segment is dropped, others by readers.
+         */
+        final AtomicInteger references = new AtomicInteger(1);
+        
+        int writePosition;
+        
+        long liveBytes;
+        
+        private Segment(long id, File file, MappedByteBuffer buffer, int capacity) {
+            this.id = id;
+            this.file = file;
+            this.buffer = buffer;
+            this.capacity = capacity;
+        }
+        
+        static Segment map(File file, long id, int capacity) throws IOException {
+            try (RandomAccessFile raf = new RandomAccessFile(file, "rw"); FileChannel channel = raf.getChannel()) {
+                return new Segment(id, file, channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity), capacity);
+            }
+        }
+        
+        boolean tryPin() {
+            while (true) {
+                int current = references.get();
+                if (current <= 0) {
+                    return false;
+                }
+                if (references.compareAndSet(current, current + 1)) {
+                    return true;
+                }
+            }
+        }
+        
+        /**
+         * Release one reference, the last one unmaps the buffer and deletes the file.
+         */
+        void unpin() {
+            if (references.decrementAndGet() == 0) {
+                BufferUnmapper.unmap(buffer);
+                deleteFile(file);
+            }
+        }
+    }
+    
+    /**
+     * Release the mapping of a dropped segment eagerly instead of waiting for the buffer to be collected.
+     */
+    private static final class BufferUnmapper {
+        
+        private static final Object UNSAFE;
+        
+        private static final Method INVOKE_CLEANER;
+        
+        static {
+            Object unsafe = null;
+            Method invokeCleaner = null;
+            try {
+                Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+                Field field = unsafeClass.getDeclaredField("theUnsafe");
+                field.setAccessible(true);
+                unsafe = field.get(null);
+                invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+            } catch (Exception e) {
+                LogUtil.DEFAULT_LOG.warn("unmap of mapped segment is not supported, mapping is released by gc.", e);
+            }
+            UNSAFE = unsafe;
+            INVOKE_CLEANER = invokeCleaner;
+        }
+        
+        static void unmap(MappedByteBuffer buffer) {
+            if (INVOKE_CLEANER == null) {
+                return;
+            }
+            try {
+                INVOKE_CLEANER.invoke(UNSAFE, buffer);
+            } catch (Exception e) {
+                LogUtil.DEFAULT_LOG.warn("unmap mapped segment fail.", e);
+            }
+        }
+    }
+    
+    private static final class Location {
+        
+        final Segment segment;
+        
+        final int recordOffset;
+        
+        final int recordSize;
+        
+        final int valueOffset;
+        
+        final int valueLength;
+        
+        Location(Segment segment, int recordOffset, int recordSize, int valueOffset, int valueLength) {
+            this.segment = segment;
+            this.recordOffset = recordOffset;
+            this.recordSize = recordSize;
+            this.valueOffset = valueOffset;
+            this.valueLength = valueLength;
+        }
+    }
+    
+    private static final class Record {
+        
+        final byte type;
+        
+        final String key;
+        
+        final int keyLength;
+        
+        final int valueLength;
+        
+        final int offset;
+        
+        final int size;
+        
+        private Record(byte type, String key, int keyLength, int valueLength, int offset) {
+            this.type = type;
+            this.key = key;
+            this.keyLength = keyLength;
+            this.valueLength = valueLength;
+            this.offset = offset;
+            this.size = HEADER_SIZE + keyLength + valueLength;
+        }
+        
+        /**
+         * Read and verify the record at the position, returns null at the end of the segment or on a broken record.
+         */
+        static Record read(Segment segment, int position) {
+            ByteBuffer buffer = segment.buffer;
+            if (position + HEADER_SIZE > segment.capacity) {
+                return null;
+            }
+            int crc = buffer.getInt(position);
+            byte type = buffer.get(position + 4);
+            int keyLength = buffer.getInt(position + 5);
+            int valueLength = buffer.getInt(position + 9);
+            boolean validType = type == TYPE_PUT || type == TYPE_DELETE;
+            boolean validLength = keyLength > 0 && valueLength >= 0;
+            if (!validType || !validLength
+                    || (long) position + HEADER_SIZE + keyLength + valueLength > segment.capacity) {
+                return null;
+            }
+            byte[] bytes = new byte[HEADER_SIZE - 4 + keyLength + valueLength];
+            buffer.get(position + 4, bytes);
+            CRC32 crc32 = new CRC32();
+            crc32.update(bytes);
+            if ((int) crc32.getValue() != crc) {
+                return null;
+            }
+            String key = new String(bytes, HEADER_SIZE - 4, keyLength, StandardCharsets.UTF_8);
+            return new Record(type, key, keyLength, valueLength, position);
+        }
+        
+        byte[] copyBytes(Segment segment) {
+            byte[] bytes = new byte[size];
+            segment.buffer.get(offset, bytes);
+            return bytes;
+        }
+    }
+}
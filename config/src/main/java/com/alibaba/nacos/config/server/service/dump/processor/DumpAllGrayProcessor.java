@@ -19,6 +19,7 @@ package com.alibaba.nacos.config.server.service.dump.processor;
 import com.alibaba.nacos.common.task.NacosTask;
 import com.alibaba.nacos.common.task.NacosTaskProcessor;
 import com.alibaba.nacos.common.utils.StringUtils;
+import com.alibaba.nacos.config.server.configuration.ConfigCommonConfig;
 import com.alibaba.nacos.config.server.model.ConfigInfoGrayWrapper;
 import com.alibaba.nacos.config.server.service.ConfigCacheService;
 import com.alibaba.nacos.config.server.service.dump.task.DumpAllGrayTask;
@@ -27,6 +28,9 @@ import com.alibaba.nacos.config.server.utils.GroupKey2;
 import com.alibaba.nacos.config.server.utils.LogUtil;
 import com.alibaba.nacos.api.model.Page;
 
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import static com.alibaba.nacos.config.server.utils.LogUtil.DEFAULT_LOG;
 import static com.alibaba.nacos.config.server.utils.PropertyUtil.getAllDumpPageSize;
 
@@ -50,32 +54,40 @@ public class DumpAllGrayProcessor implements NacosTaskProcessor {
                     task.getClass().getSimpleName());
             return false;
         }
-        int rowCount = configInfoGrayPersistService.configInfoGrayCount();
-        int pageCount = (int) Math.ceil(rowCount * 1.0 / PAGE_SIZE);
+        final int rowCount = configInfoGrayPersistService.configInfoGrayCount();
+        final int pageCount = (int) Math.ceil(rowCount * 1.0 / PAGE_SIZE);
         
-        int actualRowCount = 0;
-        for (int pageNo = 1; pageNo <= pageCount; pageNo++) {
-            Page<ConfigInfoGrayWrapper> page = configInfoGrayPersistService.findAllConfigInfoGrayForDumpAll(pageNo, PAGE_SIZE);
-            if (page != null) {
-                for (ConfigInfoGrayWrapper cf : page.getPageItems()) {
-                    if (StringUtils.isBlank(cf.getTenant())) {
-                        continue;
-                    }
-                    boolean result = ConfigCacheService
-                            .dumpGray(cf.getDataId(), cf.getGroup(), cf.getTenant(), cf.getGrayName(), cf.getGrayRule(), cf.getContent(),
-                                    cf.getLastModified(), cf.getEncryptedDataKey());
-                    LogUtil.DUMP_LOG.info("[dump-all-gray-ok] result={}, {}, {}, length={}, md5={}, grayName={}", result,
-                            GroupKey2.getKey(cf.getDataId(), cf.getGroup()), cf.getLastModified(),
-                            cf.getContent().length(), cf.getMd5(), cf.getGrayName());
-                }
-                
-                actualRowCount += page.getPageItems().size();
-                DEFAULT_LOG.info("[all-dump-gray] {} / {}", actualRowCount, rowCount);
+        PipelinedPageDumper<ConfigInfoGrayWrapper> dumper = new PipelinedPageDumper<>("all-dump-gray",
+                ConfigCommonConfig.getInstance().getDumpAllWorkerCount(),
+                ConfigCommonConfig.getInstance().getDumpAllPrefetchPages(), PAGE_SIZE);
+        AtomicInteger pageNo = new AtomicInteger();
+        dumper.dump(() -> {
+            if (pageNo.get() >= pageCount) {
+                return null;
             }
-        }
+            Page<ConfigInfoGrayWrapper> page = configInfoGrayPersistService.findAllConfigInfoGrayForDumpAll(
+                    pageNo.incrementAndGet(), PAGE_SIZE);
+            if (page == null || page.getPageItems() == null) {
+                return Collections.emptyList();
+            }
+            DEFAULT_LOG.info("[all-dump-gray] fetch page {} / {}", pageNo.get(), pageCount);
+            return page.getPageItems();
+        }, this::dumpGray);
         return true;
     }
     
+    private boolean dumpGray(ConfigInfoGrayWrapper cf) {
+        if (StringUtils.isBlank(cf.getTenant())) {
+            return true;
+        }
+        boolean result = ConfigCacheService.dumpGray(cf.getDataId(), cf.getGroup(), cf.getTenant(), cf.getGrayName(),
+                cf.getGrayRule(), cf.getContent(), cf.getLastModified(), cf.getEncryptedDataKey());
+        LogUtil.DUMP_LOG.info("[dump-all-gray-ok] result={}, {}, {}, length={}, md5={}, grayName={}", result,
+                GroupKey2.getKey(cf.getDataId(), cf.getGroup()), cf.getLastModified(), cf.getContent().length(),
+                cf.getMd5(), cf.getGrayName());
+        return result;
+    }
+    
     static final int PAGE_SIZE = getAllDumpPageSize();
     
     final ConfigInfoGrayPersistService configInfoGrayPersistService;
@@ -20,9 +20,11 @@ import com.alibaba.nacos.common.task.NacosTask;
 import com.alibaba.nacos.common.task.NacosTaskProcessor;
 import com.alibaba.nacos.common.utils.MD5Utils;
 import com.alibaba.nacos.common.utils.StringUtils;
+import com.alibaba.nacos.config.server.configuration.ConfigCommonConfig;
 import com.alibaba.nacos.config.server.model.ConfigInfoWrapper;
 import com.alibaba.nacos.config.server.service.ClientIpWhiteList;
 import com.alibaba.nacos.config.server.service.ConfigCacheService;
+import com.alibaba.nacos.config.server.service.ConfigSearchIndex;
 import com.alibaba.nacos.config.server.service.SwitchService;
 import com.alibaba.nacos.config.server.service.dump.task.DumpAllTask;
 import com.alibaba.nacos.config.server.service.repository.ConfigInfoPersistService;
@@ -31,10 +33,7 @@ import com.alibaba.nacos.config.server.utils.LogUtil;
 import com.alibaba.nacos.config.server.utils.PropertyUtil;
 import com.alibaba.nacos.api.model.Page;
 
-import java.util.concurrent.LinkedBlockingQueue;
-import java.util.concurrent.SynchronousQueue;
-import java.util.concurrent.ThreadPoolExecutor;
-import java.util.concurrent.TimeUnit;
+import java.util.List;
 
 import static com.alibaba.nacos.config.server.constant.Constants.ENCODE_UTF8;
 import static com.alibaba.nacos.config.server.utils.LogUtil.DEFAULT_LOG;
@@ -52,7 +51,6 @@ public class DumpAllProcessor implements NacosTaskProcessor {
     }
     
     @Override
-    @SuppressWarnings("PMD.MethodTooLongRule")
     public boolean process(NacosTask task) {
         if (!(task instanceof DumpAllTask)) {
             DEFAULT_LOG.error(
@@ -60,108 +58,126 @@ public class DumpAllProcessor implements NacosTaskProcessor {
                     task.getClass().getSimpleName());
             return false;
         }
-        DumpAllTask dumpAllTask = (DumpAllTask) task;
+        if (dumpAll((DumpAllTask) task)) {
+            ConfigSearchIndex.getInstance().markReady();
+        }
+        return true;
+    }
+    
+    /**
+     * Dump all formal configs from database.
+     *
+     * @param dumpAllTask dump all task.
+     * @return true if all configs are dumped, false if some configs fail to dump.
+     * @throws RuntimeException if fail to read configs from database.
+     */
+    public boolean dumpAll(DumpAllTask dumpAllTask) {
+        final long currentMaxId = configInfoPersistService.findConfigMaxId();
+        final int pageSize = PropertyUtil.getAllDumpPageSize();
+        
+        DEFAULT_LOG.info("start dump all config-info...");
+        
+        // periodic dump all queries changed configs one by one, keep it on few workers to not burst the database.
+        int workerCount = dumpAllTask.isStartUp() ? ConfigCommonConfig.getInstance().getDumpAllWorkerCount()
+                : ConfigCommonConfig.getInstance().getDumpAllPeriodicWorkerCount();
+        PipelinedPageDumper<ConfigInfoWrapper> dumper = new PipelinedPageDumper<>("all-dump", workerCount,
+                ConfigCommonConfig.getInstance().getDumpAllPrefetchPages(), pageSize);
+        long dumpedCount = dumper.dump(new ConfigPageFetcher(currentMaxId, pageSize, dumpAllTask.isStartUp()),
+                cf -> dumpConfig(cf, dumpAllTask.isStartUp()));
+        long failedCount = dumper.getFailedCount();
+        if (failedCount > 0) {
+            DEFAULT_LOG.error("dump all config-info finished with failures, success={}, fail={}", dumpedCount,
+                    failedCount);
+            return false;
+        }
+        DEFAULT_LOG.info("success to  dump all config-info, count={}。", dumpedCount);
+        return true;
+    }
+    
+    private boolean dumpConfig(ConfigInfoWrapper cf, boolean startUp) {
+        if (StringUtils.isBlank(cf.getTenant())) {
+            return true;
+        }
+        //if not start up, page query will not return content, check md5 and lastModified first ,if changed ,get single content info to dump.
+        if (!startUp) {
+            final String groupKey = GroupKey2.getKey(cf.getDataId(), cf.getGroup(), cf.getTenant());
+            boolean newLastModified = cf.getLastModified() > ConfigCacheService.getLastModifiedTs(groupKey);
+            //check md5 & update local disk cache.
+            boolean md5Update = !ConfigCacheService.isUptodate(groupKey, cf.getMd5());
+            if (!newLastModified && !md5Update) {
+                return true;
+            }
+            LogUtil.DUMP_LOG.info("[dump-all] find change config {}, {}, md5={}", groupKey, cf.getLastModified(),
+                    cf.getMd5());
+            cf = configInfoPersistService.findConfigInfo(cf.getDataId(), cf.getGroup(), cf.getTenant());
+        }
+        
+        if (cf == null) {
+            return true;
+        }
+        ConfigSearchIndex.getInstance().update(cf);
         
-        long currentMaxId = configInfoPersistService.findConfigMaxId();
-        long lastMaxId = 0;
-        ThreadPoolExecutor executorService = null;
-        if (dumpAllTask.isStartUp()) {
-            executorService = new ThreadPoolExecutor(Runtime.getRuntime().availableProcessors(),
-                    Runtime.getRuntime().availableProcessors(), 60L, TimeUnit.SECONDS,
-                    new LinkedBlockingQueue<>(PropertyUtil.getAllDumpPageSize() * 2),
-                    r -> new Thread(r, "dump all executor"), new ThreadPoolExecutor.CallerRunsPolicy());
+        if (cf.getDataId().equals(ClientIpWhiteList.CLIENT_IP_WHITELIST_METADATA)) {
+            ClientIpWhiteList.load(cf.getContent());
+        }
+        
+        if (cf.getDataId().equals(SwitchService.SWITCH_META_DATA_ID)) {
+            SwitchService.load(cf.getContent());
+        }
+        
+        final String content = cf.getContent();
+        final String dataId = cf.getDataId();
+        final String group = cf.getGroup();
+        final long lastModified = cf.getLastModified();
+        final String md5Utf8 = MD5Utils.md5Hex(content, ENCODE_UTF8);
+        boolean result = ConfigCacheService.dumpWithMd5(dataId, group, cf.getTenant(), content, md5Utf8,
+                lastModified, cf.getType(), cf.getEncryptedDataKey());
+        if (result) {
+            LogUtil.DUMP_LOG.info("[dump-all-ok] {}, {}, length={},md5UTF8={}", GroupKey2.getKey(dataId, group),
+                    lastModified, content.length(), md5Utf8);
         } else {
-            executorService = new ThreadPoolExecutor(1, 1, 60L, TimeUnit.SECONDS, new SynchronousQueue<>(),
-                    r -> new Thread(r, "dump all executor"), new ThreadPoolExecutor.CallerRunsPolicy());
+            LogUtil.DUMP_LOG.info("[dump-all-error] {}", GroupKey2.getKey(dataId, group));
         }
+        return result;
+    }
+    
+    /**
+     * Fetch config pages by id ranges, the next page starts after the max id of the previous one.
+     */
+    class ConfigPageFetcher implements PipelinedPageDumper.PageFetcher<ConfigInfoWrapper> {
         
-        DEFAULT_LOG.info("start dump all config-info...");
+        private final long currentMaxId;
+        
+        private final int pageSize;
+        
+        private final boolean startUp;
         
-        while (lastMaxId < currentMaxId) {
+        private long lastMaxId;
+        
+        ConfigPageFetcher(long currentMaxId, int pageSize, boolean startUp) {
+            this.currentMaxId = currentMaxId;
+            this.pageSize = pageSize;
+            this.startUp = startUp;
+        }
+        
+        @Override
+        public List<ConfigInfoWrapper> next() {
+            if (lastMaxId >= currentMaxId) {
+                return null;
+            }
             long start = System.currentTimeMillis();
-            
-            Page<ConfigInfoWrapper> page = configInfoPersistService.findAllConfigInfoFragment(lastMaxId,
-                    PropertyUtil.getAllDumpPageSize(), dumpAllTask.isStartUp());
-            long dbTimeStamp = System.currentTimeMillis();
+            Page<ConfigInfoWrapper> page = configInfoPersistService.findAllConfigInfoFragment(lastMaxId, pageSize,
+                    startUp);
             if (page == null || page.getPageItems() == null || page.getPageItems().isEmpty()) {
-                break;
+                return null;
             }
-            
             for (ConfigInfoWrapper cf : page.getPageItems()) {
                 lastMaxId = Math.max(cf.getId(), lastMaxId);
-                if (StringUtils.isBlank(cf.getTenant())) {
-                    continue;
-                }
-                //if not start up, page query will not return content, check md5 and lastModified first ,if changed ,get single content info to dump.
-                if (!dumpAllTask.isStartUp()) {
-                    final String groupKey = GroupKey2.getKey(cf.getDataId(), cf.getGroup(), cf.getTenant());
-                    boolean newLastModified = cf.getLastModified() > ConfigCacheService.getLastModifiedTs(groupKey);
-                    //check md5 & update local disk cache.
-                    String localContentMd5 = ConfigCacheService.getContentMd5(groupKey);
-                    boolean md5Update = !localContentMd5.equals(cf.getMd5());
-                    if (newLastModified || md5Update) {
-                        LogUtil.DUMP_LOG.info("[dump-all] find change config {}, {}, md5={}", groupKey,
-                                cf.getLastModified(), cf.getMd5());
-                        cf = configInfoPersistService.findConfigInfo(cf.getDataId(), cf.getGroup(), cf.getTenant());
-                    } else {
-                        continue;
-                    }
-                }
-                
-                if (cf == null) {
-                    continue;
-                }
-                
-                if (cf.getDataId().equals(ClientIpWhiteList.CLIENT_IP_WHITELIST_METADATA)) {
-                    ClientIpWhiteList.load(cf.getContent());
-                }
-                
-                if (cf.getDataId().equals(SwitchService.SWITCH_META_DATA_ID)) {
-                    SwitchService.load(cf.getContent());
-                }
-                
-                final String content = cf.getContent();
-                final String dataId = cf.getDataId();
-                final String group = cf.getGroup();
-                final String tenant = cf.getTenant();
-                final long lastModified = cf.getLastModified();
-                final String type = cf.getType();
-                final String encryptedDataKey = cf.getEncryptedDataKey();
-                
-                executorService.execute(() -> {
-                    final String md5Utf8 = MD5Utils.md5Hex(content, ENCODE_UTF8);
-                    boolean result = ConfigCacheService.dumpWithMd5(dataId, group, tenant, content, md5Utf8,
-                            lastModified, type, encryptedDataKey);
-                    if (result) {
-                        LogUtil.DUMP_LOG.info("[dump-all-ok] {}, {}, length={},md5UTF8={}",
-                                GroupKey2.getKey(dataId, group), lastModified, content.length(), md5Utf8);
-                    } else {
-                        LogUtil.DUMP_LOG.info("[dump-all-error] {}", GroupKey2.getKey(dataId, group));
-                    }
-                    
-                });
-                
             }
-            
-            long diskStamp = System.currentTimeMillis();
-            DEFAULT_LOG.info("[all-dump] submit all task for {} / {}, dbTime={},diskTime={}", lastMaxId, currentMaxId,
-                    (dbTimeStamp - start), (diskStamp - dbTimeStamp));
+            DEFAULT_LOG.info("[all-dump] fetch page for {} / {}, dbTime={}", lastMaxId, currentMaxId,
+                    System.currentTimeMillis() - start);
+            return page.getPageItems();
         }
-        
-        //wait all task are finished and then shutdown executor.
-        try {
-            int unfinishedTaskCount = 0;
-            while ((unfinishedTaskCount = executorService.getQueue().size() + executorService.getActiveCount()) > 0) {
-                DEFAULT_LOG.info("[all-dump] wait {} dump tasks to be finished", unfinishedTaskCount);
-                Thread.sleep(1000L);
-            }
-            executorService.shutdown();
-            
-        } catch (Exception e) {
-            DEFAULT_LOG.error("[all-dump] wait  dump tasks to be finished error", e);
-        }
-        DEFAULT_LOG.info("success to  dump all config-info。");
-        return true;
     }
     
     final ConfigInfoPersistService configInfoPersistService;
@@ -22,6 +22,7 @@ import com.alibaba.nacos.common.utils.StringUtils;
 import com.alibaba.nacos.config.server.model.ConfigInfoGrayWrapper;
 import com.alibaba.nacos.config.server.model.ConfigInfoWrapper;
 import com.alibaba.nacos.config.server.model.event.ConfigDumpEvent;
+import com.alibaba.nacos.config.server.service.ConfigSearchIndex;
 import com.alibaba.nacos.config.server.service.dump.DumpConfigHandler;
 import com.alibaba.nacos.config.server.service.dump.task.DumpTask;
 import com.alibaba.nacos.config.server.service.repository.ConfigInfoGrayPersistService;
@@ -82,6 +83,11 @@ public class DumpProcessor implements NacosTaskProcessor {
         }
         
         ConfigInfoWrapper cf = configInfoPersistService.findConfigInfo(dataId, group, tenant);
+        if (Objects.isNull(cf)) {
+            ConfigSearchIndex.getInstance().remove(dataId, group, tenant);
+        } else {
+            ConfigSearchIndex.getInstance().update(cf);
+        }
         build.remove(Objects.isNull(cf));
         build.content(Objects.isNull(cf) ? null : cf.getContent());
         build.type(Objects.isNull(cf) ? null : cf.getType());
@@ -0,0 +1,221 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service.dump.processor;
+
+import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.api.exception.runtime.NacosRuntimeException;
+import com.alibaba.nacos.common.executor.ExecutorFactory;
+import com.alibaba.nacos.common.executor.NameThreadFactory;
+import com.alibaba.nacos.config.server.monitor.MetricsMonitor;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.alibaba.nacos.config.server.utils.LogUtil.DEFAULT_LOG;
+
+/**
+ * Pipelined page dumper for dump all processors.
+ *
+ * <p>A fetcher thread reads pages ahead into a bounded page queue, while the caller thread hands items of fetched
+ * pages to a worker pool. Both the page queue and the worker queue are bounded and the worker pool runs overflowed
+ * items in the caller thread, so only a few pages are held in memory at any time.
+ *
+ * @author Nacos
+ */
+class PipelinedPageDumper<T> {
+    
+    private static final List<?> END_OF_PAGES = Collections.emptyList();
+    
+    private static final long PROGRESS_LOG_INTERVAL_MS = 1000L;
+    
+    private final String name;
+    
+    private final int workerCount;
+    
+    private final int prefetchPages;
+    
+    private final int pageSize;
+    
+    private final AtomicLong fetched = new AtomicLong();
+    
+    private final AtomicLong dumped = new AtomicLong();
+    
+    private final AtomicLong failed = new AtomicLong();
+    
+    private final AtomicReference<Throwable> fetchError = new AtomicReference<>();
+    
+    PipelinedPageDumper(String name, int workerCount, int prefetchPages, int pageSize) {
+        this.name = name;
+        this.workerCount = Math.max(1, workerCount);
+        this.prefetchPages = Math.max(1, prefetchPages);
+        this.pageSize = Math.max(1, pageSize);
+    }
+    
+    /**
+     * Fetch all pages and dump every item, returns after all items are dumped.
+     *
+     * @param pageFetcher page fetcher, called in a single fetcher thread.
+     * @param itemDumper  item dumper, called concurrently in worker threads.
+     * @return count of successfully dumped items.
+     * @throws RuntimeException the error of page fetcher, items of fetched pages are dumped before it is thrown.
+     */
+    long dump(PageFetcher<T> pageFetcher, ItemDumper<T> itemDumper) {
+        final long start = System.currentTimeMillis();
+        BlockingQueue<List<T>> pages = new ArrayBlockingQueue<>(prefetchPages);
+        ExecutorService fetcher = ExecutorFactory.newSingleExecutorService(new NameThreadFactory(name + ".fetcher"));
+        fetcher.execute(() -> fetchPages(pageFetcher, pages));
+        
+        ThreadPoolExecutor executorService = new ThreadPoolExecutor(workerCount, workerCount, 60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(pageSize * 2), r -> new Thread(r, name + " executor"),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        long lastLogTime = start;
+        try {
+            while (true) {
+                List<T> page = pages.take();
+                if (page == END_OF_PAGES) {
+                    break;
+                }
+                for (T item : page) {
+                    executorService.execute(() -> {
+                        try {
+                            if (itemDumper.dump(item)) {
+                                dumped.incrementAndGet();
+                            } else {
+                                failed.incrementAndGet();
+                            }
+                        } catch (Throwable e) {
+                            failed.incrementAndGet();
+                            DEFAULT_LOG.error("[{}] dump item error", name, e);
+                        }
+                    });
+                }
+                long now = System.currentTimeMillis();
+                if (now - lastLogTime >= PROGRESS_LOG_INTERVAL_MS) {
+                    logProgress(start, now);
+                    lastLogTime = now;
+                }
+            }
+            executorService.shutdown();
+            while (!executorService.awaitTermination(PROGRESS_LOG_INTERVAL_MS, TimeUnit.MILLISECONDS)) {
+                logProgress(start, System.currentTimeMillis());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            DEFAULT_LOG.error("[{}] interrupted while waiting dump tasks to be finished", name, e);
+        } finally {
+            executorService.shutdownNow();
+            fetcher.shutdownNow();
+        }
+        logProgress(start, System.currentTimeMillis());
+        Throwable error = fetchError.get();
+        if (error instanceof RuntimeException) {
+            throw (RuntimeException) error;
+        }
+        if (error instanceof Error) {
+            throw (Error) error;
+        }
+        if (error != null) {
+            throw new NacosRuntimeException(NacosException.SERVER_ERROR, error);
+        }
+        return dumped.get();
+    }
+    
+    /**
+     * Returns count of items failed to dump.
+     *
+     * @return count of failed items.
+     */
+    long getFailedCount() {
+        return failed.get();
+    }
+    
+    @SuppressWarnings("unchecked")
+    private void fetchPages(PageFetcher<T> pageFetcher, BlockingQueue<List<T>> pages) {
+        try {
+            List<T> page;
+            while ((page = pageFetcher.next()) != null) {
+                if (page.isEmpty()) {
+                    continue;
+                }
+                fetched.addAndGet(page.size());
+                pages.put(page);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Throwable e) {
+            fetchError.set(e);
+            DEFAULT_LOG.error("[{}] fetch page error, stop fetching", name, e);
+        } finally {
+            try {
+                pages.put((List<T>) END_OF_PAGES);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+    
+    private void logProgress(long start, long now) {
+        long costMs = Math.max(1L, now - start);
+        long dumpedCount = dumped.get();
+        long throughput = dumpedCount * 1000L / costMs;
+        MetricsMonitor.getDumpAllProgressMonitor().set(dumpedCount);
+        MetricsMonitor.getDumpAllThroughputMonitor().set(throughput);
+        DEFAULT_LOG.info("[{}] fetched {}, dumped {}, failed {}, cost {} ms, throughput {}/s", name, fetched.get(),
+                dumpedCount, failed.get(), costMs, throughput);
+    }
+    
+    /**
+     * Page fetcher of pipelined page dumper.
+     *
+     * @param <T> item type
+     */
+    @FunctionalInterface
+    interface PageFetcher<T> {
+        
+        /**
+         * Fetch next page.
+         *
+         * @return items of next page, empty list for a page to skip, null if no more pages.
+         */
+        List<T> next();
+    }
+    
+    /**
+     * Item dumper of pipelined page dumper.
+     *
+     * @param <T> item type
+     */
+    @FunctionalInterface
+    interface ItemDumper<T> {
+        
+        /**
+         * Dump one item.
+         *
+         * @param item item to dump.
+         * @return true if dumped or skipped, false if fail to dump.
+         */
+        boolean dump(T item);
+    }
+}
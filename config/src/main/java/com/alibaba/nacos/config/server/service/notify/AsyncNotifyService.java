@@ -24,6 +24,7 @@ import com.alibaba.nacos.common.notify.NotifyCenter;
 import com.alibaba.nacos.common.notify.listener.Subscriber;
 import com.alibaba.nacos.common.task.AbstractDelayTask;
 import com.alibaba.nacos.common.utils.StringUtils;
+import com.alibaba.nacos.config.server.configuration.ConfigCommonConfig;
 import com.alibaba.nacos.config.server.model.event.ConfigDataChangeEvent;
 import com.alibaba.nacos.config.server.model.gray.BetaGrayRule;
 import com.alibaba.nacos.config.server.model.gray.TagGrayRule;
@@ -46,10 +47,13 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 
+import static com.alibaba.nacos.core.cluster.MemberMetaDataConstants.SUPPORT_CONFIG_CHANGE_STREAM;
 import static com.alibaba.nacos.core.cluster.MemberMetaDataConstants.SUPPORT_GRAY_MODEL;
 
 /**
@@ -73,6 +77,8 @@ public class AsyncNotifyService {
     
     private ServerMemberManager memberManager;
     
+    private final Map<String, ConfigChangeStream> streams = new ConcurrentHashMap<>();
+    
     static final List<NodeState> HEALTHY_CHECK_STATUS = new ArrayList<>();
     
     static {
@@ -117,10 +123,15 @@ public class AsyncNotifyService {
             for (Member member : ipList) {
                 // grpc report data change only
                 NotifySingleRpcTask notifySingleRpcTask = generateTask(evt, member);
-                if (notifySingleRpcTask != null) {
+                if (notifySingleRpcTask == null) {
+                    continue;
+                }
+                if (isStreamSupported(member)) {
+                    streams.computeIfAbsent(member.getAddress(), address -> new ConfigChangeStream(this, address))
+                            .offer(notifySingleRpcTask);
+                } else {
                     rpcQueue.add(notifySingleRpcTask);
                 }
-                
             }
             if (!rpcQueue.isEmpty()) {
                 ConfigExecutor.executeAsyncNotify(new AsyncRpcTask(rpcQueue));
@@ -152,22 +163,52 @@ public class AsyncNotifyService {
         return task;
     }
     
-    private boolean isUnHealthy(String targetIp) {
+    private boolean isStreamSupported(Member member) {
+        return (Boolean) member.getExtendInfo().getOrDefault(SUPPORT_CONFIG_CHANGE_STREAM, Boolean.FALSE)
+                && ConfigCommonConfig.getInstance().isClusterStreamEnabled();
+    }
+    
+    boolean isUnHealthy(String targetIp) {
         return !memberManager.stateCheck(targetIp, HEALTHY_CHECK_STATUS);
     }
     
+    Member findMember(String address) {
+        return memberManager.hasMember(address) ? memberManager.find(address) : null;
+    }
+    
+    String selfAddress() {
+        return memberManager.getSelf().getAddress();
+    }
+    
+    ConfigClusterRpcClientProxy getConfigClusterRpcClientProxy() {
+        return configClusterRpcClientProxy;
+    }
+    
+    void removeStream(String address, ConfigChangeStream stream) {
+        streams.remove(address, stream);
+    }
+    
+    ConfigChangeStream getStream(String address) {
+        return streams.get(address);
+    }
+    
+    static ConfigChangeClusterSyncRequest toSyncRequest(NotifySingleRpcTask task) {
+        ConfigChangeClusterSyncRequest syncRequest = new ConfigChangeClusterSyncRequest();
+        syncRequest.setDataId(task.getDataId());
+        syncRequest.setTenant(task.getTenant());
+        syncRequest.setGroup(task.getGroup());
+        syncRequest.setLastModified(task.getLastModified());
+        syncRequest.setGrayName(task.getGrayName());
+        syncRequest.setBeta(task.isBeta());
+        syncRequest.setTag(task.getTag());
+        return syncRequest;
+    }
+    
     void executeAsyncRpcTask(Queue<NotifySingleRpcTask> queue) {
         while (!queue.isEmpty()) {
             NotifySingleRpcTask task = queue.poll();
             
-            ConfigChangeClusterSyncRequest syncRequest = new ConfigChangeClusterSyncRequest();
-            syncRequest.setDataId(task.getDataId());
-            syncRequest.setTenant(task.getTenant());
-            syncRequest.setGroup(task.getGroup());
-            syncRequest.setLastModified(task.getLastModified());
-            syncRequest.setGrayName(task.getGrayName());
-            syncRequest.setBeta(task.isBeta());
-            syncRequest.setTag(task.getTag());
+            ConfigChangeClusterSyncRequest syncRequest = toSyncRequest(task);
             Member member = task.member;
             
             String event = getNotifyEvent(task);
@@ -312,7 +353,7 @@ public class AsyncNotifyService {
         ConfigExecutor.scheduleAsyncNotify(asyncTask, delay, TimeUnit.MILLISECONDS);
     }
     
-    private static String getNotifyEvent(NotifySingleRpcTask task) {
+    static String getNotifyEvent(NotifySingleRpcTask task) {
         String event = ConfigTraceService.NOTIFY_EVENT;
         if (task.isBeta()) {
             event = ConfigTraceService.NOTIFY_EVENT_BETA;
@@ -0,0 +1,269 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service.notify;
+
+import com.alibaba.nacos.api.config.remote.request.cluster.ConfigChangeClusterBatchSyncRequest;
+import com.alibaba.nacos.api.config.remote.response.cluster.ConfigChangeClusterBatchSyncResponse;
+import com.alibaba.nacos.api.remote.RequestCallBack;
+import com.alibaba.nacos.config.server.configuration.ConfigCommonConfig;
+import com.alibaba.nacos.config.server.monitor.MetricsMonitor;
+import com.alibaba.nacos.config.server.service.notify.AsyncNotifyService.NotifySingleRpcTask;
+import com.alibaba.nacos.config.server.service.trace.ConfigTraceService;
+import com.alibaba.nacos.config.server.utils.ConfigExecutor;
+import com.alibaba.nacos.config.server.utils.LogUtil;
+import com.alibaba.nacos.core.cluster.Member;
+import com.alibaba.nacos.sys.utils.InetUtils;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Ordered config change stream to one member.
+ *
+ * <p>Changes are numbered and kept until the member acknowledges them. At most one frame is in flight, changes
+ * arriving meanwhile are sent together in the next frame. The member acknowledges cumulatively, changes after the
+ * acknowledged sequence are resent, immediately if the frame made progress or with back off if not.
+ *
+ * <p>Pending changes are bounded, the oldest ones are dropped when a member falls too far behind and the stream starts
+ * a new epoch, so the member restarts from the first change kept. The member catches up the dropped ones by its dump
+ * change worker.
+ *
+ * @author Nacos
+ */
+class ConfigChangeStream {
+    
+    private static final AtomicLong EPOCH_GENERATOR = new AtomicLong(System.currentTimeMillis());
+    
+    private static final int MIN_RETRY_INTERVAL = 500;
+    
+    private static final int INCREASE_STEPS = 1000;
+    
+    private static final int MAX_COUNT = 6;
+    
+    private final AsyncNotifyService asyncNotifyService;
+    
+    private final String address;
+    
+    private long epoch = EPOCH_GENERATOR.incrementAndGet();
+    
+    private final Deque<Change> unacked = new ArrayDeque<>();
+    
+    private long nextSeq = 1L;
+    
+    private boolean sending;
+    
+    private int failCount;
+    
+    ConfigChangeStream(AsyncNotifyService asyncNotifyService, String address) {
+        this.asyncNotifyService = asyncNotifyService;
+        this.address = address;
+    }
+    
+    /**
+     * Append a change to the stream, and schedule a frame if none is in flight.
+     *
+     * @param task change to the member.
+     */
+    void offer(NotifySingleRpcTask task) {
+        int dropped = 0;
+        boolean schedule;
+        synchronized (this) {
+            unacked.addLast(new Change(nextSeq++, task));
+            int maxPending = ConfigCommonConfig.getInstance().getClusterStreamMaxPending();
+            while (unacked.size() > maxPending) {
+                unacked.pollFirst();
+                dropped++;
+            }
+            if (dropped > 0) {
+                // the member would wait for the dropped changes forever, restart it from the first change kept.
+                epoch = EPOCH_GENERATOR.incrementAndGet();
+            }
+            schedule = !sending;
+            sending = true;
+        }
+        if (dropped > 0) {
+            LogUtil.NOTIFY_LOG.warn("[notify-stream] target:{} has too many pending changes, drop {} oldest changes",
+                    address, dropped);
+            MetricsMonitor.getConfigNotifyException().increment();
+        }
+        if (!schedule) {
+            return;
+        }
+        ConfigExecutor.scheduleAsyncNotify(this::flush, ConfigCommonConfig.getInstance().getClusterStreamWindowMs(),
+                TimeUnit.MILLISECONDS);
+    }
+    
+    /**
+     * Send unacknowledged changes from the head of the stream in one frame.
+     */
+    void flush() {
+        Member member = asyncNotifyService.findMember(address);
+        if (member == null) {
+            synchronized (this) {
+                unacked.clear();
+                sending = false;
+            }
+            asyncNotifyService.removeStream(address, this);
+            return;
+        }
+        List<Change> frame = new ArrayList<>();
+        long frameEpoch;
+        synchronized (this) {
+            frameEpoch = epoch;
+            int max = ConfigCommonConfig.getInstance().getClusterStreamBatchMaxSize();
+            for (Change change : unacked) {
+                if (frame.size() >= max) {
+                    break;
+                }
+                frame.add(change);
+            }
+            if (frame.isEmpty()) {
+                sending = false;
+                return;
+            }
+        }
+        if (asyncNotifyService.isUnHealthy(address)) {
+            logNotifyEvent(frame, ConfigTraceService.NOTIFY_TYPE_UNHEALTH);
+            retryLater();
+            return;
+        }
+        ConfigChangeClusterBatchSyncRequest request = new ConfigChangeClusterBatchSyncRequest();
+        request.setSource(asyncNotifyService.selfAddress());
+        request.setEpoch(frameEpoch);
+        request.setFirstSeq(frame.get(0).seq);
+        for (Change change : frame) {
+            request.getChanges().add(AsyncNotifyService.toSyncRequest(change.task));
+        }
+        try {
+            asyncNotifyService.getConfigClusterRpcClientProxy()
+                    .syncConfigChangeBatch(member, request, new StreamCallBack(frame));
+        } catch (Exception e) {
+            onFailure(frame, e);
+        }
+    }
+    
+    private void onAck(List<Change> frame, long ackSeq) {
+        List<Change> acked = new ArrayList<>();
+        boolean remaining;
+        synchronized (this) {
+            while (!unacked.isEmpty() && unacked.peekFirst().seq <= ackSeq) {
+                acked.add(unacked.pollFirst());
+            }
+            if (!acked.isEmpty()) {
+                failCount = 0;
+            }
+            remaining = !unacked.isEmpty();
+            if (!remaining) {
+                sending = false;
+            }
+        }
+        logNotifyEvent(acked, ConfigTraceService.NOTIFY_TYPE_OK);
+        if (!remaining) {
+            return;
+        }
+        if (acked.isEmpty()) {
+            LogUtil.NOTIFY_LOG.warn("[notify-stream] target:{} acknowledged {} but frame starts at {}, resend later",
+                    address, ackSeq, frame.get(0).seq);
+            retryLater();
+        } else {
+            ConfigExecutor.executeAsyncNotify(this::flush);
+        }
+    }
+    
+    private void onFailure(List<Change> frame, Throwable ex) {
+        LogUtil.NOTIFY_LOG.error("[notify-stream] target:{} send {} changes from seq {} failed, ex:{}", address,
+                frame.size(), frame.get(0).seq, String.valueOf(ex));
+        logNotifyEvent(frame, ConfigTraceService.NOTIFY_TYPE_EXCEPTION);
+        MetricsMonitor.getConfigNotifyException().increment();
+        retryLater();
+    }
+    
+    private void retryLater() {
+        int delay;
+        synchronized (this) {
+            delay = MIN_RETRY_INTERVAL + failCount * failCount * INCREASE_STEPS;
+            if (failCount <= MAX_COUNT) {
+                failCount++;
+            }
+        }
+        ConfigExecutor.scheduleAsyncNotify(this::flush, delay, TimeUnit.MILLISECONDS);
+    }
+    
+    private void logNotifyEvent(List<Change> changes, String type) {
+        long now = System.currentTimeMillis();
+        for (Change change : changes) {
+            NotifySingleRpcTask task = change.task;
+            ConfigTraceService.logNotifyEvent(task.getDataId(), task.getGroup(), task.getTenant(), null,
+                    task.getLastModified(), InetUtils.getSelfIP(), AsyncNotifyService.getNotifyEvent(task), type,
+                    now - task.getLastModified(), address);
+        }
+    }
+    
+    synchronized int pendingCount() {
+        return unacked.size();
+    }
+    
+    private static class Change {
+        
+        private final long seq;
+        
+        private final NotifySingleRpcTask task;
+        
+        Change(long seq, NotifySingleRpcTask task) {
+            this.seq = seq;
+            this.task = task;
+        }
+    }
+    
+    private class StreamCallBack implements RequestCallBack<ConfigChangeClusterBatchSyncResponse> {
+        
+        private final List<Change> frame;
+        
+        StreamCallBack(List<Change> frame) {
+            this.frame = frame;
+        }
+        
+        @Override
+        public Executor getExecutor() {
+            return ConfigExecutor.getConfigSubServiceExecutor();
+        }
+        
+        @Override
+        public long getTimeout() {
+            return 3000L;
+        }
+        
+        @Override
+        public void onResponse(ConfigChangeClusterBatchSyncResponse response) {
+            if (response.isSuccess()) {
+                onAck(frame, response.getAckSeq());
+            } else {
+                onFailure(frame, new IllegalStateException("error code " + response.getErrorCode()));
+            }
+        }
+        
+        @Override
+        public void onException(Throwable ex) {
+            onFailure(frame, ex);
+        }
+    }
+}
@@ -18,7 +18,7 @@ package com.alibaba.nacos.config.server.service.query.handler;
 
 import com.alibaba.nacos.config.server.model.CacheItem;
 import com.alibaba.nacos.config.server.model.ConfigCacheGray;
-import com.alibaba.nacos.config.server.service.dump.disk.ConfigDiskServiceFactory;
+import com.alibaba.nacos.config.server.service.ConfigContentCache;
 import com.alibaba.nacos.config.server.service.query.model.ConfigQueryChainRequest;
 import com.alibaba.nacos.config.server.service.query.model.ConfigQueryChainResponse;
 
@@ -43,15 +43,7 @@ public class GrayRuleMatchHandler extends AbstractConfigQueryHandler {
     public ConfigQueryChainResponse handle(ConfigQueryChainRequest request) throws IOException {
         // Check if the request matches any gray rules
         CacheItem cacheItem = ConfigChainEntryHandler.getThreadLocalCacheItem();
-        ConfigCacheGray matchedGray = null;
-        if (cacheItem.getSortConfigGrays() != null && !cacheItem.getSortConfigGrays().isEmpty()) {
-            for (ConfigCacheGray configCacheGray : cacheItem.getSortConfigGrays()) {
-                if (configCacheGray.match(request.getAppLabels())) {
-                    matchedGray = configCacheGray;
-                    break;
-                }
-            }
-        }
+        ConfigCacheGray matchedGray = cacheItem.matchConfigGray(request.getAppLabels());
         
         if (matchedGray != null) {
             ConfigQueryChainResponse response = new ConfigQueryChainResponse();
@@ -59,9 +51,9 @@ public class GrayRuleMatchHandler extends AbstractConfigQueryHandler {
             long lastModified = matchedGray.getLastModifiedTs();
             String md5 = matchedGray.getMd5();
             String encryptedDataKey = matchedGray.getEncryptedDataKey();
-            String content = ConfigDiskServiceFactory.getInstance()
+            String content = ConfigContentCache.getInstance()
                     .getGrayContent(request.getDataId(), request.getGroup(), request.getTenant(),
-                            matchedGray.getGrayName());
+                            matchedGray.getGrayName(), md5);
             
             response.setContent(content);
             response.setMd5(md5);
@@ -425,6 +425,21 @@ public interface ConfigInfoPersistService {
     List<ConfigAllInfo> findAllConfigInfo4Export(final String dataId, final String group, final String tenant,
             final String appName, final List<Long> ids);
     
+    /**
+     * query configuration information for export by page, ordered by id, config tags are not filled.
+     *
+     * @param dataId    data id
+     * @param group     group
+     * @param tenant    tenant
+     * @param appName   appName
+     * @param ids       ids
+     * @param lastMaxId max id of last page, 0 for the first page
+     * @param pageSize  page size
+     * @return Collection of ConfigInfo objects
+     */
+    List<ConfigAllInfo> findConfigInfo4ExportFetchRows(final String dataId, final String group, final String tenant,
+            final String appName, final List<Long> ids, long lastMaxId, int pageSize);
+    
     /**
      * Query dataId list by namespace.
      *
@@ -1025,11 +1025,22 @@ public class EmbeddedConfigInfoPersistServiceImpl implements ConfigInfoPersistSe
     }
     
     @Override
-    public List<ConfigAllInfo> findAllConfigInfo4Export(final String dataId, final String group, final String tenant,
-            final String appName, final List<Long> ids) {
-        String tenantTmp = StringUtils.isBlank(tenant) ? StringUtils.EMPTY : tenant;
+    public List<ConfigAllInfo> findConfigInfo4ExportFetchRows(final String dataId, final String group,
+            final String tenant, final String appName, final List<Long> ids, long lastMaxId, int pageSize) {
         ConfigInfoMapper configInfoMapper = mapperManager.findMapper(dataSourceService.getDataSourceType(),
                 TableConstant.CONFIG_INFO);
+        MapperContext context = buildExportContext(dataId, group, tenant, appName, ids);
+        context.putWhereParameter(FieldConstant.LAST_MAX_ID, lastMaxId);
+        context.putWhereParameter(FieldConstant.PAGE_SIZE, pageSize);
+        context.setPageSize(pageSize);
+        MapperResult mapperResult = configInfoMapper.findAllConfigInfo4ExportFetchRows(context);
+        return databaseOperate.queryMany(mapperResult.getSql(), mapperResult.getParamList().toArray(),
+                CONFIG_ALL_INFO_ROW_MAPPER);
+    }
+    
+    private MapperContext buildExportContext(final String dataId, final String group, final String tenant,
+            final String appName, final List<Long> ids) {
+        String tenantTmp = StringUtils.isBlank(tenant) ? StringUtils.EMPTY : tenant;
         MapperContext context = new MapperContext();
         if (!CollectionUtils.isEmpty(ids)) {
             context.putWhereParameter(FieldConstant.IDS, ids);
@@ -1045,6 +1056,15 @@ public class EmbeddedConfigInfoPersistServiceImpl implements ConfigInfoPersistSe
                 context.putWhereParameter(FieldConstant.APP_NAME, appName);
             }
         }
+        return context;
+    }
+    
+    @Override
+    public List<ConfigAllInfo> findAllConfigInfo4Export(final String dataId, final String group, final String tenant,
+            final String appName, final List<Long> ids) {
+        ConfigInfoMapper configInfoMapper = mapperManager.findMapper(dataSourceService.getDataSourceType(),
+                TableConstant.CONFIG_INFO);
+        MapperContext context = buildExportContext(dataId, group, tenant, appName, ids);
         
         MapperResult mapperResult = configInfoMapper.findAllConfigInfo4Export(context);
         List<ConfigAllInfo> configAllInfos = databaseOperate.queryMany(mapperResult.getSql(),
@@ -1095,11 +1095,26 @@ public class ExternalConfigInfoPersistServiceImpl implements ConfigInfoPersistSe
     }
     
     @Override
-    public List<ConfigAllInfo> findAllConfigInfo4Export(final String dataId, final String group, final String tenant,
-            final String appName, final List<Long> ids) {
-        String tenantTmp = StringUtils.isBlank(tenant) ? StringUtils.EMPTY : tenant;
+    public List<ConfigAllInfo> findConfigInfo4ExportFetchRows(final String dataId, final String group,
+            final String tenant, final String appName, final List<Long> ids, long lastMaxId, int pageSize) {
         ConfigInfoMapper configInfoMapper = mapperManager.findMapper(dataSourceService.getDataSourceType(),
                 TableConstant.CONFIG_INFO);
+        MapperContext context = buildExportContext(dataId, group, tenant, appName, ids);
+        context.putWhereParameter(FieldConstant.LAST_MAX_ID, lastMaxId);
+        context.putWhereParameter(FieldConstant.PAGE_SIZE, pageSize);
+        context.setPageSize(pageSize);
+        MapperResult mapperResult = configInfoMapper.findAllConfigInfo4ExportFetchRows(context);
+        try {
+            return jt.query(mapperResult.getSql(), mapperResult.getParamList().toArray(), CONFIG_ALL_INFO_ROW_MAPPER);
+        } catch (CannotGetJdbcConnectionException e) {
+            LogUtil.FATAL_LOG.error("[db-error] " + e, e);
+            throw e;
+        }
+    }
+    
+    private MapperContext buildExportContext(final String dataId, final String group, final String tenant,
+            final String appName, final List<Long> ids) {
+        String tenantTmp = StringUtils.isBlank(tenant) ? StringUtils.EMPTY : tenant;
         MapperContext context = new MapperContext();
         if (!CollectionUtils.isEmpty(ids)) {
             context.putWhereParameter(FieldConstant.IDS, ids);
@@ -1115,6 +1130,15 @@ public class ExternalConfigInfoPersistServiceImpl implements ConfigInfoPersistSe
                 context.putWhereParameter(FieldConstant.APP_NAME, appName);
             }
         }
+        return context;
+    }
+    
+    @Override
+    public List<ConfigAllInfo> findAllConfigInfo4Export(final String dataId, final String group, final String tenant,
+            final String appName, final List<Long> ids) {
+        ConfigInfoMapper configInfoMapper = mapperManager.findMapper(dataSourceService.getDataSourceType(),
+                TableConstant.CONFIG_INFO);
+        MapperContext context = buildExportContext(dataId, group, tenant, appName, ids);
         MapperResult mapperResult = configInfoMapper.findAllConfigInfo4Export(context);
         try {
             List<ConfigAllInfo> configAllInfos = jt.query(mapperResult.getSql(), mapperResult.getParamList().toArray(),
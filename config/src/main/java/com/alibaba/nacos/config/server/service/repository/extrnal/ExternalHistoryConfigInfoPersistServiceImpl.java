@@ -18,6 +18,7 @@ package com.alibaba.nacos.config.server.service.repository.extrnal;
 
 import com.alibaba.nacos.common.utils.MD5Utils;
 import com.alibaba.nacos.common.utils.StringUtils;
+import com.alibaba.nacos.config.server.configuration.ConfigCommonConfig;
 import com.alibaba.nacos.config.server.constant.Constants;
 import com.alibaba.nacos.config.server.model.ConfigHistoryInfo;
 import com.alibaba.nacos.config.server.model.ConfigInfo;
@@ -43,8 +44,13 @@ import org.springframework.dao.DataAccessException;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.transaction.support.TransactionTemplate;
 
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.File;
 import java.sql.Timestamp;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -64,6 +70,10 @@ import static com.alibaba.nacos.config.server.service.repository.ConfigRowMapper
 @Service("externalHistoryConfigInfoPersistServiceImpl")
 public class ExternalHistoryConfigInfoPersistServiceImpl implements HistoryConfigInfoPersistService {
     
+    private static final String HISTORY_JOURNAL_FILE_NAME = "history-write-behind.log";
+    
+    private static final String DELETE_OPS = "D";
+    
     private DataSourceService dataSourceService;
     
     protected JdbcTemplate jt;
@@ -72,6 +82,8 @@ public class ExternalHistoryConfigInfoPersistServiceImpl implements HistoryConfi
     
     private MapperManager mapperManager;
     
+    private HistoryWriteBehindQueue historyWriteBehindQueue;
+    
     public ExternalHistoryConfigInfoPersistServiceImpl() {
         this.dataSourceService = DynamicDataSource.getInstance().getDataSource();
         this.jt = dataSourceService.getJdbcTemplate();
@@ -81,6 +93,37 @@ public class ExternalHistoryConfigInfoPersistServiceImpl implements HistoryConfi
         this.mapperManager = MapperManager.instance(isDataSourceLogEnable);
     }
     
+    /**
+     * Start write behind queue of history records if enabled.
+     */
+    @PostConstruct
+    public void init() {
+        ConfigCommonConfig config = ConfigCommonConfig.getInstance();
+        if (!config.isHistoryWriteBehindEnabled()) {
+            return;
+        }
+        File journalFile = new File(EnvUtil.getNacosHome() + File.separator + "data", HISTORY_JOURNAL_FILE_NAME);
+        HistoryWriteBehindQueue queue = new HistoryWriteBehindQueue(journalFile,
+                config.getHistoryWriteBehindCapacity(), config.getHistoryWriteBehindBatchSize(),
+                config.getHistoryWriteBehindOfferTimeoutMs(), this::batchInsertConfigHistory);
+        try {
+            queue.start();
+            historyWriteBehindQueue = queue;
+        } catch (Exception e) {
+            LogUtil.FATAL_LOG.error("[history-write-behind] start fail, write history synchronously.", e);
+        }
+    }
+    
+    /**
+     * Write queued history records before shutdown.
+     */
+    @PreDestroy
+    public void destroy() {
+        if (historyWriteBehindQueue != null) {
+            historyWriteBehindQueue.shutdown();
+        }
+    }
+    
     @Override
     public <E> PaginationHelper<E> createPaginationHelper() {
         return new ExternalStoragePaginationHelperImpl<>(jt);
@@ -96,15 +139,60 @@ public class ExternalHistoryConfigInfoPersistServiceImpl implements HistoryConfi
         String publishTypeTmp = StringUtils.defaultEmptyIfBlank(publishType);
         String grayNameTemp = StringUtils.defaultEmptyIfBlank(grayName);
         
+        final Object[] args = new Object[] {id, configInfo.getDataId(), configInfo.getGroup(), tenantTmp, appNameTmp,
+                configInfo.getContent(), md5Tmp, srcIp, srcUser, time, ops, publishTypeTmp, grayNameTemp, extInfo,
+                encryptedDataKey};
+        HistoryWriteBehindQueue queue = historyWriteBehindQueue;
+        // deleted configs are dumped by scanning delete records since last check, they can not be written late.
+        if (queue == null || DELETE_OPS.equals(ops)) {
+            insertConfigHistory(args);
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            if (!queue.offer(args)) {
+                insertConfigHistory(args);
+            }
+            return;
+        }
+        // queue history only if config change is committed, history of rolled back change is not written.
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                if (queue.offer(args)) {
+                    return;
+                }
+                try {
+                    insertConfigHistory(args);
+                } catch (Exception e) {
+                    // config change is committed already, failure of its history should not fail the publish.
+                    LogUtil.FATAL_LOG.error("[history-write-behind] write history of dataId={} group={} tenant={} "
+                            + "ops={} fail.", args[1], args[2], args[3], args[10], e);
+                }
+            }
+        });
+    }
+    
+    private String insertHistorySql() {
+        HistoryConfigInfoMapper historyConfigInfoMapper = mapperManager.findMapper(
+                dataSourceService.getDataSourceType(), TableConstant.HIS_CONFIG_INFO);
+        return historyConfigInfoMapper.insert(
+                Arrays.asList("id", "data_id", "group_id", "tenant_id", "app_name", "content", "md5", "src_ip",
+                        "src_user", "gmt_modified", "op_type", "publish_type", "gray_name", "ext_info",
+                        "encrypted_data_key"));
+    }
+    
+    private void insertConfigHistory(Object[] args) {
         try {
-            HistoryConfigInfoMapper historyConfigInfoMapper = mapperManager.findMapper(
-                    dataSourceService.getDataSourceType(), TableConstant.HIS_CONFIG_INFO);
-            jt.update(historyConfigInfoMapper.insert(
-                            Arrays.asList("id", "data_id", "group_id", "tenant_id", "app_name", "content", "md5", "src_ip",
-                                    "src_user", "gmt_modified", "op_type", "publish_type", "gray_name", "ext_info",
-                                    "encrypted_data_key")), id, configInfo.getDataId(), configInfo.getGroup(), tenantTmp,
-                    appNameTmp, configInfo.getContent(), md5Tmp, srcIp, srcUser, time, ops, publishTypeTmp,
-                    grayNameTemp, extInfo, encryptedDataKey);
+            jt.update(insertHistorySql(), args);
+        } catch (DataAccessException e) {
+            LogUtil.FATAL_LOG.error("[db-error] " + e, e);
+            throw e;
+        }
+    }
+    
+    private void batchInsertConfigHistory(List<Object[]> batchArgs) {
+        try {
+            jt.batchUpdate(insertHistorySql(), batchArgs);
         } catch (DataAccessException e) {
             LogUtil.FATAL_LOG.error("[db-error] " + e, e);
             throw e;
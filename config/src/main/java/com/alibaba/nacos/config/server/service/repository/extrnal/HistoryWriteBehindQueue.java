@@ -0,0 +1,339 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service.repository.extrnal;
+
+import com.alibaba.nacos.common.executor.ExecutorFactory;
+import com.alibaba.nacos.common.executor.NameThreadFactory;
+import com.alibaba.nacos.common.utils.JacksonUtils;
+import com.alibaba.nacos.config.server.monitor.MetricsMonitor;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static com.alibaba.nacos.config.server.utils.LogUtil.DEFAULT_LOG;
+
+/**
+ * Write behind queue of config history records.
+ *
+ * <p>Records are appended to a local journal before queued, and written to database in batches by a single flusher
+ * thread, which appends an acknowledgement with the number of records written to the journal after each batch.
+ * Records left in journal and not acknowledged, for example on crash, are written again on start, so a record is not
+ * lost, and is written twice only if the process crashes between writing a batch and acknowledging it. Callers wait at
+ * most the offer timeout when the queue is full, and should write the record synchronously if the queue is still
+ * full.
+ *
+ * @author Nacos
+ */
+final class HistoryWriteBehindQueue {
+    
+    /**
+     * Index of id in record arguments.
+     */
+    static final int ID_INDEX = 0;
+    
+    /**
+     * Index of gmt_modified in record arguments.
+     */
+    static final int TIME_INDEX = 9;
+    
+    /**
+     * Prefix of acknowledgement lines in journal, followed by the number of records written.
+     */
+    static final String ACK_PREFIX = "#";
+    
+    private static final long POLL_INTERVAL_MS = 100L;
+    
+    private static final long RETRY_INTERVAL_MS = 1000L;
+    
+    private static final long SHUTDOWN_TIMEOUT_MS = 10000L;
+    
+    private static final long COMPACT_THRESHOLD_BYTES = 64 * 1024 * 1024L;
+    
+    private final File journalFile;
+    
+    private final int batchSize;
+    
+    private final long offerTimeoutMs;
+    
+    private final Consumer<List<Object[]>> batchWriter;
+    
+    private final Semaphore permits;
+    
+    private final BlockingQueue<Object[]> queue = new LinkedBlockingQueue<>();
+    
+    private final Object journalLock = new Object();
+    
+    private ExecutorService flusher;
+    
+    private Writer journal;
+    
+    private volatile boolean running;
+    
+    HistoryWriteBehindQueue(File journalFile, int capacity, int batchSize, long offerTimeoutMs,
+            Consumer<List<Object[]>> batchWriter) {
+        this.journalFile = journalFile;
+        this.batchSize = Math.max(1, batchSize);
+        this.offerTimeoutMs = offerTimeoutMs;
+        this.batchWriter = batchWriter;
+        this.permits = new Semaphore(Math.max(1, capacity));
+    }
+    
+    /**
+     * Write records left in journal and start flusher.
+     *
+     * @throws IOException if journal can not be read or opened.
+     */
+    void start() throws IOException {
+        File parent = journalFile.getParentFile();
+        if (parent != null && !parent.exists() && !parent.mkdirs()) {
+            throw new IOException("create dir " + parent + " fail");
+        }
+        replay();
+        journal = Files.newBufferedWriter(journalFile.toPath(), StandardCharsets.UTF_8, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+        running = true;
+        flusher = ExecutorFactory.newSingleExecutorService(
+                new NameThreadFactory("com.alibaba.nacos.config.history.write.behind"));
+        flusher.execute(this::flushLoop);
+    }
+    
+    /**
+     * Queue a history record.
+     *
+     * @param args arguments of history insert statement.
+     * @return false if queue is still full after offer timeout, the record is not queued.
+     */
+    boolean offer(Object[] args) {
+        try {
+            if (!running || !permits.tryAcquire(offerTimeoutMs, TimeUnit.MILLISECONDS)) {
+                return false;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+        synchronized (journalLock) {
+            try {
+                journal.write(JacksonUtils.toJson(args));
+                journal.write('\n');
+                journal.flush();
+            } catch (IOException e) {
+                permits.release();
+                DEFAULT_LOG.warn("[history-write-behind] append journal fail, write history synchronously.", e);
+                return false;
+            }
+            queue.add(args);
+        }
+        MetricsMonitor.getHistoryWriteBehindLagMonitor().incrementAndGet();
+        return true;
+    }
+    
+    int size() {
+        return queue.size();
+    }
+    
+    /**
+     * Stop accepting records, write queued records and close journal.
+     */
+    void shutdown() {
+        running = false;
+        if (flusher == null) {
+            return;
+        }
+        flusher.shutdown();
+        try {
+            if (!flusher.awaitTermination(SHUTDOWN_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+                DEFAULT_LOG.warn("[history-write-behind] {} records left in journal on shutdown.", queue.size());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        synchronized (journalLock) {
+            try {
+                journal.close();
+            } catch (IOException e) {
+                DEFAULT_LOG.warn("[history-write-behind] close journal fail.", e);
+            }
+        }
+    }
+    
+    private void flushLoop() {
+        List<Object[]> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                Object[] first = queue.poll(POLL_INTERVAL_MS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                writeBatch(batch);
+                acknowledge(batch.size());
+                permits.release(batch.size());
+                MetricsMonitor.getHistoryWriteBehindLagMonitor().addAndGet(-batch.size());
+                batch.clear();
+                trimJournal();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+    
+    private void writeBatch(List<Object[]> batch) throws InterruptedException {
+        while (true) {
+            try {
+                batchWriter.accept(batch);
+                return;
+            } catch (Throwable e) {
+                DEFAULT_LOG.error("[history-write-behind] write {} history records fail, retry later.", batch.size(),
+                        e);
+                if (!running) {
+                    // records are kept in journal and written again on next start.
+                    throw new InterruptedException("history write behind queue is shutdown");
+                }
+                Thread.sleep(RETRY_INTERVAL_MS);
+            }
+        }
+    }
+    
+    private void acknowledge(int count) {
+        synchronized (journalLock) {
+            try {
+                journal.write(ACK_PREFIX + count + '\n');
+                journal.flush();
+            } catch (IOException e) {
+                DEFAULT_LOG.warn("[history-write-behind] acknowledge journal fail.", e);
+            }
+        }
+    }
+    
+    /**
+     * Truncate journal if all records are written, or rewrite it with queued records if it grows too large.
+     */
+    private void trimJournal() {
+        synchronized (journalLock) {
+            boolean drained = queue.isEmpty();
+            if (!drained && journalFile.length() < COMPACT_THRESHOLD_BYTES) {
+                return;
+            }
+            try {
+                journal.close();
+                journal = Files.newBufferedWriter(journalFile.toPath(), StandardCharsets.UTF_8,
+                        StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+                for (Object[] args : queue) {
+                    journal.write(JacksonUtils.toJson(args));
+                    journal.write('\n');
+                }
+                journal.flush();
+            } catch (IOException e) {
+                DEFAULT_LOG.warn("[history-write-behind] trim journal fail.", e);
+            }
+        }
+    }
+    
+    private void replay() throws IOException {
+        if (!journalFile.exists()) {
+            return;
+        }
+        // records are written and acknowledged in journal order, so acknowledged records are always the first ones.
+        long acknowledged = 0;
+        try (BufferedReader reader = Files.newBufferedReader(journalFile.toPath(), StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                acknowledged += parseAcknowledged(line);
+            }
+        }
+        long skipped = 0;
+        long count = 0;
+        List<Object[]> batch = new ArrayList<>(batchSize);
+        try (BufferedReader reader = Files.newBufferedReader(journalFile.toPath(), StandardCharsets.UTF_8);
+                Writer ackWriter = Files.newBufferedWriter(journalFile.toPath(), StandardCharsets.UTF_8,
+                        StandardOpenOption.APPEND)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isEmpty() || line.startsWith(ACK_PREFIX)) {
+                    continue;
+                }
+                Object[] args;
+                try {
+                    args = decode(line);
+                } catch (Exception e) {
+                    // the last line may be partially written on crash.
+                    DEFAULT_LOG.warn("[history-write-behind] skip broken journal record {}", line, e);
+                    continue;
+                }
+                if (skipped < acknowledged) {
+                    skipped++;
+                    continue;
+                }
+                batch.add(args);
+                if (batch.size() >= batchSize) {
+                    count += replayBatch(batch, ackWriter);
+                }
+            }
+            if (!batch.isEmpty()) {
+                count += replayBatch(batch, ackWriter);
+            }
+        }
+        DEFAULT_LOG.info("[history-write-behind] replayed {} history records from journal {}, {} written before.",
+                count, journalFile, skipped);
+    }
+    
+    private int replayBatch(List<Object[]> batch, Writer ackWriter) throws IOException {
+        int size = batch.size();
+        batchWriter.accept(batch);
+        batch.clear();
+        // acknowledged records are not replayed again if crash before replay finished.
+        ackWriter.write(ACK_PREFIX + size + '\n');
+        ackWriter.flush();
+        return size;
+    }
+    
+    private static long parseAcknowledged(String line) {
+        if (!line.startsWith(ACK_PREFIX)) {
+            return 0;
+        }
+        try {
+            return Long.parseLong(line.substring(ACK_PREFIX.length()));
+        } catch (NumberFormatException e) {
+            // the last line may be partially written on crash.
+            return 0;
+        }
+    }
+    
+    static Object[] decode(String line) {
+        Object[] args = JacksonUtils.toObj(line, Object[].class);
+        args[ID_INDEX] = ((Number) args[ID_INDEX]).longValue();
+        args[TIME_INDEX] = new Timestamp(((Number) args[TIME_INDEX]).longValue());
+        return args;
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.utils;
+
+import com.alibaba.nacos.common.utils.IoUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Gzip compression of config content above a size threshold.
+ *
+ * <p>Compressed bytes always start with the gzip magic, which can not start a valid UTF-8 text, so {@link #decode}
+ * reads plain and compressed values alike and the threshold can be changed without rewriting stored content.
+ *
+ * @author Nacos
+ */
+public class ContentCompressUtils {
+    
+    /**
+     * Encode content to bytes, compress them if the size reaches the threshold and compression saves space.
+     *
+     * @param content   content.
+     * @param threshold min size in bytes to compress, zero or negative to never compress.
+     * @return UTF-8 or gzip bytes.
+     */
+    public static byte[] encode(String content, int threshold) {
+        byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+        byte[] compressed = compress(bytes, threshold);
+        return compressed == null ? bytes : compressed;
+    }
+    
+    /**
+     * Compress bytes if the size reaches the threshold and compression saves space.
+     *
+     * @param bytes     raw bytes.
+     * @param threshold min size in bytes to compress, zero or negative to never compress.
+     * @return gzip bytes, null if not compressed.
+     */
+    public static byte[] compress(byte[] bytes, int threshold) {
+        return doCompress(bytes, threshold, false);
+    }
+    
+    /**
+     * Compress bytes which are sent base64 encoded, e.g. a byte array field of a json payload. The compressed bytes
+     * are only used if they are still smaller than the raw bytes after base64 encoding.
+     *
+     * @param bytes     raw bytes.
+     * @param threshold min size in bytes to compress, zero or negative to never compress.
+     * @return gzip bytes, null if not compressed.
+     */
+    public static byte[] compressForBase64(byte[] bytes, int threshold) {
+        return doCompress(bytes, threshold, true);
+    }
+    
+    private static byte[] doCompress(byte[] bytes, int threshold, boolean base64) {
+        if (threshold <= 0 || bytes.length < threshold) {
+            return null;
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        } catch (IOException e) {
+            return null;
+        }
+        long size = base64 ? 4L * ((out.size() + 2) / 3) : out.size();
+        return size < bytes.length ? out.toByteArray() : null;
+    }
+    
+    /**
+     * Decode bytes written by {@link #encode}, or plain UTF-8 bytes.
+     *
+     * @param bytes bytes, may be null.
+     * @return content, null if bytes is null.
+     * @throws IOException if compressed bytes are corrupted.
+     */
+    public static String decode(byte[] bytes) throws IOException {
+        if (bytes == null) {
+            return null;
+        }
+        if (!IoUtils.isGzipStream(bytes)) {
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+        return new String(IoUtils.tryDecompress(new ByteArrayInputStream(bytes)), StandardCharsets.UTF_8);
+    }
+}
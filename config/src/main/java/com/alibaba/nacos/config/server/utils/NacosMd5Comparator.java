@@ -43,11 +43,12 @@ public class NacosMd5Comparator implements Md5Comparator {
             Map<String, ConfigListenState> clientMd5Map) {
         HashMap<String, ConfigListenState> changedGroupKeys = new HashMap<>(clientMd5Map.size());
         String tag = request.getHeader(VIPSERVER_TAG);
+        Map<String, String> connLabels = ConfigCacheService.buildConnLabels(RequestUtil.getRemoteIp(request), tag,
+                null);
         for (Map.Entry<String, ConfigListenState> entry : clientMd5Map.entrySet()) {
             String groupKey = entry.getKey();
             String clientMd5 = entry.getValue().getMd5();
-            String ip = RequestUtil.getRemoteIp(request);
-            boolean isUptodate = ConfigCacheService.isUptodate(groupKey, clientMd5, ip, tag);
+            boolean isUptodate = ConfigCacheService.isUptodate(groupKey, clientMd5, connLabels);
             if (!isUptodate) {
                 changedGroupKeys.put(entry.getKey(), entry.getValue());
             }
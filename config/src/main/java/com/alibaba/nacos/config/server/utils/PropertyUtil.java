@@ -110,6 +110,16 @@ public class PropertyUtil implements ApplicationContextInitializer<ConfigurableA
      */
     private static int correctUsageDelay = 10 * 60;
     
+    /**
+     * Whether to count capacity usage in memory and write it back to capacity tables asynchronously.
+     */
+    private static boolean isCapacityUsageInMemory = false;
+    
+    /**
+     * Interval to write in memory capacity usage back to capacity tables, the unit is in milliseconds.
+     */
+    private static long capacityUsageFlushInterval = 1000L;
+    
     private static boolean dumpChangeOn = true;
     
     /**
@@ -271,6 +281,22 @@ public class PropertyUtil implements ApplicationContextInitializer<ConfigurableA
         PropertyUtil.correctUsageDelay = correctUsageDelay;
     }
     
+    public static boolean isCapacityUsageInMemory() {
+        return isCapacityUsageInMemory;
+    }
+    
+    public static void setCapacityUsageInMemory(boolean isCapacityUsageInMemory) {
+        PropertyUtil.isCapacityUsageInMemory = isCapacityUsageInMemory;
+    }
+    
+    public static long getCapacityUsageFlushInterval() {
+        return capacityUsageFlushInterval;
+    }
+    
+    public static void setCapacityUsageFlushInterval(long capacityUsageFlushInterval) {
+        PropertyUtil.capacityUsageFlushInterval = capacityUsageFlushInterval;
+    }
+    
     public static int getConfigRententionDays() {
         return configRententionDays;
     }
@@ -323,6 +349,10 @@ public class PropertyUtil implements ApplicationContextInitializer<ConfigurableA
             setDefaultMaxAggrSize(getInt(PropertiesConstant.DEFAULT_MAX_AGGR_SIZE, defaultMaxAggrSize));
             setCorrectUsageDelay(getInt(PropertiesConstant.CORRECT_USAGE_DELAY, correctUsageDelay));
             setInitialExpansionPercent(getInt(PropertiesConstant.INITIAL_EXPANSION_PERCENT, initialExpansionPercent));
+            setCapacityUsageInMemory(
+                    getBoolean(PropertiesConstant.IS_CAPACITY_USAGE_IN_MEMORY, isCapacityUsageInMemory));
+            setCapacityUsageFlushInterval(
+                    getLong(PropertiesConstant.CAPACITY_USAGE_FLUSH_INTERVAL, capacityUsageFlushInterval));
             setConfigRententionDays();
             setDumpChangeOn(getBoolean(PropertiesConstant.DUMP_CHANGE_ON, dumpChangeOn));
             setDumpChangeWorkerInterval(
@@ -0,0 +1,234 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.utils;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongConsumer;
+import java.util.function.ToLongBiFunction;
+
+/**
+ * A segmented LRU cache bounded by total weight rather than entry count.
+ *
+ * <p>Each segment is an access ordered map guarded by its own monitor and owns an equal share of the weight budget, so
+ * lookups of different keys rarely contend. Entries heavier than the budget of one segment are never cached.
+ *
+ * @param <V> the value type
+ * @author Nacos
+ */
+public class WeightedLruCache<V> {
+    
+    private static final int SEGMENT_COUNT = 16;
+    
+    private final Segment<V>[] segments;
+    
+    private final boolean enabled;
+    
+    private final ToLongBiFunction<String, V> weigher;
+    
+    private final LongConsumer weightChangeListener;
+    
+    private final Runnable evictionListener;
+    
+    /**
+     * Create a weighted LRU cache.
+     *
+     * @param maxWeight            total weight budget, not positive means the cache is disabled
+     * @param weigher              weigher of one entry
+     * @param weightChangeListener notified with the delta whenever the held weight changes
+     * @param evictionListener     notified whenever an entry is evicted for exceeding the budget
+     */
+    @SuppressWarnings("unchecked")
+    public WeightedLruCache(long maxWeight, ToLongBiFunction<String, V> weigher, LongConsumer weightChangeListener,
+            Runnable evictionListener) {
+        this.enabled = maxWeight > 0;
+        this.weigher = weigher;
+        this.weightChangeListener = weightChangeListener;
+        this.evictionListener = evictionListener;
+        this.segments = new Segment[SEGMENT_COUNT];
+        long segmentBudget = Math.max(maxWeight / SEGMENT_COUNT, 0);
+        for (int i = 0; i < SEGMENT_COUNT; i++) {
+            segments[i] = new Segment<>(segmentBudget);
+        }
+    }
+    
+    public boolean isEnabled() {
+        return enabled;
+    }
+    
+    /**
+     * Get value and mark it as recently used.
+     *
+     * @param key key
+     * @return value or null if absent
+     */
+    public V get(String key) {
+        if (!enabled) {
+            return null;
+        }
+        Segment<V> segment = segmentFor(key);
+        synchronized (segment) {
+            Node<V> node = segment.map.get(key);
+            return node == null ? null : node.value;
+        }
+    }
+    
+    /**
+     * Put value, evicting least recently used entries of the segment when over budget.
+     *
+     * @param key   key
+     * @param value value
+     */
+    public void put(String key, V value) {
+        if (!enabled) {
+            return;
+        }
+        Segment<V> segment = segmentFor(key);
+        Node<V> node = new Node<>(value, weigher.applyAsLong(key, value));
+        synchronized (segment) {
+            if (node.weight > segment.budget) {
+                removeNode(segment, key);
+                return;
+            }
+            putNode(segment, key, node);
+        }
+    }
+    
+    /**
+     * Replace value only if the key is already cached.
+     *
+     * @param key   key
+     * @param value new value, null means remove
+     * @return true if the key was present
+     */
+    public boolean replaceIfPresent(String key, V value) {
+        if (!enabled) {
+            return false;
+        }
+        Segment<V> segment = segmentFor(key);
+        Node<V> node = value == null ? null : new Node<>(value, weigher.applyAsLong(key, value));
+        synchronized (segment) {
+            if (!segment.map.containsKey(key)) {
+                return false;
+            }
+            if (node == null || node.weight > segment.budget) {
+                removeNode(segment, key);
+            } else {
+                putNode(segment, key, node);
+            }
+            return true;
+        }
+    }
+    
+    /**
+     * Remove value.
+     *
+     * @param key key
+     */
+    public void remove(String key) {
+        if (!enabled) {
+            return;
+        }
+        Segment<V> segment = segmentFor(key);
+        synchronized (segment) {
+            removeNode(segment, key);
+        }
+    }
+    
+    /**
+     * Clear all entries.
+     */
+    public void clear() {
+        for (Segment<V> segment : segments) {
+            synchronized (segment) {
+                weightChangeListener.accept(-segment.weight);
+                segment.map.clear();
+                segment.weight = 0;
+            }
+        }
+    }
+    
+    /**
+     * Get total weight currently held.
+     *
+     * @return weight
+     */
+    public long weight() {
+        long weight = 0;
+        for (Segment<V> segment : segments) {
+            synchronized (segment) {
+                weight += segment.weight;
+            }
+        }
+        return weight;
+    }
+    
+    private void putNode(Segment<V> segment, String key, Node<V> node) {
+        Node<V> old = segment.map.put(key, node);
+        long delta = node.weight - (old == null ? 0 : old.weight);
+        segment.weight += delta;
+        weightChangeListener.accept(delta);
+        Iterator<Map.Entry<String, Node<V>>> iterator = segment.map.entrySet().iterator();
+        while (segment.weight > segment.budget && iterator.hasNext()) {
+            Node<V> eldest = iterator.next().getValue();
+            iterator.remove();
+            segment.weight -= eldest.weight;
+            weightChangeListener.accept(-eldest.weight);
+            evictionListener.run();
+        }
+    }
+    
+    private void removeNode(Segment<V> segment, String key) {
+        Node<V> old = segment.map.remove(key);
+        if (old != null) {
+            segment.weight -= old.weight;
+            weightChangeListener.accept(-old.weight);
+        }
+    }
+    
+    private Segment<V> segmentFor(String key) {
+        int hash = key.hashCode();
+        hash ^= hash >>> 16;
+        return segments[hash & (SEGMENT_COUNT - 1)];
+    }
+    
+    private static class Node<V> {
+        
+        final V value;
+        
+        final long weight;
+        
+        Node(V value, long weight) {
+            this.value = value;
+            this.weight = weight;
+        }
+    }
+    
+    private static class Segment<V> {
+        
+        final long budget;
+        
+        final LinkedHashMap<String, Node<V>> map = new LinkedHashMap<>(64, 0.75f, true);
+        
+        long weight;
+        
+        Segment(long budget) {
+            this.budget = budget;
+        }
+    }
+}
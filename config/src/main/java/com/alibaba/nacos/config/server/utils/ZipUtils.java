@@ -22,10 +22,13 @@ import org.slf4j.LoggerFactory;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Predicate;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
 import java.util.zip.ZipOutputStream;
@@ -96,6 +99,47 @@ public class ZipUtils {
         }
     }
     
+    /**
+     * Reader of zip items, reads entries one by one from a stream so only one entry is held in memory.
+     */
+    public static class ZipItemReader implements Closeable {
+        
+        private final ZipInputStream zipIn;
+        
+        public ZipItemReader(InputStream source) {
+            this.zipIn = new ZipInputStream(source);
+        }
+        
+        /**
+         * Read next file entry accepted by entry filter, content of other entries is skipped.
+         *
+         * @param entryFilter filter of entry name.
+         * @return next zip item, null if no more entries.
+         * @throws IOException if read fail.
+         */
+        public ZipItem next(Predicate<String> entryFilter) throws IOException {
+            ZipEntry entry;
+            while ((entry = zipIn.getNextEntry()) != null) {
+                if (entry.isDirectory() || !entryFilter.test(entry.getName())) {
+                    continue;
+                }
+                ByteArrayOutputStream out = new ByteArrayOutputStream();
+                byte[] buffer = new byte[1024];
+                int offset;
+                while ((offset = zipIn.read(buffer)) != -1) {
+                    out.write(buffer, 0, offset);
+                }
+                return new ZipItem(entry.getName(), out.toString(StandardCharsets.UTF_8.name()));
+            }
+            return null;
+        }
+        
+        @Override
+        public void close() throws IOException {
+            zipIn.close();
+        }
+    }
+    
     /**
      * zip method.
      */
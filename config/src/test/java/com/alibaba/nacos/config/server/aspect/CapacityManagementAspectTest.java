@@ -24,6 +24,7 @@ import com.alibaba.nacos.config.server.model.capacity.GroupCapacity;
 import com.alibaba.nacos.config.server.model.capacity.NamespaceCapacity;
 import com.alibaba.nacos.config.server.model.form.ConfigForm;
 import com.alibaba.nacos.config.server.service.capacity.CapacityService;
+import com.alibaba.nacos.config.server.service.capacity.CapacityUsageCounter;
 import com.alibaba.nacos.config.server.service.repository.ConfigInfoPersistService;
 import com.alibaba.nacos.config.server.utils.PropertyUtil;
 import com.alibaba.nacos.plugin.datasource.constants.CommonConstant;
@@ -211,6 +212,41 @@ class CapacityManagementAspectTest {
         Mockito.verify(proceedingJoinPoint, Mockito.times(1)).proceed();
     }
     
+    @Test
+    void testAroundPublishConfigForInsertInMemory() throws Throwable {
+        when(PropertyUtil.isManageCapacity()).thenReturn(true);
+        when(PropertyUtil.isCapacityLimitCheck()).thenReturn(true);
+        when(PropertyUtil.isCapacityUsageInMemory()).thenReturn(true);
+        when(proceedingJoinPoint.getArgs()).thenReturn(new Object[]{configForm, configRequestInfo});
+        when(configForm.getDataId()).thenReturn(mockDataId);
+        when(configForm.getGroup()).thenReturn(mockGroup);
+        when(configForm.getNamespaceId()).thenReturn(mockTenant);
+        when(configForm.getContent()).thenReturn("content");
+        when(configInfoPersistService.findConfigInfo(any(), any(), any())).thenReturn(null);
+        CapacityUsageCounter capacityUsageCounter = Mockito.mock(CapacityUsageCounter.class);
+        when(capacityService.getCapacityUsageCounter()).thenReturn(capacityUsageCounter);
+        when(capacityUsageCounter.incrementClusterUsage(false)).thenReturn(true);
+        NamespaceCapacity localTenantCapacity = new NamespaceCapacity();
+        localTenantCapacity.setMaxSize(0);
+        when(capacityUsageCounter.getCapacity(mockGroup, mockTenant)).thenReturn(localTenantCapacity);
+        when(capacityUsageCounter.incrementUsage(mockGroup, mockTenant, false)).thenReturn(false);
+        
+        NacosException exception = assertThrows(NacosException.class,
+                () -> capacityManagementAspect.aroundPublishConfig(proceedingJoinPoint));
+        assertEquals("Configuration limit exceeded [group=mockGroup, namespaceId=mockTenant].",
+                exception.getMessage());
+        // cluster usage is rolled back in memory, and capacity tables are not touched.
+        Mockito.verify(capacityUsageCounter).decrementClusterUsage();
+        Mockito.verify(capacityService, Mockito.never()).insertAndUpdateClusterUsage(any(), anyBoolean());
+        Mockito.verify(capacityService, Mockito.never()).updateTenantUsage(any(), any());
+        Mockito.verify(proceedingJoinPoint, Mockito.never()).proceed();
+        
+        when(capacityUsageCounter.incrementUsage(mockGroup, mockTenant, false)).thenReturn(true);
+        when(proceedingJoinPoint.proceed()).thenReturn(false);
+        assertEquals(false, capacityManagementAspect.aroundPublishConfig(proceedingJoinPoint));
+        Mockito.verify(capacityUsageCounter).decrementUsage(mockGroup, mockTenant);
+    }
+    
     @Test
     void testAroundPublishConfigForInsertAspect3Tenant() throws Throwable {
         //test with insert
@@ -47,9 +47,9 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
-import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 import org.springframework.core.env.StandardEnvironment;
+import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.mock.web.MockServletContext;
 import org.springframework.test.context.ContextConfiguration;
@@ -57,6 +57,7 @@ import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.test.context.web.WebAppConfiguration;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
@@ -70,6 +71,7 @@ import java.util.concurrent.atomic.AtomicReference;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
@@ -331,6 +333,7 @@ class ConfigControllerV3Test {
         String namespaceId = "tenant234";
         String appname = "appname2";
         ConfigAllInfo configAllInfo = new ConfigAllInfo();
+        configAllInfo.setId(1L);
         configAllInfo.setDataId(dataId);
         configAllInfo.setGroup(groupName);
         configAllInfo.setTenant(namespaceId);
@@ -338,14 +341,21 @@ class ConfigControllerV3Test {
         configAllInfo.setContent("content1234");
         List<ConfigAllInfo> dataList = new ArrayList<>();
         dataList.add(configAllInfo);
-        Mockito.when(configInfoPersistService.findAllConfigInfo4Export(eq(dataId), eq(groupName), eq(namespaceId),
-                eq(appname), eq(Arrays.asList(1L, 2L)))).thenReturn(dataList);
+        Mockito.when(configInfoPersistService.findConfigInfo4ExportFetchRows(eq(dataId), eq(groupName),
+                eq(namespaceId), eq(appname), eq(Arrays.asList(1L, 2L)), eq(0L), anyInt())).thenReturn(dataList);
         MockHttpServletRequestBuilder builder = MockMvcRequestBuilders.get(Constants.CONFIG_ADMIN_V3_PATH + "/export")
                 .param("dataId", dataId).param("groupName", groupName).param("namespaceId", namespaceId)
                 .param("appName", appname).param("ids", "1,2");
         
-        int actualValue = mockmvc.perform(builder).andReturn().getResponse().getStatus();
-        assertEquals(200, actualValue);
+        MvcResult mvcResult = mockmvc.perform(builder).andReturn();
+        MockHttpServletResponse response = mockmvc.perform(MockMvcRequestBuilders.asyncDispatch(mvcResult))
+                .andReturn().getResponse();
+        assertEquals(200, response.getStatus());
+        ZipUtils.UnZipResult unZipResult = ZipUtils.unzip(response.getContentAsByteArray());
+        assertEquals(1, unZipResult.getZipItemList().size());
+        assertEquals(groupName + "/" + dataId, unZipResult.getZipItemList().get(0).getItemName());
+        assertEquals("content1234", unZipResult.getZipItemList().get(0).getItemData());
+        assertEquals(Constants.CONFIG_EXPORT_METADATA_NEW, unZipResult.getMetaDataItem().getItemName());
     }
     
     @Test
@@ -364,29 +374,28 @@ class ConfigControllerV3Test {
         configExportItem.setType("json");
         configExportItem.setAppName("appna123");
         configMetadata.getMetadata().add(configExportItem);
-        ZipUtils.UnZipResult unziped = new ZipUtils.UnZipResult(zipItems,
+        zipItems.add(
                 new ZipUtils.ZipItem(Constants.CONFIG_EXPORT_METADATA_NEW, YamlParserUtil.dumpObject(configMetadata)));
-        MockMultipartFile file = new MockMultipartFile("file", "test.zip", "application/zip", "test".getBytes());
-        try (MockedStatic<ZipUtils> zipUtilsMockedStatic = Mockito.mockStatic(ZipUtils.class)) {
-            zipUtilsMockedStatic.when(() -> ZipUtils.unzip(eq(file.getBytes()))).thenReturn(unziped);
-            when(namespacePersistService.tenantInfoCountByTenantId("public")).thenReturn(1);
-            Map<String, Object> map = new HashMap<>();
-            map.put("test", "test");
-            when(configInfoPersistService.batchInsertOrUpdate(anyList(), anyString(), anyString(), any(),
-                    any())).thenReturn(map);
-            
-            MockHttpServletRequestBuilder builder = MockMvcRequestBuilders.multipart(
-                            Constants.CONFIG_ADMIN_V3_PATH + "/import").file(file).param("src_user", "test")
-                    .param("namespace", "public").param("policy", "ABORT");
-            
-            String actualValue = mockmvc.perform(builder).andReturn().getResponse().getContentAsString();
-            
-            String code = JacksonUtils.toObj(actualValue).get("code").toString();
-            assertEquals("0", code);
-            Map<String, Object> resultMap = JacksonUtils.toObj(JacksonUtils.toObj(actualValue).get("data").toString(),
-                    Map.class);
-            assertEquals(map.get("test"), resultMap.get("test").toString());
-        }
+        MockMultipartFile file = new MockMultipartFile("file", "test.zip", "application/zip", ZipUtils.zip(zipItems));
+        when(namespacePersistService.tenantInfoCountByTenantId("public")).thenReturn(1);
+        Map<String, Object> map = new HashMap<>();
+        map.put("succCount", 1);
+        map.put("skipCount", 0);
+        when(configInfoPersistService.batchInsertOrUpdate(anyList(), anyString(), anyString(), any(),
+                any())).thenReturn(map);
+        
+        MockHttpServletRequestBuilder builder = MockMvcRequestBuilders.multipart(
+                        Constants.CONFIG_ADMIN_V3_PATH + "/import").file(file).param("src_user", "test")
+                .param("namespace", "public").param("policy", "ABORT");
+        
+        String actualValue = mockmvc.perform(builder).andReturn().getResponse().getContentAsString();
+        
+        String code = JacksonUtils.toObj(actualValue).get("code").toString();
+        assertEquals("0", code);
+        Map<String, Object> resultMap = JacksonUtils.toObj(JacksonUtils.toObj(actualValue).get("data").toString(),
+                Map.class);
+        assertEquals(1, resultMap.get("succCount"));
+        assertEquals(0, resultMap.get("skipCount"));
     }
     
     @Test
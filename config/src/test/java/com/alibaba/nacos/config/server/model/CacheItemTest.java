@@ -0,0 +1,73 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.model;
+
+import com.alibaba.nacos.sys.env.EnvUtil;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.env.StandardEnvironment;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CacheItemTest {
+    
+    @BeforeAll
+    static void setUpEnv() {
+        EnvUtil.setEnvironment(new StandardEnvironment());
+    }
+    
+    @Test
+    void testReadWriteLock() {
+        CacheItem cacheItem = new CacheItem("dataId+group+tenant");
+        assertTrue(cacheItem.tryReadLock());
+        assertTrue(cacheItem.tryReadLock());
+        assertFalse(cacheItem.tryWriteLock());
+        cacheItem.releaseReadLock();
+        assertFalse(cacheItem.tryWriteLock());
+        cacheItem.releaseReadLock();
+        // release more than locked should not make it write locked.
+        cacheItem.releaseReadLock();
+        assertTrue(cacheItem.tryWriteLock());
+        assertFalse(cacheItem.tryReadLock());
+        assertFalse(cacheItem.tryWriteLock());
+        cacheItem.releaseWriteLock();
+        assertTrue(cacheItem.tryReadLock());
+    }
+    
+    @Test
+    void testTypeShared() {
+        CacheItem cacheItem1 = new CacheItem("dataId1+group+tenant");
+        CacheItem cacheItem2 = new CacheItem("dataId2+group+tenant");
+        cacheItem1.setType(new String("yaml".toCharArray()));
+        cacheItem2.setType(new String("yaml".toCharArray()));
+        assertSame(cacheItem1.getType(), cacheItem2.getType());
+    }
+    
+    @Test
+    void testConfigGrayLazyInit() {
+        CacheItem cacheItem = new CacheItem("dataId+group+tenant");
+        assertNull(cacheItem.getConfigCacheGray());
+        assertNull(cacheItem.getSortConfigGrays());
+        cacheItem.initConfigGrayIfEmpty("gray1");
+        assertTrue(cacheItem.getConfigCacheGray().containsKey("gray1"));
+        cacheItem.clearConfigGrays();
+        assertNull(cacheItem.getConfigCacheGray());
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.model;
+
+import com.alibaba.nacos.config.server.model.gray.BetaGrayRule;
+import com.alibaba.nacos.config.server.model.gray.ConfigGrayPersistInfo;
+import com.alibaba.nacos.config.server.model.gray.GrayRuleManager;
+import com.alibaba.nacos.config.server.model.gray.TagGrayRule;
+import com.alibaba.nacos.sys.env.EnvUtil;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+class ConfigCacheGrayMatcherTest {
+    
+    @BeforeAll
+    static void setUpEnv() {
+        EnvUtil.setEnvironment(new StandardEnvironment());
+    }
+    
+    private static void addGray(CacheItem cacheItem, String grayName, String type, String expr, int priority) {
+        cacheItem.initConfigGrayIfEmpty(grayName);
+        cacheItem.getConfigCacheGray().get(grayName).resetGrayRule(GrayRuleManager.serializeConfigGrayPersistInfo(
+                new ConfigGrayPersistInfo(type, "1.0.0", expr, priority)));
+    }
+    
+    private static Map<String, String> labels(String ip, String tag) {
+        Map<String, String> labels = new HashMap<>(4);
+        if (ip != null) {
+            labels.put(BetaGrayRule.CLIENT_IP_LABEL, ip);
+        }
+        if (tag != null) {
+            labels.put(TagGrayRule.VIP_SERVER_TAG_LABEL, tag);
+        }
+        return labels;
+    }
+    
+    @Test
+    void testMatchSameAsSortedGrays() {
+        CacheItem cacheItem = new CacheItem("dataId+group+tenant");
+        addGray(cacheItem, "beta", BetaGrayRule.TYPE_BETA, "127.0.0.1,127.0.0.2", BetaGrayRule.PRIORITY);
+        addGray(cacheItem, "tag_gray1", TagGrayRule.TYPE_TAG, "gray1", 10);
+        addGray(cacheItem, "tag_gray2", TagGrayRule.TYPE_TAG, "gray2", 20);
+        addGray(cacheItem, "tag_gray1_low", TagGrayRule.TYPE_TAG, "gray1", 5);
+        cacheItem.sortConfigGray();
+        
+        for (String ip : new String[] {null, "127.0.0.1", "127.0.0.2", "127.0.0.3"}) {
+            for (String tag : new String[] {null, "gray1", "gray2", "gray3"}) {
+                Map<String, String> labels = labels(ip, tag);
+                ConfigCacheGray expected = null;
+                for (ConfigCacheGray gray : cacheItem.getSortConfigGrays()) {
+                    if (gray.match(labels)) {
+                        expected = gray;
+                        break;
+                    }
+                }
+                assertSame(expected, cacheItem.matchConfigGray(labels), "ip " + ip + ", tag " + tag);
+            }
+        }
+        assertEquals("tag_gray1", cacheItem.matchConfigGray(labels("127.0.0.3", "gray1")).getGrayName());
+        assertEquals("beta", cacheItem.matchConfigGray(labels("127.0.0.2", "gray2")).getGrayName());
+        assertNull(cacheItem.matchConfigGray(null));
+    }
+    
+    @Test
+    void testMatchOtherRulesByPriority() {
+        CacheItem cacheItem = new CacheItem("dataId+group+tenant");
+        addGray(cacheItem, "tag_gray1", TagGrayRule.TYPE_TAG, "gray1", 10);
+        ConfigCacheGray high = Mockito.mock(ConfigCacheGray.class);
+        when(high.getPriority()).thenReturn(20);
+        when(high.getGrayName()).thenReturn("other_high");
+        when(high.match(any())).thenAnswer(invocation -> "v1".equals(
+                invocation.<Map<String, String>>getArgument(0).get("version")));
+        ConfigCacheGray low = Mockito.mock(ConfigCacheGray.class);
+        when(low.getPriority()).thenReturn(1);
+        when(low.getGrayName()).thenReturn("other_low");
+        cacheItem.getConfigCacheGray().put("other_high", high);
+        cacheItem.getConfigCacheGray().put("other_low", low);
+        cacheItem.sortConfigGray();
+        
+        Map<String, String> labels = labels(null, "gray1");
+        labels.put("version", "v1");
+        assertSame(high, cacheItem.matchConfigGray(labels));
+        labels.put("version", "v2");
+        assertEquals("tag_gray1", cacheItem.matchConfigGray(labels).getGrayName());
+        // rules with lower priority than the indexed match are not evaluated.
+        Mockito.verify(low, Mockito.never()).match(any());
+        
+        cacheItem.clearConfigGrays();
+        assertNull(cacheItem.matchConfigGray(labels));
+    }
+}
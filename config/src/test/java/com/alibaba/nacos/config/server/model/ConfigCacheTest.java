@@ -0,0 +1,94 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.model;
+
+import com.alibaba.nacos.common.utils.MD5Utils;
+import com.alibaba.nacos.config.server.constant.Constants;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConfigCacheTest {
+    
+    @Test
+    void testHexMd5() {
+        String md5 = MD5Utils.md5Hex("content", Constants.ENCODE_UTF8);
+        ConfigCache configCache = new ConfigCache(md5, 1L);
+        assertTrue(configCache.md5 instanceof byte[]);
+        assertEquals(md5, configCache.getMd5());
+        assertTrue(configCache.isMd5Equals(md5));
+        assertFalse(configCache.isMd5Equals(md5.toUpperCase()));
+        assertFalse(configCache.isMd5Equals(MD5Utils.md5Hex("content2", Constants.ENCODE_UTF8)));
+        assertFalse(configCache.isMd5Equals(md5.substring(1)));
+        assertFalse(configCache.isMd5Equals(null));
+        assertFalse(configCache.isMd5Equals(Constants.NULL));
+    }
+    
+    @Test
+    void testHexMd5KeptCompact() {
+        String md5 = MD5Utils.md5Hex("content", Constants.ENCODE_UTF8);
+        ConfigCache configCache = new ConfigCache(md5, 1L);
+        assertEquals(md5, configCache.getMd5());
+        assertEquals(md5, configCache.getMd5());
+        assertTrue(configCache.md5 instanceof byte[]);
+        assertFalse(configCache.isMd5Blank());
+        
+        String newMd5 = MD5Utils.md5Hex("content2", Constants.ENCODE_UTF8);
+        configCache.setMd5(newMd5);
+        assertTrue(configCache.md5 instanceof byte[]);
+        assertEquals(newMd5, configCache.getMd5());
+    }
+    
+    @Test
+    void testNonHexMd5() {
+        ConfigCache configCache = new ConfigCache();
+        assertEquals(Constants.NULL, configCache.getMd5());
+        assertTrue(configCache.isMd5Equals(Constants.NULL));
+        assertTrue(configCache.isMd5Blank());
+        
+        String upperCaseMd5 = MD5Utils.md5Hex("content", Constants.ENCODE_UTF8).toUpperCase();
+        configCache.setMd5(upperCaseMd5);
+        assertEquals(upperCaseMd5, configCache.getMd5());
+        assertTrue(configCache.isMd5Equals(upperCaseMd5));
+        assertFalse(configCache.isMd5Equals(upperCaseMd5.toLowerCase()));
+        
+        assertFalse(configCache.isMd5Blank());
+        
+        configCache.setMd5(null);
+        assertNull(configCache.getMd5());
+        assertTrue(configCache.isMd5Equals(null));
+        assertTrue(configCache.isMd5Blank());
+        
+        configCache.clear();
+        assertEquals(Constants.NULL, configCache.getMd5());
+    }
+    
+    @Test
+    void testEmptyEncryptedDataKeyShared() {
+        ConfigCache configCache = new ConfigCache();
+        configCache.setEncryptedDataKey(new String(new char[0]));
+        assertSame(Constants.NULL, configCache.getEncryptedDataKey());
+        configCache.setEncryptedDataKey(null);
+        assertNull(configCache.getEncryptedDataKey());
+        configCache.setEncryptedDataKey("key");
+        assertEquals("key", configCache.getEncryptedDataKey());
+    }
+}
@@ -66,7 +66,7 @@ class ConfigChangeBatchListenRequestHandlerTest {
         
         final String groupKeyCopy = groupKey;
         configCacheServiceMockedStatic.when(
-                () -> ConfigCacheService.isUptodate(eq(groupKeyCopy), Mockito.any(), Mockito.any(), Mockito.any())).thenReturn(false);
+                () -> ConfigCacheService.isUptodate(eq(groupKeyCopy), Mockito.any(), Mockito.any())).thenReturn(false);
         ConfigBatchListenRequest configChangeListenRequest = new ConfigBatchListenRequest();
         configChangeListenRequest.addConfigListenContext(group, dataId, tenant, " ");
         try {
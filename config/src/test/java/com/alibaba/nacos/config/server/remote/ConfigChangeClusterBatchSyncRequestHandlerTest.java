@@ -0,0 +1,105 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.remote;
+
+import com.alibaba.nacos.api.config.remote.request.cluster.ConfigChangeClusterBatchSyncRequest;
+import com.alibaba.nacos.api.config.remote.request.cluster.ConfigChangeClusterSyncRequest;
+import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.api.remote.request.RequestMeta;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ConfigChangeClusterBatchSyncRequestHandlerTest {
+    
+    @Mock
+    private ConfigChangeClusterSyncRequestHandler configChangeClusterSyncRequestHandler;
+    
+    private ConfigChangeClusterBatchSyncRequestHandler handler;
+    
+    private final RequestMeta meta = new RequestMeta();
+    
+    @BeforeEach
+    void setUp() {
+        handler = new ConfigChangeClusterBatchSyncRequestHandler(configChangeClusterSyncRequestHandler);
+    }
+    
+    private static ConfigChangeClusterBatchSyncRequest frame(long epoch, long firstSeq, String... dataIds) {
+        ConfigChangeClusterBatchSyncRequest request = new ConfigChangeClusterBatchSyncRequest();
+        request.setSource("1.1.1.1:8848");
+        request.setEpoch(epoch);
+        request.setFirstSeq(firstSeq);
+        for (String dataId : dataIds) {
+            ConfigChangeClusterSyncRequest change = new ConfigChangeClusterSyncRequest();
+            change.setDataId(dataId);
+            change.setGroup("group");
+            request.getChanges().add(change);
+        }
+        return request;
+    }
+    
+    private void verifySynced(String dataId, int times) throws NacosException {
+        verify(configChangeClusterSyncRequestHandler, times(times)).sync(
+                argThat(change -> dataId.equals(change.getDataId())), any());
+    }
+    
+    @Test
+    void testSkipDuplicatesAndRejectGap() throws NacosException {
+        assertEquals(2L, handler.handle(frame(1L, 1L, "a", "b"), meta).getAckSeq());
+        // b is resent with c, only c is new.
+        assertEquals(3L, handler.handle(frame(1L, 2L, "b", "c"), meta).getAckSeq());
+        verifySynced("b", 1);
+        verifySynced("c", 1);
+        
+        // d is lost, e is not applied and the sender resends from d.
+        assertEquals(3L, handler.handle(frame(1L, 5L, "e"), meta).getAckSeq());
+        verifySynced("e", 0);
+        assertEquals(5L, handler.handle(frame(1L, 4L, "d", "e"), meta).getAckSeq());
+        verifySynced("e", 1);
+        
+        // sender restarted with a new epoch.
+        assertEquals(1L, handler.handle(frame(2L, 1L, "f"), meta).getAckSeq());
+        verifySynced("f", 1);
+    }
+    
+    @Test
+    void testStopAtFailedChange() throws NacosException {
+        lenient().doThrow(new IllegalStateException("db error")).when(configChangeClusterSyncRequestHandler)
+                .sync(argThat(change -> "b".equals(change.getDataId())), any());
+        assertEquals(1L, handler.handle(frame(1L, 1L, "a", "b", "c"), meta).getAckSeq());
+        verifySynced("c", 0);
+    }
+    
+    @Test
+    void testSkipInvalidChange() throws NacosException {
+        lenient().doThrow(new NacosException(NacosException.INVALID_PARAM, "invalid tag"))
+                .when(configChangeClusterSyncRequestHandler)
+                .sync(argThat(change -> "b".equals(change.getDataId())), any());
+        assertEquals(3L, handler.handle(frame(1L, 1L, "a", "b", "c"), meta).getAckSeq());
+        verifySynced("c", 1);
+    }
+}
@@ -24,11 +24,17 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @ExtendWith(MockitoExtension.class)
 class ConfigChangeListenContextTest {
@@ -105,4 +111,45 @@ class ConfigChangeListenContextTest {
         assertFalse(configListenStates.get("groupKey").isNamespaceTransfer());
     }
     
-}
\ No newline at end of file
+    @Test
+    void testGetListenersIsReadOnlyView() {
+        configChangeListenContext.addListen("groupKey", "md5", "connectionId", false);
+        Set<String> listeners = configChangeListenContext.getListeners("groupKey");
+        configChangeListenContext.addListen("groupKey", "md5", "connectionId2", false);
+        assertEquals(2, listeners.size());
+        assertThrows(UnsupportedOperationException.class, () -> listeners.add("connectionId3"));
+    }
+    
+    @Test
+    void testConcurrentListenAndClear() throws InterruptedException {
+        int threads = 8;
+        int connectionsPerThread = 200;
+        ExecutorService executorService = Executors.newFixedThreadPool(threads);
+        CountDownLatch latch = new CountDownLatch(threads);
+        for (int i = 0; i < threads; i++) {
+            final int index = i;
+            executorService.execute(() -> {
+                try {
+                    for (int j = 0; j < connectionsPerThread; j++) {
+                        String connectionId = "connection-" + index + "-" + j;
+                        for (int k = 0; k < 10; k++) {
+                            configChangeListenContext.addListen("groupKey" + k, "md5", connectionId, false);
+                        }
+                        if (j % 2 == 0) {
+                            configChangeListenContext.clearContextForConnectionId(connectionId);
+                        }
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        assertTrue(latch.await(30, TimeUnit.SECONDS));
+        executorService.shutdown();
+        for (int k = 0; k < 10; k++) {
+            assertEquals(threads * connectionsPerThread / 2, configChangeListenContext.getListeners("groupKey" + k).size());
+        }
+        assertEquals(threads * connectionsPerThread / 2, configChangeListenContext.getConnectionCount());
+    }
+    
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.remote;
+
+import com.alibaba.nacos.api.config.remote.response.ConfigQueryResponse;
+import com.alibaba.nacos.common.utils.JacksonUtils;
+import com.google.protobuf.ByteString;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class ConfigQueryPayloadCacheTest {
+    
+    private ConfigQueryResponse buildResponse(String content, String md5, long lastModified) {
+        ConfigQueryResponse response = ConfigQueryResponse.buildSuccessResponse(content);
+        response.setMd5(md5);
+        response.setLastModified(lastModified);
+        response.setContentType("text");
+        return response;
+    }
+    
+    @Test
+    void testSerializeOnceForSameResponse() {
+        ConfigQueryPayloadCache cache = new ConfigQueryPayloadCache(1024 * 1024);
+        ByteString first = cache.getOrSerialize("groupKey", "formal", buildResponse("content", "md5", 1L));
+        ByteString second = cache.getOrSerialize("groupKey", "formal", buildResponse("content", "md5", 1L));
+        assertSame(first, second);
+        ConfigQueryResponse parsed = JacksonUtils.toObj(second.toByteArray(), ConfigQueryResponse.class);
+        assertEquals("content", parsed.getContent());
+        assertEquals("md5", parsed.getMd5());
+    }
+    
+    @Test
+    void testReserializeWhenResponseChanged() {
+        ConfigQueryPayloadCache cache = new ConfigQueryPayloadCache(1024 * 1024);
+        ByteString first = cache.getOrSerialize("groupKey", "formal", buildResponse("content", "md5", 1L));
+        ByteString timestampChanged = cache.getOrSerialize("groupKey", "formal", buildResponse("content", "md5", 2L));
+        assertNotSame(first, timestampChanged);
+        ByteString md5Changed = cache.getOrSerialize("groupKey", "formal", buildResponse("content2", "md52", 2L));
+        assertEquals("content2", JacksonUtils.toObj(md5Changed.toByteArray(), ConfigQueryResponse.class).getContent());
+    }
+    
+    @Test
+    void testVariantsCachedSeparately() {
+        ConfigQueryPayloadCache cache = new ConfigQueryPayloadCache(1024 * 1024);
+        ByteString formal = cache.getOrSerialize("groupKey", "formal", buildResponse("content", "md5", 1L));
+        ConfigQueryResponse grayResponse = buildResponse("content", "md5", 1L);
+        grayResponse.setBeta(true);
+        ByteString gray = cache.getOrSerialize("groupKey", "gray+beta", grayResponse);
+        assertNotSame(formal, gray);
+        assertSame(formal, cache.getOrSerialize("groupKey", "formal", buildResponse("content", "md5", 1L)));
+    }
+}
@@ -16,11 +16,14 @@
 
 package com.alibaba.nacos.config.server.remote;
 
+import com.alibaba.nacos.api.ability.constant.AbilityKey;
 import com.alibaba.nacos.api.common.Constants;
 import com.alibaba.nacos.api.config.remote.request.ConfigQueryRequest;
 import com.alibaba.nacos.api.config.remote.response.ConfigQueryResponse;
 import com.alibaba.nacos.api.remote.request.RequestMeta;
+import com.alibaba.nacos.common.utils.IoUtils;
 import com.alibaba.nacos.common.utils.MD5Utils;
+import com.alibaba.nacos.config.server.configuration.ConfigCommonConfig;
 import com.alibaba.nacos.config.server.model.CacheItem;
 import com.alibaba.nacos.config.server.model.ConfigCacheGray;
 import com.alibaba.nacos.config.server.model.gray.BetaGrayRule;
@@ -28,6 +31,7 @@ import com.alibaba.nacos.config.server.model.gray.ConfigGrayPersistInfo;
 import com.alibaba.nacos.config.server.model.gray.GrayRuleManager;
 import com.alibaba.nacos.config.server.model.gray.TagGrayRule;
 import com.alibaba.nacos.config.server.service.ConfigCacheService;
+import com.alibaba.nacos.config.server.service.ConfigVersionCache;
 import com.alibaba.nacos.config.server.service.dump.disk.ConfigDiskServiceFactory;
 import com.alibaba.nacos.config.server.service.dump.disk.ConfigRocksDbDiskService;
 import com.alibaba.nacos.config.server.service.query.ConfigQueryChainService;
@@ -42,8 +46,10 @@ import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.core.env.StandardEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.io.IOException;
+import java.util.Collections;
 
 import static com.alibaba.nacos.api.common.Constants.VIPSERVER_TAG;
 import static com.alibaba.nacos.api.config.remote.response.ConfigQueryResponse.CONFIG_NOT_FOUND;
@@ -132,6 +138,116 @@ class ConfigQueryRequestHandlerTest {
     }
     
     
+    @Test
+    void testGetDeltaOfHeldVersion() throws Exception {
+        final String groupKey = GroupKey2.getKey(dataId, group, Constants.DEFAULT_NAMESPACE_ID);
+        String md5 = MD5Utils.md5Hex(content, "UTF-8");
+        ConfigRocksDbDiskService configRocksDbDiskService = Mockito.mock(ConfigRocksDbDiskService.class);
+        when(ConfigDiskServiceFactory.getInstance()).thenReturn(configRocksDbDiskService);
+        CacheItem cacheItem = new CacheItem(groupKey);
+        cacheItem.getConfigCache().setMd5(md5);
+        when(ConfigCacheService.getContentCache(eq(groupKey))).thenReturn(cacheItem);
+        when(configRocksDbDiskService.getContent(eq(dataId), eq(group), eq(Constants.DEFAULT_NAMESPACE_ID))).thenReturn(
+                content);
+        ConfigQueryRequest configQueryRequest = new ConfigQueryRequest();
+        configQueryRequest.setDataId(dataId);
+        configQueryRequest.setGroup(group);
+        configQueryRequest.setBaseMd5(md5);
+        RequestMeta requestMeta = new RequestMeta();
+        requestMeta.setClientIp("127.0.0.1");
+        
+        ConfigQueryResponse response = configQueryRequestHandler.handle(configQueryRequest, requestMeta);
+        assertEquals(content, response.getContent());
+        
+        requestMeta.setAbilityTable(Collections.singletonMap(AbilityKey.SDK_CLIENT_CONFIG_DELTA.getName(), Boolean.TRUE));
+        ConfigVersionCache versionCache = Mockito.mock(ConfigVersionCache.class);
+        ReflectionTestUtils.setField(ConfigVersionCache.class, "instance", versionCache);
+        try {
+            when(versionCache.isEnabled()).thenReturn(true);
+            assertDeltaOfHeldVersion(configQueryRequest, requestMeta, md5);
+            
+            // held version is answered with full content too if delta is disabled.
+            when(versionCache.isEnabled()).thenReturn(false);
+            configQueryRequest.setBaseMd5(md5);
+            response = configQueryRequestHandler.handle(configQueryRequest, requestMeta);
+            assertEquals(content, response.getContent());
+            assertNull(response.getContentEncoding());
+        } finally {
+            ReflectionTestUtils.setField(ConfigVersionCache.class, "instance", null);
+        }
+    }
+    
+    private void assertDeltaOfHeldVersion(ConfigQueryRequest configQueryRequest, RequestMeta requestMeta, String md5)
+            throws Exception {
+        ConfigQueryResponse response = configQueryRequestHandler.handle(configQueryRequest, requestMeta);
+        assertNull(response.getContent());
+        assertEquals(ConfigQueryResponse.CONTENT_ENCODING_DELTA, response.getContentEncoding());
+        assertEquals(md5, response.getDeltaBaseMd5());
+        assertEquals(content.length(), response.getDeltaPrefixLength());
+        assertEquals("", response.getDeltaText());
+        assertEquals(md5, response.getMd5());
+        
+        // unknown base version is answered with full content.
+        configQueryRequest.setBaseMd5("unknown");
+        response = configQueryRequestHandler.handle(configQueryRequest, requestMeta);
+        assertEquals(content, response.getContent());
+        assertNull(response.getContentEncoding());
+    }
+    
+    @Test
+    void testGetLargeConfigCompressed() throws Exception {
+        final String groupKey = GroupKey2.getKey(dataId, group, Constants.DEFAULT_NAMESPACE_ID);
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            builder.append("rule.").append(i).append(".enabled=true\n");
+        }
+        String content = builder.toString();
+        ConfigRocksDbDiskService configRocksDbDiskService = Mockito.mock(ConfigRocksDbDiskService.class);
+        when(ConfigDiskServiceFactory.getInstance()).thenReturn(configRocksDbDiskService);
+        CacheItem cacheItem = new CacheItem(groupKey);
+        cacheItem.getConfigCache().setMd5(MD5Utils.md5Hex(content, "UTF-8"));
+        when(ConfigCacheService.getContentCache(eq(groupKey))).thenReturn(cacheItem);
+        when(configRocksDbDiskService.getContent(eq(dataId), eq(group), eq(Constants.DEFAULT_NAMESPACE_ID))).thenReturn(
+                content);
+        ConfigQueryRequest configQueryRequest = new ConfigQueryRequest();
+        configQueryRequest.setDataId(dataId);
+        configQueryRequest.setGroup(group);
+        RequestMeta requestMeta = new RequestMeta();
+        requestMeta.setClientIp("127.0.0.1");
+        
+        // client without the ability receives plain content.
+        ConfigQueryResponse response = configQueryRequestHandler.handle(configQueryRequest, requestMeta);
+        assertEquals(content, response.getContent());
+        assertNull(response.getContentEncoding());
+        
+        requestMeta.setAbilityTable(
+                Collections.singletonMap(AbilityKey.SDK_CLIENT_CONFIG_COMPRESSION.getName(), Boolean.TRUE));
+        response = configQueryRequestHandler.handle(configQueryRequest, requestMeta);
+        assertNull(response.getContent());
+        assertEquals(ConfigQueryResponse.CONTENT_ENCODING_GZIP, response.getContentEncoding());
+        assertTrue(response.getCompressedContent().length < content.length());
+        assertEquals(content, new String(IoUtils.tryDecompress(response.getCompressedContent()), "UTF-8"));
+        assertEquals(MD5Utils.md5Hex(content, "UTF-8"), response.getMd5());
+    }
+    
+    @Test
+    void testShouldCompressByUtf8Length() {
+        RequestMeta requestMeta = new RequestMeta();
+        requestMeta.setAbilityTable(
+                Collections.singletonMap(AbilityKey.SDK_CLIENT_CONFIG_COMPRESSION.getName(), Boolean.TRUE));
+        int threshold = ConfigCommonConfig.getInstance().getCompressWireThreshold();
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < threshold / 2; i++) {
+            builder.append('中');
+        }
+        ConfigQueryResponse response = new ConfigQueryResponse();
+        // less chars than the threshold, but more UTF-8 bytes.
+        response.setContent(builder.toString());
+        assertTrue(ConfigQueryRequestHandler.shouldCompress(requestMeta, response));
+        response.setContent(builder.substring(0, threshold / 4));
+        assertFalse(ConfigQueryRequestHandler.shouldCompress(requestMeta, response));
+    }
+    
     /**
      * get beta config from local disk.
      *
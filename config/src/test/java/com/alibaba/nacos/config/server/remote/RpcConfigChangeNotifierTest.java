@@ -16,6 +16,8 @@
 
 package com.alibaba.nacos.config.server.remote;
 
+import com.alibaba.nacos.api.ability.constant.AbilityKey;
+import com.alibaba.nacos.api.config.remote.request.ConfigChangeBatchNotifyRequest;
 import com.alibaba.nacos.api.config.remote.request.ConfigChangeNotifyRequest;
 import com.alibaba.nacos.config.server.model.ConfigListenState;
 import com.alibaba.nacos.config.server.model.event.LocalDataChangeEvent;
@@ -34,6 +36,7 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
@@ -44,12 +47,17 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.times;
@@ -135,59 +143,105 @@ class RpcConfigChangeNotifierTest {
         Mockito.when(tpsControlManager.check(any(TpsCheckRequest.class))).thenReturn(new TpsCheckResponse(true, 200, "success"));
         
         rpcConfigChangeNotifier.onEvent(new LocalDataChangeEvent(groupKey));
-        //wait rpc push executed.
-        Thread.sleep(50L);
-        //expect rpc push task run.
-        Mockito.verify(rpcPushService, times(1))
+        //expect rpc push task run after coalesce window.
+        Mockito.verify(rpcPushService, Mockito.timeout(1000L).times(1))
                 .pushWithCallback(eq("con1"), any(ConfigChangeNotifyRequest.class), any(RpcConfigChangeNotifier.RpcPushCallback.class),
                         any(Executor.class));
-        Mockito.verify(rpcPushService, times(1))
+        Mockito.verify(rpcPushService, Mockito.timeout(1000L).times(1))
                 .pushWithCallback(eq("con3"), any(ConfigChangeNotifyRequest.class), any(RpcConfigChangeNotifier.RpcPushCallback.class),
                         any(Executor.class));
         
     }
     
+    @Test
+    void testCoalesceIntoBatchNotify() {
+        GrpcConnection mockConn = Mockito.mock(GrpcConnection.class);
+        Map<String, Boolean> abilityTable = new HashMap<>();
+        abilityTable.put(AbilityKey.SDK_CLIENT_CONFIG_BATCH_NOTIFY.getName(), true);
+        Mockito.when(mockConn.getAbilityTable()).thenReturn(abilityTable);
+        Mockito.when(connectionManager.getConnection(eq("con1"))).thenReturn(mockConn);
+        Mockito.when(tpsControlManager.check(any(TpsCheckRequest.class))).thenReturn(new TpsCheckResponse(true, 200, "success"));
+        
+        rpcConfigChangeNotifier.enqueue("con1", "1.1.1.1", "app", "d1+g1", ConfigChangeNotifyRequest.build("d1", "g1", null));
+        rpcConfigChangeNotifier.enqueue("con1", "1.1.1.1", "app", "d2+g1", ConfigChangeNotifyRequest.build("d2", "g1", null));
+        //same key changed again before pushed, expect coalesced.
+        rpcConfigChangeNotifier.enqueue("con1", "1.1.1.1", "app", "d1+g1", ConfigChangeNotifyRequest.build("d1", "g1", null));
+        
+        ArgumentCaptor<ConfigChangeBatchNotifyRequest> captor = ArgumentCaptor.forClass(ConfigChangeBatchNotifyRequest.class);
+        Mockito.verify(rpcPushService, Mockito.timeout(1000L).times(1))
+                .pushWithCallback(eq("con1"), captor.capture(), any(RpcConfigChangeNotifier.RpcPushCallback.class), any(Executor.class));
+        assertEquals(2, captor.getValue().getChangedConfigs().size());
+        assertEquals("d1", captor.getValue().getChangedConfigs().get(0).getDataId());
+        assertEquals("d2", captor.getValue().getChangedConfigs().get(1).getDataId());
+        Mockito.verify(rpcPushService, times(0))
+                .pushWithCallback(anyString(), any(ConfigChangeNotifyRequest.class), any(RpcConfigChangeNotifier.RpcPushCallback.class),
+                        any(Executor.class));
+    }
+    
     @Test
     void testRpcCallBack() {
         MockedStatic<ConfigExecutor> configExecutorMockedStatic = Mockito.mockStatic(ConfigExecutor.class);
         try {
-            RpcConfigChangeNotifier.RpcPushTask task = Mockito.mock(RpcConfigChangeNotifier.RpcPushTask.class);
-            
-            Mockito.when(task.getConnectionId()).thenReturn("testconn1");
             Mockito.when(connectionManager.getConnection(eq("testconn1"))).thenReturn(Mockito.mock(GrpcConnection.class));
-            ConfigChangeNotifyRequest notifyRequest = new ConfigChangeNotifyRequest();
-            notifyRequest.setDataId("d1");
-            notifyRequest.setGroup("g1");
-            Mockito.when(task.getNotifyRequest()).thenReturn(notifyRequest);
-            //mock task not overtimes and receive exception on callback
-            Mockito.when(task.isOverTimes()).thenReturn(false);
-            Mockito.when(task.getTryTimes()).thenReturn(2);
-            RpcConfigChangeNotifier.RpcPushCallback rpcPushCallback = new RpcConfigChangeNotifier.RpcPushCallback(task, tpsControlManager,
-                    connectionManager);
-            rpcPushCallback.onFail(new RuntimeException());
+            Mockito.when(tpsControlManager.check(any(TpsCheckRequest.class))).thenReturn(new TpsCheckResponse(true, 200, "success"));
+            rpcConfigChangeNotifier.enqueue("testconn1", "1.1.1.1", "app", "d1+g1", ConfigChangeNotifyRequest.build("d1", "g1", null));
+            rpcConfigChangeNotifier.enqueue("testconn1", "1.1.1.1", "app", "d2+g1", ConfigChangeNotifyRequest.build("d2", "g1", null));
+            RpcConfigChangeNotifier.RpcPushTask task = rpcConfigChangeNotifier.getPushTask("testconn1");
+            task.maxRetryTimes = 2;
+            //expect only one task scheduled for the coalesce window.
+            configExecutorMockedStatic.verify(
+                    () -> ConfigExecutor.scheduleClientConfigNotifier(eq(task), anyLong(), eq(TimeUnit.MILLISECONDS)), times(1));
             
-            //expect config push fail be recorded.
-            Mockito.verify(tpsControlManager, times(1)).check(any(TpsCheckRequest.class));
-            //expect schedule this task next retry times
+            //client not support batch notify, expect two single key pushes.
+            task.run();
+            ArgumentCaptor<RpcConfigChangeNotifier.RpcPushCallback> captor = ArgumentCaptor.forClass(
+                    RpcConfigChangeNotifier.RpcPushCallback.class);
+            Mockito.verify(rpcPushService, times(2))
+                    .pushWithCallback(eq("testconn1"), any(ConfigChangeNotifyRequest.class), captor.capture(), any());
+            List<RpcConfigChangeNotifier.RpcPushCallback> callbacks = captor.getAllValues();
+            callbacks.get(0).onSuccess();
+            callbacks.get(1).onFail(new RuntimeException());
+            //expect failed key requeued and connection retried later.
+            assertEquals(1, task.getPendingCount());
             configExecutorMockedStatic.verify(
-                    () -> ConfigExecutor.scheduleClientConfigNotifier(any(RpcConfigChangeNotifier.RpcPushTask.class), eq(2 * 2L),
-                            eq(TimeUnit.SECONDS)));
-            //mock
-            rpcPushCallback.onSuccess();
-            //expect config push success be recorded.
-            Mockito.verify(tpsControlManager, times(2)).check(any(TpsCheckRequest.class));
+                    () -> ConfigExecutor.scheduleClientConfigNotifier(eq(task), eq(2L), eq(TimeUnit.SECONDS)));
             
             //mock task is over times
-            Mockito.when(task.isOverTimes()).thenReturn(true);
-            rpcPushCallback.onFail(new NullPointerException());
+            task.run();
+            Mockito.verify(rpcPushService, times(3))
+                    .pushWithCallback(eq("testconn1"), any(ConfigChangeNotifyRequest.class), captor.capture(), any());
+            captor.getValue().onFail(new NullPointerException());
             Mockito.verify(connectionManager, times(1)).unregister(eq("testconn1"));
-            
+            assertNull(rpcConfigChangeNotifier.getPushTask("testconn1"));
         } finally {
             configExecutorMockedStatic.close();
         }
         
     }
     
+    @Test
+    void testPushTaskReleasedAfterSuccess() {
+        MockedStatic<ConfigExecutor> configExecutorMockedStatic = Mockito.mockStatic(ConfigExecutor.class);
+        try {
+            Mockito.when(connectionManager.getConnection(eq("testconn1"))).thenReturn(Mockito.mock(GrpcConnection.class));
+            Mockito.when(tpsControlManager.check(any(TpsCheckRequest.class))).thenReturn(new TpsCheckResponse(true, 200, "success"));
+            rpcConfigChangeNotifier.enqueue("testconn1", "1.1.1.1", "app", "d1+g1", ConfigChangeNotifyRequest.build("d1", "g1", null));
+            RpcConfigChangeNotifier.RpcPushTask task = rpcConfigChangeNotifier.getPushTask("testconn1");
+            task.run();
+            ArgumentCaptor<RpcConfigChangeNotifier.RpcPushCallback> captor = ArgumentCaptor.forClass(
+                    RpcConfigChangeNotifier.RpcPushCallback.class);
+            Mockito.verify(rpcPushService, times(1))
+                    .pushWithCallback(eq("testconn1"), any(ConfigChangeNotifyRequest.class), captor.capture(), any());
+            captor.getValue().onSuccess();
+            assertNull(rpcConfigChangeNotifier.getPushTask("testconn1"));
+            //closed task will not accept new key, a new one is created.
+            rpcConfigChangeNotifier.enqueue("testconn1", "1.1.1.1", "app", "d1+g1", ConfigChangeNotifyRequest.build("d1", "g1", null));
+            assertNotSame(task, rpcConfigChangeNotifier.getPushTask("testconn1"));
+        } finally {
+            configExecutorMockedStatic.close();
+        }
+    }
+    
     @Test
     void testRegisterTpsPoint() {
         
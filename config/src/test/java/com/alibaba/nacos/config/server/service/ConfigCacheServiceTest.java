@@ -16,6 +16,8 @@
 
 package com.alibaba.nacos.config.server.service;
 
+import com.alibaba.nacos.api.common.Constants;
+import com.alibaba.nacos.common.utils.FuzzyGroupKeyPattern;
 import com.alibaba.nacos.common.utils.MD5Utils;
 import com.alibaba.nacos.config.server.model.CacheItem;
 import com.alibaba.nacos.config.server.model.ConfigCacheGray;
@@ -24,7 +26,6 @@ import com.alibaba.nacos.config.server.service.dump.disk.ConfigDiskService;
 import com.alibaba.nacos.config.server.service.dump.disk.ConfigDiskServiceFactory;
 import com.alibaba.nacos.config.server.utils.GroupKey2;
 import com.alibaba.nacos.config.server.utils.PropertyUtil;
-import com.alibaba.nacos.config.server.utils.SimpleReadWriteLock;
 import com.alibaba.nacos.sys.env.EnvUtil;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -35,15 +36,20 @@ import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 import org.mockito.stubbing.OngoingStubbing;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.io.IOException;
 import java.lang.reflect.Field;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
@@ -150,6 +156,34 @@ class ConfigCacheServiceTest {
         
     }
     
+    @Test
+    void testDumpKeepMd5Compact() {
+        String dataId = "dataIdtestDumpKeepMd5Compact";
+        String group = "group11";
+        String tenant = "tenant112";
+        String groupKey = GroupKey2.getKey(dataId, group, tenant);
+        String content = "mockContent";
+        String md5 = MD5Utils.md5Hex(content, "UTF-8");
+        long ts = System.currentTimeMillis();
+        try {
+            assertTrue(ConfigCacheService.dumpWithMd5(dataId, group, tenant, content, md5, ts, "json", null));
+            CacheItem cacheItem = ConfigCacheService.getContentCache(groupKey);
+            assertTrue(ReflectionTestUtils.getField(cacheItem.getConfigCache(), "md5") instanceof byte[]);
+            // same md5 with new timestamp, as dump all and dump change do.
+            assertTrue(ConfigCacheService.isUptodate(groupKey, md5));
+            assertTrue(ConfigCacheService.dumpWithMd5(dataId, group, tenant, content, md5, ts + 1, "json", null));
+            assertTrue(ReflectionTestUtils.getField(cacheItem.getConfigCache(), "md5") instanceof byte[]);
+            // md5 changed.
+            String newContent = content + "1";
+            assertFalse(ConfigCacheService.isUptodate(groupKey, MD5Utils.md5Hex(newContent, "UTF-8")));
+            assertTrue(ConfigCacheService.dump(dataId, group, tenant, newContent, ts + 2, "json", null));
+            assertEquals(MD5Utils.md5Hex(newContent, "UTF-8"), cacheItem.getConfigCache().getMd5());
+            assertTrue(ReflectionTestUtils.getField(cacheItem.getConfigCache(), "md5") instanceof byte[]);
+        } finally {
+            ConfigCacheService.remove(dataId, group, tenant);
+        }
+    }
+    
     @Test
     public void testDumpGray() throws Exception {
         String dataId = "dataIdtestDumpBetaNewCache123";
@@ -247,14 +281,83 @@ class ConfigCacheServiceTest {
         assertNull(grayCacheAfterRemove);
     }
     
+    @Test
+    void testIsUptodate() throws Exception {
+        String dataId = "dataIdTestIsUptodate";
+        String group = "group11";
+        String tenant = "tenant112";
+        String groupKey = GroupKey2.getKey(dataId, group, tenant);
+        // not exist config is up-to-date only for empty md5.
+        assertTrue(ConfigCacheService.isUptodate(groupKey, "", null));
+        assertFalse(ConfigCacheService.isUptodate(groupKey, "md5", null));
+        
+        String content = "formalContent";
+        String md5 = MD5Utils.md5Hex(content, "UTF-8");
+        ConfigCacheService.dump(dataId, group, tenant, content, System.currentTimeMillis(), "text", null);
+        Map<String, String> tagLabels = ConfigCacheService.buildConnLabels("127.0.0.1", "dgray123", null);
+        assertTrue(ConfigCacheService.isUptodate(groupKey, md5, null));
+        assertTrue(ConfigCacheService.isUptodate(groupKey, md5, tagLabels));
+        assertFalse(ConfigCacheService.isUptodate(groupKey, md5.toUpperCase(), null));
+        
+        String grayRule = "{\"type\":\"tag\",\"version\":\"1.0.0\",\"expr\":\"dgray123\",\"priority\":1}";
+        String grayContent = "grayContent";
+        String grayMd5 = MD5Utils.md5Hex(grayContent, "UTF-8");
+        ConfigCacheService.dumpGray(dataId, group, tenant, "grayName", grayRule, grayContent,
+                System.currentTimeMillis(), null);
+        assertTrue(ConfigCacheService.isUptodate(groupKey, grayMd5, tagLabels));
+        assertFalse(ConfigCacheService.isUptodate(groupKey, md5, tagLabels));
+        assertTrue(ConfigCacheService.isUptodate(groupKey, md5,
+                ConfigCacheService.buildConnLabels("127.0.0.1", "otherTag", null)));
+        assertTrue(ConfigCacheService.isUptodate(groupKey, md5, "127.0.0.1", null));
+        ConfigCacheService.remove(dataId, group, tenant);
+    }
+    
+    @Test
+    void testBuildConnLabels() {
+        Map<String, String> appLabels = new HashMap<>();
+        appLabels.put("app", "test");
+        assertSame(appLabels, ConfigCacheService.buildConnLabels(null, "", appLabels));
+        Map<String, String> connLabels = ConfigCacheService.buildConnLabels("127.0.0.1", "tag", appLabels);
+        assertEquals("test", connLabels.get("app"));
+        assertEquals("127.0.0.1", connLabels.get(Constants.CLIENT_IP));
+        assertEquals("tag", connLabels.get(Constants.VIPSERVER_TAG));
+        // app labels of connection should not be modified.
+        assertEquals(1, appLabels.size());
+    }
+    
+    @Test
+    void testMatchGroupKeys() {
+        String group = "groupTestMatchGroupKeys";
+        String tenant = "tenantTestMatchGroupKeys";
+        ConfigCacheService.dump("app.yaml", group, tenant, "content1", 1L, "yaml", null);
+        ConfigCacheService.dump("app.properties", group, tenant, "content2", 1L, "properties", null);
+        ConfigCacheService.dump("other.yaml", group, tenant, "content3", 1L, "yaml", null);
+        try {
+            Set<String> matched = new HashSet<>();
+            ConfigCacheService.matchGroupKeys(FuzzyGroupKeyPattern.generatePattern("app*", group, tenant),
+                    matched::add);
+            assertEquals(2, matched.size());
+            assertTrue(matched.contains(GroupKey2.getKey("app.yaml", group, tenant)));
+            assertTrue(matched.contains(GroupKey2.getKey("app.properties", group, tenant)));
+            
+            ConfigCacheService.remove("app.yaml", group, tenant);
+            matched.clear();
+            ConfigCacheService.matchGroupKeys(FuzzyGroupKeyPattern.generatePattern("*", group, tenant),
+                    matched::add);
+            assertEquals(2, matched.size());
+            assertFalse(matched.contains(GroupKey2.getKey("app.yaml", group, tenant)));
+        } finally {
+            ConfigCacheService.remove("app.properties", group, tenant);
+            ConfigCacheService.remove("other.yaml", group, tenant);
+        }
+    }
+    
     @Test
     void testTryConfigReadLock() throws Exception {
         String dataId = "123testTryConfigReadLock";
         String group = "1234";
         String tenant = "1234";
         CacheItem cacheItem = Mockito.mock(CacheItem.class);
-        SimpleReadWriteLock lock = Mockito.mock(SimpleReadWriteLock.class);
-        Mockito.when(cacheItem.getRwLock()).thenReturn(lock);
         String groupKey = GroupKey2.getKey(dataId, group, tenant);
         Field cache1 = ConfigCacheService.class.getDeclaredField("CACHE");
         cache1.setAccessible(true);
@@ -266,12 +369,12 @@ class ConfigCacheServiceTest {
         assertEquals(0, readLock);
         
         //lock == 1 , success get lock
-        Mockito.when(lock.tryReadLock()).thenReturn(true);
+        Mockito.when(cacheItem.tryReadLock()).thenReturn(true);
         int readLockSuccess = ConfigCacheService.tryConfigReadLock(groupKey);
         assertEquals(1, readLockSuccess);
         
         //lock ==-1 fail after spin all times;
-        OngoingStubbing<Boolean> when = Mockito.when(lock.tryReadLock());
+        OngoingStubbing<Boolean> when = Mockito.when(cacheItem.tryReadLock());
         for (int i = 0; i < 10; i++) {
             when = when.thenReturn(false);
         }
@@ -279,7 +382,7 @@ class ConfigCacheServiceTest {
         assertEquals(-1, readLockFail);
         
         //lock ==1 success after serval spin  times;
-        OngoingStubbing<Boolean> when2 = Mockito.when(lock.tryReadLock());
+        OngoingStubbing<Boolean> when2 = Mockito.when(cacheItem.tryReadLock());
         for (int i = 0; i < 5; i++) {
             when2 = when2.thenReturn(false);
         }
@@ -0,0 +1,143 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service;
+
+import com.alibaba.nacos.config.server.service.dump.disk.ConfigDiskService;
+import com.alibaba.nacos.config.server.service.dump.disk.ConfigDiskServiceFactory;
+import com.alibaba.nacos.config.server.utils.GroupKey2;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ConfigContentCacheTest {
+    
+    private MockedStatic<ConfigDiskServiceFactory> configDiskServiceFactoryMockedStatic;
+    
+    @Mock
+    private ConfigDiskService configDiskService;
+    
+    @BeforeEach
+    void setUp() {
+        configDiskServiceFactoryMockedStatic = Mockito.mockStatic(ConfigDiskServiceFactory.class);
+        configDiskServiceFactoryMockedStatic.when(ConfigDiskServiceFactory::getInstance).thenReturn(configDiskService);
+    }
+    
+    @AfterEach
+    void tearDown() {
+        configDiskServiceFactoryMockedStatic.close();
+    }
+    
+    @Test
+    void testGetContentReadDiskOnlyOnce() throws IOException {
+        ConfigContentCache cache = new ConfigContentCache(1024 * 1024);
+        when(configDiskService.getContent("dataId", "group", "tenant")).thenReturn("content");
+        assertEquals("content", cache.getContent("dataId", "group", "tenant", "md5"));
+        assertEquals("content", cache.getContent("dataId", "group", "tenant", "md5"));
+        verify(configDiskService, times(1)).getContent("dataId", "group", "tenant");
+    }
+    
+    @Test
+    void testGetContentWithChangedMd5ReloadDisk() throws IOException {
+        ConfigContentCache cache = new ConfigContentCache(1024 * 1024);
+        when(configDiskService.getContent("dataId", "group", "tenant")).thenReturn("content1", "content2");
+        assertEquals("content1", cache.getContent("dataId", "group", "tenant", "md5-1"));
+        assertEquals("content2", cache.getContent("dataId", "group", "tenant", "md5-2"));
+        verify(configDiskService, times(2)).getContent("dataId", "group", "tenant");
+    }
+    
+    @Test
+    void testRefreshAndInvalidate() throws IOException {
+        ConfigContentCache cache = new ConfigContentCache(1024 * 1024);
+        String groupKey = GroupKey2.getKey("dataId", "group", "tenant");
+        cache.refresh(groupKey, "md5-1", "content1");
+        assertNull(cache.get(groupKey, "md5-1"));
+        
+        when(configDiskService.getContent("dataId", "group", "tenant")).thenReturn("content1");
+        cache.getContent("dataId", "group", "tenant", "md5-1");
+        cache.refresh(groupKey, "md5-2", "content2");
+        assertEquals("content2", cache.getContent("dataId", "group", "tenant", "md5-2"));
+        
+        cache.invalidate(groupKey);
+        assertNull(cache.get(groupKey, "md5-2"));
+    }
+    
+    @Test
+    void testGetCachedContentNotReadDisk() throws IOException {
+        ConfigContentCache cache = new ConfigContentCache(1024 * 1024);
+        String groupKey = GroupKey2.getKey("dataId", "group", "tenant");
+        assertNull(cache.getCachedContent(groupKey, "md5-1"));
+        
+        when(configDiskService.getContent("dataId", "group", "tenant")).thenReturn("content1");
+        cache.getContent("dataId", "group", "tenant", "md5-1");
+        assertEquals("content1", cache.getCachedContent(groupKey, "md5-1"));
+        assertNull(cache.getCachedContent(groupKey, "md5-2"));
+        verify(configDiskService, times(1)).getContent("dataId", "group", "tenant");
+    }
+    
+    @Test
+    void testGrayContent() throws IOException {
+        ConfigContentCache cache = new ConfigContentCache(1024 * 1024);
+        String groupKey = GroupKey2.getKey("dataId", "group", "tenant");
+        when(configDiskService.getGrayContent("dataId", "group", "tenant", "gray")).thenReturn("grayContent");
+        assertEquals("grayContent", cache.getGrayContent("dataId", "group", "tenant", "gray", "md5"));
+        assertEquals("grayContent", cache.getGrayContent("dataId", "group", "tenant", "gray", "md5"));
+        verify(configDiskService, times(1)).getGrayContent("dataId", "group", "tenant", "gray");
+        assertNull(cache.get(groupKey, "md5"));
+        cache.invalidateGray(groupKey, "gray");
+        cache.getGrayContent("dataId", "group", "tenant", "gray", "md5");
+        verify(configDiskService, times(2)).getGrayContent("dataId", "group", "tenant", "gray");
+    }
+    
+    @Test
+    void testEvictWhenOverBudget() {
+        ConfigContentCache cache = new ConfigContentCache(16 * 1024);
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < 200; i++) {
+            content.append('a');
+        }
+        for (int i = 0; i < 1000; i++) {
+            cache.put("key" + i, "md5", content.toString());
+        }
+        assertTrue(cache.weight() <= 16 * 1024);
+        cache.clear();
+        assertEquals(0, cache.weight());
+    }
+    
+    @Test
+    void testDisabledAlwaysReadDisk() throws IOException {
+        ConfigContentCache cache = new ConfigContentCache(0);
+        when(configDiskService.getContent("dataId", "group", "tenant")).thenReturn("content");
+        cache.getContent("dataId", "group", "tenant", "md5");
+        cache.getContent("dataId", "group", "tenant", "md5");
+        verify(configDiskService, times(2)).getContent("dataId", "group", "tenant");
+    }
+}
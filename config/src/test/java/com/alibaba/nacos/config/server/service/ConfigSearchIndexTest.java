@@ -0,0 +1,166 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service;
+
+import com.alibaba.nacos.api.model.Page;
+import com.alibaba.nacos.config.server.model.ConfigInfo;
+import com.alibaba.nacos.config.server.model.ConfigInfoWrapper;
+import com.alibaba.nacos.config.server.utils.GroupKey2;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConfigSearchIndexTest {
+    
+    private final Map<String, String> contents = new HashMap<>();
+    
+    private ConfigSearchIndex index;
+    
+    @BeforeEach
+    void setUp() {
+        index = new ConfigSearchIndex(true, true,
+                (dataId, group, tenant, md5) -> contents.get(GroupKey2.getKey(dataId, group, tenant)));
+        index.update(config(3, "order-service.yaml", "DEFAULT_GROUP", "order", "yaml", "timeout: 3000"));
+        index.update(config(1, "user-service.yaml", "DEFAULT_GROUP", "user", "yaml", "timeout: 1000"));
+        index.update(config(2, "user-service.properties", "USER_GROUP", "user", "properties", "retry=3"));
+        index.update(config(4, "user.json", "DEFAULT_GROUP", null, "json", "{}"));
+        index.markReady();
+    }
+    
+    private ConfigInfoWrapper config(long id, String dataId, String group, String appName, String type,
+            String content) {
+        ConfigInfoWrapper cf = new ConfigInfoWrapper();
+        cf.setId(id);
+        cf.setDataId(dataId);
+        cf.setGroup(group);
+        cf.setTenant("public");
+        cf.setAppName(appName);
+        cf.setType(type);
+        cf.setContent(content);
+        cf.setMd5(String.valueOf(content.hashCode()));
+        cf.setLastModified(id);
+        contents.put(GroupKey2.getKey(dataId, group, "public"), content);
+        return cf;
+    }
+    
+    private static Map<String, Object> advanceInfo(String key, String value) {
+        Map<String, Object> advanceInfo = new HashMap<>(2);
+        advanceInfo.put(key, value);
+        return advanceInfo;
+    }
+    
+    @Test
+    void testSearchByPattern() {
+        Page<ConfigInfo> page = index.search(1, 2, "*service*", "", "public", null);
+        assertEquals(3, page.getTotalCount());
+        assertEquals(2, page.getPagesAvailable());
+        assertEquals(2, page.getPageItems().size());
+        assertEquals(1L, page.getPageItems().get(0).getId());
+        assertEquals(2L, page.getPageItems().get(1).getId());
+        assertEquals("retry=3", page.getPageItems().get(1).getContent());
+        assertEquals("properties", page.getPageItems().get(1).getType());
+        
+        page = index.search(2, 2, "*service*", "", "public", null);
+        assertEquals(1, page.getPageItems().size());
+        assertEquals("order-service.yaml", page.getPageItems().get(0).getDataId());
+        
+        // pattern without wildcard matches the whole value.
+        assertEquals(0, index.search(1, 10, "user", null, "public", null).getTotalCount());
+        assertEquals(2, index.search(1, 10, "us*", "DEFAULT*", "public", null).getTotalCount());
+        assertEquals(1, index.search(1, 10, "user.json", null, "public", null).getTotalCount());
+        assertEquals(1, index.search(1, 10, "user_json", null, "public", null).getTotalCount());
+        assertEquals(0, index.search(1, 10, "*service*", null, "other", null).getTotalCount());
+        assertEquals(0, index.search(5, 10, "*service*", null, "public", null).getPageItems().size());
+    }
+    
+    @Test
+    void testSearchByAdvanceInfo() {
+        Page<ConfigInfo> page = index.search(1, 10, null, null, "public", advanceInfo("appName", "user"));
+        assertEquals(2, page.getTotalCount());
+        assertEquals(0, index.search(1, 10, null, null, "public", advanceInfo("appName", "use")).getTotalCount());
+        page = index.search(1, 10, "*user*", null, "public", advanceInfo("types", "json,properties"));
+        assertEquals(2, page.getTotalCount());
+        page = index.search(1, 10, null, null, "public", advanceInfo("content", "*timeout*"));
+        assertEquals(2, page.getTotalCount());
+        page = index.search(1, 10, null, null, "public", advanceInfo("content", "*out: 1*"));
+        assertEquals(1, page.getTotalCount());
+        assertEquals("user-service.yaml", page.getPageItems().get(0).getDataId());
+    }
+    
+    @Test
+    void testSearchNotServed() {
+        assertNull(index.search(1, 10, null, null, "public", advanceInfo("config_tags", "tag")));
+        assertNull(index.search(1, 10, "user\\_json", null, "public", null));
+        assertNull(index.search(1, 10, null, null, "", null));
+        // content pattern too short to use the index.
+        assertNull(index.search(1, 10, null, null, "public", advanceInfo("content", "*{}*")));
+        
+        ConfigSearchIndex notReady = new ConfigSearchIndex(true, false, (dataId, group, tenant, md5) -> "");
+        assertNull(notReady.search(1, 10, null, null, "public", null));
+        notReady.markReady();
+        assertNull(notReady.search(1, 10, null, null, "public", advanceInfo("content", "*timeout*")));
+        
+        ConfigSearchIndex disabled = new ConfigSearchIndex(false, false, (dataId, group, tenant, md5) -> "");
+        disabled.markReady();
+        assertFalse(disabled.isReady());
+        assertNull(disabled.search(1, 10, null, null, "public", null));
+    }
+    
+    @Test
+    void testUpdateAndRemove() {
+        ConfigInfoWrapper outdated = config(1, "user-service.yaml", "DEFAULT_GROUP", "order", "yaml", "a");
+        outdated.setLastModified(0L);
+        index.update(outdated);
+        assertEquals(2, index.search(1, 10, null, null, "public", advanceInfo("appName", "user")).getTotalCount());
+        
+        ConfigInfoWrapper updated = config(1, "user-service.yaml", "DEFAULT_GROUP", "order", "yaml", "a");
+        updated.setLastModified(10L);
+        index.update(updated);
+        assertEquals(1, index.search(1, 10, null, null, "public", advanceInfo("appName", "user")).getTotalCount());
+        assertEquals(0, index.search(1, 10, null, null, "public", advanceInfo("content", "*timeout: 1*"))
+                .getTotalCount());
+        
+        index.remove("user-service.yaml", "DEFAULT_GROUP", "public");
+        index.remove("not-exist", "DEFAULT_GROUP", "public");
+        assertEquals(3, index.size());
+        assertEquals(1, index.search(1, 10, "*service*", null, "public", advanceInfo("appName", "order"))
+                .getTotalCount());
+    }
+    
+    @Test
+    void testLike() {
+        assertTrue(ConfigSearchIndex.like("abc", "abc"));
+        assertTrue(ConfigSearchIndex.like("abc", "%"));
+        assertTrue(ConfigSearchIndex.like("abc", "a%c"));
+        assertTrue(ConfigSearchIndex.like("abcbc", "%bc"));
+        assertTrue(ConfigSearchIndex.like("abc", "a_c"));
+        assertFalse(ConfigSearchIndex.like("abc", "ABC"));
+        assertFalse(ConfigSearchIndex.like("abc", "ab"));
+        assertFalse(ConfigSearchIndex.like("abc", "a_"));
+        assertEquals("%a%", ConfigSearchIndex.toLikePattern("*a*"));
+        assertNull(ConfigSearchIndex.toLikePattern("a\\*"));
+        assertEquals(Collections.emptyList(), index.search(1, 10, "a%", null, "public", null).getPageItems());
+    }
+}
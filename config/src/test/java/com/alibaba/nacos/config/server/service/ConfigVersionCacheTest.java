@@ -0,0 +1,77 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service;
+
+import com.alibaba.nacos.common.utils.ContentDelta;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class ConfigVersionCacheTest {
+    
+    private static final String GROUP_KEY = "dataId+group+public";
+    
+    private static String content(int version) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            builder.append("key").append(i).append('=').append(i == 50 ? version : i).append('\n');
+        }
+        return builder.toString();
+    }
+    
+    @Test
+    void testDiffAgainstRecordedVersions() {
+        ConfigVersionCache versionCache = new ConfigVersionCache(true, 2, 1024 * 1024);
+        versionCache.record(GROUP_KEY, "md5-1", content(1));
+        versionCache.record(GROUP_KEY, "md5-2", content(2));
+        
+        String current = content(3);
+        ContentDelta delta = versionCache.diff(GROUP_KEY, "md5-1", current);
+        assertNotNull(delta);
+        assertEquals(current, delta.apply(content(1)));
+        assertEquals(current, versionCache.diff(GROUP_KEY, "md5-2", current).apply(content(2)));
+        assertNull(versionCache.diff(GROUP_KEY, "md5-unknown", current));
+        assertNull(versionCache.diff("other", "md5-1", current));
+        
+        // only the latest versions are kept.
+        versionCache.record(GROUP_KEY, "md5-3", current);
+        assertNull(versionCache.diff(GROUP_KEY, "md5-1", content(4)));
+        assertNotNull(versionCache.diff(GROUP_KEY, "md5-2", content(4)));
+        
+        versionCache.invalidate(GROUP_KEY);
+        assertNull(versionCache.diff(GROUP_KEY, "md5-2", content(4)));
+    }
+    
+    @Test
+    void testDeltaNotSmallEnough() {
+        ConfigVersionCache versionCache = new ConfigVersionCache(true, 3, 1024 * 1024);
+        versionCache.record(GROUP_KEY, "md5-1", "a=1");
+        assertNull(versionCache.diff(GROUP_KEY, "md5-1", "b=2"));
+    }
+    
+    @Test
+    void testDisabled() {
+        ConfigVersionCache versionCache = new ConfigVersionCache(false, 3, 1024 * 1024);
+        assertFalse(versionCache.isEnabled());
+        versionCache.record(GROUP_KEY, "md5-1", content(1));
+        assertNull(versionCache.diff(GROUP_KEY, "md5-1", content(2)));
+        assertFalse(new ConfigVersionCache(true, 0, 1024 * 1024).isEnabled());
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service;
+
+import com.alibaba.nacos.api.config.model.SameConfigPolicy;
+import com.alibaba.nacos.api.model.v2.ErrorCode;
+import com.alibaba.nacos.api.model.v2.Result;
+import com.alibaba.nacos.config.server.constant.Constants;
+import com.alibaba.nacos.config.server.model.ConfigAllInfo;
+import com.alibaba.nacos.config.server.model.ConfigMetadata;
+import com.alibaba.nacos.config.server.service.repository.ConfigInfoPersistService;
+import com.alibaba.nacos.config.server.utils.YamlParserUtil;
+import com.alibaba.nacos.config.server.utils.ZipUtils;
+import com.alibaba.nacos.sys.env.EnvUtil;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ConfigZipStreamerTest {
+    
+    @Mock
+    ConfigInfoPersistService configInfoPersistService;
+    
+    ConfigZipStreamer configZipStreamer;
+    
+    @BeforeAll
+    static void beforeAll() {
+        EnvUtil.setEnvironment(new StandardEnvironment());
+    }
+    
+    @BeforeEach
+    void setUp() {
+        configZipStreamer = new ConfigZipStreamer(configInfoPersistService, 2);
+    }
+    
+    private static ConfigAllInfo config(long id) {
+        ConfigAllInfo configAllInfo = new ConfigAllInfo();
+        configAllInfo.setId(id);
+        configAllInfo.setDataId("dataId" + id);
+        configAllInfo.setGroup("group");
+        configAllInfo.setType("text");
+        configAllInfo.setContent("content" + id);
+        return configAllInfo;
+    }
+    
+    private static byte[] zip(int count, int metadataCount) {
+        List<ZipUtils.ZipItem> zipItems = new ArrayList<>();
+        ConfigMetadata configMetadata = new ConfigMetadata();
+        configMetadata.setMetadata(new ArrayList<>());
+        for (int i = 0; i < Math.max(count, metadataCount); i++) {
+            if (i < count) {
+                zipItems.add(new ZipUtils.ZipItem("group/dataId" + i, "content" + i));
+            }
+            if (i < metadataCount) {
+                ConfigMetadata.ConfigExportItem configExportItem = new ConfigMetadata.ConfigExportItem();
+                configExportItem.setDataId("dataId" + i);
+                configExportItem.setGroup("group");
+                configExportItem.setType("text");
+                configMetadata.getMetadata().add(configExportItem);
+            }
+        }
+        zipItems.add(new ZipUtils.ZipItem("illegal", "content"));
+        zipItems.add(
+                new ZipUtils.ZipItem(Constants.CONFIG_EXPORT_METADATA_NEW, YamlParserUtil.dumpObject(configMetadata)));
+        return ZipUtils.zip(zipItems);
+    }
+    
+    @Test
+    void testExportByPage() throws Exception {
+        when(configInfoPersistService.findConfigInfo4ExportFetchRows(null, "group", "public", null, null, 0L,
+                2)).thenReturn(Arrays.asList(config(1), config(2)));
+        when(configInfoPersistService.findConfigInfo4ExportFetchRows(null, "group", "public", null, null, 2L,
+                2)).thenReturn(Collections.singletonList(config(3)));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        configZipStreamer.exportConfig(null, "group", "public", null, null, out);
+        
+        ZipUtils.UnZipResult unZipResult = ZipUtils.unzip(out.toByteArray());
+        assertEquals(3, unZipResult.getZipItemList().size());
+        assertEquals("group/dataId3", unZipResult.getZipItemList().get(2).getItemName());
+        assertEquals("content3", unZipResult.getZipItemList().get(2).getItemData());
+        ConfigMetadata configMetadata = YamlParserUtil.loadObject(unZipResult.getMetaDataItem().getItemData(),
+                ConfigMetadata.class);
+        assertEquals(3, configMetadata.getMetadata().size());
+    }
+    
+    @Test
+    void testImportInBatches() throws Exception {
+        Map<String, Object> saveResult = new HashMap<>();
+        saveResult.put("succCount", 2);
+        saveResult.put("skipCount", 0);
+        Map<String, Object> lastResult = new HashMap<>();
+        lastResult.put("succCount", 1);
+        lastResult.put("skipCount", 0);
+        when(configInfoPersistService.batchInsertOrUpdate(anyList(), eq("user"), eq("127.0.0.1"), isNull(),
+                eq(SameConfigPolicy.SKIP))).thenReturn(saveResult, saveResult, lastResult);
+        byte[] zip = zip(5, 6);
+        Result<Map<String, Object>> result = configZipStreamer.importConfig(() -> new ByteArrayInputStream(zip),
+                "user", "public", SameConfigPolicy.SKIP, "127.0.0.1", "app");
+        
+        verify(configInfoPersistService, times(3)).batchInsertOrUpdate(anyList(), anyString(), anyString(), any(),
+                any());
+        assertEquals(5, result.getData().get("succCount"));
+        // illegal item name and config missing in file.
+        assertEquals(2, result.getData().get("unrecognizedCount"));
+    }
+    
+    @Test
+    void testImportAbortSkipsLaterBatches() throws Exception {
+        Map<String, Object> saveResult = new HashMap<>();
+        saveResult.put("succCount", 1);
+        saveResult.put("skipCount", 0);
+        Map<String, String> failedItem = new HashMap<>(2);
+        failedItem.put("dataId", "dataId1");
+        failedItem.put("group", "group");
+        saveResult.put("failData", Collections.singletonList(failedItem));
+        when(configInfoPersistService.batchInsertOrUpdate(anyList(), anyString(), anyString(), any(),
+                eq(SameConfigPolicy.ABORT))).thenReturn(saveResult);
+        byte[] zip = zip(4, 4);
+        Result<Map<String, Object>> result = configZipStreamer.importConfig(() -> new ByteArrayInputStream(zip),
+                "user", "public", SameConfigPolicy.ABORT, "127.0.0.1", "app");
+        
+        verify(configInfoPersistService, times(1)).batchInsertOrUpdate(anyList(), anyString(), anyString(), any(),
+                any());
+        assertEquals(1, result.getData().get("succCount"));
+        assertEquals(2, result.getData().get("skipCount"));
+        assertEquals(1, ((List<?>) result.getData().get("failData")).size());
+    }
+    
+    @Test
+    void testImportWithoutMetadata() throws Exception {
+        byte[] zip = ZipUtils.zip(Collections.singletonList(new ZipUtils.ZipItem("group/dataId", "content")));
+        Result<Map<String, Object>> result = configZipStreamer.importConfig(() -> new ByteArrayInputStream(zip),
+                "user", "public", SameConfigPolicy.ABORT, "127.0.0.1", "app");
+        assertEquals(ErrorCode.METADATA_ILLEGAL.getCode(), result.getCode());
+    }
+}
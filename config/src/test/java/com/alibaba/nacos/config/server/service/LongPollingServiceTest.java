@@ -48,12 +48,15 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
+import static com.alibaba.nacos.api.common.Constants.CLIENT_IP;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.ArgumentMatchers.same;
 import static org.mockito.Mockito.times;
 
 @ExtendWith(MockitoExtension.class)
@@ -128,9 +131,10 @@ class LongPollingServiceTest {
         String clientIp = "192.168.0.1";
         Mockito.when(httpServletRequest.getHeader(eq("X-Forwarded-For"))).thenReturn(clientIp);
         
+        Map<String, String> connLabels = mockConnLabels(clientIp);
         configCacheServiceMockedStatic.when(
-                () -> ConfigCacheService.isUptodate(eq(groupKeyNotEquals), eq(md5NotEquals1), eq(clientIp), eq(null))).thenReturn(false);
-        configCacheServiceMockedStatic.when(() -> ConfigCacheService.isUptodate(eq(groupKeyEquals), eq(md5Equals0), eq(clientIp), eq(null)))
+                () -> ConfigCacheService.isUptodate(eq(groupKeyNotEquals), eq(md5NotEquals1), same(connLabels))).thenReturn(false);
+        configCacheServiceMockedStatic.when(() -> ConfigCacheService.isUptodate(eq(groupKeyEquals), eq(md5Equals0), same(connLabels)))
                 .thenReturn(true);
         HttpServletResponse httpServletResponse = Mockito.mock(HttpServletResponse.class);
         PrintWriter printWriter = Mockito.mock(PrintWriter.class);
@@ -197,9 +201,10 @@ class LongPollingServiceTest {
         String clientIp = "192.168.0.1";
         Mockito.when(httpServletRequest.getHeader(eq("X-Forwarded-For"))).thenReturn(clientIp);
         Mockito.when(httpServletRequest.startAsync()).thenReturn(Mockito.mock(AsyncContext.class));
+        Map<String, String> connLabels = mockConnLabels(clientIp);
         configCacheServiceMockedStatic.when(
-                () -> ConfigCacheService.isUptodate(eq(groupKeyNotEquals), eq(md5NotEquals1), eq(clientIp), eq(null))).thenReturn(true);
-        configCacheServiceMockedStatic.when(() -> ConfigCacheService.isUptodate(eq(groupKeyEquals), eq(md5Equals0), eq(clientIp), eq(null)))
+                () -> ConfigCacheService.isUptodate(eq(groupKeyNotEquals), eq(md5NotEquals1), same(connLabels))).thenReturn(true);
+        configCacheServiceMockedStatic.when(() -> ConfigCacheService.isUptodate(eq(groupKeyEquals), eq(md5Equals0), same(connLabels)))
                 .thenReturn(true);
         int propSize = 3;
         HttpServletResponse httpServletResponse = Mockito.mock(HttpServletResponse.class);
@@ -242,7 +247,8 @@ class LongPollingServiceTest {
         Mockito.when(asyncContext.getRequest()).thenReturn(httpServletRequest);
         Mockito.when(asyncContext.getResponse()).thenReturn(httpServletResponse);
         
-        configCacheServiceMockedStatic.when(() -> ConfigCacheService.isUptodate(anyString(), anyString(), anyString(), eq(null)))
+        Map<String, String> connLabels = mockConnLabels(clientIp);
+        configCacheServiceMockedStatic.when(() -> ConfigCacheService.isUptodate(anyString(), anyString(), same(connLabels)))
                 .thenReturn(true);
         
         longPollingService.addLongPollingClient(httpServletRequest, httpServletResponse, clientMd5Map, 3);
@@ -296,7 +302,8 @@ class LongPollingServiceTest {
         Mockito.when(httpServletRequest.startAsync()).thenReturn(asyncContext);
         Mockito.when(asyncContext.getRequest()).thenReturn(httpServletRequest);
         
-        configCacheServiceMockedStatic.when(() -> ConfigCacheService.isUptodate(anyString(), anyString(), anyString(), eq(null)))
+        Map<String, String> connLabels = mockConnLabels(clientIp);
+        configCacheServiceMockedStatic.when(() -> ConfigCacheService.isUptodate(anyString(), anyString(), same(connLabels)))
                 .thenReturn(true);
         HttpServletResponse httpServletResponse = Mockito.mock(HttpServletResponse.class);
         longPollingService.addLongPollingClient(httpServletRequest, httpServletResponse, clientMd5Map, 3);
@@ -307,4 +314,50 @@ class LongPollingServiceTest {
         Mockito.verify(asyncContext, times(1)).complete();
         
     }
+    
+    @Test
+    void testDataChangeOnlyNotifyInterestedSubscribers() throws Exception {
+        AsyncContext asyncContext = Mockito.mock(AsyncContext.class);
+        HttpServletRequest httpServletRequest = Mockito.mock(HttpServletRequest.class);
+        HttpServletResponse httpServletResponse = Mockito.mock(HttpServletResponse.class);
+        Mockito.when(asyncContext.getRequest()).thenReturn(httpServletRequest);
+        Mockito.when(asyncContext.getResponse()).thenReturn(httpServletResponse);
+        Mockito.when(httpServletResponse.getWriter()).thenReturn(Mockito.mock(PrintWriter.class));
+        
+        // 50k pollers, every 5 pollers listen the same config.
+        int pollerCount = 50000;
+        int configCount = 10000;
+        for (int i = 0; i < pollerCount; i++) {
+            Map<String, ConfigListenState> clientMd5Map = new HashMap<>(2);
+            clientMd5Map.put(GroupKey.getKeyTenant("dataId" + i % configCount, "group", "tenant"),
+                    new ConfigListenState("md5"));
+            longPollingService.new ClientLongPolling(asyncContext, clientMd5Map, "192.168.0." + i % 255, 1, 30000L,
+                    "app", null).run();
+        }
+        assertEquals(pollerCount, longPollingService.getSubscriberCount());
+        assertEquals(configCount, longPollingService.groupKeySubs.size());
+        
+        // a burst of changes only touches the pollers listening the changed configs.
+        int changedCount = 100;
+        for (int i = 0; i < changedCount; i++) {
+            longPollingService.new DataChangeTask(GroupKey.getKeyTenant("dataId" + i, "group", "tenant")).run();
+        }
+        int notified = changedCount * pollerCount / configCount;
+        Mockito.verify(asyncContext, times(notified)).complete();
+        assertEquals(pollerCount - notified, longPollingService.getSubscriberCount());
+        assertEquals(configCount - changedCount, longPollingService.groupKeySubs.size());
+        
+        // changes again or changes of configs without pollers notify nobody.
+        longPollingService.new DataChangeTask(GroupKey.getKeyTenant("dataId0", "group", "tenant")).run();
+        longPollingService.new DataChangeTask(GroupKey.getKeyTenant("noPoller", "group", "tenant")).run();
+        Mockito.verify(asyncContext, times(notified)).complete();
+    }
+    
+    private Map<String, String> mockConnLabels(String clientIp) {
+        Map<String, String> connLabels = new HashMap<>();
+        connLabels.put(CLIENT_IP, clientIp);
+        configCacheServiceMockedStatic.when(() -> ConfigCacheService.buildConnLabels(eq(clientIp), isNull(), isNull()))
+                .thenReturn(connLabels);
+        return connLabels;
+    }
 }
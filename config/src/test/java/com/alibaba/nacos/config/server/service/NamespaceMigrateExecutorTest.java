@@ -0,0 +1,116 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class NamespaceMigrateExecutorTest {
+    
+    private static final int ROW_COUNT = 250;
+    
+    @TempDir
+    Path tempDir;
+    
+    private final Set<Long> migratedIds = ConcurrentHashMap.newKeySet();
+    
+    private final List<Long> fetchedStartIds = new ArrayList<>();
+    
+    private NamespaceMigrateExecutor.PageFetcher<Long> fetcher() {
+        return (startId, pageSize) -> {
+            fetchedStartIds.add(startId);
+            List<Long> ids = new ArrayList<>();
+            for (long id = Math.max(startId, 0L) + 1; id <= ROW_COUNT && ids.size() < pageSize; id++) {
+                ids.add(id);
+            }
+            return ids;
+        };
+    }
+    
+    private Consumer<List<Long>> migrator(long failedId) {
+        return ids -> {
+            if (ids.contains(failedId)) {
+                throw new IllegalStateException("migrate " + failedId + " failed");
+            }
+            migratedIds.addAll(ids);
+        };
+    }
+    
+    private NamespaceMigrateExecutor executor(File checkpointFile) {
+        return new NamespaceMigrateExecutor(4, 100, 1, 0L, checkpointFile, 60 * 1000L);
+    }
+    
+    @Test
+    void testRunAllPages() throws Exception {
+        File checkpointFile = tempDir.resolve(NamespaceMigrateExecutor.CHECKPOINT_FILE_NAME).toFile();
+        NamespaceMigrateExecutor executor = executor(checkpointFile);
+        assertEquals(ROW_COUNT, executor.run("insert", fetcher(), id -> id, migrator(-1L), true));
+        assertEquals(ROW_COUNT, migratedIds.size());
+        assertEquals(ROW_COUNT, executor.getMigrated());
+        assertTrue(executor.getCheckpoint().getFinishedPhases().contains("insert"));
+        assertTrue(checkpointFile.exists());
+        
+        executor.finish();
+        assertFalse(checkpointFile.exists());
+    }
+    
+    @Test
+    void testResumeFromCheckpoint() throws Exception {
+        File checkpointFile = tempDir.resolve(NamespaceMigrateExecutor.CHECKPOINT_FILE_NAME).toFile();
+        assertThrows(IllegalStateException.class,
+                () -> executor(checkpointFile).run("insert", fetcher(), id -> id, migrator(150L), true));
+        assertFalse(migratedIds.contains(150L));
+        
+        migratedIds.clear();
+        fetchedStartIds.clear();
+        NamespaceMigrateExecutor resumed = executor(checkpointFile);
+        assertEquals(100L, resumed.getCheckpoint().getStartIds().get("insert"));
+        resumed.run("insert", fetcher(), id -> id, migrator(-1L), true);
+        assertEquals(100L, fetchedStartIds.get(0));
+        assertEquals(ROW_COUNT - 100, migratedIds.size());
+        assertFalse(migratedIds.contains(100L));
+    }
+    
+    @Test
+    void testSkipFailedPageAndFinishedPhase() throws Exception {
+        File checkpointFile = tempDir.resolve(NamespaceMigrateExecutor.CHECKPOINT_FILE_NAME).toFile();
+        assertEquals(ROW_COUNT - 100, executor(checkpointFile).run("sync", fetcher(), id -> id, migrator(150L), false));
+        assertFalse(migratedIds.contains(150L));
+        assertTrue(migratedIds.contains(250L));
+        
+        NamespaceMigrateExecutor resumed = executor(checkpointFile);
+        assertEquals(0L, resumed.run("sync", fetcher(), id -> id, migrator(-1L), false));
+        assertTrue(resumed.run("insert", fetcher(), id -> id, migrator(-1L), true) > 0);
+        
+        // expired checkpoint is ignored.
+        NamespaceMigrateExecutor expired = new NamespaceMigrateExecutor(4, 100, 1, 0L, checkpointFile, -1L);
+        assertTrue(expired.getCheckpoint().getFinishedPhases().isEmpty());
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service.capacity;
+
+import com.alibaba.nacos.config.server.model.capacity.Capacity;
+import com.alibaba.nacos.config.server.model.capacity.GroupCapacity;
+import com.alibaba.nacos.config.server.model.capacity.NamespaceCapacity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CapacityUsageCounterTest {
+    
+    @Mock
+    CapacityService capacityService;
+    
+    CapacityUsageCounter capacityUsageCounter;
+    
+    @BeforeEach
+    void setUp() {
+        capacityUsageCounter = new CapacityUsageCounter(capacityService);
+    }
+    
+    private static Capacity groupCapacity(int usage, int quota) {
+        GroupCapacity capacity = new GroupCapacity();
+        capacity.setUsage(usage);
+        capacity.setQuota(quota);
+        return capacity;
+    }
+    
+    private static Capacity tenantCapacity(int usage, int quota) {
+        NamespaceCapacity capacity = new NamespaceCapacity();
+        capacity.setUsage(usage);
+        capacity.setQuota(quota);
+        return capacity;
+    }
+    
+    @Test
+    void testIncrementInMemoryAndFlush() {
+        when(capacityService.getCapacityWithDefault("group", null)).thenReturn(groupCapacity(1, 3),
+                groupCapacity(3, 3));
+        when(capacityService.addGroupUsage("group", 2)).thenReturn(true);
+        assertTrue(capacityUsageCounter.incrementUsage("group", null, false));
+        assertTrue(capacityUsageCounter.incrementUsage("group", "", false));
+        assertFalse(capacityUsageCounter.incrementUsage("group", null, false));
+        assertTrue(capacityUsageCounter.incrementUsage("group", null, true));
+        capacityUsageCounter.decrementUsage("group", null);
+        verify(capacityService, never()).addGroupUsage(anyString(), anyInt());
+        verify(capacityService, times(1)).getCapacityWithDefault("group", null);
+        
+        capacityUsageCounter.flush();
+        verify(capacityService, times(1)).addGroupUsage("group", 2);
+        verify(capacityService, never()).correctGroupUsage(anyString());
+        verify(capacityService, times(2)).getCapacityWithDefault("group", null);
+        assertFalse(capacityUsageCounter.incrementUsage("group", null, false));
+    }
+    
+    @Test
+    void testTenantAndCluster() {
+        when(capacityService.getCapacityWithDefault(null, "tenant")).thenReturn(tenantCapacity(0, 1));
+        when(capacityService.getCapacityWithDefault(GroupCapacityPersistService.CLUSTER, null)).thenReturn(
+                groupCapacity(10, 100));
+        when(capacityService.addTenantUsage("tenant", 1)).thenReturn(true);
+        assertTrue(capacityUsageCounter.incrementClusterUsage(false));
+        assertTrue(capacityUsageCounter.incrementUsage("group", "tenant", false));
+        assertFalse(capacityUsageCounter.incrementUsage("group", "tenant", false));
+        capacityUsageCounter.decrementClusterUsage();
+        
+        capacityUsageCounter.flush();
+        // cluster usage is not changed in total.
+        verify(capacityService, never()).addGroupUsage(anyString(), anyInt());
+        verify(capacityService, times(1)).addTenantUsage("tenant", 1);
+    }
+    
+    @Test
+    void testInitCapacityIfAbsent() {
+        when(capacityService.getCapacityWithDefault("group", null)).thenReturn(null, groupCapacity(0, 200));
+        assertEquals(200, capacityUsageCounter.getCapacity("group", null).getQuota());
+        verify(capacityService, times(1)).initCapacity("group", null);
+    }
+    
+    @Test
+    void testFlushEvictsUnusedCounter() {
+        when(capacityService.getCapacityWithDefault("group", null)).thenReturn(groupCapacity(0, 10));
+        when(capacityService.addGroupUsage("group", 1)).thenReturn(true);
+        assertTrue(capacityUsageCounter.incrementUsage("group", null, false));
+        capacityUsageCounter.flush();
+        capacityUsageCounter.flush();
+        verify(capacityService, times(2)).getCapacityWithDefault("group", null);
+        
+        // reload after evicted.
+        assertTrue(capacityUsageCounter.incrementUsage("group", null, false));
+        verify(capacityService, times(3)).getCapacityWithDefault("group", null);
+    }
+    
+    @Test
+    void testFlushFailKeepsDelta() {
+        when(capacityService.getCapacityWithDefault("group", null)).thenReturn(groupCapacity(0, 10));
+        doThrow(new IllegalStateException("mock db fail")).doReturn(true).when(capacityService)
+                .addGroupUsage(anyString(), anyInt());
+        assertTrue(capacityUsageCounter.incrementUsage("group", null, false));
+        capacityUsageCounter.flush();
+        capacityUsageCounter.flush();
+        verify(capacityService, times(2)).addGroupUsage("group", 1);
+        verify(capacityService, never()).addTenantUsage(any(), anyInt());
+    }
+    
+    @Test
+    void testFlushKeepsUsageChangedDuringFlush() {
+        when(capacityService.getCapacityWithDefault("group", null)).thenReturn(groupCapacity(5, 8),
+                groupCapacity(7, 8));
+        when(capacityService.addGroupUsage("group", 2)).thenAnswer(invocation -> {
+            // published while flushing, counted in next flush.
+            assertTrue(capacityUsageCounter.incrementUsage("group", null, false));
+            return true;
+        });
+        assertTrue(capacityUsageCounter.incrementUsage("group", null, false));
+        assertTrue(capacityUsageCounter.incrementUsage("group", null, false));
+        capacityUsageCounter.flush();
+        // 7 in capacity table with 1 not flushed yet, neither lost nor counted twice.
+        assertEquals(8, capacityUsageCounter.getCapacity("group", null).getQuota());
+        assertFalse(capacityUsageCounter.incrementUsage("group", null, false));
+        capacityUsageCounter.decrementUsage("group", null);
+        assertTrue(capacityUsageCounter.incrementUsage("group", null, false));
+    }
+}
@@ -240,6 +240,24 @@ class GroupCapacityPersistServiceTest {
         }
     }
     
+    @Test
+    void testAddUsage() {
+        Timestamp timestamp = new Timestamp(System.currentTimeMillis());
+        when(jdbcTemplate.update(anyString(), eq(-2), eq(timestamp), eq("test5"))).thenReturn(1);
+        
+        assertTrue(service.addUsage("test5", -2, timestamp));
+        
+        //mock get connection fail
+        when(jdbcTemplate.update(anyString(), eq(-2), eq(timestamp), eq("test5"))).thenThrow(
+                new CannotGetJdbcConnectionException("conn fail"));
+        try {
+            service.addUsage("test5", -2, timestamp);
+            assertTrue(false);
+        } catch (Exception e) {
+            assertEquals("conn fail", e.getMessage());
+        }
+    }
+    
     @Test
     void testUpdateGroupCapacity() {
         
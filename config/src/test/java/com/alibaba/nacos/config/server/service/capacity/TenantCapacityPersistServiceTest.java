@@ -201,6 +201,24 @@ class TenantCapacityPersistServiceTest {
         }
     }
     
+    @Test
+    void testAddUsage() {
+        Timestamp timestamp = new Timestamp(System.currentTimeMillis());
+        when(jdbcTemplate.update(anyString(), eq(-2), eq(timestamp), eq("test5"))).thenReturn(1);
+        
+        assertTrue(service.addUsage("test5", -2, timestamp));
+        
+        //mock get connection fail
+        when(jdbcTemplate.update(anyString(), eq(-2), eq(timestamp), eq("test5"))).thenThrow(
+                new CannotGetJdbcConnectionException("conn fail"));
+        try {
+            service.addUsage("test5", -2, timestamp);
+            assertTrue(false);
+        } catch (Exception e) {
+            assertEquals("conn fail", e.getMessage());
+        }
+    }
+    
     @Test
     void testUpdateTenantCapacity() {
         final MockedStatic<TimeUtils> timeUtilsMockedStatic = Mockito.mockStatic(TimeUtils.class);
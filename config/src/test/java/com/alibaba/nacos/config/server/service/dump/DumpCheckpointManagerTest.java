@@ -0,0 +1,257 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service.dump;
+
+import com.alibaba.nacos.common.utils.JacksonUtils;
+import com.alibaba.nacos.common.utils.MD5Utils;
+import com.alibaba.nacos.common.utils.StringUtils;
+import com.alibaba.nacos.config.server.constant.Constants;
+import com.alibaba.nacos.config.server.model.CacheItem;
+import com.alibaba.nacos.config.server.model.ConfigInfoWrapper;
+import com.alibaba.nacos.config.server.service.ConfigCacheService;
+import com.alibaba.nacos.config.server.service.dump.disk.ConfigDiskService;
+import com.alibaba.nacos.config.server.service.dump.disk.ConfigDiskServiceFactory;
+import com.alibaba.nacos.config.server.service.repository.ConfigInfoPersistService;
+import com.alibaba.nacos.config.server.utils.GroupKey2;
+import com.alibaba.nacos.sys.env.EnvUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.File;
+import java.lang.reflect.Field;
+import java.nio.file.Files;
+import java.sql.Timestamp;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DumpCheckpointManagerTest {
+    
+    private static final String GROUP = "DEFAULT_GROUP";
+    
+    private static final String TENANT = "public";
+    
+    @Mock
+    ConfigInfoPersistService configInfoPersistService;
+    
+    @Mock
+    DumpChangeConfigWorker dumpChangeConfigWorker;
+    
+    @Mock
+    ConfigDiskService configDiskService;
+    
+    @TempDir
+    File dir;
+    
+    MockedStatic<EnvUtil> envUtilMockedStatic;
+    
+    DumpCheckpointManager dumpCheckpointManager;
+    
+    File checkpointFile;
+    
+    @BeforeEach
+    void setUp() throws Exception {
+        envUtilMockedStatic = Mockito.mockStatic(EnvUtil.class);
+        setDiskService(configDiskService);
+        checkpointFile = new File(dir, DumpCheckpointManager.CHECKPOINT_FILE_NAME);
+        dumpCheckpointManager = new DumpCheckpointManager(configInfoPersistService, dumpChangeConfigWorker,
+                checkpointFile);
+    }
+    
+    @AfterEach
+    void tearDown() throws Exception {
+        for (String dataId : new String[] {"checkpoint1", "checkpoint2", "checkpoint3"}) {
+            ConfigCacheService.remove(dataId, GROUP, TENANT);
+        }
+        setDiskService(null);
+        envUtilMockedStatic.close();
+    }
+    
+    private static void setDiskService(ConfigDiskService diskService) throws Exception {
+        Field field = ConfigDiskServiceFactory.class.getDeclaredField("configDiskService");
+        field.setAccessible(true);
+        field.set(null, diskService);
+    }
+    
+    private static String md5(String content) {
+        return MD5Utils.md5Hex(content, Constants.ENCODE_UTF8);
+    }
+    
+    private static String groupKey(String dataId) {
+        return GroupKey2.getKey(dataId, GROUP, TENANT);
+    }
+    
+    private static int cachedConfigCount() {
+        int count = 0;
+        for (CacheItem item : ConfigCacheService.getAllCacheItems()) {
+            if (item.getConfigCache() != null && StringUtils.isNotBlank(item.getConfigCache().getMd5())) {
+                count++;
+            }
+        }
+        return count;
+    }
+    
+    private static void assertMd5Compact(String dataId) {
+        CacheItem item = ConfigCacheService.getContentCache(groupKey(dataId));
+        assertTrue(ReflectionTestUtils.getField(item.getConfigCache(), "md5") instanceof byte[]);
+    }
+    
+    private DumpCheckpoint saveAndClearCheckpointConfigs() {
+        ConfigCacheService.dump("checkpoint1", GROUP, TENANT, "content1", 100L, "text", null);
+        ConfigCacheService.dump("checkpoint2", GROUP, TENANT, "content2", 200L, "yaml", null);
+        ConfigCacheService.dump("checkpoint3", GROUP, TENANT, "content3", 300L, "text", null);
+        dumpCheckpointManager.save();
+        DumpCheckpoint checkpoint = dumpCheckpointManager.load();
+        // simulate a restart, local cache is empty, including configs left by other tests.
+        for (DumpCheckpoint.Entry entry : checkpoint.getEntries()) {
+            ConfigCacheService.remove(entry.getDataId(), entry.getGroup(), entry.getTenant());
+        }
+        return checkpoint;
+    }
+    
+    @Test
+    void testSaveAndRestore() throws Exception {
+        DumpCheckpoint checkpoint = saveAndClearCheckpointConfigs();
+        assertEquals(ConfigDiskServiceFactory.getDiskType(), checkpoint.getDiskType());
+        assertTrue(checkpoint.getWatermark() < System.currentTimeMillis());
+        // checkpoint1 and checkpoint2 are in database, with 3 configs of blank tenant which are never cached.
+        int cachedCount = cachedConfigCount();
+        when(configInfoPersistService.configInfoCount()).thenReturn(cachedCount + 2 + 3);
+        when(configInfoPersistService.configInfoCount("")).thenReturn(3);
+        // checkpoint1 is unchanged, checkpoint2 is changed on disk after checkpoint, checkpoint3 is deleted.
+        Map<String, String> diskContents = new HashMap<>();
+        diskContents.put("checkpoint1", "content1");
+        diskContents.put("checkpoint2", "content2-new");
+        when(configDiskService.getContent(anyString(), anyString(), anyString())).thenAnswer(
+                invocation -> diskContents.get(invocation.<String>getArgument(0)));
+        ConfigInfoWrapper changed = new ConfigInfoWrapper();
+        changed.setDataId("checkpoint2");
+        changed.setGroup(GROUP);
+        changed.setTenant(TENANT);
+        changed.setContent("content2-new");
+        changed.setLastModified(400L);
+        changed.setType("yaml");
+        when(configInfoPersistService.findConfigInfo(anyString(), anyString(), anyString())).thenAnswer(
+                invocation -> "checkpoint2".equals(invocation.getArgument(0)) ? changed : null);
+        
+        assertTrue(dumpCheckpointManager.restore());
+        assertEquals(md5("content1"), ConfigCacheService.getContentMd5(groupKey("checkpoint1")));
+        assertEquals(100L, ConfigCacheService.getLastModifiedTs(groupKey("checkpoint1")));
+        assertEquals(md5("content2-new"), ConfigCacheService.getContentMd5(groupKey("checkpoint2")));
+        assertEquals(400L, ConfigCacheService.getLastModifiedTs(groupKey("checkpoint2")));
+        assertNull(ConfigCacheService.getContentCache(groupKey("checkpoint3")));
+        verify(configInfoPersistService, never()).findConfigInfo(eq("checkpoint1"), any(), any());
+        verify(dumpChangeConfigWorker).dumpChanges(new Timestamp(checkpoint.getWatermark()));
+        assertMd5Compact("checkpoint1");
+        assertMd5Compact("checkpoint2");
+    }
+    
+    @Test
+    void testSaveKeepMd5Compact() {
+        ConfigCacheService.dump("checkpoint1", GROUP, TENANT, "content1", 100L, "text", null);
+        ConfigCacheService.dump("checkpoint2", GROUP, TENANT, "content2", 200L, "yaml", null);
+        dumpCheckpointManager.save();
+        dumpCheckpointManager.save();
+        assertEquals(md5("content1"), dumpCheckpointManager.load().getEntries().stream()
+                .filter(entry -> "checkpoint1".equals(entry.getDataId())).findFirst().get().getMd5());
+        assertMd5Compact("checkpoint1");
+        assertMd5Compact("checkpoint2");
+    }
+    
+    @Test
+    void testRestoreCountMismatchRollback() throws Exception {
+        saveAndClearCheckpointConfigs();
+        when(configDiskService.getContent(anyString(), anyString(), anyString())).thenAnswer(
+                invocation -> "content" + invocation.<String>getArgument(0).substring("checkpoint".length()));
+        // a config missing from the checkpoint is in database.
+        int cachedCount = cachedConfigCount();
+        when(configInfoPersistService.configInfoCount()).thenReturn(cachedCount + 4);
+        
+        assertFalse(dumpCheckpointManager.restore());
+        assertNull(ConfigCacheService.getContentCache(groupKey("checkpoint1")));
+        assertNull(ConfigCacheService.getContentCache(groupKey("checkpoint3")));
+    }
+    
+    @Test
+    void testInvalidate() {
+        ConfigCacheService.dump("checkpoint1", GROUP, TENANT, "content1", 100L, "text", null);
+        dumpCheckpointManager.save();
+        assertTrue(checkpointFile.exists());
+        dumpCheckpointManager.invalidate();
+        assertFalse(checkpointFile.exists());
+        assertFalse(dumpCheckpointManager.restore());
+    }
+    
+    @Test
+    void testRestoreWithoutCheckpoint() {
+        assertFalse(dumpCheckpointManager.restore());
+        Mockito.verifyNoInteractions(dumpChangeConfigWorker);
+    }
+    
+    @Test
+    void testRestoreIgnoreOtherDiskType() throws Exception {
+        DumpCheckpoint checkpoint = new DumpCheckpoint();
+        checkpoint.setDiskType("otherDisk");
+        checkpoint.setWatermark(System.currentTimeMillis());
+        Files.write(checkpointFile.toPath(), JacksonUtils.toJsonBytes(checkpoint));
+        assertFalse(dumpCheckpointManager.restore());
+        Mockito.verifyNoInteractions(dumpChangeConfigWorker);
+    }
+    
+    @Test
+    void testRestoreIgnoreExpiredCheckpoint() throws Exception {
+        DumpCheckpoint checkpoint = new DumpCheckpoint();
+        checkpoint.setDiskType(ConfigDiskServiceFactory.getDiskType());
+        checkpoint.setWatermark(System.currentTimeMillis() - 2 * 24 * 60 * 60 * 1000L);
+        Files.write(checkpointFile.toPath(), JacksonUtils.toJsonBytes(checkpoint));
+        assertFalse(dumpCheckpointManager.restore());
+        Mockito.verifyNoInteractions(dumpChangeConfigWorker);
+    }
+    
+    @Test
+    void testRestoreFailRollback() throws Exception {
+        ConfigCacheService.dump("checkpoint1", GROUP, TENANT, "content1", 100L, "text", null);
+        dumpCheckpointManager.save();
+        ConfigCacheService.remove("checkpoint1", GROUP, TENANT);
+        when(configDiskService.getContent(anyString(), anyString(), anyString())).thenAnswer(
+                invocation -> "checkpoint1".equals(invocation.getArgument(0)) ? "content1" : null);
+        doThrow(new IllegalStateException("mock db fail")).when(dumpChangeConfigWorker).dumpChanges(any());
+        
+        assertFalse(dumpCheckpointManager.restore());
+        assertNull(ConfigCacheService.getContentCache(groupKey("checkpoint1")));
+    }
+}
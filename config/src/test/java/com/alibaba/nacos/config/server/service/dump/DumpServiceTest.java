@@ -16,9 +16,13 @@
 
 package com.alibaba.nacos.config.server.service.dump;
 
+import com.alibaba.nacos.api.exception.NacosException;
 import com.alibaba.nacos.config.server.manager.TaskManager;
 import com.alibaba.nacos.config.server.model.event.ConfigDataChangeEvent;
 import com.alibaba.nacos.config.server.service.ConfigMigrateService;
+import com.alibaba.nacos.config.server.service.ConfigSearchIndex;
+import com.alibaba.nacos.config.server.service.dump.processor.DumpAllProcessor;
+import com.alibaba.nacos.config.server.service.dump.task.DumpAllTask;
 import com.alibaba.nacos.config.server.service.dump.task.DumpTask;
 import com.alibaba.nacos.config.server.service.repository.ConfigInfoGrayPersistService;
 import com.alibaba.nacos.config.server.service.repository.ConfigInfoPersistService;
@@ -43,6 +47,7 @@ import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.concurrent.TimeUnit;
 
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
@@ -95,6 +100,9 @@ class DumpServiceTest {
     @Mock
     private TaskManager dumpTaskMgr;
     
+    @Mock
+    private DumpCheckpointManager dumpCheckpointManager;
+    
     @BeforeEach
     void setUp() {
         envUtilMockedStatic = Mockito.mockStatic(EnvUtil.class);
@@ -106,6 +114,7 @@ class DumpServiceTest {
         ReflectionTestUtils.setField(DynamicDataSource.getInstance(), "basicDataSourceService", dataSourceService);
         dumpService = new ExternalDumpService(configInfoPersistService, namespacePersistService,
                 historyConfigInfoPersistService, configInfoGrayPersistService, memberManager, configMigrateService);
+        ReflectionTestUtils.setField(dumpService, "dumpCheckpointManager", dumpCheckpointManager);
         configExecutorMocked = Mockito.mockStatic(ConfigExecutor.class);
         historyConfigCleanerManagerMockedStatic = Mockito.mockStatic(HistoryConfigCleanerManager.class);
         historyConfigCleanerManagerMockedStatic.when(
@@ -158,6 +167,7 @@ class DumpServiceTest {
         dumpService.dumpOperate();
         
         // expect dump
+        Mockito.verify(dumpCheckpointManager, times(1)).restore();
         Mockito.verify(configInfoPersistService, times(1)).findAllConfigInfoFragment(0, 100, true);
         Mockito.verify(configInfoPersistService, times(1)).findConfigMaxId();
         Mockito.verify(configInfoGrayPersistService, times(1)).configInfoGrayCount();
@@ -177,6 +187,49 @@ class DumpServiceTest {
         configExecutorMocked.verify(
                 () -> ConfigExecutor.scheduleConfigTask(any(DumpService.ConfigHistoryClear.class), anyLong(), anyLong(),
                         eq(TimeUnit.MINUTES)), times(1));
+        // expect checkpoint saved after dump and scheduled.
+        Mockito.verify(dumpCheckpointManager, times(1)).save();
+        Mockito.verify(dumpCheckpointManager, times(1)).scheduleSave();
+    }
+    
+    @Test
+    void dumpOperateFailWhenFetchConfigFail() {
+        Mockito.when(configInfoPersistService.findConfigMaxId()).thenReturn(300L);
+        Mockito.when(configInfoPersistService.findAllConfigInfoFragment(0, 100, true))
+                .thenThrow(new IllegalStateException("mock db fail"));
+        assertThrows(NacosException.class, () -> dumpService.dumpOperate());
+        Mockito.verify(dumpCheckpointManager, times(0)).save();
+        Mockito.verify(dumpCheckpointManager, times(0)).scheduleSave();
+    }
+    
+    @Test
+    void dumpOperateIncomplete() throws Throwable {
+        DumpAllProcessor dumpAllProcessor = Mockito.mock(DumpAllProcessor.class);
+        Mockito.when(dumpAllProcessor.dumpAll(any(DumpAllTask.class))).thenReturn(false);
+        ReflectionTestUtils.setField(dumpService, "dumpAllProcessor", dumpAllProcessor);
+        ConfigSearchIndex searchIndex = Mockito.mock(ConfigSearchIndex.class);
+        ReflectionTestUtils.setField(ConfigSearchIndex.class, "instance", searchIndex);
+        try {
+            dumpService.dumpOperate();
+        } finally {
+            ReflectionTestUtils.setField(ConfigSearchIndex.class, "instance", null);
+        }
+        
+        // expect neither checkpoint saved nor search index served for a partial dump.
+        Mockito.verify(dumpCheckpointManager, times(0)).save();
+        Mockito.verify(dumpCheckpointManager, times(1)).invalidate();
+        Mockito.verify(searchIndex, times(0)).markReady();
+    }
+    
+    @Test
+    void dumpOperateRestoredFromCheckpoint() throws Throwable {
+        Mockito.when(dumpCheckpointManager.restore()).thenReturn(true);
+        dumpService.dumpOperate();
+        
+        // expect dump all of formal configs skipped.
+        Mockito.verify(configInfoPersistService, times(0)).findConfigMaxId();
+        Mockito.verify(configInfoGrayPersistService, times(1)).configInfoGrayCount();
+        Mockito.verify(dumpCheckpointManager, times(1)).save();
     }
     
     @Test
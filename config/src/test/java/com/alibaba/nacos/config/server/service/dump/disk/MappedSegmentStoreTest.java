@@ -0,0 +1,241 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service.dump.disk;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MappedSegmentStoreTest {
+    
+    private static final int SEGMENT_SIZE = 4096;
+    
+    @TempDir
+    File dir;
+    
+    private MappedSegmentStore open() throws Exception {
+        MappedSegmentStore store = new MappedSegmentStore(dir, SEGMENT_SIZE);
+        store.open();
+        return store;
+    }
+    
+    @Test
+    void testPutGetRemove() throws Exception {
+        MappedSegmentStore store = open();
+        store.put("key1", "value1");
+        store.put("key2", "中文内容");
+        assertEquals("value1", store.get("key1"));
+        assertEquals("中文内容", store.get("key2"));
+        store.put("key1", "value1-new");
+        assertEquals("value1-new", store.get("key1"));
+        store.remove("key2");
+        assertNull(store.get("key2"));
+        assertNull(store.get("notExist"));
+        assertEquals(1, store.size());
+    }
+    
+    @Test
+    void testRecoverAfterReopen() throws Exception {
+        MappedSegmentStore store = open();
+        for (int i = 0; i < 200; i++) {
+            store.put("key" + i, "value" + i);
+        }
+        store.put("key1", "value1-new");
+        store.remove("key2");
+        assertTrue(store.segmentCount() > 1);
+        
+        MappedSegmentStore reopened = open();
+        assertEquals(199, reopened.size());
+        assertEquals("value1-new", reopened.get("key1"));
+        assertNull(reopened.get("key2"));
+        assertEquals("value199", reopened.get("key199"));
+        //expect append to the recovered active segment.
+        reopened.put("key2", "value2-again");
+        assertEquals("value2-again", open().get("key2"));
+    }
+    
+    @Test
+    void testRecoverWithTornTail() throws Exception {
+        MappedSegmentStore store = open();
+        store.put("key1", "value1");
+        store.put("key2", "value2");
+        File segment = dir.listFiles()[0];
+        // corrupt the value of key2 to simulate a partially written record.
+        try (RandomAccessFile raf = new RandomAccessFile(segment, "rw")) {
+            int secondRecordOffset = 13 + "key1".length() + "value1".length();
+            raf.seek(secondRecordOffset + 13 + "key2".length() + 1);
+            raf.write(new byte[] {'x', 'y'});
+        }
+        
+        MappedSegmentStore reopened = open();
+        assertEquals("value1", reopened.get("key1"));
+        assertNull(reopened.get("key2"));
+        reopened.put("key3", "value3");
+        MappedSegmentStore again = open();
+        assertEquals("value1", again.get("key1"));
+        assertEquals("value3", again.get("key3"));
+    }
+    
+    @Test
+    void testCompact() throws Exception {
+        MappedSegmentStore store = open();
+        for (int round = 0; round < 10; round++) {
+            for (int i = 0; i < 20; i++) {
+                store.put("key" + i, "value" + i + "-" + round);
+            }
+        }
+        store.remove("key0");
+        int segmentsBefore = store.segmentCount();
+        assertTrue(store.compact(0.5D) > 0);
+        assertTrue(store.segmentCount() < segmentsBefore);
+        for (int i = 1; i < 20; i++) {
+            assertEquals("value" + i + "-9", store.get("key" + i));
+        }
+        assertNull(store.get("key0"));
+        
+        //expect compacted data and tombstones still valid after reopen.
+        MappedSegmentStore reopened = open();
+        assertEquals(19, reopened.size());
+        assertNull(reopened.get("key0"));
+        assertEquals("value19-9", reopened.get("key19"));
+    }
+    
+    @Test
+    void testLargeValue() throws Exception {
+        MappedSegmentStore store = open();
+        StringBuilder value = new StringBuilder();
+        for (int i = 0; i < SEGMENT_SIZE; i++) {
+            value.append('v');
+        }
+        store.put("large", value.toString());
+        assertEquals(value.toString(), store.get("large"));
+        assertEquals(value.toString(), open().get("large"));
+    }
+    
+    @Test
+    void testClearAndDestroy() throws Exception {
+        MappedSegmentStore store = open();
+        store.put("key1", "value1");
+        store.clear();
+        assertNull(store.get("key1"));
+        assertEquals(0, store.segmentCount());
+        store.put("key1", "value1");
+        MappedSegmentStore.destroy(dir);
+        assertEquals(0, open().size());
+    }
+    
+    @Test
+    void testClearNotReuseSegmentId() throws Exception {
+        MappedSegmentStore store = open();
+        store.put("key1", "value1");
+        Set<String> oldFiles = new HashSet<>(Arrays.asList(dir.list()));
+        store.clear();
+        store.put("key2", "value2");
+        // a reader still holding a dropped segment deletes its own file only, never the file of a new segment.
+        for (String each : dir.list()) {
+            assertFalse(oldFiles.contains(each), each);
+        }
+        MappedSegmentStore reopened = open();
+        assertNull(reopened.get("key1"));
+        assertEquals("value2", reopened.get("key2"));
+    }
+    
+    @Test
+    void testCompactDropTombstoneWithoutOlderPut() throws Exception {
+        MappedSegmentStore store = open();
+        String bigValue = repeat('v', 1200);
+        // segment 0: put of the removed key and overwritten fillers.
+        store.put("tombKey", "v");
+        for (int i = 0; i < 3; i++) {
+            store.put("filler", bigValue);
+        }
+        // segment 1: live data only, full enough that the tombstone goes to the next segment.
+        String liveValue = repeat('l', 1345);
+        for (int i = 0; i < 3; i++) {
+            store.put("live" + i, liveValue);
+        }
+        // segment 2: the tombstone and overwritten fillers, segment 3 is active.
+        store.remove("tombKey");
+        for (int i = 0; i < 4; i++) {
+            store.put("filler", bigValue);
+        }
+        assertEquals(4, store.segmentCount());
+        
+        assertEquals(2, store.compact(0.5D));
+        assertEquals(2, store.segmentCount());
+        for (File file : dir.listFiles()) {
+            String content = new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+            assertFalse(content.contains("tombKey"), file.getName());
+        }
+        MappedSegmentStore reopened = open();
+        assertNull(reopened.get("tombKey"));
+        assertEquals(liveValue, reopened.get("live2"));
+        assertEquals(bigValue, reopened.get("filler"));
+    }
+    
+    @Test
+    void testGetWhileCompact() throws Exception {
+        MappedSegmentStore store = open();
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicReference<String> error = new AtomicReference<>();
+        CountDownLatch finished = new CountDownLatch(1);
+        store.put("stable", "stable-value");
+        Thread reader = new Thread(() -> {
+            while (running.get()) {
+                if (!"stable-value".equals(store.get("stable"))) {
+                    error.set(store.get("stable"));
+                }
+            }
+            finished.countDown();
+        });
+        reader.start();
+        for (int round = 0; round < 50; round++) {
+            for (int i = 0; i < 20; i++) {
+                store.put("key" + i, "value" + i + "-" + round);
+            }
+            store.compact(0.5D);
+        }
+        running.set(false);
+        finished.await();
+        assertNull(error.get());
+        assertEquals("value19-49", store.get("key19"));
+        assertTrue(dir.listFiles().length <= store.segmentCount());
+    }
+    
+    private static String repeat(char c, int count) {
+        StringBuilder builder = new StringBuilder(count);
+        for (int i = 0; i < count; i++) {
+            builder.append(c);
+        }
+        return builder.toString();
+    }
+}
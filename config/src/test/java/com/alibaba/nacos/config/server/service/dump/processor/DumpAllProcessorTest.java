@@ -43,6 +43,7 @@ import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.beans.BeanUtils;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.Arrays;
 import java.util.List;
@@ -275,6 +276,9 @@ class DumpAllProcessorTest {
                 .getContent(configInfoWrapper2.getDataId(), configInfoWrapper2.getGroup(),
                         configInfoWrapper2.getTenant());
         assertEquals(configInfoWrapperSingle2.getContent(), contentFromDisk2);
+        // md5 compared by dump all should stay compact in cache.
+        assertTrue(ReflectionTestUtils.getField(contentCache1.getConfigCache(), "md5") instanceof byte[]);
+        assertTrue(ReflectionTestUtils.getField(contentCache2.getConfigCache(), "md5") instanceof byte[]);
     }
     
 }
@@ -0,0 +1,117 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service.dump.processor;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PipelinedPageDumperTest {
+    
+    private static List<Integer> page(int from, int size) {
+        List<Integer> items = new ArrayList<>();
+        for (int i = from; i < from + size; i++) {
+            items.add(i);
+        }
+        return items;
+    }
+    
+    @Test
+    void testDumpAllPages() {
+        PipelinedPageDumper<Integer> dumper = new PipelinedPageDumper<>("test-dump", 4, 2, 10);
+        AtomicInteger pageNo = new AtomicInteger();
+        Set<Integer> dumped = ConcurrentHashMap.newKeySet();
+        long count = dumper.dump(() -> {
+            int current = pageNo.getAndIncrement();
+            if (current >= 10) {
+                return null;
+            }
+            // every third page is empty and should be skipped.
+            return current % 3 == 2 ? Collections.emptyList() : page(current * 10, 10);
+        }, dumped::add);
+        assertEquals(70, count);
+        assertEquals(70, dumped.size());
+    }
+    
+    @Test
+    void testDumpItemErrorNotBreakOthers() {
+        PipelinedPageDumper<Integer> dumper = new PipelinedPageDumper<>("test-dump", 2, 1, 10);
+        AtomicInteger pageNo = new AtomicInteger();
+        Set<Integer> dumped = ConcurrentHashMap.newKeySet();
+        long count = dumper.dump(() -> pageNo.getAndIncrement() < 3 ? page(pageNo.get() * 10, 10) : null, item -> {
+            if (item % 10 == 0) {
+                throw new IllegalStateException("mock dump fail");
+            }
+            return item % 10 == 1 ? false : dumped.add(item);
+        });
+        // failed items are not counted as dumped.
+        assertEquals(24, count);
+        assertEquals(24, dumped.size());
+        assertEquals(6, dumper.getFailedCount());
+    }
+    
+    @Test
+    void testFetchErrorStopsDump() {
+        PipelinedPageDumper<Integer> dumper = new PipelinedPageDumper<>("test-dump", 2, 1, 10);
+        AtomicInteger pageNo = new AtomicInteger();
+        Set<Integer> dumped = ConcurrentHashMap.newKeySet();
+        IllegalStateException exception = assertThrows(IllegalStateException.class, () -> dumper.dump(() -> {
+            if (pageNo.getAndIncrement() == 2) {
+                throw new IllegalStateException("mock db fail");
+            }
+            return page(pageNo.get() * 10, 10);
+        }, dumped::add));
+        assertEquals("mock db fail", exception.getMessage());
+        // items of pages fetched before the error are still dumped.
+        assertEquals(20, dumped.size());
+    }
+    
+    @Test
+    void testPrefetchBounded() {
+        PipelinedPageDumper<Integer> dumper = new PipelinedPageDumper<>("test-dump", 1, 1, 1);
+        AtomicInteger fetchedPages = new AtomicInteger();
+        AtomicInteger maxAhead = new AtomicInteger();
+        AtomicInteger dumpedPages = new AtomicInteger();
+        dumper.dump(() -> {
+            if (fetchedPages.get() >= 20) {
+                return null;
+            }
+            maxAhead.accumulateAndGet(fetchedPages.incrementAndGet() - dumpedPages.get(), Math::max);
+            return page(0, 1);
+        }, item -> {
+            try {
+                Thread.sleep(2L);
+            } catch (InterruptedException ignored) {
+                Thread.currentThread().interrupt();
+            }
+            dumpedPages.incrementAndGet();
+            return true;
+        });
+        assertEquals(20, dumpedPages.get());
+        // queued page, page in caller thread, items in worker queue and worker, plus the one being fetched.
+        assertTrue(maxAhead.get() <= 6, "fetcher runs too far ahead: " + maxAhead.get());
+    }
+}
@@ -0,0 +1,236 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service.notify;
+
+import com.alibaba.nacos.api.common.NodeState;
+import com.alibaba.nacos.api.config.remote.request.cluster.ConfigChangeClusterBatchSyncRequest;
+import com.alibaba.nacos.api.config.remote.response.cluster.ConfigChangeClusterBatchSyncResponse;
+import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.api.remote.RequestCallBack;
+import com.alibaba.nacos.config.server.configuration.ConfigCommonConfig;
+import com.alibaba.nacos.config.server.model.event.ConfigDataChangeEvent;
+import com.alibaba.nacos.config.server.remote.ConfigClusterRpcClientProxy;
+import com.alibaba.nacos.config.server.utils.ConfigExecutor;
+import com.alibaba.nacos.core.cluster.Member;
+import com.alibaba.nacos.core.cluster.ServerMemberManager;
+import com.alibaba.nacos.sys.env.EnvUtil;
+import com.alibaba.nacos.sys.utils.InetUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.alibaba.nacos.core.cluster.MemberMetaDataConstants.SUPPORT_CONFIG_CHANGE_STREAM;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ConfigChangeStreamTest {
+    
+    @Mock
+    private ServerMemberManager serverMemberManager;
+    
+    @Mock
+    private ConfigClusterRpcClientProxy configClusterRpcClientProxy;
+    
+    private MockedStatic<ConfigExecutor> configExecutorMocked;
+    
+    private MockedStatic<InetUtils> inetUtilsMocked;
+    
+    private final List<Runnable> scheduled = new ArrayList<>();
+    
+    private final List<Long> delays = new ArrayList<>();
+    
+    private AsyncNotifyService asyncNotifyService;
+    
+    private Member member;
+    
+    @BeforeEach
+    void setUp() {
+        EnvUtil.setEnvironment(new StandardEnvironment());
+        configExecutorMocked = Mockito.mockStatic(ConfigExecutor.class);
+        configExecutorMocked.when(
+                () -> ConfigExecutor.scheduleAsyncNotify(any(Runnable.class), anyLong(), any(TimeUnit.class)))
+                .thenAnswer(invocation -> {
+                    scheduled.add(invocation.getArgument(0));
+                    delays.add(invocation.getArgument(1));
+                    return null;
+                });
+        configExecutorMocked.when(() -> ConfigExecutor.executeAsyncNotify(any(Runnable.class)))
+                .thenAnswer(invocation -> {
+                    scheduled.add(invocation.getArgument(0));
+                    delays.add(0L);
+                    return null;
+                });
+        inetUtilsMocked = Mockito.mockStatic(InetUtils.class);
+        inetUtilsMocked.when(InetUtils::getSelfIP).thenReturn("127.0.0.1");
+        
+        member = new Member();
+        member.setIp("1.1.1.1");
+        member.setPort(8848);
+        member.setState(NodeState.UP);
+        member.setExtendVal(SUPPORT_CONFIG_CHANGE_STREAM, true);
+        Member self = new Member();
+        self.setIp("127.0.0.1");
+        self.setPort(8848);
+        when(serverMemberManager.allMembersWithoutSelf()).thenReturn(Collections.singletonList(member));
+        when(serverMemberManager.hasMember(member.getAddress())).thenReturn(true);
+        when(serverMemberManager.find(member.getAddress())).thenReturn(member);
+        when(serverMemberManager.stateCheck(eq(member.getAddress()), any())).thenReturn(true);
+        when(serverMemberManager.getSelf()).thenReturn(self);
+        asyncNotifyService = new AsyncNotifyService(serverMemberManager);
+        ReflectionTestUtils.setField(asyncNotifyService, "configClusterRpcClientProxy", configClusterRpcClientProxy);
+    }
+    
+    @AfterEach
+    void after() {
+        configExecutorMocked.close();
+        inetUtilsMocked.close();
+    }
+    
+    private Runnable takeScheduled() {
+        assertEquals(1, scheduled.size());
+        delays.clear();
+        return scheduled.remove(0);
+    }
+    
+    @SuppressWarnings("unchecked")
+    private RequestCallBack<ConfigChangeClusterBatchSyncResponse> verifyFrame(int times, long firstSeq, int size)
+            throws NacosException {
+        ArgumentCaptor<ConfigChangeClusterBatchSyncRequest> request = ArgumentCaptor.forClass(
+                ConfigChangeClusterBatchSyncRequest.class);
+        ArgumentCaptor<RequestCallBack> callBack = ArgumentCaptor.forClass(RequestCallBack.class);
+        verify(configClusterRpcClientProxy, times(times)).syncConfigChangeBatch(eq(member), request.capture(),
+                callBack.capture());
+        assertEquals("127.0.0.1:8848", request.getValue().getSource());
+        assertEquals(firstSeq, request.getValue().getFirstSeq());
+        assertEquals(size, request.getValue().getChanges().size());
+        return callBack.getValue();
+    }
+    
+    private ConfigChangeClusterBatchSyncRequest captureFrame(int times) throws NacosException {
+        ArgumentCaptor<ConfigChangeClusterBatchSyncRequest> request = ArgumentCaptor.forClass(
+                ConfigChangeClusterBatchSyncRequest.class);
+        verify(configClusterRpcClientProxy, times(times)).syncConfigChangeBatch(eq(member), request.capture(), any());
+        return request.getValue();
+    }
+    
+    private static ConfigChangeClusterBatchSyncResponse ack(long ackSeq) {
+        ConfigChangeClusterBatchSyncResponse response = new ConfigChangeClusterBatchSyncResponse();
+        response.setAckSeq(ackSeq);
+        return response;
+    }
+    
+    @Test
+    void testCoalesceChangesAndResendAfterAck() throws NacosException {
+        for (int i = 0; i < 3; i++) {
+            asyncNotifyService.handleConfigDataChangeEvent(new ConfigDataChangeEvent("dataId" + i, "group", "", 1L));
+        }
+        takeScheduled().run();
+        RequestCallBack<ConfigChangeClusterBatchSyncResponse> callBack = verifyFrame(1, 1L, 3);
+        
+        // change arriving while a frame is in flight is sent in the next frame.
+        asyncNotifyService.handleConfigDataChangeEvent(new ConfigDataChangeEvent("dataId3", "group", "", 1L));
+        assertEquals(0, scheduled.size());
+        
+        callBack.onResponse(ack(2L));
+        takeScheduled().run();
+        callBack = verifyFrame(2, 3L, 2);
+        callBack.onResponse(ack(4L));
+        assertEquals(0, scheduled.size());
+        assertEquals(0, asyncNotifyService.getStream(member.getAddress()).pendingCount());
+    }
+    
+    @Test
+    void testRetryWithBackOff() throws NacosException {
+        asyncNotifyService.handleConfigDataChangeEvent(new ConfigDataChangeEvent("dataId", "group", "", 1L));
+        takeScheduled().run();
+        RequestCallBack<ConfigChangeClusterBatchSyncResponse> callBack = verifyFrame(1, 1L, 1);
+        
+        callBack.onException(new NacosException());
+        assertEquals(500L, delays.get(0));
+        takeScheduled().run();
+        callBack = verifyFrame(2, 1L, 1);
+        
+        // no progress, member asks for changes before the frame.
+        callBack.onResponse(ack(0L));
+        assertEquals(1500L, delays.get(0));
+        
+        doThrow(new NacosException()).when(configClusterRpcClientProxy)
+                .syncConfigChangeBatch(any(), any(), any());
+        takeScheduled().run();
+        assertEquals(4500L, delays.get(0));
+        assertEquals(1, asyncNotifyService.getStream(member.getAddress()).pendingCount());
+    }
+    
+    @Test
+    void testDropOldestChangesWhenTooManyPending() throws NacosException {
+        ReflectionTestUtils.setField(ConfigCommonConfig.getInstance(), "clusterStreamMaxPending", 2);
+        try {
+            asyncNotifyService.handleConfigDataChangeEvent(new ConfigDataChangeEvent("dataId0", "group", "", 1L));
+            takeScheduled().run();
+            RequestCallBack<ConfigChangeClusterBatchSyncResponse> callBack = verifyFrame(1, 1L, 1);
+            long epoch = captureFrame(1).getEpoch();
+            
+            // member does not answer, changes pile up and the oldest is dropped.
+            for (int i = 1; i < 3; i++) {
+                asyncNotifyService.handleConfigDataChangeEvent(new ConfigDataChangeEvent("dataId" + i, "group", "", 1L));
+            }
+            assertEquals(2, asyncNotifyService.getStream(member.getAddress()).pendingCount());
+            callBack.onResponse(ack(0L));
+            takeScheduled().run();
+            verifyFrame(2, 2L, 2);
+            // the member restarts from the first change kept instead of waiting for the dropped one.
+            assertNotEquals(epoch, captureFrame(2).getEpoch());
+        } finally {
+            ReflectionTestUtils.setField(ConfigCommonConfig.getInstance(), "clusterStreamMaxPending", 10000);
+        }
+    }
+    
+    @Test
+    void testDropStreamOfRemovedMember() throws NacosException {
+        asyncNotifyService.handleConfigDataChangeEvent(new ConfigDataChangeEvent("dataId", "group", "", 1L));
+        when(serverMemberManager.hasMember(anyString())).thenReturn(false);
+        takeScheduled().run();
+        verify(configClusterRpcClientProxy, times(0)).syncConfigChangeBatch(any(), any(), any());
+        assertNull(asyncNotifyService.getStream(member.getAddress()));
+    }
+}
@@ -33,7 +33,6 @@ import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.io.IOException;
-import java.util.Collections;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
@@ -79,7 +78,7 @@ class GrayRuleMatchHandlerTest {
     
     @Test
     public void handleNoGrayRulesShouldPassToNextHandler() throws IOException {
-        when(cacheItem.getSortConfigGrays()).thenReturn(Collections.emptyList());
+        when(cacheItem.matchConfigGray(any())).thenReturn(null);
         ConfigQueryChainRequest request = new ConfigQueryChainRequest();
         ConfigQueryChainResponse expectedResponse = new ConfigQueryChainResponse();
         expectedResponse.setResultCode(123); // 假设这是下一个处理器的响应
@@ -94,8 +93,7 @@ class GrayRuleMatchHandlerTest {
     
     @Test
     public void handleNoMatchingGrayRuleShouldPassToNextHandler() throws IOException {
-        when(cacheItem.getSortConfigGrays()).thenReturn(Collections.singletonList(configCacheGray));
-        when(configCacheGray.match(any())).thenReturn(false);
+        when(cacheItem.matchConfigGray(any())).thenReturn(null);
         ConfigQueryChainRequest request = new ConfigQueryChainRequest();
         ConfigQueryChainResponse expectedResponse = new ConfigQueryChainResponse();
         expectedResponse.setResultCode(123); // 假设这是下一个处理器的响应
@@ -110,8 +108,7 @@ class GrayRuleMatchHandlerTest {
     
     @Test
     public void handleMatchingGrayRuleShouldReturnConfigResponse() throws IOException {
-        when(cacheItem.getSortConfigGrays()).thenReturn(Collections.singletonList(configCacheGray));
-        when(configCacheGray.match(any())).thenReturn(true);
+        when(cacheItem.matchConfigGray(any())).thenReturn(configCacheGray);
         when(configCacheGray.getLastModifiedTs()).thenReturn(123456L);
         when(configCacheGray.getMd5()).thenReturn("md5");
         when(configCacheGray.getEncryptedDataKey()).thenReturn("encryptedKey");
@@ -959,6 +959,21 @@ class EmbeddedConfigInfoPersistServiceImplTest {
         assertEquals(mockedConfig.getLastModified(), configInfoStateWrapper.getLastModified());
     }
     
+    @Test
+    void testFindConfigInfo4ExportFetchRows() {
+        List<ConfigAllInfo> mockConfigs = new ArrayList<>();
+        mockConfigs.add(createMockConfigAllInfo(0));
+        mockConfigs.add(createMockConfigAllInfo(1));
+        String tenant = "tenant13245";
+        String group = "group23546";
+        
+        when(databaseOperate.queryMany(anyString(), eq(new Object[] {tenant, group, 100L, 2}),
+                eq(CONFIG_ALL_INFO_ROW_MAPPER))).thenReturn(mockConfigs);
+        List<ConfigAllInfo> configAllInfos = embeddedConfigInfoPersistService.findConfigInfo4ExportFetchRows(null, group, tenant,
+                null, null, 100L, 2);
+        assertEquals(mockConfigs, configAllInfos);
+    }
+    
     @Test
     void testFindAllConfigInfo4Export() {
         
@@ -29,6 +29,7 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
@@ -36,11 +37,17 @@ import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.jdbc.CannotGetJdbcConnectionException;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.File;
+import java.nio.file.Path;
 import java.sql.Timestamp;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import static com.alibaba.nacos.config.server.service.repository.ConfigRowMapperInjector.HISTORY_DETAIL_ROW_MAPPER;
 import static com.alibaba.nacos.config.server.service.repository.ConfigRowMapperInjector.HISTORY_LIST_ROW_MAPPER;
@@ -133,6 +140,53 @@ class ExternalHistoryConfigInfoPersistServiceImplTest {
         }
     }
     
+    @Test
+    void testInsertConfigHistoryWriteBehind(@TempDir Path tempDir) throws Exception {
+        List<Object[]> written = new CopyOnWriteArrayList<>();
+        HistoryWriteBehindQueue queue = new HistoryWriteBehindQueue(tempDir.resolve("history.log").toFile(), 10, 10,
+                10L, written::addAll);
+        queue.start();
+        ReflectionTestUtils.setField(externalHistoryConfigInfoPersistService, "historyWriteBehindQueue", queue);
+        Timestamp timestamp = new Timestamp(System.currentTimeMillis());
+        ConfigInfo configInfo = new ConfigInfo("dataId", "group", "tenant", "appName", "content");
+        try {
+            externalHistoryConfigInfoPersistService.insertConfigHistoryAtomic(1L, configInfo, "ip", "user", timestamp,
+                    "U", "formal", null, null);
+            // delete record is written synchronously, deleted config dump should not miss it.
+            externalHistoryConfigInfoPersistService.insertConfigHistoryAtomic(1L, configInfo, "ip", "user", timestamp,
+                    "D", "formal", null, null);
+            Mockito.verify(jdbcTemplate, times(1))
+                    .update(anyString(), eq(1L), eq("dataId"), eq("group"), eq("tenant"), eq("appName"), eq("content"),
+                            eq(configInfo.getMd5()), eq("ip"), eq("user"), eq(timestamp), eq("D"), eq("formal"), eq(""),
+                            eq(null), eq(""));
+        } finally {
+            queue.shutdown();
+        }
+        assertEquals(1, written.size());
+        assertEquals("U", written.get(0)[10]);
+    }
+    
+    @Test
+    void testInsertConfigHistoryAfterCommitFail() {
+        ReflectionTestUtils.setField(externalHistoryConfigInfoPersistService, "historyWriteBehindQueue",
+                new HistoryWriteBehindQueue(new File("history.log"), 10, 10, 10L, batch -> {
+                }));
+        when(jdbcTemplate.update(anyString(), Mockito.<Object[]>any())).thenThrow(
+                new CannotGetJdbcConnectionException("mock ex..."));
+        ConfigInfo configInfo = new ConfigInfo("dataId", "group", "tenant", "appName", "content");
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            externalHistoryConfigInfoPersistService.insertConfigHistoryAtomic(1L, configInfo, "ip", "user",
+                    new Timestamp(System.currentTimeMillis()), "U", "formal", null, null);
+            Mockito.verify(jdbcTemplate, times(0)).update(anyString(), Mockito.<Object[]>any());
+            // queue is not started, history is written synchronously after commit and failure does not escape.
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            Mockito.verify(jdbcTemplate, times(1)).update(anyString(), Mockito.<Object[]>any());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+    
     @Test
     void testRemoveConfigHistory() {
         Timestamp timestamp = new Timestamp(System.currentTimeMillis());
@@ -0,0 +1,146 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service.repository.extrnal;
+
+import com.alibaba.nacos.common.utils.JacksonUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HistoryWriteBehindQueueTest {
+    
+    @TempDir
+    Path tempDir;
+    
+    private static Object[] record(long id) {
+        return new Object[] {id, "dataId" + id, "group", "", "", "content", "md5", "127.0.0.1", "user",
+                new Timestamp(System.currentTimeMillis()), "I", "formal", "", null, ""};
+    }
+    
+    @Test
+    void testWriteInBatches() throws Exception {
+        File journal = tempDir.resolve("history.log").toFile();
+        List<List<Object[]>> batches = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch written = new CountDownLatch(5);
+        HistoryWriteBehindQueue queue = new HistoryWriteBehindQueue(journal, 100, 2, 100L, batch -> {
+            batches.add(new ArrayList<>(batch));
+            batch.forEach(each -> written.countDown());
+        });
+        queue.start();
+        for (int i = 0; i < 5; i++) {
+            assertTrue(queue.offer(record(i)));
+        }
+        assertTrue(written.await(5, TimeUnit.SECONDS));
+        queue.shutdown();
+        assertTrue(batches.stream().allMatch(batch -> batch.size() <= 2));
+        assertEquals(0, queue.size());
+        assertEquals(0, journal.length());
+    }
+    
+    @Test
+    void testOfferFailWhenFull() throws Exception {
+        File journal = tempDir.resolve("history.log").toFile();
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        HistoryWriteBehindQueue queue = new HistoryWriteBehindQueue(journal, 2, 1, 10L, batch -> {
+            writing.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        queue.start();
+        assertTrue(queue.offer(record(1)));
+        assertTrue(writing.await(5, TimeUnit.SECONDS));
+        assertTrue(queue.offer(record(2)));
+        assertFalse(queue.offer(record(3)));
+        release.countDown();
+        queue.shutdown();
+        assertFalse(queue.offer(record(4)));
+    }
+    
+    @Test
+    void testReplayJournalOnStart() throws Exception {
+        File journal = tempDir.resolve("history.log").toFile();
+        Object[] record = record(Integer.MAX_VALUE + 1L);
+        Files.write(journal.toPath(), (JacksonUtils.toJson(record) + "\n{broken").getBytes(StandardCharsets.UTF_8));
+        List<Object[]> replayed = new ArrayList<>();
+        HistoryWriteBehindQueue queue = new HistoryWriteBehindQueue(journal, 10, 10, 10L, replayed::addAll);
+        queue.start();
+        queue.shutdown();
+        assertEquals(1, replayed.size());
+        assertEquals(record[HistoryWriteBehindQueue.ID_INDEX], replayed.get(0)[HistoryWriteBehindQueue.ID_INDEX]);
+        assertEquals(record[HistoryWriteBehindQueue.TIME_INDEX],
+                replayed.get(0)[HistoryWriteBehindQueue.TIME_INDEX]);
+        assertEquals("dataId" + record[0], replayed.get(0)[1]);
+        assertEquals(0, journal.length());
+    }
+    
+    @Test
+    void testReplaySkipAcknowledgedRecords() throws Exception {
+        File journal = tempDir.resolve("history.log").toFile();
+        String journalContent = JacksonUtils.toJson(record(1)) + "\n" + JacksonUtils.toJson(record(2)) + "\n"
+                + HistoryWriteBehindQueue.ACK_PREFIX + "1\n" + JacksonUtils.toJson(record(3)) + "\n"
+                + HistoryWriteBehindQueue.ACK_PREFIX + "1\n" + JacksonUtils.toJson(record(4)) + "\n#";
+        Files.write(journal.toPath(), journalContent.getBytes(StandardCharsets.UTF_8));
+        List<Object[]> replayed = new ArrayList<>();
+        HistoryWriteBehindQueue queue = new HistoryWriteBehindQueue(journal, 10, 10, 10L, replayed::addAll);
+        queue.start();
+        queue.shutdown();
+        assertEquals(2, replayed.size());
+        assertEquals("dataId3", replayed.get(0)[1]);
+        assertEquals("dataId4", replayed.get(1)[1]);
+    }
+    
+    @Test
+    void testReplayFailKeepsUnacknowledgedRecords() throws Exception {
+        File journal = tempDir.resolve("history.log").toFile();
+        String journalContent = JacksonUtils.toJson(record(1)) + "\n" + JacksonUtils.toJson(record(2)) + "\n";
+        Files.write(journal.toPath(), journalContent.getBytes(StandardCharsets.UTF_8));
+        List<Object[]> replayed = new ArrayList<>();
+        HistoryWriteBehindQueue failQueue = new HistoryWriteBehindQueue(journal, 10, 1, 10L, batch -> {
+            if (!replayed.isEmpty()) {
+                throw new IllegalStateException("mock db fail");
+            }
+            replayed.addAll(batch);
+        });
+        assertThrows(IllegalStateException.class, failQueue::start);
+        
+        HistoryWriteBehindQueue queue = new HistoryWriteBehindQueue(journal, 10, 1, 10L, replayed::addAll);
+        queue.start();
+        queue.shutdown();
+        assertEquals(2, replayed.size());
+        assertEquals("dataId1", replayed.get(0)[1]);
+        assertEquals("dataId2", replayed.get(1)[1]);
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.utils;
+
+import com.alibaba.nacos.common.utils.IoUtils;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ContentCompressUtilsTest {
+    
+    private static String largeContent() {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < 500; i++) {
+            builder.append("route.").append(i).append(".target=中文服务\n");
+        }
+        return builder.toString();
+    }
+    
+    @Test
+    void testEncodeAndDecode() throws Exception {
+        String content = largeContent();
+        byte[] encoded = ContentCompressUtils.encode(content, 1024);
+        assertTrue(IoUtils.isGzipStream(encoded));
+        assertTrue(encoded.length < content.getBytes(StandardCharsets.UTF_8).length);
+        assertEquals(content, ContentCompressUtils.decode(encoded));
+        
+        // plain values are still readable after the threshold changes.
+        byte[] plain = ContentCompressUtils.encode(content, -1);
+        assertArrayEquals(content.getBytes(StandardCharsets.UTF_8), plain);
+        assertEquals(content, ContentCompressUtils.decode(plain));
+        assertNull(ContentCompressUtils.decode(null));
+    }
+    
+    @Test
+    void testNotCompressed() {
+        assertNull(ContentCompressUtils.compress("small".getBytes(StandardCharsets.UTF_8), 1024));
+        assertNull(ContentCompressUtils.compress(largeContent().getBytes(StandardCharsets.UTF_8), 0));
+        // compression not saving space.
+        assertNull(ContentCompressUtils.compress("ab".getBytes(StandardCharsets.UTF_8), 1));
+        assertEquals("", new String(ContentCompressUtils.encode("", 1), StandardCharsets.UTF_8));
+    }
+    
+    @Test
+    void testCompressForBase64() {
+        byte[] bytes = largeContent().getBytes(StandardCharsets.UTF_8);
+        assertArrayEquals(ContentCompressUtils.compress(bytes, 1024), ContentCompressUtils.compressForBase64(bytes, 1024));
+        
+        // random base64 text compresses to about 3/4, which is larger than the raw bytes after base64 encoding.
+        String chars = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/";
+        Random random = new Random(1L);
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < 8192; i++) {
+            builder.append(chars.charAt(random.nextInt(chars.length())));
+        }
+        byte[] randomBytes = builder.toString().getBytes(StandardCharsets.UTF_8);
+        assertNotNull(ContentCompressUtils.compress(randomBytes, 1024));
+        assertNull(ContentCompressUtils.compressForBase64(randomBytes, 1024));
+    }
+}
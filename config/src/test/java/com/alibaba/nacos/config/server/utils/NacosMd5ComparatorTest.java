@@ -35,6 +35,8 @@ import static com.alibaba.nacos.api.common.Constants.VIPSERVER_TAG;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.ArgumentMatchers.same;
 import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.when;
 
@@ -84,8 +86,11 @@ class NacosMd5ComparatorTest {
         clientMd5Map.put(groupKey2, new ConfigListenState(clientMd5));
         
         NacosMd5Comparator nacosMd5Comparator = new NacosMd5Comparator();
+        Map<String, String> connLabels = new HashMap<>();
+        configCacheServiceMockedStatic.when(() -> ConfigCacheService.buildConnLabels(eq(ip), eq(tag), isNull()))
+                .thenReturn(connLabels);
         configCacheServiceMockedStatic.when(
-                () -> ConfigCacheService.isUptodate(anyString(), eq(clientMd5), eq(ip), eq(tag))).thenReturn(true);
+                () -> ConfigCacheService.isUptodate(anyString(), eq(clientMd5), same(connLabels))).thenReturn(true);
         
         Map<String, ConfigListenState> changedGroupKeys = nacosMd5Comparator.compareMd5(request, response, clientMd5Map);
         assertEquals(0, changedGroupKeys.size());
@@ -106,8 +111,11 @@ class NacosMd5ComparatorTest {
         clientMd5Map.put(groupKey2, new ConfigListenState(clientMd5));
         
         NacosMd5Comparator nacosMd5Comparator = new NacosMd5Comparator();
+        Map<String, String> connLabels = new HashMap<>();
+        configCacheServiceMockedStatic.when(() -> ConfigCacheService.buildConnLabels(eq(ip), eq(tag), isNull()))
+                .thenReturn(connLabels);
         configCacheServiceMockedStatic.when(
-                () -> ConfigCacheService.isUptodate(anyString(), eq(clientMd5), eq(ip), eq(tag))).thenReturn(false);
+                () -> ConfigCacheService.isUptodate(anyString(), eq(clientMd5), same(connLabels))).thenReturn(false);
         
         Map<String, ConfigListenState> changedGroupKeys = nacosMd5Comparator.compareMd5(request, response, clientMd5Map);
         assertEquals(2, changedGroupKeys.size());
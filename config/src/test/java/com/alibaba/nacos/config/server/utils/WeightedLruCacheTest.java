@@ -0,0 +1,103 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class WeightedLruCacheTest {
+    
+    private final AtomicLong weight = new AtomicLong();
+    
+    private final AtomicInteger evictions = new AtomicInteger();
+    
+    private WeightedLruCache<String> newCache(long maxWeight) {
+        return new WeightedLruCache<>(maxWeight, (key, value) -> value.length(), weight::addAndGet,
+                evictions::incrementAndGet);
+    }
+    
+    @Test
+    void testPutAndGet() {
+        WeightedLruCache<String> cache = newCache(1024);
+        cache.put("key", "value");
+        assertEquals("value", cache.get("key"));
+        assertEquals(5, cache.weight());
+        assertEquals(5, weight.get());
+        cache.put("key", "value2");
+        assertEquals(6, cache.weight());
+        cache.remove("key");
+        assertNull(cache.get("key"));
+        assertEquals(0, weight.get());
+    }
+    
+    @Test
+    void testEvictLeastRecentlyUsed() {
+        // one segment holds 16 weight.
+        WeightedLruCache<String> cache = newCache(16 * 16);
+        for (int i = 0; i < 1000; i++) {
+            cache.put("key" + i, "0123456789");
+        }
+        assertTrue(cache.weight() <= 16 * 16);
+        assertTrue(evictions.get() > 0);
+        assertEquals(cache.weight(), weight.get());
+    }
+    
+    @Test
+    void testOversizeValueNotCached() {
+        WeightedLruCache<String> cache = newCache(16);
+        cache.put("key", "01");
+        assertNull(cache.get("key"));
+        assertEquals(0, cache.weight());
+    }
+    
+    @Test
+    void testReplaceIfPresent() {
+        WeightedLruCache<String> cache = newCache(1024);
+        assertFalse(cache.replaceIfPresent("key", "value"));
+        assertNull(cache.get("key"));
+        cache.put("key", "value");
+        assertTrue(cache.replaceIfPresent("key", "value2"));
+        assertEquals("value2", cache.get("key"));
+        assertTrue(cache.replaceIfPresent("key", null));
+        assertNull(cache.get("key"));
+    }
+    
+    @Test
+    void testDisabled() {
+        WeightedLruCache<String> cache = newCache(0);
+        assertFalse(cache.isEnabled());
+        cache.put("key", "value");
+        assertNull(cache.get("key"));
+    }
+    
+    @Test
+    void testClear() {
+        WeightedLruCache<String> cache = newCache(1024);
+        cache.put("key1", "value");
+        cache.put("key2", "value");
+        cache.clear();
+        assertEquals(0, cache.weight());
+        assertEquals(0, weight.get());
+    }
+}
@@ -18,10 +18,12 @@ package com.alibaba.nacos.config.server.utils;
 
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
 import java.util.ArrayList;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class ZipUtilsTest {
@@ -49,4 +51,22 @@ class ZipUtilsTest {
         assertEquals(zipItemList.get(0).getItemData(), result.get(0).getItemData());
         
     }
+    
+    @Test
+    void testZipItemReader() throws Exception {
+        List<ZipUtils.ZipItem> zipItemList = new ArrayList<>();
+        zipItemList.add(new ZipUtils.ZipItem("skip", "skipped"));
+        zipItemList.add(new ZipUtils.ZipItem("test", "content"));
+        zipItemList.add(new ZipUtils.ZipItem("test2", "content2"));
+        byte[] zip = ZipUtils.zip(zipItemList);
+        
+        try (ZipUtils.ZipItemReader reader = new ZipUtils.ZipItemReader(new ByteArrayInputStream(zip))) {
+            ZipUtils.ZipItem item = reader.next(name -> name.startsWith("test"));
+            assertEquals("test", item.getItemName());
+            assertEquals("content", item.getItemData());
+            item = reader.next(name -> name.startsWith("test"));
+            assertEquals("content2", item.getItemData());
+            assertNull(reader.next(name -> true));
+        }
+    }
 }
@@ -285,6 +285,7 @@ public class NacosRuntimeHints implements RuntimeHintsRegistrar {
             com.alibaba.nacos.naming.core.v2.event.metadata.MetadataEvent.ServiceMetadataEvent.class,
             com.alibaba.nacos.naming.core.v2.service.impl.PersistentClientOperationServiceImpl.class,
             com.alibaba.nacos.naming.core.v2.service.impl.PersistentClientOperationServiceImpl.InstanceStoreRequest.class,
+            com.alibaba.nacos.naming.core.v2.service.impl.PersistentClientOperationServiceImpl.BatchInstanceStoreRequest.class,
             com.alibaba.nacos.persistence.datasource.LocalDataSourceServiceImpl.class,
             com.alibaba.nacos.persistence.configuration.condition.ConditionStandaloneEmbedStorage.class,
             com.alibaba.nacos.consistency.snapshot.LocalFileMeta.class,
@@ -453,6 +454,7 @@ public class NacosRuntimeHints implements RuntimeHintsRegistrar {
             com.alibaba.nacos.naming.core.v2.pojo.InstancePublishInfo.class,
             com.alibaba.nacos.naming.core.v2.pojo.Service.class,
             com.alibaba.nacos.naming.core.v2.service.impl.PersistentClientOperationServiceImpl.InstanceStoreRequest.class,
+            com.alibaba.nacos.naming.core.v2.service.impl.PersistentClientOperationServiceImpl.BatchInstanceStoreRequest.class,
             com.alibaba.nacos.api.naming.pojo.Cluster.class, com.alibaba.nacos.api.naming.pojo.Instance.class,
             com.alibaba.nacos.api.naming.pojo.Service.class,
             com.alibaba.nacos.api.naming.pojo.healthcheck.impl.Http.class,
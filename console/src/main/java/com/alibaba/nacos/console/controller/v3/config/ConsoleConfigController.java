@@ -58,6 +58,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.io.IOException;
 import java.util.Collections;
@@ -304,7 +305,7 @@ public class ConsoleConfigController {
      */
     @GetMapping("/export2")
     @Secured(action = ActionTypes.READ, signType = SignType.CONFIG, apiType = ApiType.CONSOLE_API)
-    public ResponseEntity<byte[]> exportConfigV2(ConfigFormV3 configForm,
+    public ResponseEntity<StreamingResponseBody> exportConfigV2(ConfigFormV3 configForm,
             @RequestParam(value = "ids", required = false) List<Long> ids) throws Exception {
         configForm.blurSearchValidate();
         ids.removeAll(Collections.singleton(null));
@@ -31,6 +31,7 @@ import com.alibaba.nacos.config.server.model.form.ConfigForm;
 import jakarta.servlet.ServletException;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.io.IOException;
 import java.util.List;
@@ -115,10 +116,10 @@ public interface ConfigHandler {
      * @param namespaceId The namespace identifier.
      * @param appName     The application name associated with the configuration.
      * @param ids         A list of IDs of the configurations to export.
-     * @return A ResponseEntity containing the exported configuration as a byte array.
+     * @return A ResponseEntity containing the exported configuration which is written to response as a stream.
      * @throws Exception If an unexpected error occurs during the export process.
      */
-    ResponseEntity<byte[]> exportConfig(String dataId, String group, String namespaceId, String appName,
+    ResponseEntity<StreamingResponseBody> exportConfig(String dataId, String group, String namespaceId, String appName,
             List<Long> ids) throws Exception;
     
     /**
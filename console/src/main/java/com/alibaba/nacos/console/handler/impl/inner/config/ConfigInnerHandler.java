@@ -35,7 +35,6 @@ import com.alibaba.nacos.config.server.model.ConfigAllInfo;
 import com.alibaba.nacos.config.server.model.ConfigInfo;
 import com.alibaba.nacos.config.server.model.ConfigInfoGrayWrapper;
 import com.alibaba.nacos.config.server.model.ConfigInfoWrapper;
-import com.alibaba.nacos.config.server.model.ConfigMetadata;
 import com.alibaba.nacos.config.server.model.ConfigRequestInfo;
 import com.alibaba.nacos.config.server.model.event.ConfigDataChangeEvent;
 import com.alibaba.nacos.config.server.model.form.ConfigForm;
@@ -44,18 +43,16 @@ import com.alibaba.nacos.config.server.service.ConfigChangePublisher;
 import com.alibaba.nacos.config.server.service.ConfigDetailService;
 import com.alibaba.nacos.config.server.service.ConfigMigrateService;
 import com.alibaba.nacos.config.server.service.ConfigOperationService;
+import com.alibaba.nacos.config.server.service.ConfigZipStreamer;
 import com.alibaba.nacos.config.server.service.listener.ConfigListenerStateDelegate;
 import com.alibaba.nacos.config.server.service.repository.ConfigInfoBetaPersistService;
 import com.alibaba.nacos.config.server.service.repository.ConfigInfoGrayPersistService;
 import com.alibaba.nacos.config.server.service.repository.ConfigInfoPersistService;
 import com.alibaba.nacos.config.server.service.trace.ConfigTraceService;
-import com.alibaba.nacos.config.server.utils.GroupKey;
 import com.alibaba.nacos.config.server.utils.GroupKey2;
 import com.alibaba.nacos.config.server.utils.PropertyUtil;
 import com.alibaba.nacos.config.server.utils.ResponseUtil;
 import com.alibaba.nacos.config.server.utils.TimeUtils;
-import com.alibaba.nacos.config.server.utils.YamlParserUtil;
-import com.alibaba.nacos.config.server.utils.ZipUtils;
 import com.alibaba.nacos.console.handler.config.ConfigHandler;
 import com.alibaba.nacos.console.handler.impl.ConditionFunctionEnabled;
 import com.alibaba.nacos.console.handler.impl.inner.EnabledInnerHandler;
@@ -72,6 +69,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.util.CollectionUtils;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.io.IOException;
 import java.sql.Timestamp;
@@ -81,7 +79,6 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -112,6 +109,8 @@ public class ConfigInnerHandler implements ConfigHandler {
     
     private final ConfigMigrateService configMigrateService;
     
+    private final ConfigZipStreamer configZipStreamer;
+    
     private NamespacePersistService namespacePersistService;
     
     private ConfigInfoBetaPersistService configInfoBetaPersistService;
@@ -136,6 +135,7 @@ public class ConfigInnerHandler implements ConfigHandler {
         this.configInfoGrayPersistService = configInfoGrayPersistService;
         this.configListenerStateDelegate = configListenerStateDelegate;
         this.configMigrateService = configMigrateService;
+        this.configZipStreamer = new ConfigZipStreamer(configInfoPersistService);
         this.oldTableVersion = namespacePersistService.isExistTable("config_info_beta");
     }
     
@@ -239,35 +239,16 @@ public class ConfigInnerHandler implements ConfigHandler {
     }
     
     @Override
-    public ResponseEntity<byte[]> exportConfig(String dataId, String group, String namespaceId, String appName,
-            List<Long> ids) throws Exception {
-        List<ConfigAllInfo> dataList = configInfoPersistService.findAllConfigInfo4Export(dataId, group, namespaceId,
-                appName, ids);
-        List<ZipUtils.ZipItem> zipItemList = new ArrayList<>();
-        List<ConfigMetadata.ConfigExportItem> configMetadataItems = new ArrayList<>();
-        for (ConfigAllInfo ci : dataList) {
-            ConfigMetadata.ConfigExportItem configMetadataItem = new ConfigMetadata.ConfigExportItem();
-            configMetadataItem.setAppName(ci.getAppName());
-            configMetadataItem.setDataId(ci.getDataId());
-            configMetadataItem.setDesc(ci.getDesc());
-            configMetadataItem.setGroup(ci.getGroup());
-            configMetadataItem.setType(ci.getType());
-            configMetadataItems.add(configMetadataItem);
-            Pair<String, String> pair = EncryptionHandler.decryptHandler(ci.getDataId(), ci.getEncryptedDataKey(),
-                    ci.getContent());
-            String itemName = ci.getGroup() + Constants.CONFIG_EXPORT_ITEM_FILE_SEPARATOR + ci.getDataId();
-            zipItemList.add(new ZipUtils.ZipItem(itemName, pair.getSecond()));
-        }
-        ConfigMetadata configMetadata = new ConfigMetadata();
-        configMetadata.setMetadata(configMetadataItems);
-        zipItemList.add(
-                new ZipUtils.ZipItem(Constants.CONFIG_EXPORT_METADATA_NEW, YamlParserUtil.dumpObject(configMetadata)));
+    public ResponseEntity<StreamingResponseBody> exportConfig(String dataId, String group, String namespaceId,
+            String appName, List<Long> ids) throws Exception {
         HttpHeaders headers = new HttpHeaders();
         String fileName =
                 EXPORT_CONFIG_FILE_NAME + DateFormatUtils.format(new Date(), EXPORT_CONFIG_FILE_NAME_DATE_FORMAT)
                         + EXPORT_CONFIG_FILE_NAME_EXT;
         headers.add("Content-Disposition", "attachment;filename=" + fileName);
-        return new ResponseEntity<>(ZipUtils.zip(zipItemList), headers, HttpStatus.OK);
+        StreamingResponseBody body = out -> configZipStreamer.exportConfig(dataId, group, namespaceId, appName, ids,
+                out);
+        return new ResponseEntity<>(body, headers, HttpStatus.OK);
     }
     
     @Override
@@ -282,135 +263,14 @@ public class ConfigInnerHandler implements ConfigHandler {
             failedData.put("succCount", 0);
             return Result.failure(ErrorCode.NAMESPACE_NOT_EXIST, failedData);
         }
-        
-        List<ConfigAllInfo> configInfoList = new ArrayList<>();
-        List<Map<String, String>> unrecognizedList = new ArrayList<>();
         try {
-            ZipUtils.UnZipResult unziped = ZipUtils.unzip(file.getBytes());
-            Result<Map<String, Object>> errorResult;
-            errorResult = parseImportDataV2(srcUser, unziped, configInfoList, unrecognizedList, namespaceId);
-            if (errorResult != null) {
-                return errorResult;
-            }
+            return configZipStreamer.importConfig(file::getInputStream, srcUser, namespaceId, policy, srcIp,
+                    requestIpApp);
         } catch (IOException e) {
             failedData.put("succCount", 0);
             LOGGER.error("parsing data failed", e);
             return Result.failure(ErrorCode.PARSING_DATA_FAILED, failedData);
         }
-        
-        if (CollectionUtils.isEmpty(configInfoList)) {
-            failedData.put("succCount", 0);
-            return Result.failure(ErrorCode.DATA_EMPTY, failedData);
-        }
-        final Timestamp time = TimeUtils.getCurrentTime();
-        Map<String, Object> saveResult = configInfoPersistService.batchInsertOrUpdate(configInfoList, srcUser, srcIp,
-                null, policy);
-        for (ConfigInfo configInfo : configInfoList) {
-            ConfigChangePublisher.notifyConfigChange(
-                    new ConfigDataChangeEvent(configInfo.getDataId(), configInfo.getGroup(), configInfo.getTenant(),
-                            time.getTime()));
-            ConfigTraceService.logPersistenceEvent(configInfo.getDataId(), configInfo.getGroup(),
-                    configInfo.getTenant(), requestIpApp, time.getTime(), InetUtils.getSelfIP(),
-                    ConfigTraceService.PERSISTENCE_EVENT, ConfigTraceService.PERSISTENCE_TYPE_PUB,
-                    configInfo.getContent());
-        }
-        // unrecognizedCount
-        if (!unrecognizedList.isEmpty()) {
-            saveResult.put("unrecognizedCount", unrecognizedList.size());
-            saveResult.put("unrecognizedData", unrecognizedList);
-        }
-        return Result.success(saveResult);
-    }
-    
-    /**
-     * new version import config add .metadata.yml file.
-     *
-     * @param unziped          export file.
-     * @param configInfoList   parse file result.
-     * @param unrecognizedList unrecognized file.
-     * @param namespace        import namespace.
-     * @return error result.
-     */
-    private Result<Map<String, Object>> parseImportDataV2(String srcUser, ZipUtils.UnZipResult unziped,
-            List<ConfigAllInfo> configInfoList, List<Map<String, String>> unrecognizedList, String namespace) {
-        ZipUtils.ZipItem metaDataItem = unziped.getMetaDataItem();
-        String metaData = metaDataItem.getItemData();
-        Map<String, Object> failedData = new HashMap<>(4);
-        
-        ConfigMetadata configMetadata = YamlParserUtil.loadObject(metaData, ConfigMetadata.class);
-        if (configMetadata == null || CollectionUtils.isEmpty(configMetadata.getMetadata())) {
-            failedData.put("succCount", 0);
-            return Result.failure(ErrorCode.METADATA_ILLEGAL, failedData);
-        }
-        List<ConfigMetadata.ConfigExportItem> configExportItems = configMetadata.getMetadata();
-        // check config metadata
-        for (ConfigMetadata.ConfigExportItem configExportItem : configExportItems) {
-            if (StringUtils.isBlank(configExportItem.getDataId()) || StringUtils.isBlank(configExportItem.getGroup())
-                    || StringUtils.isBlank(configExportItem.getType())) {
-                failedData.put("succCount", 0);
-                return Result.failure(ErrorCode.METADATA_ILLEGAL, failedData);
-            }
-        }
-        
-        List<ZipUtils.ZipItem> zipItemList = unziped.getZipItemList();
-        Set<String> metaDataKeys = configExportItems.stream()
-                .map(metaItem -> GroupKey.getKey(metaItem.getDataId(), metaItem.getGroup()))
-                .collect(Collectors.toSet());
-        
-        Map<String, String> configContentMap = new HashMap<>(zipItemList.size());
-        int itemNameLength = 2;
-        zipItemList.forEach(item -> {
-            String itemName = item.getItemName();
-            String[] groupAdnDataId = itemName.split(Constants.CONFIG_EXPORT_ITEM_FILE_SEPARATOR);
-            if (groupAdnDataId.length != itemNameLength) {
-                Map<String, String> unrecognizedItem = new HashMap<>(2);
-                unrecognizedItem.put("itemName", item.getItemName());
-                unrecognizedList.add(unrecognizedItem);
-                return;
-            }
-            
-            String group = groupAdnDataId[0];
-            String dataId = groupAdnDataId[1];
-            String key = GroupKey.getKey(dataId, group);
-            // metadata does not contain config file
-            if (!metaDataKeys.contains(key)) {
-                Map<String, String> unrecognizedItem = new HashMap<>(2);
-                unrecognizedItem.put("itemName", "未在元数据中找到: " + item.getItemName());
-                unrecognizedList.add(unrecognizedItem);
-                return;
-            }
-            String itemData = item.getItemData();
-            configContentMap.put(key, itemData);
-        });
-        
-        for (ConfigMetadata.ConfigExportItem configExportItem : configExportItems) {
-            String dataId = configExportItem.getDataId();
-            String group = configExportItem.getGroup();
-            String content = configContentMap.get(GroupKey.getKey(dataId, group));
-            // config file not in metadata
-            if (content == null) {
-                Map<String, String> unrecognizedItem = new HashMap<>(2);
-                unrecognizedItem.put("itemName", "未在文件中找到: " + group + "/" + dataId);
-                unrecognizedList.add(unrecognizedItem);
-                continue;
-            }
-            // encrypted
-            Pair<String, String> pair = EncryptionHandler.encryptHandler(dataId, content);
-            content = pair.getSecond();
-            
-            ConfigAllInfo ci = new ConfigAllInfo();
-            ci.setGroup(group);
-            ci.setDataId(dataId);
-            ci.setContent(content);
-            ci.setType(configExportItem.getType());
-            ci.setDesc(configExportItem.getDesc());
-            ci.setAppName(configExportItem.getAppName());
-            ci.setTenant(namespace);
-            ci.setEncryptedDataKey(pair.getFirst());
-            ci.setCreateUser(srcUser);
-            configInfoList.add(ci);
-        }
-        return null;
     }
     
     @Override
@@ -34,6 +34,7 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.Map;
@@ -104,7 +105,7 @@ public class ConfigNoopHandler implements ConfigHandler {
     }
     
     @Override
-    public ResponseEntity<byte[]> exportConfig(String dataId, String group, String namespaceId, String appName,
+    public ResponseEntity<StreamingResponseBody> exportConfig(String dataId, String group, String namespaceId, String appName,
             List<Long> ids) throws Exception {
         throw new NacosApiException(NacosException.SERVER_NOT_IMPLEMENTED, ErrorCode.API_FUNCTION_DISABLED,
                 MCP_NOT_ENABLED_MESSAGE);
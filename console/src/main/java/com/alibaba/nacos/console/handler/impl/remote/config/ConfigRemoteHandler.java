@@ -40,6 +40,7 @@ import org.springframework.context.annotation.Conditional;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -131,9 +132,17 @@ public class ConfigRemoteHandler implements ConfigHandler {
     }
     
     @Override
-    public ResponseEntity<byte[]> exportConfig(String dataId, String group, String namespaceId, String appName,
-            List<Long> ids) throws Exception {
-        return importAndExportService.exportConfig(dataId, group, namespaceId, appName, ids);
+    public ResponseEntity<StreamingResponseBody> exportConfig(String dataId, String group, String namespaceId,
+            String appName, List<Long> ids) throws Exception {
+        ResponseEntity<byte[]> response = importAndExportService.exportConfig(dataId, group, namespaceId, appName,
+                ids);
+        byte[] body = response.getBody();
+        StreamingResponseBody streamingBody = out -> {
+            if (body != null) {
+                out.write(body);
+            }
+        };
+        return new ResponseEntity<>(streamingBody, response.getHeaders(), response.getStatusCode());
     }
     
     @Override
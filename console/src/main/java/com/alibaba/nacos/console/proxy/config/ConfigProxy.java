@@ -34,6 +34,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.io.IOException;
 import java.util.List;
@@ -119,7 +120,7 @@ public class ConfigProxy {
     /**
      * New version export config adds metadata.yml file to record config metadata.
      */
-    public ResponseEntity<byte[]> exportConfigV2(String dataId, String group, String namespaceId, String appName,
+    public ResponseEntity<StreamingResponseBody> exportConfigV2(String dataId, String group, String namespaceId, String appName,
             List<Long> ids) throws Exception {
         return configHandler.exportConfig(dataId, group, namespaceId, appName, ids);
     }
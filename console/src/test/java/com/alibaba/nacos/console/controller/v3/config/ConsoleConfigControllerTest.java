@@ -58,9 +58,11 @@ import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -328,20 +330,23 @@ public class ConsoleConfigControllerTest {
         dataList.add(configAllInfo);
         
         byte[] serializedData = new ObjectMapper().writeValueAsBytes(dataList);
-        ResponseEntity<byte[]> responseEntity = new ResponseEntity<>(serializedData, HttpStatus.OK);
+        ResponseEntity<StreamingResponseBody> responseEntity = new ResponseEntity<>(out -> out.write(serializedData),
+                HttpStatus.OK);
         
         Mockito.when(
                         configProxy.exportConfigV2(eq(dataId), eq(group), eq(tenant), eq(appname), eq(Arrays.asList(1L, 2L))))
                 .thenReturn(responseEntity);
         MockHttpServletRequestBuilder builder = MockMvcRequestBuilders.get("/v3/console/cs/config/export2")
-                .param("exportV2", "true").param("dataId", dataId).param("groupName", group).param("tenant", tenant)
+                .param("exportV2", "true").param("dataId", dataId).param("groupName", group).param("namespaceId", tenant)
                 .param("appName", appname).param("ids", "1,2");
         
-        MockHttpServletResponse response = mockmvc.perform(builder).andReturn().getResponse();
+        MvcResult mvcResult = mockmvc.perform(builder).andReturn();
+        MockHttpServletResponse response = mockmvc.perform(MockMvcRequestBuilders.asyncDispatch(mvcResult))
+                .andReturn().getResponse();
         int actualStatus = response.getStatus();
         
         assertEquals(200, actualStatus);
-        
+        assertEquals(serializedData.length, response.getContentAsByteArray().length);
     }
     
     @Test
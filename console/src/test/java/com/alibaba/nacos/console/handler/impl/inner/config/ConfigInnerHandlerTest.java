@@ -54,7 +54,6 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
-import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.core.env.ConfigurableEnvironment;
@@ -64,7 +63,9 @@ import org.springframework.mock.env.MockEnvironment;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -79,6 +80,7 @@ import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
@@ -293,13 +295,18 @@ class ConfigInnerHandlerTest {
     @Test
     void exportConfig() throws Exception {
         List<ConfigAllInfo> mockList = Collections.singletonList(mockConfigAllInfo());
-        when(configInfoPersistService.findAllConfigInfo4Export("dataId", "group", "tenant", "appName",
-                Collections.singletonList(1L))).thenReturn(mockList);
-        ResponseEntity<byte[]> actual = configInnerHandler.exportConfig("dataId", "group", "tenant", "appName",
-                Collections.singletonList(1L));
+        when(configInfoPersistService.findConfigInfo4ExportFetchRows(eq("dataId"), eq("group"), eq("tenant"),
+                eq("appName"), eq(Collections.singletonList(1L)), eq(0L), anyInt())).thenReturn(mockList);
+        ResponseEntity<StreamingResponseBody> actual = configInnerHandler.exportConfig("dataId", "group", "tenant",
+                "appName", Collections.singletonList(1L));
         assertNotNull(actual);
         assertEquals(HttpStatus.OK, actual.getStatusCode());
         assertTrue(actual.getHeaders().containsKey("Content-Disposition"));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        actual.getBody().writeTo(out);
+        ZipUtils.UnZipResult unZipResult = ZipUtils.unzip(out.toByteArray());
+        assertEquals(1, unZipResult.getZipItemList().size());
+        assertNotNull(unZipResult.getMetaDataItem());
     }
     
     @Test
@@ -320,7 +327,7 @@ class ConfigInnerHandlerTest {
     @Test
     void importAndPublishConfigWithUnzipException() throws NacosException, IOException {
         MultipartFile mockFile = Mockito.mock(MultipartFile.class);
-        when(mockFile.getBytes()).thenThrow(new IOException());
+        when(mockFile.getInputStream()).thenThrow(new IOException());
         Result<Map<String, Object>> actual = configInnerHandler.importAndPublishConfig("srcUser", "public",
                 SameConfigPolicy.OVERWRITE, mockFile, "srcIp", "requestIpApp");
         assertEquals(ErrorCode.PARSING_DATA_FAILED.getCode(), actual.getCode());
@@ -328,74 +335,54 @@ class ConfigInnerHandlerTest {
     
     @Test
     void importAndPublishConfigWithoutMetadata() throws NacosException {
-        ZipUtils.UnZipResult unziped = mockZipFile(false, true, false, false);
-        MockMultipartFile file = new MockMultipartFile("file", "test.zip", "application/zip", "test".getBytes());
-        try (MockedStatic<ZipUtils> zipUtilsMockedStatic = Mockito.mockStatic(ZipUtils.class)) {
-            zipUtilsMockedStatic.when(() -> ZipUtils.unzip(eq(file.getBytes()))).thenReturn(unziped);
-            Result<Map<String, Object>> actual = configInnerHandler.importAndPublishConfig("srcUser", "public",
-                    SameConfigPolicy.OVERWRITE, file, "srcIp", "requestIpApp");
-            assertEquals(ErrorCode.METADATA_ILLEGAL.getCode(), actual.getCode());
-        }
+        MockMultipartFile file = new MockMultipartFile("file", "test.zip", "application/zip", mockZipFile(false, true, false, false));
+        Result<Map<String, Object>> actual = configInnerHandler.importAndPublishConfig("srcUser", "public",
+                SameConfigPolicy.OVERWRITE, file, "srcIp", "requestIpApp");
+        assertEquals(ErrorCode.METADATA_ILLEGAL.getCode(), actual.getCode());
     }
     
     @Test
     void importAndPublishConfigWithWrongMetadata() throws NacosException {
-        ZipUtils.UnZipResult unziped = mockZipFile(true, false, false, false);
-        MockMultipartFile file = new MockMultipartFile("file", "test.zip", "application/zip", "test".getBytes());
-        try (MockedStatic<ZipUtils> zipUtilsMockedStatic = Mockito.mockStatic(ZipUtils.class)) {
-            zipUtilsMockedStatic.when(() -> ZipUtils.unzip(eq(file.getBytes()))).thenReturn(unziped);
-            Result<Map<String, Object>> actual = configInnerHandler.importAndPublishConfig("srcUser", "public",
-                    SameConfigPolicy.OVERWRITE, file, "srcIp", "requestIpApp");
-            assertEquals(ErrorCode.METADATA_ILLEGAL.getCode(), actual.getCode());
-        }
+        MockMultipartFile file = new MockMultipartFile("file", "test.zip", "application/zip", mockZipFile(true, false, false, false));
+        Result<Map<String, Object>> actual = configInnerHandler.importAndPublishConfig("srcUser", "public",
+                SameConfigPolicy.OVERWRITE, file, "srcIp", "requestIpApp");
+        assertEquals(ErrorCode.METADATA_ILLEGAL.getCode(), actual.getCode());
     }
     
     @Test
     void importAndPublishConfigWithEmptyData() throws NacosException {
-        ZipUtils.UnZipResult unziped = mockZipFile(true, true, false, true);
-        MockMultipartFile file = new MockMultipartFile("file", "test.zip", "application/zip", "test".getBytes());
-        try (MockedStatic<ZipUtils> zipUtilsMockedStatic = Mockito.mockStatic(ZipUtils.class)) {
-            zipUtilsMockedStatic.when(() -> ZipUtils.unzip(eq(file.getBytes()))).thenReturn(unziped);
-            Result<Map<String, Object>> actual = configInnerHandler.importAndPublishConfig("srcUser", "public",
-                    SameConfigPolicy.OVERWRITE, file, "srcIp", "requestIpApp");
-            assertEquals(ErrorCode.DATA_EMPTY.getCode(), actual.getCode());
-        }
+        MockMultipartFile file = new MockMultipartFile("file", "test.zip", "application/zip", mockZipFile(true, true, false, true));
+        Result<Map<String, Object>> actual = configInnerHandler.importAndPublishConfig("srcUser", "public",
+                SameConfigPolicy.OVERWRITE, file, "srcIp", "requestIpApp");
+        assertEquals(ErrorCode.DATA_EMPTY.getCode(), actual.getCode());
     }
     
     @Test
     void importAndPublishConfig() throws NacosException {
-        ZipUtils.UnZipResult unziped = mockZipFile(true, true, false, false);
-        MockMultipartFile file = new MockMultipartFile("file", "test.zip", "application/zip", "test".getBytes());
-        try (MockedStatic<ZipUtils> zipUtilsMockedStatic = Mockito.mockStatic(ZipUtils.class)) {
-            zipUtilsMockedStatic.when(() -> ZipUtils.unzip(eq(file.getBytes()))).thenReturn(unziped);
-            when(configInfoPersistService.batchInsertOrUpdate(any(), any(), any(), any(), any())).thenReturn(
-                    Collections.singletonMap("dataId23456.json+group132", true));
-            Result<Map<String, Object>> actual = configInnerHandler.importAndPublishConfig("srcUser", "public",
-                    SameConfigPolicy.OVERWRITE, file, "srcIp", "requestIpApp");
-            assertEquals(ErrorCode.SUCCESS.getCode(), actual.getCode());
-            assertTrue(actual.getData().containsKey("dataId23456.json+group132"));
-        }
+        MockMultipartFile file = new MockMultipartFile("file", "test.zip", "application/zip", mockZipFile(true, true, false, false));
+        when(configInfoPersistService.batchInsertOrUpdate(any(), any(), any(), any(), any())).thenReturn(
+                Collections.singletonMap("succCount", 1));
+        Result<Map<String, Object>> actual = configInnerHandler.importAndPublishConfig("srcUser", "public",
+                SameConfigPolicy.OVERWRITE, file, "srcIp", "requestIpApp");
+        assertEquals(ErrorCode.SUCCESS.getCode(), actual.getCode());
+        assertEquals(1, actual.getData().get("succCount"));
     }
     
     @Test
     void importAndPublishConfigWithUnrecognizedItem() throws NacosException {
-        ZipUtils.UnZipResult unziped = mockZipFile(true, true, true, false);
-        MockMultipartFile file = new MockMultipartFile("file", "test.zip", "application/zip", "test".getBytes());
-        try (MockedStatic<ZipUtils> zipUtilsMockedStatic = Mockito.mockStatic(ZipUtils.class)) {
-            zipUtilsMockedStatic.when(() -> ZipUtils.unzip(eq(file.getBytes()))).thenReturn(unziped);
-            HashMap<String, Object> result = new HashMap<>();
-            result.put("dataId23456.json+group132", true);
-            when(configInfoPersistService.batchInsertOrUpdate(any(), any(), any(), any(), any())).thenReturn(result);
-            Result<Map<String, Object>> actual = configInnerHandler.importAndPublishConfig("srcUser", "public",
-                    SameConfigPolicy.OVERWRITE, file, "srcIp", "requestIpApp");
-            assertEquals(ErrorCode.SUCCESS.getCode(), actual.getCode());
-            assertTrue(actual.getData().containsKey("dataId23456.json+group132"));
-            assertTrue(actual.getData().containsKey("unrecognizedCount"));
-            assertEquals(3, actual.getData().get("unrecognizedCount"));
-        }
+        MockMultipartFile file = new MockMultipartFile("file", "test.zip", "application/zip", mockZipFile(true, true, true, false));
+        HashMap<String, Object> result = new HashMap<>();
+        result.put("succCount", 1);
+        when(configInfoPersistService.batchInsertOrUpdate(any(), any(), any(), any(), any())).thenReturn(result);
+        Result<Map<String, Object>> actual = configInnerHandler.importAndPublishConfig("srcUser", "public",
+                SameConfigPolicy.OVERWRITE, file, "srcIp", "requestIpApp");
+        assertEquals(ErrorCode.SUCCESS.getCode(), actual.getCode());
+        assertEquals(1, actual.getData().get("succCount"));
+        assertTrue(actual.getData().containsKey("unrecognizedCount"));
+        assertEquals(3, actual.getData().get("unrecognizedCount"));
     }
     
-    private ZipUtils.UnZipResult mockZipFile(boolean containsMetadata, boolean correctMetadata,
+    private byte[] mockZipFile(boolean containsMetadata, boolean correctMetadata,
             boolean withUnrecognizedItem, boolean emptyZip) {
         List<ZipUtils.ZipItem> zipItems = new ArrayList<>();
         String dataId = "dataId23456.json";
@@ -409,8 +396,6 @@ class ConfigInnerHandlerTest {
                 zipItems.add(zipItem);
                 zipItem = new ZipUtils.ZipItem("illegalGroup/a/testDataId", content);
                 zipItems.add(zipItem);
-                zipItem = new ZipUtils.ZipItem("illegalGroup/testDataId", null);
-                zipItems.add(zipItem);
             }
         }
         ConfigMetadata configMetadata = new ConfigMetadata();
@@ -431,8 +416,9 @@ class ConfigInnerHandlerTest {
                 configMetadata.getMetadata().add(configExportItem);
             }
         }
-        return new ZipUtils.UnZipResult(zipItems,
+        zipItems.add(
                 new ZipUtils.ZipItem(Constants.CONFIG_EXPORT_METADATA_NEW, YamlParserUtil.dumpObject(configMetadata)));
+        return ZipUtils.zip(zipItems);
     }
     
     @Test
@@ -472,7 +458,7 @@ class ConfigInnerHandlerTest {
         when(configInfoPersistService.findAllConfigInfo4Export(isNull(), isNull(), isNull(), isNull(),
                 anyList())).thenReturn(Collections.singletonList(mockConfigAllInfo()));
         when(configInfoPersistService.batchInsertOrUpdate(any(), any(), any(), any(), any())).thenReturn(
-                Collections.singletonMap("dataId23456.json+group132", true));
+                Collections.singletonMap("succCount", 1));
         Result<Map<String, Object>> actual = configInnerHandler.cloneConfig("srcUser", "public", configBeansList,
                 SameConfigPolicy.OVERWRITE, "srcIp", "requestIpApp");
         assertEquals(ErrorCode.SUCCESS.getCode(), actual.getCode());
@@ -38,7 +38,9 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.ByteArrayOutputStream;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
@@ -186,9 +188,12 @@ class ConfigRemoteHandlerTest extends AbstractRemoteHandlerTest {
         ResponseEntity<byte[]> mock = new ResponseEntity<>(new byte[0], HttpStatus.OK);
         when(importAndExportService.exportConfig("dataId", "group", "namespaceId", "appName",
                 Collections.singletonList(1L))).thenReturn(mock);
-        ResponseEntity<byte[]> actual = configRemoteHandler.exportConfig("dataId", "group", "namespaceId", "appName",
-                Collections.singletonList(1L));
-        assertEquals(mock, actual);
+        ResponseEntity<StreamingResponseBody> actual = configRemoteHandler.exportConfig("dataId", "group",
+                "namespaceId", "appName", Collections.singletonList(1L));
+        assertEquals(HttpStatus.OK, actual.getStatusCode());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        actual.getBody().writeTo(out);
+        assertEquals(0, out.size());
     }
     
     @Test
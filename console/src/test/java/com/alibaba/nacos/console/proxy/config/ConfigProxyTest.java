@@ -36,6 +36,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.io.IOException;
 import java.util.ArrayList;
@@ -224,12 +225,13 @@ public class ConfigProxyTest {
         String appName = "testAppName";
         List<Long> ids = Arrays.asList(1L, 2L, 3L);
         
-        byte[] expectedBody = "testBody".getBytes();
-        ResponseEntity<byte[]> expectedResponse = ResponseEntity.ok(expectedBody);
+        StreamingResponseBody expectedBody = out -> out.write("testBody".getBytes());
+        ResponseEntity<StreamingResponseBody> expectedResponse = ResponseEntity.ok(expectedBody);
         
         when(configHandler.exportConfig(dataId, group, namespaceId, appName, ids)).thenReturn(expectedResponse);
         
-        ResponseEntity<byte[]> actualResponse = configProxy.exportConfigV2(dataId, group, namespaceId, appName, ids);
+        ResponseEntity<StreamingResponseBody> actualResponse = configProxy.exportConfigV2(dataId, group, namespaceId,
+                appName, ids);
         
         assertEquals(expectedResponse, actualResponse);
         verify(configHandler, times(1)).exportConfig(dataId, group, namespaceId, appName, ids);
@@ -161,6 +161,7 @@ public class ServerMemberManager implements NacosMemberManager {
         this.self.setExtendVal(MemberMetaDataConstants.VERSION, VersionUtils.version);
         //works  for gray model upgrade,can delete after compatibility period.
         this.self.setExtendVal(MemberMetaDataConstants.SUPPORT_GRAY_MODEL, true);
+        this.self.setExtendVal(MemberMetaDataConstants.SUPPORT_CONFIG_CHANGE_STREAM, true);
         this.self.setGrpcReportEnabled(true);
         
         // init abilities.
@@ -0,0 +1,68 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.core.remote.grpc;
+
+import com.alibaba.nacos.api.remote.response.Response;
+import com.alibaba.nacos.core.context.RequestContextHolder;
+import com.google.protobuf.ByteString;
+
+/**
+ * Holder of a pre-serialized body for the response of the current grpc request.
+ *
+ * <p>Request handlers serving hot, identical responses (e.g. config query) can attach a shared serialized body, then
+ * {@link GrpcRequestAcceptor} writes it directly instead of encoding the response again. The body is bound to the
+ * response instance, so a response replaced by filters or aspects is still serialized normally.
+ *
+ * @author Nacos
+ */
+public class PreSerializedResponse {
+    
+    private static final String CONTEXT_KEY = "preSerializedResponse";
+    
+    private final Response response;
+    
+    private final ByteString body;
+    
+    private PreSerializedResponse(Response response, ByteString body) {
+        this.response = response;
+        this.body = body;
+    }
+    
+    /**
+     * Attach serialized body of response to current request context.
+     *
+     * @param response response which will be returned by handler
+     * @param body     json body of the response
+     */
+    public static void attach(Response response, ByteString body) {
+        RequestContextHolder.getContext().addExtensionContext(CONTEXT_KEY, new PreSerializedResponse(response, body));
+    }
+    
+    /**
+     * Get serialized body attached for the response in current request context.
+     *
+     * @param response response returned by handler
+     * @return serialized body, null if not attached
+     */
+    public static ByteString getBody(Response response) {
+        Object attached = RequestContextHolder.getContext().getExtensionContext(CONTEXT_KEY);
+        if (attached instanceof PreSerializedResponse && ((PreSerializedResponse) attached).response == response) {
+            return ((PreSerializedResponse) attached).body;
+        }
+        return null;
+    }
+}
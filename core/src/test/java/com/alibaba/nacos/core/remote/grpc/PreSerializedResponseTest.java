@@ -0,0 +1,53 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.core.remote.grpc;
+
+import com.alibaba.nacos.api.remote.response.HealthCheckResponse;
+import com.alibaba.nacos.core.context.RequestContextHolder;
+import com.google.protobuf.ByteString;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class PreSerializedResponseTest {
+    
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.removeContext();
+    }
+    
+    @Test
+    void testGetAttachedBody() {
+        HealthCheckResponse response = new HealthCheckResponse();
+        ByteString body = ByteString.copyFromUtf8("{}");
+        PreSerializedResponse.attach(response, body);
+        assertSame(body, PreSerializedResponse.getBody(response));
+    }
+    
+    @Test
+    void testGetBodyOfOtherResponse() {
+        PreSerializedResponse.attach(new HealthCheckResponse(), ByteString.copyFromUtf8("{}"));
+        assertNull(PreSerializedResponse.getBody(new HealthCheckResponse()));
+    }
+    
+    @Test
+    void testGetBodyWithoutAttach() {
+        assertNull(PreSerializedResponse.getBody(new HealthCheckResponse()));
+    }
+}
@@ -31,6 +31,7 @@ import com.alibaba.nacos.naming.core.v2.client.impl.ConnectionBasedClient;
 import com.alibaba.nacos.naming.core.v2.client.manager.ClientManager;
 import com.alibaba.nacos.naming.core.v2.event.client.ClientEvent;
 import com.alibaba.nacos.naming.core.v2.event.client.ClientOperationEvent;
+import com.alibaba.nacos.naming.misc.ClientConfig;
 import com.alibaba.nacos.naming.misc.GlobalExecutor;
 import com.alibaba.nacos.naming.misc.Loggers;
 import org.springframework.stereotype.Component;
@@ -50,11 +51,6 @@ public class ConnectionBasedClientManager extends ClientConnectionEventListener
     
     private final ConcurrentMap<String, ConnectionBasedClient> clients = new ConcurrentHashMap<>();
     
-    public ConnectionBasedClientManager() {
-        GlobalExecutor.scheduleExpiredClientCleaner(new ExpiredClientCleaner(this), 0,
-                Constants.DEFAULT_HEART_BEAT_INTERVAL, TimeUnit.MILLISECONDS);
-    }
-    
     @Override
     public void clientConnected(Connection connect) {
         if (!RemoteConstants.LABEL_MODULE_NAMING.equals(connect.getMetaInfo().getLabel(RemoteConstants.LABEL_MODULE))) {
@@ -77,7 +73,12 @@ public class ConnectionBasedClientManager extends ClientConnectionEventListener
     public boolean clientConnected(final Client client) {
         clients.computeIfAbsent(client.getClientId(), s -> {
             Loggers.SRV_LOG.info("Client connection {} connect", client.getClientId());
-            return (ConnectionBasedClient) client;
+            ConnectionBasedClient connectionBasedClient = (ConnectionBasedClient) client;
+            // native client is removed when the connection closed, only synced client needs to expire.
+            if (!connectionBasedClient.isNative()) {
+                new ExpiredClientCleaner(this, connectionBasedClient).schedule();
+            }
+            return connectionBasedClient;
         });
         return true;
     }
@@ -147,22 +148,36 @@ public class ConnectionBasedClientManager extends ClientConnectionEventListener
         return false;
     }
     
-    private static class ExpiredClientCleaner implements Runnable {
+    /**
+     * Check whether one synced client is expired, and check it again when it may expire if not.
+     */
+    static class ExpiredClientCleaner implements Runnable {
         
         private final ConnectionBasedClientManager clientManager;
         
-        public ExpiredClientCleaner(ConnectionBasedClientManager clientManager) {
+        private final ConnectionBasedClient client;
+        
+        ExpiredClientCleaner(ConnectionBasedClientManager clientManager, ConnectionBasedClient client) {
             this.clientManager = clientManager;
+            this.client = client;
+        }
+        
+        void schedule() {
+            long expireAt = client.getLastRenewTime() + ClientConfig.getInstance().getClientExpiredTime();
+            long delay = Math.max(expireAt - System.currentTimeMillis() + 1, Constants.DEFAULT_HEART_BEAT_INTERVAL);
+            GlobalExecutor.scheduleExpiredClientCheck(this, delay, TimeUnit.MILLISECONDS);
         }
         
         @Override
         public void run() {
-            long currentTime = System.currentTimeMillis();
-            for (String each : clientManager.allClientId()) {
-                ConnectionBasedClient client = (ConnectionBasedClient) clientManager.getClient(each);
-                if (null != client && client.isExpire(currentTime)) {
-                    clientManager.clientDisconnected(each);
-                }
+            // client has been removed or replaced, stop checking.
+            if (clientManager.getClient(client.getClientId()) != client) {
+                return;
+            }
+            if (client.isExpire(System.currentTimeMillis())) {
+                clientManager.clientDisconnected(client.getClientId());
+            } else {
+                schedule();
             }
         }
     }
@@ -58,10 +58,11 @@ public class EphemeralIpPortClientManager implements ClientManager {
     
     private final ClientFactory<IpPortBasedClient> clientFactory;
     
+    private final SwitchDomain switchDomain;
+    
     public EphemeralIpPortClientManager(DistroMapper distroMapper, SwitchDomain switchDomain) {
         this.distroMapper = distroMapper;
-        GlobalExecutor.scheduleExpiredClientCleaner(new ExpiredClientCleaner(this, switchDomain), 0,
-                Constants.DEFAULT_HEART_BEAT_INTERVAL, TimeUnit.MILLISECONDS);
+        this.switchDomain = switchDomain;
         clientFactory = ClientFactoryHolder.getInstance().findClientFactory(ClientConstants.EPHEMERAL_IP_PORT);
     }
     
@@ -76,6 +77,9 @@ public class EphemeralIpPortClientManager implements ClientManager {
             Loggers.SRV_LOG.info("Client connection {} connect", client.getClientId());
             IpPortBasedClient ipPortBasedClient = (IpPortBasedClient) client;
             ipPortBasedClient.init();
+            if (ipPortBasedClient.isEphemeral()) {
+                new ExpiredClientCleaner(this, switchDomain, ipPortBasedClient).schedule();
+            }
             return ipPortBasedClient;
         });
         return true;
@@ -141,25 +145,47 @@ public class EphemeralIpPortClientManager implements ClientManager {
         return false;
     }
     
-    private static class ExpiredClientCleaner implements Runnable {
+    /**
+     * Check whether one client is expired, and check it again later if not.
+     *
+     * <p>Each client is checked on the expired client timer when it may expire, instead of scanning all clients every
+     * heartbeat interval.
+     */
+    static class ExpiredClientCleaner implements Runnable {
         
         private final EphemeralIpPortClientManager clientManager;
         
         private final SwitchDomain switchDomain;
         
-        public ExpiredClientCleaner(EphemeralIpPortClientManager clientManager, SwitchDomain switchDomain) {
+        private final IpPortBasedClient client;
+        
+        ExpiredClientCleaner(EphemeralIpPortClientManager clientManager, SwitchDomain switchDomain,
+                IpPortBasedClient client) {
             this.clientManager = clientManager;
             this.switchDomain = switchDomain;
+            this.client = client;
+        }
+        
+        void schedule() {
+            long noUpdatedTime = System.currentTimeMillis() - client.getLastUpdatedTime();
+            long expireTime = Math.min(Constants.DEFAULT_IP_DELETE_TIMEOUT,
+                    ClientConfig.getInstance().getClientExpiredTime());
+            // before the earliest expire time no need to check, after that check every heartbeat interval.
+            long delay = noUpdatedTime < expireTime ? expireTime - noUpdatedTime + 1
+                    : Constants.DEFAULT_HEART_BEAT_INTERVAL;
+            GlobalExecutor.scheduleExpiredClientCheck(this, delay, TimeUnit.MILLISECONDS);
         }
         
         @Override
         public void run() {
-            long currentTime = System.currentTimeMillis();
-            for (String each : clientManager.allClientId()) {
-                IpPortBasedClient client = (IpPortBasedClient) clientManager.getClient(each);
-                if (null != client && isExpireClient(currentTime, client)) {
-                    clientManager.clientDisconnected(each);
-                }
+            // client has been removed or replaced, stop checking.
+            if (clientManager.getClient(client.getClientId()) != client) {
+                return;
+            }
+            if (isExpireClient(System.currentTimeMillis(), client)) {
+                clientManager.clientDisconnected(client.getClientId());
+            } else {
+                schedule();
             }
         }
         
@@ -23,6 +23,7 @@ import com.alibaba.nacos.common.notify.NotifyCenter;
 import com.alibaba.nacos.common.notify.listener.SmartSubscriber;
 import com.alibaba.nacos.common.utils.ConcurrentHashSet;
 import com.alibaba.nacos.common.utils.FuzzyGroupKeyPattern;
+import com.alibaba.nacos.common.utils.FuzzyGroupKeyPatternIndex;
 import com.alibaba.nacos.core.utils.GlobalExecutor;
 import com.alibaba.nacos.naming.core.v2.ServiceManager;
 import com.alibaba.nacos.naming.core.v2.event.client.ClientOperationEvent;
@@ -66,6 +67,11 @@ public class NamingFuzzyWatchContextService extends SmartSubscriber {
      */
     private final ConcurrentMap<String, Set<String>> matchedServiceKeysMap = new ConcurrentHashMap<>();
     
+    /**
+     * index of patterns in matchedServiceKeysMap, to find the patterns matched a service without visiting all.
+     */
+    private final FuzzyGroupKeyPatternIndex patternIndex = new FuzzyGroupKeyPatternIndex();
+    
     public NamingFuzzyWatchContextService() {
     }
     
@@ -92,7 +98,7 @@ public class NamingFuzzyWatchContextService extends SmartSubscriber {
                     Loggers.SRV_LOG.info(
                             "[fuzzy-watch] no watchedClients context for pattern {},remove matchedGroupKeys context",
                             next.getKey());
-                    iterator.remove();
+                    removeMatchedServiceKeys(next.getKey());
                 } else if (watchedClients.isEmpty()) {
                     Loggers.SRV_LOG.info("[fuzzy-watch] no client watched pattern {},remove watchedClients context",
                             next.getKey());
@@ -113,6 +119,16 @@ public class NamingFuzzyWatchContextService extends SmartSubscriber {
         }
     }
     
+    private void removeMatchedServiceKeys(String groupKeyPattern) {
+        matchedServiceKeysMap.computeIfPresent(groupKeyPattern, (pattern, matchedServiceKeys) -> {
+            if (watchedClientsMap.get(pattern) != null) {
+                return matchedServiceKeys;
+            }
+            patternIndex.removePattern(pattern);
+            return null;
+        });
+    }
+    
     @Override
     public List<Class<? extends Event>> subscribeTypes() {
         List<Class<? extends Event>> result = new LinkedList<>();
@@ -135,12 +151,11 @@ public class NamingFuzzyWatchContextService extends SmartSubscriber {
      */
     public Set<String> getFuzzyWatchedClients(Service service) {
         Set<String> matchedClients = new HashSet<>();
-        Iterator<Map.Entry<String, Set<String>>> iterator = watchedClientsMap.entrySet().iterator();
-        while (iterator.hasNext()) {
-            Map.Entry<String, Set<String>> entry = iterator.next();
-            if (FuzzyGroupKeyPattern.matchPattern(entry.getKey(), service.getName(), service.getGroup(),
-                    service.getNamespace())) {
-                matchedClients.addAll(entry.getValue());
+        for (String pattern : patternIndex.matchPatterns(service.getName(), service.getGroup(),
+                service.getNamespace())) {
+            Set<String> watchedClients = watchedClientsMap.get(pattern);
+            if (watchedClients != null) {
+                matchedClients.addAll(watchedClients);
             }
         }
         return matchedClients;
@@ -165,37 +180,36 @@ public class NamingFuzzyWatchContextService extends SmartSubscriber {
         Loggers.SRV_LOG.warn("[fuzzy-watch] service change matched,service key {},changed type {} ", serviceKey,
                 changedType);
         
-        Iterator<Map.Entry<String, Set<String>>> iterator = matchedServiceKeysMap.entrySet().iterator();
         boolean tryAdd = changedType.equals(ADD_SERVICE);
         boolean tryRemove = changedType.equals(DELETE_SERVICE);
-        while (iterator.hasNext()) {
-            Map.Entry<String, Set<String>> next = iterator.next();
-            if (FuzzyGroupKeyPattern.matchPattern(next.getKey(), changedService.getName(), changedService.getGroup(),
-                    changedService.getNamespace())) {
-                Set<String> matchedServiceKeys = next.getValue();
-                boolean reachToUpLimit = reachToUpLimit(matchedServiceKeys.size());
-                boolean containsAlready = matchedServiceKeys.contains(serviceKey);
-                
-                if (tryAdd && !containsAlready && reachToUpLimit) {
-                    Loggers.SRV_LOG.warn("[fuzzy-watch] pattern matched service count is over limit , "
-                                    + "current service will be ignore for pattern {} ,current count is {}", next.getKey(),
-                            matchedServiceKeys.size());
-                    continue;
-                }
+        for (String pattern : patternIndex.matchPatterns(changedService.getName(), changedService.getGroup(),
+                changedService.getNamespace())) {
+            Set<String> matchedServiceKeys = matchedServiceKeysMap.get(pattern);
+            if (matchedServiceKeys == null) {
+                continue;
+            }
+            boolean reachToUpLimit = reachToUpLimit(matchedServiceKeys.size());
+            boolean containsAlready = matchedServiceKeys.contains(serviceKey);
+            
+            if (tryAdd && !containsAlready && reachToUpLimit) {
+                Loggers.SRV_LOG.warn("[fuzzy-watch] pattern matched service count is over limit , "
+                                + "current service will be ignore for pattern {} ,current count is {}", pattern,
+                        matchedServiceKeys.size());
+                continue;
+            }
+            
+            if (tryAdd && !containsAlready && matchedServiceKeys.add(serviceKey)) {
+                Loggers.SRV_LOG.info("[fuzzy-watch] pattern {} matched service keys count changed to {}", pattern,
+                        matchedServiceKeys.size());
+                needNotify = true;
                 
-                if (tryAdd && !containsAlready && matchedServiceKeys.add(serviceKey)) {
-                    Loggers.SRV_LOG.info("[fuzzy-watch] pattern {} matched service keys count changed to {}",
-                            next.getKey(), matchedServiceKeys.size());
-                    needNotify = true;
-                    
-                }
-                if (tryRemove && containsAlready && matchedServiceKeys.remove(serviceKey)) {
-                    Loggers.SRV_LOG.info("[fuzzy-watch]  pattern {} matched service keys count changed to {}",
-                            next.getKey(), matchedServiceKeys.size());
-                    needNotify = true;
-                    if (reachToUpLimit) {
-                        makeupMatchedGroupKeys(next.getKey());
-                    }
+            }
+            if (tryRemove && containsAlready && matchedServiceKeys.remove(serviceKey)) {
+                Loggers.SRV_LOG.info("[fuzzy-watch]  pattern {} matched service keys count changed to {}", pattern,
+                        matchedServiceKeys.size());
+                needNotify = true;
+                if (reachToUpLimit) {
+                    makeupMatchedGroupKeys(pattern);
                 }
             }
         }
@@ -308,7 +322,10 @@ public class NamingFuzzyWatchContextService extends SmartSubscriber {
             long matchBeginTime = System.currentTimeMillis();
             Set<Service> namespaceServices = ServiceManager.getInstance()
                     .getSingletons(getNamespaceFromPattern(completedPattern));
-            Set<String> matchedServices = matchedServiceKeysMap.computeIfAbsent(completedPattern, k -> new HashSet<>());
+            Set<String> matchedServices = matchedServiceKeysMap.computeIfAbsent(completedPattern, pattern -> {
+                patternIndex.addPattern(pattern);
+                return new HashSet<>();
+            });
             boolean overMatchCount = false;
             for (Service service : namespaceServices) {
                 if (FuzzyGroupKeyPattern.matchPattern(completedPattern, service.getName(), service.getGroup(),
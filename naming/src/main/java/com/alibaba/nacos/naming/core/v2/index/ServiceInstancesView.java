@@ -0,0 +1,257 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.core.v2.index;
+
+import com.alibaba.nacos.api.naming.pojo.Instance;
+import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberDeltaRequest;
+import com.alibaba.nacos.naming.core.v2.metadata.InstanceMetadata;
+import com.alibaba.nacos.naming.core.v2.pojo.InstancePublishInfo;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Instance view of one service, maintained incrementally per client.
+ *
+ * <p>Parsed instances of each client are kept with the publish info and metadata they were parsed from, and only
+ * parsed again when those change. Instances are counted so the same instance published by several clients is listed
+ * once, and every change publishes a new immutable host list with a new version. Versions are unique in this server,
+ * and the keys of instances changed by the last versions are kept for delta push. Not thread safe, callers should
+ * synchronize on the view.
+ *
+ * @author xiweng.yy
+ */
+class ServiceInstancesView {
+    
+    private static final AtomicLong VERSION_GENERATOR = new AtomicLong();
+    
+    private static final int MAX_HISTORY = 32;
+    
+    private final Map<String, ClientInstances> clients = new HashMap<>();
+    
+    private final Map<Instance, Integer> instanceCounts = new LinkedHashMap<>();
+    
+    private final Map<String, Integer> clusterCounts = new HashMap<>();
+    
+    private long generation;
+    
+    private boolean changed;
+    
+    private long version = VERSION_GENERATOR.incrementAndGet();
+    
+    private final Deque<VersionChange> history = new ArrayDeque<>();
+    
+    private Set<String> changedKeys = new HashSet<>();
+    
+    private List<Instance> hosts = Collections.emptyList();
+    
+    private Set<String> clusters = Collections.emptySet();
+    
+    /**
+     * Start a reconciliation, clients not visited before {@link #finishReconcile()} are removed from the view.
+     */
+    void startReconcile() {
+        generation++;
+    }
+    
+    /**
+     * Mark client as visited if its parsed instances are still valid.
+     *
+     * <p>Instances are valid if the client still publishes the same publish info, and neither the health status nor
+     * the metadata of any instance changed since they were parsed.
+     *
+     * @param clientId    client id
+     * @param publishInfo current publish info of client
+     * @param metadataOf  lookup of current instance metadata by metadata id
+     * @return {@code true} if client is up to date, otherwise it should be parsed and {@link #update updated}
+     */
+    boolean visit(String clientId, InstancePublishInfo publishInfo, Function<String, InstanceMetadata> metadataOf) {
+        ClientInstances cached = clients.get(clientId);
+        if (null == cached || cached.publishInfo != publishInfo) {
+            return false;
+        }
+        for (int i = 0; i < cached.sources.size(); i++) {
+            if (cached.sources.get(i).isHealthy() != cached.instances.get(i).isHealthy()
+                    || metadataOf.apply(cached.metadataIds.get(i)) != cached.metadata.get(i)) {
+                return false;
+            }
+        }
+        cached.generation = generation;
+        return true;
+    }
+    
+    /**
+     * Replace the instances of client.
+     *
+     * @param clientId    client id
+     * @param publishInfo publish info of client
+     * @param sources     publish infos of each instance, the batch publish info flattened
+     * @param metadataIds metadata ids of each instance
+     * @param metadata    metadata each instance parsed with, {@code null} if none
+     * @param instances   parsed instances
+     */
+    void update(String clientId, InstancePublishInfo publishInfo, List<InstancePublishInfo> sources,
+            List<String> metadataIds, List<InstanceMetadata> metadata, List<Instance> instances) {
+        ClientInstances newOne = new ClientInstances(publishInfo, sources, metadataIds, metadata, instances);
+        newOne.generation = generation;
+        ClientInstances old = clients.put(clientId, newOne);
+        Set<Instance> oldInstances = new HashSet<>();
+        if (null != old) {
+            old.instances.forEach(this::decrease);
+            oldInstances.addAll(old.instances);
+        }
+        for (Instance each : instances) {
+            increase(each);
+            if (!oldInstances.remove(each)) {
+                changedKeys.add(NotifySubscriberDeltaRequest.instanceKey(each));
+            }
+        }
+        oldInstances.forEach(each -> changedKeys.add(NotifySubscriberDeltaRequest.instanceKey(each)));
+        changed = true;
+    }
+    
+    /**
+     * Remove clients not visited since {@link #startReconcile()} and publish a new snapshot if anything changed.
+     *
+     * @return {@code true} if a new snapshot is published
+     */
+    boolean finishReconcile() {
+        Iterator<ClientInstances> iterator = clients.values().iterator();
+        while (iterator.hasNext()) {
+            ClientInstances each = iterator.next();
+            if (each.generation != generation) {
+                iterator.remove();
+                for (Instance instance : each.instances) {
+                    decrease(instance);
+                    changedKeys.add(NotifySubscriberDeltaRequest.instanceKey(instance));
+                }
+                changed = true;
+            }
+        }
+        if (!changed) {
+            return false;
+        }
+        changed = false;
+        long previous = version;
+        version = VERSION_GENERATOR.incrementAndGet();
+        history.addLast(new VersionChange(previous, version, changedKeys));
+        if (history.size() > MAX_HISTORY) {
+            history.pollFirst();
+        }
+        changedKeys = new HashSet<>();
+        hosts = Collections.unmodifiableList(new ArrayList<>(instanceCounts.keySet()));
+        clusters = Collections.unmodifiableSet(new HashSet<>(clusterCounts.keySet()));
+        return true;
+    }
+    
+    /**
+     * Get keys of instances changed between two versions.
+     *
+     * @param fromVersion version to start from
+     * @param toVersion   version to end with
+     * @return keys of changed instances, {@code null} if the versions are not covered by the kept history
+     */
+    Set<String> getChangedKeys(long fromVersion, long toVersion) {
+        Set<String> result = new HashSet<>();
+        if (fromVersion == toVersion) {
+            return result;
+        }
+        long current = fromVersion;
+        for (VersionChange each : history) {
+            if (each.previous == current) {
+                result.addAll(each.changedKeys);
+                current = each.version;
+                if (current == toVersion) {
+                    return result;
+                }
+            }
+        }
+        return null;
+    }
+    
+    private void increase(Instance instance) {
+        instanceCounts.merge(instance, 1, Integer::sum);
+        clusterCounts.merge(instance.getClusterName(), 1, Integer::sum);
+    }
+    
+    private void decrease(Instance instance) {
+        instanceCounts.computeIfPresent(instance, (key, count) -> count > 1 ? count - 1 : null);
+        clusterCounts.computeIfPresent(instance.getClusterName(), (key, count) -> count > 1 ? count - 1 : null);
+    }
+    
+    long getVersion() {
+        return version;
+    }
+    
+    List<Instance> getHosts() {
+        return hosts;
+    }
+    
+    Set<String> getClusters() {
+        return clusters;
+    }
+    
+    private static class VersionChange {
+        
+        private final long previous;
+        
+        private final long version;
+        
+        private final Set<String> changedKeys;
+        
+        VersionChange(long previous, long version, Set<String> changedKeys) {
+            this.previous = previous;
+            this.version = version;
+            this.changedKeys = changedKeys;
+        }
+    }
+    
+    private static class ClientInstances {
+        
+        private final InstancePublishInfo publishInfo;
+        
+        private final List<InstancePublishInfo> sources;
+        
+        private final List<String> metadataIds;
+        
+        private final List<InstanceMetadata> metadata;
+        
+        private final List<Instance> instances;
+        
+        private long generation;
+        
+        ClientInstances(InstancePublishInfo publishInfo, List<InstancePublishInfo> sources, List<String> metadataIds,
+                List<InstanceMetadata> metadata, List<Instance> instances) {
+            this.publishInfo = publishInfo;
+            this.sources = sources;
+            this.metadataIds = metadataIds;
+            this.metadata = metadata;
+            this.instances = instances;
+        }
+    }
+}
@@ -32,13 +32,14 @@ import com.alibaba.nacos.naming.utils.InstanceUtil;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
 
 /**
  * Service storage.
@@ -60,6 +61,8 @@ public class ServiceStorage {
     
     private final ConcurrentMap<Service, Set<String>> serviceClusterIndex;
     
+    private final ConcurrentMap<Service, ServiceInstancesView> serviceInstancesViews;
+    
     public ServiceStorage(ClientServiceIndexesManager serviceIndexesManager, ClientManagerDelegate clientManager,
             SwitchDomain switchDomain, NamingMetadataManager metadataManager) {
         this.serviceIndexesManager = serviceIndexesManager;
@@ -68,6 +71,7 @@ public class ServiceStorage {
         this.metadataManager = metadataManager;
         this.serviceDataIndexes = new ConcurrentHashMap<>();
         this.serviceClusterIndex = new ConcurrentHashMap<>();
+        this.serviceInstancesViews = new ConcurrentHashMap<>();
     }
     
     public Set<String> getClusters(Service service) {
@@ -89,9 +93,52 @@ public class ServiceStorage {
         return result;
     }
     
+    /**
+     * Get the revision of service instances, it changes whenever the instances change.
+     *
+     * <p>Read it before {@link #getPushData(Service)}, so instances changed in between are included again by the delta
+     * from this revision, rather than lost.
+     *
+     * @param service service
+     * @return revision of instances, {@code 0} if not tracked yet
+     */
+    public long getRevision(Service service) {
+        ServiceInstancesView view = serviceInstancesViews.get(service);
+        if (null == view) {
+            return 0L;
+        }
+        synchronized (view) {
+            return view.getVersion();
+        }
+    }
+    
+    /**
+     * Get keys of the instances changed between two revisions of service.
+     *
+     * @param service      service
+     * @param fromRevision revision to start from
+     * @param toRevision   revision to end with
+     * @return keys of changed instances, {@code null} if the revisions are unknown or too old
+     */
+    public Set<String> getChangedInstanceKeys(Service service, long fromRevision, long toRevision) {
+        ServiceInstancesView view = serviceInstancesViews.get(service);
+        if (null == view) {
+            return null;
+        }
+        synchronized (view) {
+            return view.getChangedKeys(fromRevision, toRevision);
+        }
+    }
+    
+    /**
+     * Remove the cached data and instance view of service.
+     *
+     * @param service service
+     */
     public void removeData(Service service) {
         serviceDataIndexes.remove(service);
         serviceClusterIndex.remove(service);
+        serviceInstancesViews.remove(service);
     }
     
     private ServiceInfo emptyServiceInfo(Service service) {
@@ -104,44 +151,45 @@ public class ServiceStorage {
     }
     
     private List<Instance> getAllInstancesFromIndex(Service service) {
-        Set<Instance> result = new HashSet<>();
-        Set<String> clusters = new HashSet<>();
-        for (String each : serviceIndexesManager.getAllClientsRegisteredService(service)) {
-            Optional<InstancePublishInfo> instancePublishInfo = getInstanceInfo(each, service);
-            if (instancePublishInfo.isPresent()) {
-                InstancePublishInfo publishInfo = instancePublishInfo.get();
-                //If it is a BatchInstancePublishInfo type, it will be processed manually and added to the instance list
-                if (publishInfo instanceof BatchInstancePublishInfo) {
-                    BatchInstancePublishInfo batchInstancePublishInfo = (BatchInstancePublishInfo) publishInfo;
-                    List<Instance> batchInstance = parseBatchInstance(service, batchInstancePublishInfo, clusters);
-                    result.addAll(batchInstance);
-                } else {
-                    Instance instance = parseInstance(service, instancePublishInfo.get());
-                    result.add(instance);
-                    clusters.add(instance.getClusterName());
+        ServiceInstancesView view = serviceInstancesViews.computeIfAbsent(service, key -> new ServiceInstancesView());
+        Function<String, InstanceMetadata> metadataOf = metadataId -> metadataManager
+                .getInstanceMetadata(service, metadataId).orElse(null);
+        synchronized (view) {
+            view.startReconcile();
+            for (String each : serviceIndexesManager.getAllClientsRegisteredService(service)) {
+                Optional<InstancePublishInfo> instancePublishInfo = getInstanceInfo(each, service);
+                if (instancePublishInfo.isPresent() && !view.visit(each, instancePublishInfo.get(), metadataOf)) {
+                    parseClientInstances(service, each, instancePublishInfo.get(), view, metadataOf);
                 }
             }
+            view.finishReconcile();
+            // cache clusters of this service
+            serviceClusterIndex.put(service, view.getClusters());
+            return view.getHosts();
         }
-        // cache clusters of this service
-        serviceClusterIndex.put(service, clusters);
-        return new LinkedList<>(result);
     }
     
     /**
-     * Parse batch instance.
-     * @param service service
-     * @param batchInstancePublishInfo batchInstancePublishInfo
-     * @return batch instance list
+     * Parse instances published by one client into the view.
+     *
+     * <p>If it is a BatchInstancePublishInfo type, each instance of the batch is parsed and added to the view.
      */
-    private List<Instance> parseBatchInstance(Service service, BatchInstancePublishInfo batchInstancePublishInfo, Set<String> clusters) {
-        List<Instance> resultInstanceList = new ArrayList<>();
-        List<InstancePublishInfo> instancePublishInfos = batchInstancePublishInfo.getInstancePublishInfos();
-        for (InstancePublishInfo instancePublishInfo : instancePublishInfos) {
-            Instance instance = parseInstance(service, instancePublishInfo);
-            resultInstanceList.add(instance);
-            clusters.add(instance.getClusterName());
+    private void parseClientInstances(Service service, String clientId, InstancePublishInfo publishInfo,
+            ServiceInstancesView view, Function<String, InstanceMetadata> metadataOf) {
+        List<InstancePublishInfo> sources = publishInfo instanceof BatchInstancePublishInfo
+                ? ((BatchInstancePublishInfo) publishInfo).getInstancePublishInfos()
+                : Collections.singletonList(publishInfo);
+        List<String> metadataIds = new ArrayList<>(sources.size());
+        List<InstanceMetadata> metadata = new ArrayList<>(sources.size());
+        List<Instance> instances = new ArrayList<>(sources.size());
+        for (InstancePublishInfo each : sources) {
+            String metadataId = each.getMetadataId();
+            // record metadata before parsing, so metadata changed in between is parsed again next time
+            metadataIds.add(metadataId);
+            metadata.add(metadataOf.apply(metadataId));
+            instances.add(parseInstance(service, each));
         }
-        return resultInstanceList;
+        view.update(clientId, publishInfo, sources, metadataIds, metadata, instances);
     }
     
     private Optional<InstancePublishInfo> getInstanceInfo(String clientId, Service service) {
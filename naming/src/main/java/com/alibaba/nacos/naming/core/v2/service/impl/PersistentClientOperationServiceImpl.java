@@ -150,6 +150,36 @@ public class PersistentClientOperationServiceImpl extends RequestProcessor4CP im
         }
     }
     
+    /**
+     * Update persistent instances by one write, instances of ephemeral services are ignored.
+     *
+     * @param requests update requests of instances
+     */
+    public void batchUpdateInstance(List<InstanceStoreRequest> requests) {
+        List<InstanceStoreRequest> persistentRequests = new ArrayList<>(requests.size());
+        for (InstanceStoreRequest each : requests) {
+            if (ServiceManager.getInstance().getSingleton(each.getService()).isEphemeral()) {
+                Loggers.RAFT.warn("Current service {} is ephemeral service, can't update persistent instance.",
+                        each.getService().getGroupedServiceName());
+                continue;
+            }
+            persistentRequests.add(each);
+        }
+        if (persistentRequests.isEmpty()) {
+            return;
+        }
+        final BatchInstanceStoreRequest request = new BatchInstanceStoreRequest();
+        request.setRequests(persistentRequests);
+        final WriteRequest writeRequest = WriteRequest.newBuilder().setGroup(group())
+                .setData(ByteString.copyFrom(serializer.serialize(request))).setOperation(DataOperation.CHANGE.name())
+                .build();
+        try {
+            protocol.write(writeRequest);
+        } catch (Exception e) {
+            throw new NacosRuntimeException(NacosException.SERVER_ERROR, e);
+        }
+    }
+    
     @Override
     public void batchRegisterInstance(Service service, List<Instance> instances, String clientId) {
         //TODO PersistentClientOperationServiceImpl Nacos batchRegister
@@ -193,8 +223,15 @@ public class PersistentClientOperationServiceImpl extends RequestProcessor4CP im
         final Lock lock = readLock;
         lock.lock();
         try {
-            final InstanceStoreRequest instanceRequest = serializer.deserialize(request.getData().toByteArray());
+            final Object data = serializer.deserialize(request.getData().toByteArray());
             final DataOperation operation = DataOperation.valueOf(request.getOperation());
+            if (data instanceof BatchInstanceStoreRequest && DataOperation.CHANGE == operation) {
+                for (InstanceStoreRequest each : ((BatchInstanceStoreRequest) data).getRequests()) {
+                    onInstanceChange(each);
+                }
+                return Response.newBuilder().setSuccess(true).build();
+            }
+            final InstanceStoreRequest instanceRequest = (InstanceStoreRequest) data;
             switch (operation) {
                 case ADD:
                     onInstanceRegister(instanceRequest.service, instanceRequest.instance,
@@ -204,10 +241,7 @@ public class PersistentClientOperationServiceImpl extends RequestProcessor4CP im
                     onInstanceDeregister(instanceRequest.service, instanceRequest.getClientId());
                     break;
                 case CHANGE:
-                    if (instanceAndServiceExist(instanceRequest)) {
-                        onInstanceRegister(instanceRequest.service, instanceRequest.instance,
-                                instanceRequest.getClientId());
-                    }
+                    onInstanceChange(instanceRequest);
                     break;
                 default:
                     return Response.newBuilder().setSuccess(false).setErrMsg("unsupport operation : " + operation)
@@ -223,6 +257,12 @@ public class PersistentClientOperationServiceImpl extends RequestProcessor4CP im
         }
     }
     
+    private void onInstanceChange(InstanceStoreRequest instanceRequest) {
+        if (instanceAndServiceExist(instanceRequest)) {
+            onInstanceRegister(instanceRequest.service, instanceRequest.instance, instanceRequest.getClientId());
+        }
+    }
+    
     private boolean instanceAndServiceExist(InstanceStoreRequest instanceRequest) {
         return clientManager.contains(instanceRequest.getClientId()) && clientManager.getClient(
                 instanceRequest.getClientId()).getAllPublishedService().contains(instanceRequest.service);
@@ -307,6 +347,24 @@ public class PersistentClientOperationServiceImpl extends RequestProcessor4CP im
         
     }
     
+    /**
+     * Requests of instances written by one {@link WriteRequest}, only support {@link DataOperation#CHANGE} now.
+     */
+    public static class BatchInstanceStoreRequest implements Serializable {
+        
+        private static final long serialVersionUID = 3541876245092461732L;
+        
+        private List<InstanceStoreRequest> requests;
+        
+        public List<InstanceStoreRequest> getRequests() {
+            return requests;
+        }
+        
+        public void setRequests(List<InstanceStoreRequest> requests) {
+            this.requests = requests;
+        }
+    }
+    
     private class PersistentInstanceSnapshotOperation extends AbstractSnapshotOperation {
         
         private final String snapshotSaveTag = ClassUtils.getSimpleName(getClass()) + ".SAVE";
@@ -16,6 +16,7 @@
 
 package com.alibaba.nacos.naming.healthcheck;
 
+import com.alibaba.nacos.common.executor.HashedWheelTimer;
 import com.alibaba.nacos.naming.healthcheck.heartbeat.BeatCheckTask;
 import com.alibaba.nacos.naming.healthcheck.interceptor.HealthCheckTaskInterceptWrapper;
 import com.alibaba.nacos.naming.healthcheck.v2.HealthCheckTaskV2;
@@ -35,7 +36,9 @@ import java.util.concurrent.TimeUnit;
 @SuppressWarnings("PMD.ThreadPoolCreationRule")
 public class HealthCheckReactor {
     
-    private static Map<String, ScheduledFuture> futureMap = new ConcurrentHashMap<>();
+    private static final long BEAT_CHECK_INTERVAL = 5000L;
+    
+    private static Map<String, BeatCheckSchedule> futureMap = new ConcurrentHashMap<>();
     
     /**
      * Schedule health check task for v2.
@@ -51,14 +54,16 @@ public class HealthCheckReactor {
     /**
      * Schedule client beat check task with a delay.
      *
+     * <p>Beat check tasks are one per client, so they are scheduled on the naming health timer and rescheduled after
+     * each run, rather than kept as a periodic future each.
+     *
      * @param task client beat check task
      */
     public static void scheduleCheck(BeatCheckTask task) {
         Runnable wrapperTask =
                 task instanceof NacosHealthCheckTask ? new HealthCheckTaskInterceptWrapper((NacosHealthCheckTask) task)
                         : task;
-        futureMap.computeIfAbsent(task.taskKey(),
-                k -> GlobalExecutor.scheduleNamingHealth(wrapperTask, 5000, 5000, TimeUnit.MILLISECONDS));
+        futureMap.computeIfAbsent(task.taskKey(), k -> new BeatCheckSchedule(wrapperTask).schedule());
     }
     
     /**
@@ -67,16 +72,11 @@ public class HealthCheckReactor {
      * @param task client beat check task
      */
     public static void cancelCheck(BeatCheckTask task) {
-        ScheduledFuture scheduledFuture = futureMap.get(task.taskKey());
-        if (scheduledFuture == null) {
+        BeatCheckSchedule schedule = futureMap.remove(task.taskKey());
+        if (schedule == null) {
             return;
         }
-        try {
-            scheduledFuture.cancel(true);
-            futureMap.remove(task.taskKey());
-        } catch (Exception e) {
-            Loggers.EVT_LOG.error("[CANCEL-CHECK] cancel failed!", e);
-        }
+        schedule.cancel();
     }
     
     /**
@@ -88,4 +88,46 @@ public class HealthCheckReactor {
     public static ScheduledFuture<?> scheduleNow(Runnable task) {
         return GlobalExecutor.scheduleNamingHealth(task, 0, TimeUnit.MILLISECONDS);
     }
+    
+    /**
+     * Run beat check task with fixed delay on the naming health timer until cancelled.
+     */
+    private static class BeatCheckSchedule implements Runnable {
+        
+        private final Runnable task;
+        
+        private volatile boolean cancelled;
+        
+        private volatile HashedWheelTimer.Timeout timeout;
+        
+        private BeatCheckSchedule(Runnable task) {
+            this.task = task;
+        }
+        
+        private BeatCheckSchedule schedule() {
+            timeout = GlobalExecutor.scheduleNamingHealthTimeout(this, BEAT_CHECK_INTERVAL, TimeUnit.MILLISECONDS);
+            return this;
+        }
+        
+        private void cancel() {
+            cancelled = true;
+            timeout.cancel();
+        }
+        
+        @Override
+        public void run() {
+            if (cancelled) {
+                return;
+            }
+            try {
+                task.run();
+            } catch (Throwable e) {
+                Loggers.EVT_LOG.error("[BEAT-CHECK] run beat check task failed!", e);
+            } finally {
+                if (!cancelled) {
+                    schedule();
+                }
+            }
+        }
+    }
 }
@@ -21,9 +21,23 @@ import com.alibaba.nacos.naming.core.v2.client.Client;
 import com.alibaba.nacos.naming.core.v2.pojo.InstancePublishInfo;
 import com.alibaba.nacos.naming.core.v2.pojo.Service;
 import com.alibaba.nacos.naming.core.v2.service.impl.PersistentClientOperationServiceImpl;
+import com.alibaba.nacos.naming.core.v2.service.impl.PersistentClientOperationServiceImpl.InstanceStoreRequest;
+import com.alibaba.nacos.naming.misc.GlobalExecutor;
+import com.alibaba.nacos.naming.misc.Loggers;
+import com.alibaba.nacos.naming.misc.SwitchDomain;
 import com.alibaba.nacos.naming.utils.InstanceUtil;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
 /**
  * Health status synchronizer for persistent service, implementation by CP.
  *
@@ -32,17 +46,108 @@ import org.springframework.stereotype.Component;
 @Component
 public class PersistentHealthStatusSynchronizer implements HealthStatusSynchronizer {
     
-    public PersistentHealthStatusSynchronizer(PersistentClientOperationServiceImpl persistentClientOperationService) {
-        this.persistentClientOperationService = persistentClientOperationService;
-    }
+    /**
+     * Window to collect health status changes of one check round into one write.
+     */
+    private static final long FLUSH_WINDOW_MILLIS = 500L;
+    
+    private static final int MAX_BATCH_SIZE = 500;
     
     private final PersistentClientOperationServiceImpl persistentClientOperationService;
     
+    private final SwitchDomain switchDomain;
+    
+    private final Queue<InstanceStoreRequest> pendingRequests = new ConcurrentLinkedQueue<>();
+    
+    private final AtomicBoolean flushScheduled = new AtomicBoolean(false);
+    
+    public PersistentHealthStatusSynchronizer(PersistentClientOperationServiceImpl persistentClientOperationService,
+            SwitchDomain switchDomain) {
+        this.persistentClientOperationService = persistentClientOperationService;
+        this.switchDomain = switchDomain;
+    }
+    
     @Override
     public void instanceHealthStatusChange(boolean isHealthy, Client client, Service service,
             InstancePublishInfo instance) {
         Instance updateInstance = InstanceUtil.parseToApiInstance(service, instance);
         updateInstance.setHealthy(isHealthy);
-        persistentClientOperationService.updateInstance(service, updateInstance, client.getClientId());
+        if (!switchDomain.isHealthStatusBatchEnabled()) {
+            persistentClientOperationService.updateInstance(service, updateInstance, client.getClientId());
+            return;
+        }
+        InstanceStoreRequest request = new InstanceStoreRequest();
+        request.setService(service);
+        request.setInstance(updateInstance);
+        request.setClientId(client.getClientId());
+        pendingRequests.offer(request);
+        if (flushScheduled.compareAndSet(false, true)) {
+            GlobalExecutor.scheduleNamingHealthTimeout(this::flush, FLUSH_WINDOW_MILLIS, TimeUnit.MILLISECONDS);
+        }
+    }
+    
+    /**
+     * Write all pending health status changes, only the latest change of one instance will be written.
+     */
+    void flush() {
+        flushScheduled.set(false);
+        Map<RequestKey, InstanceStoreRequest> latestRequests = new LinkedHashMap<>();
+        InstanceStoreRequest each;
+        while ((each = pendingRequests.poll()) != null) {
+            RequestKey key = new RequestKey(each.getClientId(), each.getService());
+            latestRequests.remove(key);
+            latestRequests.put(key, each);
+        }
+        List<InstanceStoreRequest> batch = new ArrayList<>(Math.min(latestRequests.size(), MAX_BATCH_SIZE));
+        for (InstanceStoreRequest request : latestRequests.values()) {
+            batch.add(request);
+            if (batch.size() >= MAX_BATCH_SIZE) {
+                writeBatch(batch);
+                batch = new ArrayList<>(MAX_BATCH_SIZE);
+            }
+        }
+        if (!batch.isEmpty()) {
+            writeBatch(batch);
+        }
+    }
+    
+    private void writeBatch(List<InstanceStoreRequest> batch) {
+        try {
+            persistentClientOperationService.batchUpdateInstance(batch);
+        } catch (Exception e) {
+            Loggers.SRV_LOG.warn("[HEALTH-CHECK] batch update {} persistent instances failed.", batch.size(), e);
+        }
+    }
+    
+    /**
+     * Instance of one service, the service includes namespace so same client in different namespaces are different.
+     */
+    private static class RequestKey {
+        
+        private final String clientId;
+        
+        private final Service service;
+        
+        private RequestKey(String clientId, Service service) {
+            this.clientId = clientId;
+            this.service = service;
+        }
+        
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof RequestKey)) {
+                return false;
+            }
+            RequestKey that = (RequestKey) o;
+            return Objects.equals(clientId, that.clientId) && Objects.equals(service, that.service);
+        }
+        
+        @Override
+        public int hashCode() {
+            return Objects.hash(clientId, service);
+        }
     }
 }
@@ -28,6 +28,7 @@ import com.alibaba.nacos.naming.core.v2.metadata.ClusterMetadata;
 import com.alibaba.nacos.naming.core.v2.pojo.HealthCheckInstancePublishInfo;
 import com.alibaba.nacos.naming.core.v2.pojo.Service;
 import com.alibaba.nacos.naming.healthcheck.v2.HealthCheckTaskV2;
+import com.alibaba.nacos.naming.misc.GlobalExecutor;
 import com.alibaba.nacos.naming.misc.HttpClientManager;
 import com.alibaba.nacos.naming.misc.SwitchDomain;
 import com.alibaba.nacos.naming.monitor.MetricsMonitor;
@@ -37,6 +38,8 @@ import java.net.ConnectException;
 import java.net.HttpURLConnection;
 import java.net.URL;
 import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 
 import static com.alibaba.nacos.common.constant.RequestUrlConstants.HTTP_PREFIX;
 import static com.alibaba.nacos.naming.misc.Loggers.SRV_LOG;
@@ -56,6 +59,13 @@ public class HttpHealthCheckProcessor implements HealthCheckProcessorV2 {
     private static final NacosAsyncRestTemplate ASYNC_REST_TEMPLATE = HttpClientManager
             .getProcessorNacosAsyncRestTemplate();
     
+    private static final long MAX_JITTER_MILLIS = 1000L;
+    
+    /**
+     * Jitter is at most part of the check interval so that the next round is not delayed.
+     */
+    private static final int JITTER_DIVISOR = 4;
+    
     private final HealthCheckCommonV2 healthCheckCommon;
     
     private final SwitchDomain switchDomain;
@@ -90,17 +100,35 @@ public class HttpHealthCheckProcessor implements HealthCheckProcessorV2 {
             Header header = Header.newInstance();
             header.addAll(customHeaders);
             
+            // spread the checks of one round to avoid requesting all targets at the same moment
+            long jitter = ThreadLocalRandom.current()
+                    .nextLong(Math.max(1L, Math.min(MAX_JITTER_MILLIS, task.getCheckRtNormalized() / JITTER_DIVISOR)));
+            GlobalExecutor.scheduleNamingHealthTimeout(() -> doCheck(task, service, instance, target, header), jitter,
+                    TimeUnit.MILLISECONDS);
+        } catch (Throwable e) {
+            handleCheckError(task, service, instance, e);
+        }
+    }
+    
+    private void doCheck(HealthCheckTaskV2 task, Service service, HealthCheckInstancePublishInfo instance, URL target,
+            Header header) {
+        try {
             ASYNC_REST_TEMPLATE.get(target.toString(), header, Query.EMPTY, String.class,
                     new HttpHealthCheckCallback(instance, task, service));
             MetricsMonitor.getHttpHealthCheckMonitor().incrementAndGet();
         } catch (Throwable e) {
-            instance.setCheckRt(switchDomain.getHttpHealthParams().getMax());
-            healthCheckCommon.checkFail(task, service, "http:error:" + e.getMessage());
-            healthCheckCommon.reEvaluateCheckRt(switchDomain.getHttpHealthParams().getMax(), task,
-                    switchDomain.getHttpHealthParams());
+            handleCheckError(task, service, instance, e);
         }
     }
     
+    private void handleCheckError(HealthCheckTaskV2 task, Service service, HealthCheckInstancePublishInfo instance,
+            Throwable e) {
+        instance.setCheckRt(switchDomain.getHttpHealthParams().getMax());
+        healthCheckCommon.checkFail(task, service, "http:error:" + e.getMessage());
+        healthCheckCommon.reEvaluateCheckRt(switchDomain.getHttpHealthParams().getMax(), task,
+                switchDomain.getHttpHealthParams());
+    }
+    
     @Override
     public String getType() {
         return TYPE;
@@ -172,7 +200,7 @@ public class HttpHealthCheckProcessor implements HealthCheckProcessorV2 {
         
         @Override
         public void onCancel() {
-        
+            instance.finishCheck();
         }
     }
 }
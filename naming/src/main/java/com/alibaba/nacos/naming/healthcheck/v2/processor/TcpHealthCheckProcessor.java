@@ -25,24 +25,23 @@ import com.alibaba.nacos.naming.misc.GlobalExecutor;
 import com.alibaba.nacos.naming.misc.Loggers;
 import com.alibaba.nacos.naming.misc.SwitchDomain;
 import com.alibaba.nacos.naming.monitor.MetricsMonitor;
-import com.alibaba.nacos.sys.env.EnvUtil;
 import org.springframework.stereotype.Component;
 
+import java.io.IOException;
 import java.net.ConnectException;
 import java.net.InetSocketAddress;
-import java.nio.ByteBuffer;
 import java.nio.channels.SelectionKey;
 import java.nio.channels.Selector;
 import java.nio.channels.SocketChannel;
-import java.util.Collection;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.Iterator;
-import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.Callable;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.Future;
-import java.util.concurrent.LinkedBlockingQueue;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.TimeUnit;
 
 import static com.alibaba.nacos.naming.misc.Loggers.SRV_LOG;
@@ -50,43 +49,64 @@ import static com.alibaba.nacos.naming.misc.Loggers.SRV_LOG;
 /**
  * TCP health check processor for v2.x.
  *
- * <p>Current health check logic is same as v1.x. TODO refactor health check for v2.x.
+ * <p>Targets are sharded by ip and port to {@link GlobalExecutor#TCP_CHECK_SELECTOR_COUNT} selectors, each selector
+ * connects its targets without blocking and closes the connection once connected. Each shard limits the probes in
+ * flight by a concurrency which grows on success and shrinks on timeout, expires timed out probes in one sweep per
+ * select, and backs off the targets which are unhealthy and keep failing.
  *
  * @author xiweng.yy
  */
 @Component
-public class TcpHealthCheckProcessor implements HealthCheckProcessorV2, Runnable {
+public class TcpHealthCheckProcessor implements HealthCheckProcessorV2 {
     
     public static final String TYPE = HealthCheckType.TCP.name();
     
     public static final int CONNECT_TIMEOUT_MS = 500;
     
     /**
-     * this value has been carefully tuned, do not modify unless you're confident.
+     * Beat waiting longer than it isn't checked, this server may be no longer responsible for the service.
      */
-    private static final int NIO_THREAD_COUNT = EnvUtil.getAvailableProcessors(0.5);
+    private static final long MAX_BEAT_WAIT_MILLIS = TimeUnit.SECONDS.toMillis(30L);
+    
+    private static final long SELECT_TIMEOUT_MILLIS = 50L;
+    
+    private static final int MIN_CONCURRENCY = 16;
+    
+    private static final int INITIAL_CONCURRENCY = 256;
+    
+    private static final int MAX_CONCURRENCY = 4096;
     
     /**
-     * because some hosts doesn't support keep-alive connections, disabled temporarily.
+     * Concurrency shrinks by at most 1/4 in a sweep, in proportion to the ratio of timed out probes.
      */
-    private static final long TCP_KEEP_ALIVE_MILLIS = 0;
+    private static final int CONCURRENCY_DECREASE_SHIFT = 2;
     
-    private final HealthCheckCommonV2 healthCheckCommon;
+    /**
+     * Unhealthy target which failed this many times in a row is backed off.
+     */
+    private static final int BACKOFF_FAIL_TIMES = 3;
     
-    private final SwitchDomain switchDomain;
+    private static final int MAX_BACKOFF_SHIFT = 5;
+    
+    private static final long MAX_BACKOFF_MILLIS = TimeUnit.SECONDS.toMillis(10L);
+    
+    private static final long BACKOFF_PURGE_MILLIS = TimeUnit.SECONDS.toMillis(60L);
     
-    private final Map<String, BeatKey> keyMap = new ConcurrentHashMap<>();
+    private final HealthCheckCommonV2 healthCheckCommon;
     
-    private final BlockingQueue<Beat> taskQueue = new LinkedBlockingQueue<>();
+    private final SwitchDomain switchDomain;
     
-    private final Selector selector;
+    private final Shard[] shards;
     
     public TcpHealthCheckProcessor(HealthCheckCommonV2 healthCheckCommon, SwitchDomain switchDomain) {
         this.healthCheckCommon = healthCheckCommon;
         this.switchDomain = switchDomain;
+        this.shards = new Shard[GlobalExecutor.TCP_CHECK_SELECTOR_COUNT];
         try {
-            selector = Selector.open();
-            GlobalExecutor.submitTcpCheck(this);
+            for (int i = 0; i < shards.length; i++) {
+                shards[i] = new Shard(Selector.open());
+                GlobalExecutor.submitTcpCheck(shards[i]);
+            }
         } catch (Exception e) {
             throw new IllegalStateException("Error while initializing SuperSense(TM).");
         }
@@ -107,7 +127,8 @@ public class TcpHealthCheckProcessor implements HealthCheckProcessorV2, Runnable
                     .reEvaluateCheckRt(task.getCheckRtNormalized() * 2, task, switchDomain.getTcpHealthParams());
             return;
         }
-        taskQueue.add(new Beat(task, service, metadata, instance));
+        Beat beat = new Beat(task, service, metadata, instance);
+        shards[(beat.getTarget().hashCode() & Integer.MAX_VALUE) % shards.length].submit(beat);
         MetricsMonitor.getTcpHealthCheckMonitor().incrementAndGet();
     }
     
@@ -116,102 +137,269 @@ public class TcpHealthCheckProcessor implements HealthCheckProcessorV2, Runnable
         return TYPE;
     }
     
-    private void processTask() throws Exception {
-        Collection<Callable<Void>> tasks = new LinkedList<>();
-        do {
-            Beat beat = taskQueue.poll(CONNECT_TIMEOUT_MS / 2, TimeUnit.MILLISECONDS);
-            if (beat == null) {
-                return;
-            }
-            
-            tasks.add(new TaskProcessor(beat));
-        } while (taskQueue.size() > 0 && tasks.size() < NIO_THREAD_COUNT * 64);
-        
-        for (Future<?> f : GlobalExecutor.invokeAllTcpSuperSenseTask(tasks)) {
-            f.get();
-        }
-    }
-    
-    @Override
-    public void run() {
-        while (true) {
-            try {
-                processTask();
-                
-                int readyCount = selector.selectNow();
-                if (readyCount <= 0) {
-                    continue;
-                }
-                
-                Iterator<SelectionKey> iter = selector.selectedKeys().iterator();
-                while (iter.hasNext()) {
-                    SelectionKey key = iter.next();
-                    iter.remove();
-                    
-                    GlobalExecutor.executeTcpSuperSense(new PostProcessor(key));
-                }
-            } catch (Throwable e) {
-                SRV_LOG.error("[HEALTH-CHECK-V2] error while processing NIO task", e);
-            }
+    /**
+     * Decrease concurrency by the ratio of timed out probes, a sweep where all probes in flight time out shrinks it by
+     * 1/4.
+     *
+     * @param concurrency    current concurrency
+     * @param timeouts       count of probes timed out in the sweep
+     * @param probesInFlight count of probes in flight before the sweep
+     * @return decreased concurrency, not less than {@link #MIN_CONCURRENCY}
+     */
+    static int decreaseConcurrency(int concurrency, int timeouts, int probesInFlight) {
+        if (timeouts <= 0 || probesInFlight <= 0) {
+            return concurrency;
         }
+        long decrease = (long) (concurrency >> CONCURRENCY_DECREASE_SHIFT) * Math.min(timeouts, probesInFlight)
+                / probesInFlight;
+        return Math.max(MIN_CONCURRENCY, concurrency - (int) decrease);
     }
     
-    public class PostProcessor implements Runnable {
+    /**
+     * One selector and the probes of the targets sharded to it, only accessed by its own worker thread except the
+     * pending queue.
+     */
+    private class Shard implements Runnable {
+        
+        private final Selector selector;
+        
+        private final Queue<Beat> pendingBeats = new ConcurrentLinkedQueue<>();
+        
+        /**
+         * Probes in flight in order of start time, which is also the order of deadline as the timeout is fixed.
+         */
+        private final Deque<Probe> probes = new ArrayDeque<>();
+        
+        private final Map<String, Backoff> backoffs = new HashMap<>();
+        
+        private int inFlight;
         
-        SelectionKey key;
+        private int concurrency = INITIAL_CONCURRENCY;
         
-        public PostProcessor(SelectionKey key) {
-            this.key = key;
+        private long lastPurgeTime = System.currentTimeMillis();
+        
+        private Shard(Selector selector) {
+            this.selector = selector;
+        }
+        
+        private void submit(Beat beat) {
+            pendingBeats.add(beat);
         }
         
         @Override
         public void run() {
-            Beat beat = (Beat) key.attachment();
-            SocketChannel channel = (SocketChannel) key.channel();
-            try {
+            while (true) {
+                try {
+                    startProbes();
+                    if (selector.select(SELECT_TIMEOUT_MILLIS) > 0) {
+                        Iterator<SelectionKey> iter = selector.selectedKeys().iterator();
+                        while (iter.hasNext()) {
+                            SelectionKey key = iter.next();
+                            iter.remove();
+                            finishConnect(key);
+                        }
+                    }
+                    expireProbes();
+                    purgeBackoffs();
+                } catch (Throwable e) {
+                    SRV_LOG.error("[HEALTH-CHECK-V2] error while processing NIO task", e);
+                }
+            }
+        }
+        
+        private void startProbes() {
+            long now = System.currentTimeMillis();
+            while (inFlight < concurrency) {
+                Beat beat = pendingBeats.poll();
+                if (null == beat) {
+                    return;
+                }
                 if (!beat.isHealthy()) {
                     //invalid beat means this server is no longer responsible for the current service
-                    key.cancel();
-                    key.channel().close();
-                    
                     beat.finishCheck();
-                    return;
+                    continue;
+                }
+                Backoff backoff = backoffs.get(beat.getTarget());
+                if (null != backoff && now < backoff.nextProbeTime && !beat.getInstance().isHealthy()) {
+                    beat.finishCheck();
+                    continue;
                 }
-                
-                if (key.isValid() && key.isConnectable()) {
-                    //connected
-                    channel.finishConnect();
-                    beat.finishCheck(true, false, System.currentTimeMillis() - beat.getTask().getStartTime(),
-                            "tcp:ok+");
+                startProbe(beat);
+            }
+        }
+        
+        private void startProbe(Beat beat) {
+            long waited = System.currentTimeMillis() - beat.getStartTime();
+            if (waited > CONNECT_TIMEOUT_MS) {
+                Loggers.SRV_LOG.warn("beat task waited too long: " + waited + "ms");
+            }
+            SocketChannel channel = null;
+            Probe probe = null;
+            try {
+                channel = SocketChannel.open();
+                channel.configureBlocking(false);
+                // only by setting this can we make the socket close event asynchronous
+                channel.socket().setSoLinger(false, -1);
+                channel.socket().setReuseAddress(true);
+                channel.socket().setTcpNoDelay(true);
+                MetricsMonitor.getTcpHealthCheckProbe().increment();
+                probe = new Probe(beat, channel);
+                inFlight++;
+                if (channel.connect(new InetSocketAddress(beat.getInstance().getIp(), beat.getPort()))) {
+                    finishProbe(probe, null);
+                    return;
                 }
-                
-                if (key.isValid() && key.isReadable()) {
-                    //disconnected
-                    ByteBuffer buffer = ByteBuffer.allocate(128);
-                    if (channel.read(buffer) == -1) {
-                        key.cancel();
-                        key.channel().close();
-                    } else {
-                        // not terminate request, ignore
-                        SRV_LOG.warn(
-                                "Tcp check ok, but the connected server responses some msg. Connection won't be closed.");
+                channel.register(selector, SelectionKey.OP_CONNECT, probe);
+                probes.add(probe);
+            } catch (Exception e) {
+                if (null != probe) {
+                    // counted in flight already, finish it as a failed connect unless finished before the error.
+                    if (!probe.done) {
+                        finishProbe(probe, e);
                     }
+                    return;
+                }
+                closeQuietly(channel);
+                recordFailure(beat);
+                GlobalExecutor.executeTcpSuperSense(() -> beat
+                        .finishCheck(false, false, switchDomain.getTcpHealthParams().getMax(),
+                                "tcp:error:" + e.getMessage()));
+            }
+        }
+        
+        private void finishConnect(SelectionKey key) {
+            Probe probe = (Probe) key.attachment();
+            if (probe.done) {
+                return;
+            }
+            try {
+                if (key.isValid() && key.isConnectable() && probe.channel.finishConnect()) {
+                    finishProbe(probe, null);
                 }
-            } catch (ConnectException e) {
-                // unable to connect, possibly port not opened
-                beat.finishCheck(false, true, switchDomain.getTcpHealthParams().getMax(),
-                        "tcp:unable2connect:" + e.getMessage());
             } catch (Exception e) {
-                beat.finishCheck(false, false, switchDomain.getTcpHealthParams().getMax(),
-                        "tcp:error:" + e.getMessage());
-                
-                try {
-                    key.cancel();
-                    key.channel().close();
-                } catch (Exception ignore) {
+                finishProbe(probe, e);
+            }
+        }
+        
+        private void finishProbe(Probe probe, Exception error) {
+            probe.done = true;
+            inFlight--;
+            closeQuietly(probe.channel);
+            long rt = System.currentTimeMillis() - probe.startTime;
+            MetricsMonitor.getTcpHealthCheckRt().record(rt, TimeUnit.MILLISECONDS);
+            Beat beat = probe.beat;
+            if (null == error) {
+                backoffs.remove(beat.getTarget());
+                concurrency = Math.min(MAX_CONCURRENCY, concurrency + 1);
+                GlobalExecutor.executeTcpSuperSense(() -> beat.finishCheck(true, false, rt, "tcp:ok+"));
+                return;
+            }
+            recordFailure(beat);
+            long maxRt = switchDomain.getTcpHealthParams().getMax();
+            if (error instanceof ConnectException) {
+                // unable to connect, possibly port not opened
+                GlobalExecutor.executeTcpSuperSense(
+                        () -> beat.finishCheck(false, true, maxRt, "tcp:unable2connect:" + error.getMessage()));
+            } else {
+                GlobalExecutor.executeTcpSuperSense(
+                        () -> beat.finishCheck(false, false, maxRt, "tcp:error:" + error.getMessage()));
+            }
+        }
+        
+        private void expireProbes() {
+            long now = System.currentTimeMillis();
+            final int probesInFlight = inFlight;
+            List<Beat> timeoutBeats = null;
+            int freshTimeouts = 0;
+            Probe probe;
+            while (null != (probe = probes.peek()) && (probe.done || probe.deadline <= now)) {
+                probes.poll();
+                if (probe.done) {
+                    continue;
                 }
+                probe.done = true;
+                inFlight--;
+                closeQuietly(probe.channel);
+                MetricsMonitor.getTcpHealthCheckRt().record(now - probe.startTime, TimeUnit.MILLISECONDS);
+                // targets failing already are known slow or down, they don't mean this shard is overloaded.
+                Backoff backoff = backoffs.get(probe.beat.getTarget());
+                if (null == backoff || backoff.failTimes == 0) {
+                    freshTimeouts++;
+                }
+                recordFailure(probe.beat);
+                if (null == timeoutBeats) {
+                    timeoutBeats = new ArrayList<>();
+                }
+                timeoutBeats.add(probe.beat);
+            }
+            if (null == timeoutBeats) {
+                return;
             }
+            concurrency = decreaseConcurrency(concurrency, freshTimeouts, probesInFlight);
+            List<Beat> finalTimeoutBeats = timeoutBeats;
+            GlobalExecutor.executeTcpSuperSense(() -> {
+                for (Beat each : finalTimeoutBeats) {
+                    each.finishCheck(false, false, each.getTask().getCheckRtNormalized() * 2, "tcp:timeout");
+                }
+            });
         }
+        
+        private void recordFailure(Beat beat) {
+            long now = System.currentTimeMillis();
+            Backoff backoff = backoffs.computeIfAbsent(beat.getTarget(), k -> new Backoff());
+            backoff.failTimes++;
+            backoff.lastFailTime = now;
+            if (backoff.failTimes >= BACKOFF_FAIL_TIMES) {
+                int shift = Math.min(backoff.failTimes - BACKOFF_FAIL_TIMES, MAX_BACKOFF_SHIFT);
+                backoff.nextProbeTime = now + Math.min((long) CONNECT_TIMEOUT_MS << shift, MAX_BACKOFF_MILLIS);
+            }
+        }
+        
+        private void purgeBackoffs() {
+            long now = System.currentTimeMillis();
+            if (now - lastPurgeTime < BACKOFF_PURGE_MILLIS) {
+                return;
+            }
+            lastPurgeTime = now;
+            backoffs.values().removeIf(each -> now - each.lastFailTime > BACKOFF_PURGE_MILLIS);
+        }
+        
+        private void closeQuietly(SocketChannel channel) {
+            if (null == channel) {
+                return;
+            }
+            try {
+                channel.close();
+            } catch (IOException ignore) {
+            }
+        }
+    }
+    
+    private static class Probe {
+        
+        private final Beat beat;
+        
+        private final SocketChannel channel;
+        
+        private final long startTime = System.currentTimeMillis();
+        
+        private final long deadline = startTime + CONNECT_TIMEOUT_MS;
+        
+        private boolean done;
+        
+        private Probe(Beat beat, SocketChannel channel) {
+            this.beat = beat;
+            this.channel = channel;
+        }
+    }
+    
+    private static class Backoff {
+        
+        private int failTimes;
+        
+        private long lastFailTime;
+        
+        private long nextProbeTime;
     }
     
     private class Beat {
@@ -224,7 +412,11 @@ public class TcpHealthCheckProcessor implements HealthCheckProcessorV2, Runnable
         
         private final HealthCheckInstancePublishInfo instance;
         
-        long startTime = System.currentTimeMillis();
+        private final int port;
+        
+        private final String target;
+        
+        private final long startTime = System.currentTimeMillis();
         
         public Beat(HealthCheckTaskV2 task, Service service, ClusterMetadata metadata,
                 HealthCheckInstancePublishInfo instance) {
@@ -232,10 +424,8 @@ public class TcpHealthCheckProcessor implements HealthCheckProcessorV2, Runnable
             this.service = service;
             this.metadata = metadata;
             this.instance = instance;
-        }
-        
-        public void setStartTime(long time) {
-            startTime = time;
+            this.port = metadata.isUseInstancePortForCheck() ? instance.getPort() : metadata.getHealthyCheckPort();
+            this.target = instance.getIp() + ":" + port;
         }
         
         public long getStartTime() {
@@ -258,8 +448,21 @@ public class TcpHealthCheckProcessor implements HealthCheckProcessorV2, Runnable
             return instance;
         }
         
+        public int getPort() {
+            return port;
+        }
+        
+        /**
+         * Get the ip and port to check, which identifies the target for sharding and backoff.
+         *
+         * @return ip:port
+         */
+        public String getTarget() {
+            return target;
+        }
+        
         public boolean isHealthy() {
-            return System.currentTimeMillis() - startTime < TimeUnit.SECONDS.toMillis(30L);
+            return System.currentTimeMillis() - startTime < MAX_BEAT_WAIT_MILLIS;
         }
         
         /**
@@ -278,8 +481,6 @@ public class TcpHealthCheckProcessor implements HealthCheckProcessorV2, Runnable
                 } else {
                     healthCheckCommon.checkFail(task, service, msg);
                 }
-                
-                keyMap.remove(toString());
             }
             
             healthCheckCommon.reEvaluateCheckRt(rt, task, switchDomain.getTcpHealthParams());
@@ -290,132 +491,5 @@ public class TcpHealthCheckProcessor implements HealthCheckProcessorV2, Runnable
             return service.getNameSpaceGroupedServiceName() + ":" + instance.getCluster() + ":" + instance.getIp() + ":"
                     + instance.getPort();
         }
-        
-        @Override
-        public int hashCode() {
-            return toString().hashCode();
-        }
-        
-        @Override
-        public boolean equals(Object obj) {
-            if (!(obj instanceof Beat)) {
-                return false;
-            }
-            
-            return this.toString().equals(obj.toString());
-        }
-    }
-    
-    private static class BeatKey {
-        
-        public SelectionKey key;
-        
-        public long birthTime;
-        
-        public BeatKey(SelectionKey key) {
-            this.key = key;
-            this.birthTime = System.currentTimeMillis();
-        }
-    }
-    
-    private static class TimeOutTask implements Runnable {
-        
-        SelectionKey key;
-        
-        public TimeOutTask(SelectionKey key) {
-            this.key = key;
-        }
-        
-        @Override
-        public void run() {
-            if (key != null && key.isValid()) {
-                SocketChannel channel = (SocketChannel) key.channel();
-                Beat beat = (Beat) key.attachment();
-                
-                if (channel.isConnected()) {
-                    return;
-                }
-                
-                try {
-                    channel.finishConnect();
-                } catch (Exception ignore) {
-                }
-                
-                try {
-                    beat.finishCheck(false, false, beat.getTask().getCheckRtNormalized() * 2, "tcp:timeout");
-                    key.cancel();
-                    key.channel().close();
-                } catch (Exception ignore) {
-                }
-            }
-        }
-    }
-    
-    private class TaskProcessor implements Callable<Void> {
-        
-        private static final int MAX_WAIT_TIME_MILLISECONDS = 500;
-        
-        Beat beat;
-        
-        public TaskProcessor(Beat beat) {
-            this.beat = beat;
-        }
-        
-        @Override
-        public Void call() {
-            long waited = System.currentTimeMillis() - beat.getStartTime();
-            if (waited > MAX_WAIT_TIME_MILLISECONDS) {
-                Loggers.SRV_LOG.warn("beat task waited too long: " + waited + "ms");
-            }
-            
-            SocketChannel channel = null;
-            try {
-                HealthCheckInstancePublishInfo instance = beat.getInstance();
-                
-                BeatKey beatKey = keyMap.get(beat.toString());
-                if (beatKey != null && beatKey.key.isValid()) {
-                    if (System.currentTimeMillis() - beatKey.birthTime < TCP_KEEP_ALIVE_MILLIS) {
-                        instance.finishCheck();
-                        return null;
-                    }
-                    
-                    beatKey.key.cancel();
-                    beatKey.key.channel().close();
-                }
-                
-                channel = SocketChannel.open();
-                channel.configureBlocking(false);
-                // only by setting this can we make the socket close event asynchronous
-                channel.socket().setSoLinger(false, -1);
-                channel.socket().setReuseAddress(true);
-                channel.socket().setKeepAlive(true);
-                channel.socket().setTcpNoDelay(true);
-                
-                ClusterMetadata cluster = beat.getMetadata();
-                int port = cluster.isUseInstancePortForCheck() ? instance.getPort() : cluster.getHealthyCheckPort();
-                channel.connect(new InetSocketAddress(instance.getIp(), port));
-                
-                SelectionKey key = channel.register(selector, SelectionKey.OP_CONNECT | SelectionKey.OP_READ);
-                key.attach(beat);
-                keyMap.put(beat.toString(), new BeatKey(key));
-                
-                beat.setStartTime(System.currentTimeMillis());
-                
-                GlobalExecutor
-                        .scheduleTcpSuperSenseTask(new TimeOutTask(key), CONNECT_TIMEOUT_MS, TimeUnit.MILLISECONDS);
-            } catch (Exception e) {
-                beat.finishCheck(false, false, switchDomain.getTcpHealthParams().getMax(),
-                        "tcp:error:" + e.getMessage());
-                
-                if (channel != null) {
-                    try {
-                        channel.close();
-                    } catch (Exception ignore) {
-                    }
-                }
-            }
-            
-            return null;
-        }
     }
 }
@@ -17,16 +17,13 @@
 package com.alibaba.nacos.naming.misc;
 
 import com.alibaba.nacos.common.executor.ExecutorFactory;
+import com.alibaba.nacos.common.executor.HashedWheelTimer;
 import com.alibaba.nacos.common.executor.NameThreadFactory;
 import com.alibaba.nacos.core.utils.ClassUtils;
 import com.alibaba.nacos.naming.NamingApp;
 import com.alibaba.nacos.sys.env.EnvUtil;
 
-import java.util.Collection;
-import java.util.List;
-import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
@@ -55,9 +52,13 @@ public class GlobalExecutor {
             .newScheduledExecutorService(ClassUtils.getCanonicalName(NamingApp.class), DEFAULT_THREAD_COUNT,
                     new NameThreadFactory("com.alibaba.nacos.naming.supersense.checker"));
     
-    private static final ExecutorService TCP_CHECK_EXECUTOR = ExecutorFactory.Managed
-            .newFixedExecutorService(ClassUtils.getCanonicalName(NamingApp.class), 2,
-                    new NameThreadFactory("com.alibaba.nacos.naming.tcp.check.worker"));
+    /**
+     * Count of selectors of tcp health check, each selector runs on its own tcp check worker.
+     */
+    public static final int TCP_CHECK_SELECTOR_COUNT = EnvUtil.getAvailableProcessors(0.25);
+    
+    private static final NameThreadFactory TCP_CHECK_THREAD_FACTORY = new NameThreadFactory(
+            "com.alibaba.nacos.naming.tcp.check.worker");
     
     private static final ScheduledExecutorService NAMING_HEALTH_EXECUTOR = ExecutorFactory.Managed
             .newScheduledExecutorService(ClassUtils.getCanonicalName(NamingApp.class),
@@ -80,6 +81,16 @@ public class GlobalExecutor {
             .newSingleScheduledExecutorService(ClassUtils.getCanonicalName(NamingApp.class),
                     new NameThreadFactory("com.alibaba.nacos.naming.remote-connection-manager"));
     
+    /**
+     * Timers of the per client heartbeat and expiry checks, which are too many to keep a scheduled future each.
+     */
+    private static final HashedWheelTimer NAMING_HEALTH_TIMER = new HashedWheelTimer(
+            "com.alibaba.nacos.naming.health.timer", 100, TimeUnit.MILLISECONDS, 512, NAMING_HEALTH_EXECUTOR);
+    
+    private static final HashedWheelTimer EXPIRED_CLIENT_TIMER = new HashedWheelTimer(
+            "com.alibaba.nacos.naming.client.expire.timer", 100, TimeUnit.MILLISECONDS, 512,
+            EXPIRED_CLIENT_CLEANER_EXECUTOR);
+    
     private static final ExecutorService PUSH_CALLBACK_EXECUTOR = ExecutorFactory.Managed
             .newSingleExecutorService("Push", new NameThreadFactory("com.alibaba.nacos.naming.push.callback"));
     
@@ -95,23 +106,19 @@ public class GlobalExecutor {
         MYSQL_CHECK_EXECUTOR.execute(runnable);
     }
     
+    /**
+     * Run the tcp check selector loop on a new tcp check worker, the loop never returns so it doesn't share a pool.
+     *
+     * @param runnable selector loop
+     */
     public static void submitTcpCheck(Runnable runnable) {
-        TCP_CHECK_EXECUTOR.submit(runnable);
-    }
-    
-    public static <T> List<Future<T>> invokeAllTcpSuperSenseTask(Collection<? extends Callable<T>> tasks)
-            throws InterruptedException {
-        return TCP_SUPER_SENSE_EXECUTOR.invokeAll(tasks);
+        TCP_CHECK_THREAD_FACTORY.newThread(runnable).start();
     }
     
     public static void executeTcpSuperSense(Runnable runnable) {
         TCP_SUPER_SENSE_EXECUTOR.execute(runnable);
     }
     
-    public static void scheduleTcpSuperSenseTask(Runnable runnable, long delay, TimeUnit unit) {
-        TCP_SUPER_SENSE_EXECUTOR.schedule(runnable, delay, unit);
-    }
-    
     public static ScheduledFuture<?> scheduleNamingHealth(Runnable command, long delay, TimeUnit unit) {
         return NAMING_HEALTH_EXECUTOR.schedule(command, delay, unit);
     }
@@ -121,6 +128,10 @@ public class GlobalExecutor {
         return NAMING_HEALTH_EXECUTOR.scheduleWithFixedDelay(command, initialDelay, delay, unit);
     }
     
+    public static HashedWheelTimer.Timeout scheduleNamingHealthTimeout(Runnable command, long delay, TimeUnit unit) {
+        return NAMING_HEALTH_TIMER.newTimeout(command, delay, unit);
+    }
+    
     public static void scheduleRetransmitter(Runnable runnable, long delay, TimeUnit unit) {
         RETRANSMITTER_EXECUTOR.schedule(runnable, delay, unit);
     }
@@ -141,6 +152,10 @@ public class GlobalExecutor {
         EXPIRED_CLIENT_CLEANER_EXECUTOR.scheduleWithFixedDelay(runnable, initialDelay, delay, unit);
     }
     
+    public static HashedWheelTimer.Timeout scheduleExpiredClientCheck(Runnable runnable, long delay, TimeUnit unit) {
+        return EXPIRED_CLIENT_TIMER.newTimeout(runnable, delay, unit);
+    }
+    
     public static ExecutorService getCallbackExecutor() {
         return PUSH_CALLBACK_EXECUTOR;
     }
@@ -50,6 +50,14 @@ public class HttpClientManager {
     
     private static final int CON_TIME_OUT_MILLIS = 5000;
     
+    private static final String PROCESSOR_MAX_CONN_PER_ROUTE = "nacos.naming.health.http.max-conn-per-route";
+    
+    /**
+     * Keep-alive connections per checked target, reused by the health checks of following rounds. Same as the default
+     * of http client.
+     */
+    private static final int DEFAULT_PROCESSOR_MAX_CONN_PER_ROUTE = 5;
+    
     private static final HttpClientFactory SYNC_HTTP_CLIENT_FACTORY = new SyncHttpClientFactory();
     
     private static final HttpClientFactory ASYNC_HTTP_CLIENT_FACTORY = new AsyncHttpClientFactory();
@@ -177,7 +185,8 @@ public class HttpClientManager {
                     .setContentCompressionEnabled(false)
                     .setMaxRedirects(0)
                     .setMaxConnTotal(5000)
-                    .setMaxConnPerRoute(-1)
+                    .setMaxConnPerRoute(EnvUtil.getProperty(PROCESSOR_MAX_CONN_PER_ROUTE, Integer.class,
+                            DEFAULT_PROCESSOR_MAX_CONN_PER_ROUTE))
                     .setUserAgent("VIPServer")
                     .build();
         }
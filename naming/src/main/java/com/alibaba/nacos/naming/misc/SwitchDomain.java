@@ -55,6 +55,12 @@ public class SwitchDomain implements Record, Cloneable {
     
     private boolean autoChangeHealthCheckEnabled = true;
     
+    /**
+     * Whether health status changes of persistent instances are written in batch. Only enable it after all servers
+     * in cluster support batch writing.
+     */
+    private boolean healthStatusBatchEnabled = false;
+    
     private boolean distroEnabled = true;
     
     private boolean enableStandalone = true;
@@ -238,6 +244,14 @@ public class SwitchDomain implements Record, Cloneable {
         this.autoChangeHealthCheckEnabled = autoChangeHealthCheckEnabled;
     }
     
+    public boolean isHealthStatusBatchEnabled() {
+        return healthStatusBatchEnabled;
+    }
+    
+    public void setHealthStatusBatchEnabled(boolean healthStatusBatchEnabled) {
+        this.healthStatusBatchEnabled = healthStatusBatchEnabled;
+    }
+    
     public boolean isDistroEnabled() {
         return distroEnabled;
     }
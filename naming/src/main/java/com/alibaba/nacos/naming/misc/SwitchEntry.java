@@ -107,6 +107,8 @@ public class SwitchEntry {
     
     public static final String AUTO_CHANGE_HEALTH_CHECK_ENABLED = "autoChangeHealthCheckEnabled";
     
+    public static final String HEALTH_STATUS_BATCH_ENABLED = "healthStatusBatchEnabled";
+    
     /**
      * Used to open or close double write service data between v2.0.0 - v2.1.0
      */
@@ -289,6 +289,10 @@ public class SwitchManager extends RequestProcessor4CP {
                 tempSwitchDomain.setAutoChangeHealthCheckEnabled(ConvertUtils.toBoolean(value));
             }
             
+            if (entry.equals(SwitchEntry.HEALTH_STATUS_BATCH_ENABLED)) {
+                tempSwitchDomain.setHealthStatusBatchEnabled(ConvertUtils.toBoolean(value));
+            }
+            
             try {
                 if (SwitchEntry.HTTP_HEALTH_PARAMS.equals(entry)) {
                     SwitchDomain.HttpHealthParams httpHealthParams = JacksonUtils.toObj(value, SwitchDomain.HttpHealthParams.class);
@@ -358,6 +362,7 @@ public class SwitchManager extends RequestProcessor4CP {
         switchDomain.setOverriddenServerStatus(newSwitchDomain.getOverriddenServerStatus());
         switchDomain.setDefaultInstanceEphemeral(newSwitchDomain.isDefaultInstanceEphemeral());
         switchDomain.setLightBeatEnabled(newSwitchDomain.isLightBeatEnabled());
+        switchDomain.setHealthStatusBatchEnabled(newSwitchDomain.isHealthStatusBatchEnabled());
     }
     
     /**
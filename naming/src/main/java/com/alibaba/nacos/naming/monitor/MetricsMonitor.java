@@ -24,6 +24,7 @@ import com.alibaba.nacos.naming.misc.Loggers;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.ImmutableTag;
 import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Timer;
 
 import java.lang.reflect.Field;
 import java.util.ArrayList;
@@ -92,6 +93,16 @@ public class MetricsMonitor {
      */
     private final ServiceTopNCounter serviceChangeCount = new ServiceTopNCounter();
     
+    /**
+     * count of tcp health check probes, the probes per second is the rate of it.
+     */
+    private final Counter tcpHealthCheckProbe;
+    
+    /**
+     * histogram of tcp health check latency.
+     */
+    private final Timer tcpHealthCheckRt;
+    
     private MetricsMonitor() {
         for (Field each : MetricsMonitor.class.getDeclaredFields()) {
             if (Number.class.isAssignableFrom(each.getType())) {
@@ -125,6 +136,12 @@ public class MetricsMonitor {
         tags = new ArrayList<>();
         tags.add(new ImmutableTag("version", "v2"));
         NacosMeterRegistryCenter.gauge(METER_REGISTRY, "nacos_naming_publisher", tags, namingPublisher.get("v2"));
+        
+        tags = new ArrayList<>();
+        tags.add(new ImmutableTag("module", "naming"));
+        tags.add(new ImmutableTag("type", "tcp"));
+        tcpHealthCheckProbe = NacosMeterRegistryCenter.counter(METER_REGISTRY, "nacos_naming_health_check_probe", tags);
+        tcpHealthCheckRt = NacosMeterRegistryCenter.histogramTimer(METER_REGISTRY, "nacos_naming_health_check_rt", tags);
     }
     
     private <T extends Number> void registerToMetrics(String name, T number) {
@@ -146,6 +163,14 @@ public class MetricsMonitor {
         return INSTANCE.tcpHealthCheck;
     }
     
+    public static Counter getTcpHealthCheckProbe() {
+        return INSTANCE.tcpHealthCheckProbe;
+    }
+    
+    public static Timer getTcpHealthCheckRt() {
+        return INSTANCE.tcpHealthCheckRt;
+    }
+    
     public static AtomicInteger getDomCountMonitor() {
         return INSTANCE.serviceCount;
     }
@@ -18,6 +18,7 @@ package com.alibaba.nacos.naming.push.v2;
 
 import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
 import com.alibaba.nacos.naming.core.v2.metadata.ServiceMetadata;
+import com.alibaba.nacos.naming.core.v2.pojo.Service;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -36,9 +37,20 @@ public class PushDataWrapper {
     
     private final Map<String, Object> processedDatum;
     
+    private final Service service;
+    
+    private final long revision;
+    
     public PushDataWrapper(ServiceMetadata serviceMetadata, ServiceInfo originalData) {
+        this(null, serviceMetadata, originalData, 0L);
+    }
+    
+    public PushDataWrapper(Service service, ServiceMetadata serviceMetadata, ServiceInfo originalData,
+            long revision) {
+        this.service = service;
         this.serviceMetadata = serviceMetadata;
         this.originalData = originalData;
+        this.revision = revision;
         processedDatum = new HashMap<>(1);
     }
     
@@ -50,6 +62,19 @@ public class PushDataWrapper {
         return serviceMetadata;
     }
     
+    public Service getService() {
+        return service;
+    }
+    
+    /**
+     * Get revision of the instances in original data, {@code 0} if unknown.
+     *
+     * @return revision of instances
+     */
+    public long getRevision() {
+        return revision;
+    }
+    
     public <T> Optional<T> getProcessedPushData(String key) {
         return Optional.ofNullable((T) processedDatum.get(key));
     }
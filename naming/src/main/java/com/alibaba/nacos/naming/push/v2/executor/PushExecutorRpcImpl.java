@@ -16,18 +16,32 @@
 
 package com.alibaba.nacos.naming.push.v2.executor;
 
+import com.alibaba.nacos.api.ability.constant.AbilityKey;
+import com.alibaba.nacos.api.naming.pojo.Instance;
 import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
 import com.alibaba.nacos.api.naming.remote.request.AbstractFuzzyWatchNotifyRequest;
+import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberDeltaRequest;
 import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberRequest;
 import com.alibaba.nacos.api.remote.PushCallBack;
+import com.alibaba.nacos.api.remote.request.ServerRequest;
+import com.alibaba.nacos.core.remote.Connection;
+import com.alibaba.nacos.core.remote.ConnectionManager;
 import com.alibaba.nacos.core.remote.RpcPushService;
+import com.alibaba.nacos.naming.core.v2.index.ServiceStorage;
+import com.alibaba.nacos.naming.core.v2.metadata.ServiceMetadata;
 import com.alibaba.nacos.naming.misc.GlobalExecutor;
 import com.alibaba.nacos.naming.pojo.Subscriber;
+import com.alibaba.nacos.naming.push.v2.PushConfig;
 import com.alibaba.nacos.naming.push.v2.PushDataWrapper;
 import com.alibaba.nacos.naming.push.v2.task.NamingPushCallback;
+import com.alibaba.nacos.naming.selector.NoneSelector;
 import com.alibaba.nacos.naming.utils.ServiceUtil;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
 /**
  * Push execute service for rpc.
  *
@@ -36,10 +50,22 @@ import org.springframework.stereotype.Component;
 @Component
 public class PushExecutorRpcImpl implements PushExecutor {
     
+    /**
+     * Push delta only if the changed instances are no more than 1/DELTA_SIZE_FACTOR of the instances.
+     */
+    private static final int DELTA_SIZE_FACTOR = 2;
+    
     private final RpcPushService pushService;
     
-    public PushExecutorRpcImpl(RpcPushService pushService) {
+    private final ConnectionManager connectionManager;
+    
+    private final ServiceStorage serviceStorage;
+    
+    public PushExecutorRpcImpl(RpcPushService pushService, ConnectionManager connectionManager,
+            ServiceStorage serviceStorage) {
         this.pushService = pushService;
+        this.connectionManager = connectionManager;
+        this.serviceStorage = serviceStorage;
     }
     
     @Override
@@ -53,10 +79,73 @@ public class PushExecutorRpcImpl implements PushExecutor {
             NamingPushCallback callBack) {
         ServiceInfo actualServiceInfo = getServiceInfo(data, subscriber);
         callBack.setActualServiceInfo(actualServiceInfo);
-        pushService.pushWithCallback(clientId, NotifySubscriberRequest.buildNotifySubscriberRequest(actualServiceInfo),
+        pushService.pushWithCallback(clientId, buildPushRequest(clientId, subscriber, data, actualServiceInfo),
                 callBack, GlobalExecutor.getCallbackExecutor());
     }
     
+    /**
+     * Build push request, only the instances changed since the revision pushed before if possible.
+     *
+     * <p>Revision is tracked only for subscriber supports delta push and gets all instances of the subscribed clusters
+     * without selector or protection, the other cases are pushed in full and the next push too.
+     */
+    private ServerRequest buildPushRequest(String clientId, Subscriber subscriber, PushDataWrapper data,
+            ServiceInfo actualServiceInfo) {
+        long baseRevision = subscriber.getPushedRevision();
+        long revision = data.getRevision();
+        if (!isDeltaTrackable(clientId, data, actualServiceInfo)) {
+            subscriber.setPushedRevision(0L);
+            return NotifySubscriberRequest.buildNotifySubscriberRequest(actualServiceInfo);
+        }
+        subscriber.setPushedRevision(revision);
+        Set<String> changedKeys = baseRevision == 0L ? null
+                : serviceStorage.getChangedInstanceKeys(data.getService(), baseRevision, revision);
+        if (null == changedKeys || changedKeys.size() * DELTA_SIZE_FACTOR > actualServiceInfo.getHosts().size()) {
+            NotifySubscriberRequest result = NotifySubscriberRequest.buildNotifySubscriberRequest(actualServiceInfo);
+            result.setRevision(revision);
+            return result;
+        }
+        return buildDeltaRequest(actualServiceInfo, changedKeys, baseRevision, revision);
+    }
+    
+    private boolean isDeltaTrackable(String clientId, PushDataWrapper data, ServiceInfo actualServiceInfo) {
+        if (!PushConfig.getInstance().isDeltaPushEnabled() || data.getRevision() == 0L
+                || actualServiceInfo.isReachProtectionThreshold()) {
+            return false;
+        }
+        ServiceMetadata serviceMetadata = data.getServiceMetadata();
+        if (null != serviceMetadata && null != serviceMetadata.getSelector()
+                && !(serviceMetadata.getSelector() instanceof NoneSelector)) {
+            return false;
+        }
+        Connection connection = connectionManager.getConnection(clientId);
+        return null != connection && null != connection.getAbilityTable() && Boolean.TRUE.equals(
+                connection.getAbilityTable().get(AbilityKey.SDK_CLIENT_NAMING_DELTA_PUSH.getName()));
+    }
+    
+    private NotifySubscriberDeltaRequest buildDeltaRequest(ServiceInfo actualServiceInfo, Set<String> changedKeys,
+            long baseRevision, long revision) {
+        ServiceInfo delta = new ServiceInfo();
+        delta.setName(actualServiceInfo.getName());
+        delta.setGroupName(actualServiceInfo.getGroupName());
+        delta.setClusters(actualServiceInfo.getClusters());
+        delta.setCacheMillis(actualServiceInfo.getCacheMillis());
+        delta.setLastRefTime(actualServiceInfo.getLastRefTime());
+        List<Instance> hosts = new ArrayList<>(changedKeys.size());
+        for (Instance each : actualServiceInfo.getHosts()) {
+            if (changedKeys.contains(NotifySubscriberDeltaRequest.instanceKey(each))) {
+                hosts.add(each);
+            }
+        }
+        delta.setHosts(hosts);
+        NotifySubscriberDeltaRequest result = new NotifySubscriberDeltaRequest();
+        result.setServiceInfo(delta);
+        result.setChangedKeys(new ArrayList<>(changedKeys));
+        result.setBaseRevision(baseRevision);
+        result.setRevision(revision);
+        return result;
+    }
+    
     private ServiceInfo getServiceInfo(PushDataWrapper data, Subscriber subscriber) {
         return ServiceUtil
                 .selectInstancesWithHealthyProtection(data.getOriginalData(), data.getServiceMetadata(), false, true,
@@ -16,6 +16,7 @@
 
 package com.alibaba.nacos.naming.push.v2.task;
 
+import com.alibaba.nacos.api.exception.NacosException;
 import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
 import com.alibaba.nacos.common.notify.NotifyCenter;
 import com.alibaba.nacos.common.task.AbstractExecuteTask;
@@ -79,9 +80,10 @@ public class PushExecuteTask extends AbstractExecuteTask {
     }
     
     private PushDataWrapper generatePushData() {
+        long revision = delayTaskEngine.getServiceStorage().getRevision(service);
         ServiceInfo serviceInfo = delayTaskEngine.getServiceStorage().getPushData(service);
         ServiceMetadata serviceMetadata = delayTaskEngine.getMetadataManager().getServiceMetadata(service).orElse(null);
-        return new PushDataWrapper(serviceMetadata, serviceInfo);
+        return new PushDataWrapper(service, serviceMetadata, serviceInfo, revision);
     }
     
     private Collection<String> getTargetClientIds() {
@@ -152,6 +154,14 @@ public class PushExecuteTask extends AbstractExecuteTask {
         @Override
         public void onFail(Throwable e) {
             long pushCostTime = System.currentTimeMillis() - executeStartTime;
+            // subscriber may not hold the pushed revision, the next push is full.
+            subscriber.setPushedRevision(0L);
+            if (isDeltaConflict(e)) {
+                Loggers.PUSH.warn("[PUSH-DELTA-CONFLICT] {}, target={}, push full service info", service,
+                        subscriber.getIp());
+                delayTaskEngine.addTask(service, new PushDelayTask(service, 0L, clientId));
+                return;
+            }
             Loggers.PUSH.error("[PUSH-FAIL] {}ms, {}, reason={}, target={}", pushCostTime, service, e.getMessage(),
                     subscriber.getIp());
             if (!(e instanceof NoRequiredRetryException)) {
@@ -164,6 +174,10 @@ public class PushExecuteTask extends AbstractExecuteTask {
             PushResultHookHolder.getInstance().pushFailed(result);
         }
         
+        private boolean isDeltaConflict(Throwable e) {
+            return e instanceof NacosException && NacosException.CONFLICT == ((NacosException) e).getErrCode();
+        }
+        
         public void setActualServiceInfo(ServiceInfo actualServiceInfo) {
             this.actualServiceInfo = actualServiceInfo;
         }
@@ -40,6 +40,7 @@ import java.util.Collection;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -54,6 +55,9 @@ class ConnectionBasedClientManagerTest {
     @Mock
     private ConnectionBasedClient client;
     
+    @Mock
+    private ConnectionBasedClient expiredClient;
+    
     @Mock
     private Connection connection;
     
@@ -100,6 +104,21 @@ class ConnectionBasedClientManagerTest {
         assertFalse(connectionBasedClientManager.contains(unUsedClientId));
     }
     
+    @Test
+    void testExpiredClientCleaner() {
+        String expiredClientId = "1_127.0.0.1_8848";
+        when(expiredClient.getClientId()).thenReturn(expiredClientId);
+        when(expiredClient.isExpire(anyLong())).thenReturn(true);
+        connectionBasedClientManager.clientConnected(expiredClient);
+        new ConnectionBasedClientManager.ExpiredClientCleaner(connectionBasedClientManager, expiredClient).run();
+        assertFalse(connectionBasedClientManager.contains(expiredClientId));
+        
+        ConnectionBasedClient syncedClient = (ConnectionBasedClient) connectionBasedClientManager.getClient(
+                connectionId);
+        new ConnectionBasedClientManager.ExpiredClientCleaner(connectionBasedClientManager, syncedClient).run();
+        assertTrue(connectionBasedClientManager.contains(connectionId));
+    }
+    
     @Test
     void testIsResponsibleClient() {
         assertTrue(connectionBasedClientManager.isResponsibleClient(client));
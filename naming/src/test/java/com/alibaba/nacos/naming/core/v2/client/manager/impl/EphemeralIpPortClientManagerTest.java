@@ -35,6 +35,7 @@ import org.mockito.quality.Strictness;
 import org.springframework.mock.env.MockEnvironment;
 
 import java.util.Collection;
+import java.util.Collections;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -55,6 +56,9 @@ class EphemeralIpPortClientManagerTest {
     @Mock
     private IpPortBasedClient client;
     
+    @Mock
+    private IpPortBasedClient expiredClient;
+    
     @Mock
     private DistroMapper distroMapper;
     
@@ -114,4 +118,23 @@ class EphemeralIpPortClientManagerTest {
         assertFalse(ephemeralIpPortClientManager.verifyClient(new DistroClientVerifyInfo(syncedClientId, 1)));
         assertTrue(ephemeralIpPortClientManager.verifyClient(new DistroClientVerifyInfo(syncedClientId, 5120)));
     }
+    
+    @Test
+    void testExpiredClientCleaner() {
+        String expiredClientId = "127.0.0.1:8848#true";
+        when(expiredClient.getClientId()).thenReturn(expiredClientId);
+        when(expiredClient.isEphemeral()).thenReturn(true);
+        when(expiredClient.getLastUpdatedTime()).thenReturn(0L);
+        when(expiredClient.getAllPublishedService()).thenReturn(Collections.emptyList());
+        when(expiredClient.getAllSubscribeService()).thenReturn(Collections.emptyList());
+        ephemeralIpPortClientManager.clientConnected(expiredClient);
+        new EphemeralIpPortClientManager.ExpiredClientCleaner(ephemeralIpPortClientManager, switchDomain,
+                expiredClient).run();
+        assertFalse(ephemeralIpPortClientManager.contains(expiredClientId));
+        
+        IpPortBasedClient syncedClient = (IpPortBasedClient) ephemeralIpPortClientManager.getClient(syncedClientId);
+        new EphemeralIpPortClientManager.ExpiredClientCleaner(ephemeralIpPortClientManager, switchDomain,
+                syncedClient).run();
+        assertTrue(ephemeralIpPortClientManager.contains(syncedClientId));
+    }
 }
@@ -18,31 +18,52 @@ package com.alibaba.nacos.naming.core.v2.index;
 
 import com.alibaba.nacos.api.naming.pojo.Instance;
 import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberDeltaRequest;
+import com.alibaba.nacos.naming.core.v2.ServiceManager;
+import com.alibaba.nacos.naming.core.v2.client.Client;
+import com.alibaba.nacos.naming.core.v2.client.impl.ConnectionBasedClient;
+import com.alibaba.nacos.naming.core.v2.client.impl.IpPortBasedClient;
 import com.alibaba.nacos.naming.core.v2.client.manager.ClientManagerDelegate;
+import com.alibaba.nacos.naming.core.v2.metadata.InstanceMetadata;
 import com.alibaba.nacos.naming.core.v2.metadata.NamingMetadataManager;
+import com.alibaba.nacos.naming.core.v2.pojo.BatchInstancePublishInfo;
 import com.alibaba.nacos.naming.core.v2.pojo.InstancePublishInfo;
 import com.alibaba.nacos.naming.core.v2.pojo.Service;
 import com.alibaba.nacos.naming.misc.SwitchDomain;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentMap;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 class ServiceStorageTest {
@@ -71,6 +92,14 @@ class ServiceStorageTest {
     
     private ServiceStorage serviceStorage;
     
+    private final Service largeService = Service.newService("namespaceId", "groupName", "largeService");
+    
+    private final Map<String, Client> clients = new HashMap<>();
+    
+    private final Set<String> registered = new HashSet<>();
+    
+    private final Map<String, InstanceMetadata> instanceMetadata = new HashMap<>();
+    
     @BeforeEach
     void setUp() throws NoSuchFieldException, IllegalAccessException {
         serviceStorage = new ServiceStorage(clientServiceIndexesManager, clientManagerDelegate, switchDomain, namingMetadataManager);
@@ -88,6 +117,129 @@ class ServiceStorageTest {
         infoConcurrentMap.put(SERVICE, serviceInfo);
     }
     
+    @AfterEach
+    void tearDown() {
+        ServiceManager.getInstance().removeSingleton(largeService);
+    }
+    
+    private void mockLargeService() {
+        ServiceManager.getInstance().getSingleton(largeService);
+        when(clientServiceIndexesManager.getAllClientsRegisteredService(largeService)).thenReturn(registered);
+        when(clientManagerDelegate.getClient(anyString())).thenAnswer(invocation -> clients.get(invocation.getArgument(0)));
+        when(namingMetadataManager.getInstanceMetadata(any(), anyString())).thenAnswer(
+                invocation -> Optional.ofNullable(instanceMetadata.get(invocation.getArgument(1))));
+    }
+    
+    private void publish(String clientId, InstancePublishInfo instancePublishInfo) {
+        // batch instances are only published by connection based client
+        Client client = clients.computeIfAbsent(clientId,
+                id -> instancePublishInfo instanceof BatchInstancePublishInfo ? new ConnectionBasedClient(id, true, 0L)
+                        : new IpPortBasedClient(IpPortBasedClient.getClientId(id, true), true));
+        client.addServiceInstance(largeService, instancePublishInfo);
+        registered.add(clientId);
+    }
+    
+    private ServiceInstancesView getServiceInstancesView(Service service) {
+        Map<Service, ServiceInstancesView> views = (Map<Service, ServiceInstancesView>) ReflectionTestUtils.getField(
+                serviceStorage, "serviceInstancesViews");
+        return views.get(service);
+    }
+    
+    private InstancePublishInfo newInstance(String ip) {
+        InstancePublishInfo result = new InstancePublishInfo(ip, 8080);
+        result.setCluster("DEFAULT");
+        return result;
+    }
+    
+    private void unpublish(String clientId) {
+        registered.remove(clientId);
+        clients.remove(clientId);
+    }
+    
+    @Test
+    void testIncrementalChurnOfLargeService() {
+        mockLargeService();
+        for (int i = 0; i < 5000; i++) {
+            publish("client" + i, new InstancePublishInfo("10.0." + i / 256 + "." + i % 256, 8080));
+        }
+        List<Instance> before = serviceStorage.getPushData(largeService).getHosts();
+        assertEquals(5000, before.size());
+        ServiceInstancesView view = getServiceInstancesView(largeService);
+        long version = view.getVersion();
+        assertThrows(UnsupportedOperationException.class, () -> view.getHosts().remove(0));
+        // nothing changed, the snapshot is reused
+        serviceStorage.getPushData(largeService);
+        assertEquals(version, view.getVersion());
+        
+        unpublish("client0");
+        publish("client5000", new InstancePublishInfo("10.1.0.0", 8080));
+        List<Instance> after = serviceStorage.getPushData(largeService).getHosts();
+        assertEquals(5000, after.size());
+        Set<Instance> reused = Collections.newSetFromMap(new IdentityHashMap<>());
+        reused.addAll(before);
+        int parsed = 0;
+        for (Instance each : after) {
+            if (!reused.contains(each)) {
+                parsed++;
+                assertEquals("10.1.0.0", each.getIp());
+            }
+        }
+        assertEquals(1, parsed);
+        long revision = serviceStorage.getRevision(largeService);
+        assertNotEquals(version, revision);
+        assertEquals(revision, view.getVersion());
+        Set<String> changedKeys = serviceStorage.getChangedInstanceKeys(largeService, version, revision);
+        Set<String> expectedKeys = new HashSet<>();
+        before.stream().filter(each -> "10.0.0.0".equals(each.getIp()))
+                .forEach(each -> expectedKeys.add(NotifySubscriberDeltaRequest.instanceKey(each)));
+        after.stream().filter(each -> "10.1.0.0".equals(each.getIp()))
+                .forEach(each -> expectedKeys.add(NotifySubscriberDeltaRequest.instanceKey(each)));
+        assertEquals(2, expectedKeys.size());
+        assertEquals(expectedKeys, changedKeys);
+        assertNull(serviceStorage.getChangedInstanceKeys(largeService, -1L, revision));
+        assertSame(view.getHosts().get(0), serviceStorage.getData(largeService).getHosts().get(0));
+    }
+    
+    @Test
+    void testHealthAndMetadataChanged() {
+        mockLargeService();
+        publish("client", new InstancePublishInfo("1.1.1.1", 8080));
+        // ip port based client keeps its own copy of publish info, which is changed in place by heartbeat
+        InstancePublishInfo instance = clients.get("client").getInstancePublishInfo(largeService);
+        instance.setHealthy(true);
+        assertTrue(serviceStorage.getPushData(largeService).getHosts().get(0).isHealthy());
+        
+        instance.setHealthy(false);
+        assertFalse(serviceStorage.getPushData(largeService).getHosts().get(0).isHealthy());
+        
+        InstanceMetadata metadata = new InstanceMetadata();
+        metadata.setWeight(5.0D);
+        instanceMetadata.put(instance.getMetadataId(), metadata);
+        assertEquals(5.0D, serviceStorage.getPushData(largeService).getHosts().get(0).getWeight());
+    }
+    
+    @Test
+    void testDuplicateAndBatchInstances() {
+        mockLargeService();
+        publish("client1", newInstance("1.1.1.1"));
+        publish("client2", newInstance("1.1.1.1"));
+        BatchInstancePublishInfo batch = new BatchInstancePublishInfo();
+        InstancePublishInfo other = new InstancePublishInfo("2.2.2.2", 8080);
+        other.setCluster("other");
+        batch.setInstancePublishInfos(Arrays.asList(newInstance("1.1.1.1"), other));
+        publish("client3", batch);
+        assertEquals(2, serviceStorage.getPushData(largeService).getHosts().size());
+        assertEquals(2, serviceStorage.getClusters(largeService).size());
+        
+        unpublish("client1");
+        unpublish("client3");
+        assertEquals(1, serviceStorage.getPushData(largeService).getHosts().size());
+        assertEquals(Collections.singleton("DEFAULT"), serviceStorage.getClusters(largeService));
+        unpublish("client2");
+        assertTrue(serviceStorage.getPushData(largeService).getHosts().isEmpty());
+        assertTrue(serviceStorage.getClusters(largeService).isEmpty());
+    }
+    
     @Test
     void testGetClusters() {
         Set<String> clusters = serviceStorage.getClusters(SERVICE);
@@ -42,12 +42,14 @@ import org.mockito.quality.Strictness;
 import org.springframework.context.ConfigurableApplicationContext;
 
 import java.lang.reflect.Field;
+import java.util.Arrays;
 import java.util.Collections;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -131,6 +133,51 @@ class PersistentClientOperationServiceImplTest {
         verify(cpProtocol).write(any(WriteRequest.class));
     }
     
+    @Test
+    void testBatchUpdateInstance() throws Exception {
+        when(serializer.serialize(any(PersistentClientOperationServiceImpl.BatchInstanceStoreRequest.class)))
+                .thenReturn(new byte[1]);
+        Service ephemeralService = Service.newService("A", "B", "batchEphemeral", true);
+        persistentClientOperationServiceImpl.batchUpdateInstance(
+                Collections.singletonList(buildStoreRequest(ephemeralService, "1.1.1.1:80#false")));
+        verify(cpProtocol, never()).write(any(WriteRequest.class));
+        
+        Service persistentService = Service.newService("A", "B", "batchPersistent", false);
+        persistentClientOperationServiceImpl.batchUpdateInstance(
+                Arrays.asList(buildStoreRequest(ephemeralService, "1.1.1.1:80#false"),
+                        buildStoreRequest(persistentService, "1.1.1.2:80#false")));
+        verify(cpProtocol).write(any(WriteRequest.class));
+        ServiceManager.getInstance().removeSingleton(ephemeralService);
+        ServiceManager.getInstance().removeSingleton(persistentService);
+    }
+    
+    @Test
+    void testOnApplyBatchChange() {
+        Service service1 = Service.newService("A", "B", "batchChange1");
+        Service service2 = Service.newService("A", "B", "batchChange2");
+        PersistentClientOperationServiceImpl.BatchInstanceStoreRequest request = new PersistentClientOperationServiceImpl.BatchInstanceStoreRequest();
+        request.setRequests(Arrays.asList(buildStoreRequest(service1, "xxxx"), buildStoreRequest(service2, "yyyy")));
+        Mockito.when(serializer.deserialize(Mockito.any())).thenReturn(request);
+        Mockito.when(clientManager.contains(Mockito.anyString())).thenReturn(true);
+        when(clientManager.getClient(Mockito.anyString())).thenReturn(ipPortBasedClient);
+        when(ipPortBasedClient.getAllPublishedService()).thenReturn(Collections.singletonList(service1));
+        WriteRequest writeRequest = WriteRequest.newBuilder().setOperation(DataOperation.CHANGE.name()).build();
+        Response response = persistentClientOperationServiceImpl.onApply(writeRequest);
+        assertTrue(response.getSuccess());
+        verify(ipPortBasedClient).addServiceInstance(Mockito.eq(service1), any());
+        verify(ipPortBasedClient, never()).addServiceInstance(Mockito.eq(service2), any());
+        ServiceManager.getInstance().removeSingleton(service1);
+    }
+    
+    private PersistentClientOperationServiceImpl.InstanceStoreRequest buildStoreRequest(Service service,
+            String clientId) {
+        PersistentClientOperationServiceImpl.InstanceStoreRequest request = new PersistentClientOperationServiceImpl.InstanceStoreRequest();
+        request.setService(service);
+        request.setClientId(clientId);
+        request.setInstance(new Instance());
+        return request;
+    }
+    
     @Test
     void testSubscribeService() {
         assertThrows(UnsupportedOperationException.class, () -> {
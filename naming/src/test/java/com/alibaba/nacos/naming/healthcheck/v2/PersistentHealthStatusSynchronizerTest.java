@@ -21,13 +21,30 @@ import com.alibaba.nacos.naming.core.v2.client.Client;
 import com.alibaba.nacos.naming.core.v2.pojo.InstancePublishInfo;
 import com.alibaba.nacos.naming.core.v2.pojo.Service;
 import com.alibaba.nacos.naming.core.v2.service.impl.PersistentClientOperationServiceImpl;
+import com.alibaba.nacos.naming.core.v2.service.impl.PersistentClientOperationServiceImpl.InstanceStoreRequest;
+import com.alibaba.nacos.naming.misc.SwitchDomain;
 import com.alibaba.nacos.naming.utils.InstanceUtil;
+import com.alibaba.nacos.sys.env.EnvUtil;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.env.MockEnvironment;
 
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 class PersistentHealthStatusSynchronizerTest {
@@ -38,12 +55,26 @@ class PersistentHealthStatusSynchronizerTest {
     @Mock
     private Client client;
     
+    private SwitchDomain switchDomain;
+    
+    private PersistentHealthStatusSynchronizer persistentHealthStatusSynchronizer;
+    
+    @BeforeAll
+    static void setUpBeforeClass() {
+        EnvUtil.setEnvironment(new MockEnvironment());
+    }
+    
+    @BeforeEach
+    void setUp() {
+        switchDomain = new SwitchDomain();
+        persistentHealthStatusSynchronizer = new PersistentHealthStatusSynchronizer(persistentClientOperationService,
+                switchDomain);
+    }
+    
     @Test
     void testInstanceHealthStatusChange() {
         Service service = Service.newService("public", "DEFAULT", "nacos", true);
         InstancePublishInfo instancePublishInfo = new InstancePublishInfo("127.0.0.1", 8080);
-        PersistentHealthStatusSynchronizer persistentHealthStatusSynchronizer = new PersistentHealthStatusSynchronizer(
-                persistentClientOperationService);
         persistentHealthStatusSynchronizer.instanceHealthStatusChange(true, client, service, instancePublishInfo);
         
         Instance updateInstance = InstanceUtil.parseToApiInstance(service, instancePublishInfo);
@@ -52,4 +83,50 @@ class PersistentHealthStatusSynchronizerTest {
         verify(client).getClientId();
         verify(persistentClientOperationService).updateInstance(service, updateInstance, client.getClientId());
     }
+    
+    @Test
+    @SuppressWarnings("unchecked")
+    void testInstanceHealthStatusChangeWithBatch() {
+        switchDomain.setHealthStatusBatchEnabled(true);
+        when(client.getClientId()).thenReturn("127.0.0.1:8080#false");
+        Service service = Service.newService("public", "DEFAULT", "nacos", false);
+        InstancePublishInfo instancePublishInfo = new InstancePublishInfo("127.0.0.1", 8080);
+        persistentHealthStatusSynchronizer.instanceHealthStatusChange(false, client, service, instancePublishInfo);
+        persistentHealthStatusSynchronizer.instanceHealthStatusChange(true, client, service, instancePublishInfo);
+        verify(persistentClientOperationService, never()).updateInstance(any(), any(), any());
+        
+        ArgumentCaptor<List<InstanceStoreRequest>> captor = ArgumentCaptor.forClass(List.class);
+        verify(persistentClientOperationService, timeout(3000)).batchUpdateInstance(captor.capture());
+        List<InstanceStoreRequest> requests = captor.getValue();
+        assertEquals(1, requests.size());
+        assertEquals(service, requests.get(0).getService());
+        assertTrue(requests.get(0).getInstance().isHealthy());
+    }
+    
+    @Test
+    @SuppressWarnings("unchecked")
+    void testInstanceHealthStatusChangeWithBatchInDifferentNamespace() {
+        switchDomain.setHealthStatusBatchEnabled(true);
+        when(client.getClientId()).thenReturn("127.0.0.1:8080#false");
+        Service service = Service.newService("public", "DEFAULT", "nacos", false);
+        Service otherService = Service.newService("dev", "DEFAULT", "nacos", false);
+        InstancePublishInfo instancePublishInfo = new InstancePublishInfo("127.0.0.1", 8080);
+        persistentHealthStatusSynchronizer.instanceHealthStatusChange(true, client, service, instancePublishInfo);
+        persistentHealthStatusSynchronizer.instanceHealthStatusChange(false, client, otherService, instancePublishInfo);
+        
+        ArgumentCaptor<List<InstanceStoreRequest>> captor = ArgumentCaptor.forClass(List.class);
+        verify(persistentClientOperationService, timeout(3000)).batchUpdateInstance(captor.capture());
+        List<InstanceStoreRequest> requests = captor.getValue();
+        assertEquals(2, requests.size());
+        assertEquals(service, requests.get(0).getService());
+        assertTrue(requests.get(0).getInstance().isHealthy());
+        assertEquals(otherService, requests.get(1).getService());
+        assertFalse(requests.get(1).getInstance().isHealthy());
+    }
+    
+    @Test
+    void testFlushWithoutChanges() {
+        persistentHealthStatusSynchronizer.flush();
+        verify(persistentClientOperationService, never()).batchUpdateInstance(anyList());
+    }
 }
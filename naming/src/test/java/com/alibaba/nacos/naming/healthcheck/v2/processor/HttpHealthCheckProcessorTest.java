@@ -204,4 +204,18 @@ class HttpHealthCheckProcessorTest {
         verify(healthCheckCommon).reEvaluateCheckRt(switchDomain.getHttpHealthParams().getMax(), healthCheckTaskV2,
                 switchDomain.getHttpHealthParams());
     }
+    
+    @Test
+    void testOnCancel() throws NoSuchMethodException, IllegalAccessException, InvocationTargetException, InstantiationException {
+        Class<HttpHealthCheckProcessor> healthCheckProcessorClass = HttpHealthCheckProcessor.class;
+        Class<?>[] classes = healthCheckProcessorClass.getDeclaredClasses();
+        Class<?> aClass = Arrays.stream(classes).findFirst().get();
+        Constructor<?> constructor = aClass.getConstructor(HttpHealthCheckProcessor.class, HealthCheckInstancePublishInfo.class,
+                HealthCheckTaskV2.class, Service.class);
+        Object objects = constructor.newInstance(httpHealthCheckProcessor, healthCheckInstancePublishInfo, healthCheckTaskV2, service);
+        Method onCancel = aClass.getMethod("onCancel");
+        onCancel.invoke(objects);
+        
+        verify(healthCheckInstancePublishInfo).finishCheck();
+    }
 }
@@ -0,0 +1,147 @@
+/*
+ * Copyright 1999-2025 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.healthcheck.v2.processor;
+
+import com.alibaba.nacos.naming.core.v2.client.impl.IpPortBasedClient;
+import com.alibaba.nacos.naming.core.v2.metadata.ClusterMetadata;
+import com.alibaba.nacos.naming.core.v2.pojo.HealthCheckInstancePublishInfo;
+import com.alibaba.nacos.naming.core.v2.pojo.Service;
+import com.alibaba.nacos.naming.healthcheck.v2.HealthCheckTaskV2;
+import com.alibaba.nacos.naming.misc.SwitchDomain;
+import com.alibaba.nacos.sys.env.EnvUtil;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class TcpHealthCheckProcessorTest {
+    
+    private static final String LOCALHOST = "127.0.0.1";
+    
+    @Mock
+    private HealthCheckCommonV2 healthCheckCommon;
+    
+    @Mock
+    private HealthCheckTaskV2 healthCheckTaskV2;
+    
+    @Mock
+    private IpPortBasedClient client;
+    
+    @Mock
+    private Service service;
+    
+    private SwitchDomain switchDomain;
+    
+    private TcpHealthCheckProcessor tcpHealthCheckProcessor;
+    
+    @BeforeAll
+    static void setUpBeforeClass() {
+        EnvUtil.setEnvironment(new MockEnvironment());
+    }
+    
+    @BeforeEach
+    void setUp() {
+        switchDomain = new SwitchDomain();
+        tcpHealthCheckProcessor = new TcpHealthCheckProcessor(healthCheckCommon, switchDomain);
+        when(healthCheckTaskV2.getClient()).thenReturn(client);
+    }
+    
+    @Test
+    void testProcessConnected() throws IOException {
+        try (ServerSocket serverSocket = new ServerSocket(0, 50, InetAddress.getByName(LOCALHOST))) {
+            when(client.getInstancePublishInfo(service)).thenReturn(newInstance(serverSocket.getLocalPort()));
+            tcpHealthCheckProcessor.process(healthCheckTaskV2, service, new ClusterMetadata());
+            verify(healthCheckCommon, timeout(3000)).checkOk(healthCheckTaskV2, service, "tcp:ok+");
+            verify(healthCheckCommon, timeout(3000))
+                    .reEvaluateCheckRt(anyLong(), eq(healthCheckTaskV2), eq(switchDomain.getTcpHealthParams()));
+        }
+    }
+    
+    @Test
+    void testProcessRefused() throws IOException {
+        int port;
+        try (ServerSocket serverSocket = new ServerSocket(0, 50, InetAddress.getByName(LOCALHOST))) {
+            port = serverSocket.getLocalPort();
+        }
+        when(client.getInstancePublishInfo(service)).thenReturn(newInstance(port));
+        tcpHealthCheckProcessor.process(healthCheckTaskV2, service, new ClusterMetadata());
+        verify(healthCheckCommon, timeout(3000))
+                .checkFailNow(eq(healthCheckTaskV2), eq(service), startsWith("tcp:unable2connect"));
+        verify(healthCheckCommon, never()).checkOk(any(), any(), any());
+    }
+    
+    @Test
+    void testProcessConnectFailImmediately() {
+        // invalid port fails before connecting, the probe should be finished and not stay in flight.
+        when(client.getInstancePublishInfo(service)).thenReturn(newInstance(70000));
+        tcpHealthCheckProcessor.process(healthCheckTaskV2, service, new ClusterMetadata());
+        verify(healthCheckCommon, timeout(3000)).checkFail(eq(healthCheckTaskV2), eq(service), startsWith("tcp:error"));
+        verify(healthCheckCommon, never()).checkOk(any(), any(), any());
+        Object[] shards = (Object[]) ReflectionTestUtils.getField(tcpHealthCheckProcessor, "shards");
+        for (Object each : shards) {
+            assertEquals(0, ReflectionTestUtils.getField(each, "inFlight"));
+        }
+    }
+    
+    @Test
+    void testProcessCheckNotFinished() {
+        HealthCheckInstancePublishInfo instance = newInstance(8848);
+        assertTrue(instance.tryStartCheck());
+        when(client.getInstancePublishInfo(service)).thenReturn(instance);
+        when(healthCheckTaskV2.getCheckRtNormalized()).thenReturn(100L);
+        tcpHealthCheckProcessor.process(healthCheckTaskV2, service, new ClusterMetadata());
+        verify(healthCheckCommon).reEvaluateCheckRt(200L, healthCheckTaskV2, switchDomain.getTcpHealthParams());
+    }
+    
+    @Test
+    void testDecreaseConcurrencyByTimeoutRatio() {
+        assertEquals(1000, TcpHealthCheckProcessor.decreaseConcurrency(1000, 0, 100));
+        assertEquals(998, TcpHealthCheckProcessor.decreaseConcurrency(1000, 1, 100));
+        assertEquals(875, TcpHealthCheckProcessor.decreaseConcurrency(1000, 50, 100));
+        assertEquals(750, TcpHealthCheckProcessor.decreaseConcurrency(1000, 100, 100));
+        assertEquals(16, TcpHealthCheckProcessor.decreaseConcurrency(16, 100, 100));
+    }
+    
+    private HealthCheckInstancePublishInfo newInstance(int port) {
+        HealthCheckInstancePublishInfo instance = new HealthCheckInstancePublishInfo(LOCALHOST, port);
+        instance.initHealthCheck();
+        return instance;
+    }
+}
@@ -33,6 +33,7 @@ import org.springframework.context.ConfigurableApplicationContext;
 
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.when;
@@ -100,4 +101,15 @@ class MetricsMonitorTest {
         MetricsMonitor.incrementIpCountWithBatchRegister(new InstancePublishInfo(), newTest);
         assertEquals(2, MetricsMonitor.getIpCountMonitor().get());
     }
+    
+    @Test
+    void testTcpHealthCheckProbeAndRt() {
+        double probeCount = MetricsMonitor.getTcpHealthCheckProbe().count();
+        MetricsMonitor.getTcpHealthCheckProbe().increment();
+        assertEquals(probeCount + 1, MetricsMonitor.getTcpHealthCheckProbe().count());
+        
+        long rtCount = MetricsMonitor.getTcpHealthCheckRt().count();
+        MetricsMonitor.getTcpHealthCheckRt().record(10, TimeUnit.MILLISECONDS);
+        assertEquals(rtCount + 1, MetricsMonitor.getTcpHealthCheckRt().count());
+    }
 }
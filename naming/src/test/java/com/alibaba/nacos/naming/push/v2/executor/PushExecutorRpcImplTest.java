@@ -16,29 +16,43 @@
 
 package com.alibaba.nacos.naming.push.v2.executor;
 
+import com.alibaba.nacos.api.ability.constant.AbilityKey;
 import com.alibaba.nacos.api.naming.pojo.Instance;
 import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberDeltaRequest;
 import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberRequest;
 import com.alibaba.nacos.api.remote.PushCallBack;
+import com.alibaba.nacos.api.remote.request.ServerRequest;
+import com.alibaba.nacos.core.remote.Connection;
+import com.alibaba.nacos.core.remote.ConnectionManager;
 import com.alibaba.nacos.core.remote.RpcPushService;
+import com.alibaba.nacos.naming.core.v2.index.ServiceStorage;
 import com.alibaba.nacos.naming.core.v2.metadata.ServiceMetadata;
+import com.alibaba.nacos.naming.core.v2.pojo.Service;
 import com.alibaba.nacos.naming.misc.GlobalExecutor;
 import com.alibaba.nacos.naming.pojo.Subscriber;
+import com.alibaba.nacos.naming.push.v2.PushConfig;
 import com.alibaba.nacos.naming.push.v2.PushDataWrapper;
 import com.alibaba.nacos.naming.push.v2.task.NamingPushCallback;
+import com.alibaba.nacos.naming.selector.LabelSelector;
 import com.alibaba.nacos.naming.selector.SelectorManager;
 import com.alibaba.nacos.sys.env.EnvUtil;
 import com.alibaba.nacos.sys.utils.ApplicationUtils;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.invocation.InvocationOnMock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.stubbing.Answer;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
 
@@ -46,6 +60,8 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -57,6 +73,12 @@ class PushExecutorRpcImplTest {
     @Mock
     private RpcPushService pushService;
     
+    @Mock
+    private ConnectionManager connectionManager;
+    
+    @Mock
+    private ServiceStorage serviceStorage;
+    
     @Mock
     private Subscriber subscriber;
     
@@ -80,7 +102,7 @@ class PushExecutorRpcImplTest {
         EnvUtil.setEnvironment(new MockEnvironment());
         serviceMetadata = new ServiceMetadata();
         pushData = new PushDataWrapper(serviceMetadata, new ServiceInfo("G@@S"));
-        pushExecutor = new PushExecutorRpcImpl(pushService);
+        pushExecutor = new PushExecutorRpcImpl(pushService, connectionManager, serviceStorage);
         EnvUtil.setEnvironment(new MockEnvironment());
         ApplicationUtils.injectContext(context);
         when(context.getBean(SelectorManager.class)).thenReturn(selectorManager);
@@ -88,6 +110,11 @@ class PushExecutorRpcImplTest {
                 (Answer<List<Instance>>) invocationOnMock -> invocationOnMock.getArgument(2));
     }
     
+    @AfterEach
+    void tearDown() {
+        ReflectionTestUtils.setField(PushConfig.getInstance(), "deltaPushEnabled", false);
+    }
+    
     @Test
     void testDoPush() {
         pushExecutor.doPush(rpcClientId, subscriber, pushData);
@@ -103,6 +130,63 @@ class PushExecutorRpcImplTest {
         verify(pushCallBack).onSuccess();
     }
     
+    @Test
+    void testDoPushDelta() {
+        ReflectionTestUtils.setField(PushConfig.getInstance(), "deltaPushEnabled", true);
+        Connection connection = mock(Connection.class);
+        when(connection.getAbilityTable()).thenReturn(
+                Collections.singletonMap(AbilityKey.SDK_CLIENT_NAMING_DELTA_PUSH.getName(), true));
+        when(connectionManager.getConnection(rpcClientId)).thenReturn(connection);
+        Service service = Service.newService("N", "G", "S");
+        Subscriber realSubscriber = new Subscriber("1.1.1.1:1", "agent", "app", "1.1.1.1", "N", "G@@S", 0);
+        ServiceInfo serviceInfo = new ServiceInfo("G@@S");
+        List<Instance> hosts = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            Instance instance = new Instance();
+            instance.setIp("2.2.2." + i);
+            instance.setPort(8080);
+            instance.setClusterName("DEFAULT");
+            hosts.add(instance);
+        }
+        serviceInfo.setHosts(hosts);
+        
+        // first push is full, with the revision for later delta.
+        pushExecutor.doPushWithCallback(rpcClientId, realSubscriber,
+                new PushDataWrapper(service, serviceMetadata, serviceInfo, 5L), pushCallBack);
+        NotifySubscriberRequest full = (NotifySubscriberRequest) capturePushRequest(1);
+        assertEquals(5L, full.getRevision());
+        assertEquals(4, full.getServiceInfo().getHosts().size());
+        assertEquals(5L, realSubscriber.getPushedRevision());
+        
+        String changedKey = NotifySubscriberDeltaRequest.instanceKey(hosts.get(0));
+        when(serviceStorage.getChangedInstanceKeys(service, 5L, 7L)).thenReturn(
+                Collections.singleton(changedKey));
+        pushExecutor.doPushWithCallback(rpcClientId, realSubscriber,
+                new PushDataWrapper(service, serviceMetadata, serviceInfo, 7L), pushCallBack);
+        NotifySubscriberDeltaRequest delta = (NotifySubscriberDeltaRequest) capturePushRequest(2);
+        assertEquals(5L, delta.getBaseRevision());
+        assertEquals(7L, delta.getRevision());
+        assertEquals(Collections.singletonList(changedKey), delta.getChangedKeys());
+        assertEquals(1, delta.getServiceInfo().getHosts().size());
+        assertEquals(7L, realSubscriber.getPushedRevision());
+        
+        // selector filters instances per subscriber, push full and stop tracking revision.
+        ServiceMetadata selectorMetadata = new ServiceMetadata();
+        selectorMetadata.setSelector(new LabelSelector());
+        pushExecutor.doPushWithCallback(rpcClientId, realSubscriber,
+                new PushDataWrapper(service, selectorMetadata, serviceInfo, 9L), pushCallBack);
+        full = (NotifySubscriberRequest) capturePushRequest(3);
+        assertEquals(0L, full.getRevision());
+        assertEquals(0L, realSubscriber.getPushedRevision());
+    }
+    
+    private ServerRequest capturePushRequest(int times) {
+        ArgumentCaptor<ServerRequest> captor = ArgumentCaptor.forClass(ServerRequest.class);
+        verify(pushService, times(times)).pushWithCallback(eq(rpcClientId), captor.capture(), eq(pushCallBack),
+                eq(GlobalExecutor.getCallbackExecutor()));
+        return captor.getValue();
+    }
+    
     private class CallbackAnswer implements Answer<Void> {
         
         @Override
@@ -16,6 +16,7 @@
 
 package com.alibaba.nacos.naming.push.v2.task;
 
+import com.alibaba.nacos.api.exception.NacosException;
 import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
 import com.alibaba.nacos.naming.core.v2.client.Client;
 import com.alibaba.nacos.naming.core.v2.client.manager.ClientManager;
@@ -146,4 +147,16 @@ class PushExecuteTaskTest {
         assertEquals(1, MetricsMonitor.getFailedPushMonitor().get());
         verify(delayTaskExecuteEngine).addTask(eq(service), any(PushDelayTask.class));
     }
+    
+    @Test
+    void testRunDeltaConflict() {
+        PushDelayTask delayTask = new PushDelayTask(service, 0L);
+        PushExecuteTask executeTask = new PushExecuteTask(service, delayTaskExecuteEngine, delayTask);
+        pushExecutor.setShouldSuccess(false);
+        pushExecutor.setFailedException(new NacosException(NacosException.CONFLICT, "revision not held"));
+        executeTask.run();
+        assertEquals(0, MetricsMonitor.getFailedPushMonitor().get());
+        verify(subscriber).setPushedRevision(0L);
+        verify(delayTaskExecuteEngine).addTask(eq(service), any(PushDelayTask.class));
+    }
 }
@@ -92,6 +92,15 @@ public class ConfigInfoMapperByMySql extends AbstractMapperByMysql implements Co
         return new MapperResult(sql, Collections.emptyList());
     }
     
+    @Override
+    public MapperResult findAllConfigInfo4ExportFetchRows(MapperContext context) {
+        MapperResult mapperResult = findAllConfigInfo4Export(context);
+        List<Object> paramList = new ArrayList<>(mapperResult.getParamList());
+        paramList.add(context.getWhereParameter(FieldConstant.LAST_MAX_ID));
+        paramList.add(context.getWhereParameter(FieldConstant.PAGE_SIZE));
+        return new MapperResult(mapperResult.getSql() + " AND id > ? ORDER BY id ASC LIMIT ?", paramList);
+    }
+    
     @Override
     public MapperResult findAllConfigInfoFragment(MapperContext context) {
         String contextParameter = context.getContextParameter(ContextConstant.NEED_CONTENT);
@@ -123,6 +123,14 @@ public class GroupCapacityMapperByMysql extends AbstractMapperByMysql implements
                         context.getWhereParameter(FieldConstant.GROUP_ID)));
     }
     
+    @Override
+    public MapperResult addUsageByWhere(MapperContext context) {
+        return new MapperResult("UPDATE group_capacity SET `usage` = `usage` + ?, gmt_modified = ? WHERE group_id = ?",
+                CollectionUtils.list(context.getUpdateParameter(FieldConstant.USAGE),
+                        context.getUpdateParameter(FieldConstant.GMT_MODIFIED),
+                        context.getWhereParameter(FieldConstant.GROUP_ID)));
+    }
+    
     @Override
     public MapperResult updateUsage(MapperContext context) {
         return new MapperResult(
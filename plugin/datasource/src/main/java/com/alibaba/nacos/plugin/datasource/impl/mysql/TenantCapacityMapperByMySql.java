@@ -88,6 +88,14 @@ public class TenantCapacityMapperByMySql extends AbstractMapperByMysql implement
                         context.getWhereParameter(FieldConstant.TENANT_ID)));
     }
     
+    @Override
+    public MapperResult addUsage(MapperContext context) {
+        return new MapperResult("UPDATE tenant_capacity SET `usage` = `usage` + ?, gmt_modified = ? WHERE tenant_id = ?",
+                CollectionUtils.list(context.getUpdateParameter(FieldConstant.USAGE),
+                        context.getUpdateParameter(FieldConstant.GMT_MODIFIED),
+                        context.getWhereParameter(FieldConstant.TENANT_ID)));
+    }
+    
     @Override
     public MapperResult correctUsage(MapperContext context) {
         return new MapperResult(
@@ -158,6 +158,25 @@ public interface ConfigInfoMapper extends Mapper {
                 context.getWhereParameter(FieldConstant.PAGE_SIZE)));
     }
     
+    /**
+     * Query configuration information for export by page, ordered by id. The default sql: SELECT
+     * id,data_id,group_id,tenant_id,app_name,content,type,md5,gmt_create,gmt_modified,
+     * src_user,src_ip,c_desc,c_use,effect,c_schema,encrypted_data_key FROM config_info WHERE ... AND id > ? ORDER BY
+     * id ASC FETCH FIRST ? ROWS ONLY. Mappers of databases not supporting the standard row limit should override it.
+     *
+     * @param context The map of params, the key is the parameter name(dataId, group, appName, ids, lastMaxId,
+     *                pageSize), the value is the key's value.
+     * @return The sql of querying config information for export by page.
+     */
+    default MapperResult findAllConfigInfo4ExportFetchRows(MapperContext context) {
+        MapperResult mapperResult = findAllConfigInfo4Export(context);
+        List<Object> paramList = new ArrayList<>(mapperResult.getParamList());
+        paramList.add(context.getWhereParameter(FieldConstant.LAST_MAX_ID));
+        paramList.add(context.getWhereParameter(FieldConstant.PAGE_SIZE));
+        return new MapperResult(mapperResult.getSql() + " AND id > ? ORDER BY id ASC FETCH FIRST ? ROWS ONLY",
+                paramList);
+    }
+    
     /**
      * Get the count of config information. The default sql: SELECT count(*) FROM config_info WHERE ...
      *
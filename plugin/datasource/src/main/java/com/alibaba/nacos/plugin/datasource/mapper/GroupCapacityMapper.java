@@ -16,6 +16,8 @@
 
 package com.alibaba.nacos.plugin.datasource.mapper;
 
+import com.alibaba.nacos.common.utils.CollectionUtils;
+import com.alibaba.nacos.plugin.datasource.constants.FieldConstant;
 import com.alibaba.nacos.plugin.datasource.constants.TableConstant;
 import com.alibaba.nacos.plugin.datasource.model.MapperContext;
 import com.alibaba.nacos.plugin.datasource.model.MapperResult;
@@ -82,6 +84,19 @@ public interface GroupCapacityMapper extends Mapper {
      */
     MapperResult decrementUsageByWhere(MapperContext context);
     
+    /**
+     * Used to add a delta, which may be negative, to usage field.
+     *
+     * @param context sql paramMap
+     * @return sql.
+     */
+    default MapperResult addUsageByWhere(MapperContext context) {
+        return new MapperResult("UPDATE group_capacity SET usage = usage + ?, gmt_modified = ? WHERE group_id = ?",
+                CollectionUtils.list(context.getUpdateParameter(FieldConstant.USAGE),
+                        context.getUpdateParameter(FieldConstant.GMT_MODIFIED),
+                        context.getWhereParameter(FieldConstant.GROUP_ID)));
+    }
+    
     /**
      * Used to update usage field.
      *
@@ -16,6 +16,8 @@
 
 package com.alibaba.nacos.plugin.datasource.mapper;
 
+import com.alibaba.nacos.common.utils.CollectionUtils;
+import com.alibaba.nacos.plugin.datasource.constants.FieldConstant;
 import com.alibaba.nacos.plugin.datasource.constants.TableConstant;
 import com.alibaba.nacos.plugin.datasource.model.MapperContext;
 import com.alibaba.nacos.plugin.datasource.model.MapperResult;
@@ -67,6 +69,19 @@ public interface TenantCapacityMapper extends Mapper {
      */
     MapperResult decrementUsage(MapperContext context);
     
+    /**
+     * Add a delta, which may be negative, to Usage.
+     *
+     * @param context sql paramMap
+     * @return The sql of adding Usage.
+     */
+    default MapperResult addUsage(MapperContext context) {
+        return new MapperResult("UPDATE tenant_capacity SET usage = usage + ?, gmt_modified = ? WHERE tenant_id = ?",
+                CollectionUtils.list(context.getUpdateParameter(FieldConstant.USAGE),
+                        context.getUpdateParameter(FieldConstant.GMT_MODIFIED),
+                        context.getWhereParameter(FieldConstant.TENANT_ID)));
+    }
+    
     /**
      * Correct Usage.
      *
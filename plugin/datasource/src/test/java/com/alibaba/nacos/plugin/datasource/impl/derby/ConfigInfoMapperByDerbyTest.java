@@ -218,6 +218,17 @@ class ConfigInfoMapperByDerbyTest {
         
     }
     
+    @Test
+    void testFindAllConfigInfo4ExportFetchRows() {
+        context.putWhereParameter(FieldConstant.IDS, null);
+        context.putWhereParameter(FieldConstant.LAST_MAX_ID, 100L);
+        MapperResult mapperResult = configInfoMapperByDerby.findAllConfigInfo4ExportFetchRows(context);
+        assertEquals("SELECT id,data_id,group_id,tenant_id,app_name,content,type,md5,gmt_create,gmt_modified,src_user,"
+                + "src_ip,c_desc,c_use,effect,c_schema,encrypted_data_key FROM config_info WHERE  tenant_id = ?  AND app_name= ? "
+                + " AND id > ? ORDER BY id ASC FETCH FIRST ? ROWS ONLY", mapperResult.getSql());
+        assertArrayEquals(new Object[] {tenantId, appName, 100L, pageSize}, mapperResult.getParamList().toArray());
+    }
+    
     @Test
     void testFindConfigInfoBaseLikeCountRows() {
         MapperResult mapperResult = configInfoMapperByDerby.findConfigInfoBaseLikeCountRows(context);
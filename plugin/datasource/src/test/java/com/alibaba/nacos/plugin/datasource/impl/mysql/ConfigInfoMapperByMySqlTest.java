@@ -218,6 +218,17 @@ class ConfigInfoMapperByMySqlTest {
         assertArrayEquals(new Object[] {tenantId, appName}, mapperResult.getParamList().toArray());
     }
     
+    @Test
+    void testFindAllConfigInfo4ExportFetchRows() {
+        context.putWhereParameter(FieldConstant.IDS, null);
+        context.putWhereParameter(FieldConstant.LAST_MAX_ID, 100L);
+        MapperResult mapperResult = configInfoMapperByMySql.findAllConfigInfo4ExportFetchRows(context);
+        assertEquals("SELECT id,data_id,group_id,tenant_id,app_name,content,type,md5,gmt_create,gmt_modified,src_user,"
+                + "src_ip,c_desc,c_use,effect,c_schema,encrypted_data_key FROM config_info WHERE  tenant_id = ?  AND app_name= ? "
+                + " AND id > ? ORDER BY id ASC LIMIT ?", mapperResult.getSql());
+        assertArrayEquals(new Object[] {tenantId, appName, 100L, pageSize}, mapperResult.getParamList().toArray());
+    }
+    
     @Test
     void testFindConfigInfoBaseLikeCountRows() {
         MapperResult mapperResult = configInfoMapperByMySql.findConfigInfoBaseLikeCountRows(context);
@@ -155,6 +155,15 @@ class GroupCapacityMapperByMysqlTest {
         assertArrayEquals(new Object[] {modified, groupId}, mapperResult.getParamList().toArray());
     }
     
+    @Test
+    void testAddUsageByWhere() {
+        context.putUpdateParameter(FieldConstant.USAGE, -2);
+        MapperResult mapperResult = groupCapacityMapperByMysql.addUsageByWhere(context);
+        assertEquals("UPDATE group_capacity SET `usage` = `usage` + ?, gmt_modified = ? WHERE group_id = ?",
+                mapperResult.getSql());
+        assertArrayEquals(new Object[] {-2, modified, groupId}, mapperResult.getParamList().toArray());
+    }
+    
     @Test
     void testUpdateUsage() {
         MapperResult mapperResult = groupCapacityMapperByMysql.updateUsage(context);
@@ -97,6 +97,15 @@ class TenantCapacityMapperByMySqlTest {
         assertArrayEquals(new Object[] {modified, tenantId}, mapperResult.getParamList().toArray());
     }
     
+    @Test
+    void testAddUsage() {
+        context.putUpdateParameter(FieldConstant.USAGE, -2);
+        MapperResult mapperResult = tenantCapacityMapperByMySql.addUsage(context);
+        assertEquals("UPDATE tenant_capacity SET `usage` = `usage` + ?, gmt_modified = ? WHERE tenant_id = ?",
+                mapperResult.getSql());
+        assertArrayEquals(new Object[] {-2, modified, tenantId}, mapperResult.getParamList().toArray());
+    }
+    
     @Test
     void testCorrectUsage() {
         MapperResult mapperResult = tenantCapacityMapperByMySql.correctUsage(context);